@@ -0,0 +1,31 @@
+#! /bin/sh
+
+# Runs a benchmark on a desktop JVM (Linux), PhysicsWorldGroupBenchmark unless BENCHMARK names another one, e.g.:
+#   ./benchmark/run.sh 8 400 300 0 1 3 7
+#   BENCHMARK=RayCastBenchmark ./benchmark/run.sh 500 500 100
+#   BENCHMARK=IslandThreadBenchmark ./benchmark/run.sh 80 240 0 1 3 7
+#   BENCHMARK=SubStepBenchmark ./benchmark/run.sh 200 1000 40
+# ANDENGINE_CLASSPATH must hold the AndEngine classes the extension compiles against.
+
+PROJECT_DIRECTORY="$(cd "$(dirname "$0")/.." && pwd)"
+BUILD_DIRECTORY="${TMPDIR:-/tmp}/andenginephysicsbox2dextension-benchmark"
+JAVA_HOME="${JAVA_HOME:-/usr/lib/jvm/default-java}"
+BENCHMARK="${BENCHMARK:-PhysicsWorldGroupBenchmark}"
+
+set -e
+mkdir -p ${BUILD_DIRECTORY}/classes ${BUILD_DIRECTORY}/obj
+
+# Build the native library for the host:
+OBJECTS=""
+for SOURCE in $(find ${PROJECT_DIRECTORY}/jni/Box2D -name '*.cpp'); do
+	OBJECT=${BUILD_DIRECTORY}/obj/$(echo ${SOURCE#${PROJECT_DIRECTORY}/} | tr / _).o
+	if [ ! -f ${OBJECT} ] || [ ${SOURCE} -nt ${OBJECT} ]; then
+		g++ -c -fPIC -O2 -Wall -I${JAVA_HOME}/include -I${JAVA_HOME}/include/linux -I${PROJECT_DIRECTORY}/jni ${SOURCE} -o ${OBJECT}
+	fi
+	OBJECTS="${OBJECTS} ${OBJECT}"
+done
+g++ -shared -o ${BUILD_DIRECTORY}/libandenginephysicsbox2dextension.so ${OBJECTS} -lpthread
+
+# Build and run the benchmark:
+javac -d ${BUILD_DIRECTORY}/classes -cp "${ANDENGINE_CLASSPATH}" $(find ${PROJECT_DIRECTORY}/src ${PROJECT_DIRECTORY}/benchmark/src -name '*.java')
+java -Djava.library.path=${BUILD_DIRECTORY} -cp "${BUILD_DIRECTORY}/classes:${ANDENGINE_CLASSPATH}" org.andengine.extension.physics.box2d.benchmark.${BENCHMARK} "$@"
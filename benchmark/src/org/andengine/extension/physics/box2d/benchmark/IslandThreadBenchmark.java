@@ -0,0 +1,173 @@
+package org.andengine.extension.physics.box2d.benchmark;
+
+import java.util.ArrayList;
+
+import org.andengine.extension.physics.box2d.PhysicsFactory;
+import org.andengine.extension.physics.box2d.PhysicsWorld;
+import org.andengine.extension.physics.box2d.util.constants.PhysicsConstants;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.badlogic.gdx.physics.box2d.Contact;
+import com.badlogic.gdx.physics.box2d.ContactImpulse;
+import com.badlogic.gdx.physics.box2d.ContactListener;
+import com.badlogic.gdx.physics.box2d.FixtureDef;
+import com.badlogic.gdx.physics.box2d.Manifold;
+import com.badlogic.gdx.physics.box2d.joints.RevoluteJointDef;
+
+/**
+ * Measures {@link PhysicsWorld#setIslandThreadCount(int)} for several island thread counts, on a desktop JVM with the native library built for the host, see run.sh.
+ * The world is a row of box stacks and pendulums, all sharing one static ground, so that the islands solved concurrently touch the same static body.
+ * Besides {@link PhysicsWorld#computeStateHash()}, the hash covers the order and impulses of the PostSolve callbacks, which are replayed in island order,
+ * and the awake flags of all bodies, as the stacks fall asleep on the static ground.
+ * Prints the microseconds per step and whether the hash matches the one of the first thread count.
+ *
+ * Arguments: stack count, measured steps, then the island thread counts, e.g. "80 240 0 1 3 7".
+ */
+public class IslandThreadBenchmark {
+	// ===========================================================
+	// Constants
+	// ===========================================================
+
+	private static final int STACK_HEIGHT = 6;
+	private static final int STACKS_PER_PENDULUM = 4;
+	private static final float SECONDS_PER_STEP = 1 / 60f;
+
+	// ===========================================================
+	// Fields
+	// ===========================================================
+
+	private final PhysicsWorld mPhysicsWorld;
+	private final ArrayList<Body> mBodies = new ArrayList<Body>();
+
+	private long mHash = 17;
+
+	// ===========================================================
+	// Constructors
+	// ===========================================================
+
+	public IslandThreadBenchmark(final int pStackCount, final int pIslandThreadCount) {
+		this.mPhysicsWorld = new PhysicsWorld(new Vector2(0, -10), true);
+		this.mPhysicsWorld.setIslandThreadCount(pIslandThreadCount);
+
+		final FixtureDef fixtureDef = PhysicsFactory.createFixtureDef(1, 0.1f, 0.5f);
+		final Body ground = this.addBody(PhysicsFactory.createBoxBody(this.mPhysicsWorld, 0, -16, 100000, 32, BodyType.StaticBody, fixtureDef));
+		for(int i = 0; i < pStackCount; i++) {
+			for(int j = 0; j < IslandThreadBenchmark.STACK_HEIGHT; j++) {
+				this.addBody(PhysicsFactory.createBoxBody(this.mPhysicsWorld, i * 80 + (j % 2) * 3, 10 + j * 17, 16, 16, BodyType.DynamicBody, fixtureDef));
+			}
+		}
+
+		final RevoluteJointDef revoluteJointDef = new RevoluteJointDef();
+		for(int i = 0; i < pStackCount / IslandThreadBenchmark.STACKS_PER_PENDULUM; i++) {
+			final float x = i * 80 * IslandThreadBenchmark.STACKS_PER_PENDULUM + 40;
+			final Body pendulum = this.addBody(PhysicsFactory.createCircleBody(this.mPhysicsWorld, x, 600, 8, BodyType.DynamicBody, fixtureDef));
+			revoluteJointDef.initialize(ground, pendulum, new Vector2((x - 40) / PhysicsConstants.PIXEL_TO_METER_RATIO_DEFAULT, 700 / PhysicsConstants.PIXEL_TO_METER_RATIO_DEFAULT));
+			this.mPhysicsWorld.createJoint(revoluteJointDef);
+		}
+
+		this.mPhysicsWorld.setContactListener(new ContactListener() {
+			@Override
+			public void beginContact(final Contact pContact) {
+
+			}
+
+			@Override
+			public void endContact(final Contact pContact) {
+
+			}
+
+			@Override
+			public void preSolve(final Contact pContact, final Manifold pOldManifold) {
+
+			}
+
+			@Override
+			public void postSolve(final Contact pContact, final ContactImpulse pContactImpulse) {
+				IslandThreadBenchmark.this.hash(((Integer)pContact.getFixtureA().getBody().getUserData()).intValue());
+				IslandThreadBenchmark.this.hash(((Integer)pContact.getFixtureB().getBody().getUserData()).intValue());
+				IslandThreadBenchmark.this.hash(Float.floatToIntBits(pContactImpulse.getNormalImpulses()[0]));
+			}
+		});
+	}
+
+	// ===========================================================
+	// Getter & Setter
+	// ===========================================================
+
+	// ===========================================================
+	// Methods for/from SuperClass/Interfaces
+	// ===========================================================
+
+	// ===========================================================
+	// Methods
+	// ===========================================================
+
+	public static void main(final String[] pArguments) {
+		final int stackCount = (pArguments.length > 0) ? Integer.parseInt(pArguments[0]) : 80;
+		final int stepCount = (pArguments.length > 1) ? Integer.parseInt(pArguments[1]) : 240;
+		final int[] islandThreadCounts;
+		if(pArguments.length > 2) {
+			islandThreadCounts = new int[pArguments.length - 2];
+			for(int i = 0; i < islandThreadCounts.length; i++) {
+				islandThreadCounts[i] = Integer.parseInt(pArguments[i + 2]);
+			}
+		} else {
+			islandThreadCounts = new int[] { 0, 1, 3, 7 };
+		}
+
+		System.out.println("cores: " + Runtime.getRuntime().availableProcessors() + ", stacks: " + stackCount + ", steps: " + stepCount);
+
+		long baselineHash = 0;
+		for(int i = 0; i < islandThreadCounts.length; i++) {
+			final int islandThreadCount = islandThreadCounts[i];
+			final IslandThreadBenchmark islandThreadBenchmark = new IslandThreadBenchmark(stackCount, islandThreadCount);
+
+			/* All steps are measured, as the hash must cover the steps from the start. */
+			final long start = System.nanoTime();
+			for(int j = 0; j < stepCount; j++) {
+				islandThreadBenchmark.mPhysicsWorld.onUpdate(IslandThreadBenchmark.SECONDS_PER_STEP);
+			}
+			final long duration = System.nanoTime() - start;
+
+			final int awakeCount = islandThreadBenchmark.hashAwakeBodies();
+			final long hash = islandThreadBenchmark.mHash * 31 + islandThreadBenchmark.mPhysicsWorld.computeStateHash();
+			islandThreadBenchmark.mPhysicsWorld.dispose();
+
+			if(i == 0) {
+				baselineHash = hash;
+			}
+			System.out.println(String.format("island threads %d: %.0f us/step, %d bodies awake, state %s", islandThreadCount, duration / 1e3 / stepCount, awakeCount, (hash == baselineHash) ? "matches" : "DIFFERS"));
+		}
+	}
+
+	private Body addBody(final Body pBody) {
+		pBody.setUserData(Integer.valueOf(this.mBodies.size()));
+		this.mBodies.add(pBody);
+		return pBody;
+	}
+
+	private void hash(final int pValue) {
+		this.mHash = this.mHash * 1000003 ^ pValue;
+	}
+
+	/**
+	 * @return the number of awake bodies.
+	 */
+	private int hashAwakeBodies() {
+		int awakeCount = 0;
+		for(int i = 0; i < this.mBodies.size(); i++) {
+			final boolean awake = this.mBodies.get(i).isAwake();
+			this.hash(awake ? 1 : 0);
+			if(awake) {
+				awakeCount++;
+			}
+		}
+		return awakeCount;
+	}
+
+	// ===========================================================
+	// Inner and Anonymous Classes
+	// ===========================================================
+}
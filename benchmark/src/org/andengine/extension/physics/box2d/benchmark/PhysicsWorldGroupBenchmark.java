@@ -0,0 +1,115 @@
+package org.andengine.extension.physics.box2d.benchmark;
+
+import org.andengine.extension.physics.box2d.FixedStepPhysicsWorld;
+import org.andengine.extension.physics.box2d.PhysicsFactory;
+import org.andengine.extension.physics.box2d.PhysicsWorld;
+import org.andengine.extension.physics.box2d.PhysicsWorldGroup;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.badlogic.gdx.physics.box2d.FixtureDef;
+
+/**
+ * Measures the throughput of a {@link PhysicsWorldGroup} for several worker thread counts, on a desktop JVM with the native library built for the host, see run.sh.
+ * Each world is a pile of boxes, alternating {@link PhysicsWorld} and {@link FixedStepPhysicsWorld}. No connectors are registered, so only the steps are measured.
+ * Prints the world steps per second, the speedup over stepping all worlds on the update thread, and whether the final states match.
+ *
+ * Arguments: world count, boxes per world, measured updates, then the worker thread counts, e.g. "8 400 300 0 1 3 7".
+ * By default, 0, 1, half and all but one of the available cores are measured.
+ */
+public class PhysicsWorldGroupBenchmark {
+	// ===========================================================
+	// Constants
+	// ===========================================================
+
+	private static final int WARMUP_UPDATES = 50;
+	private static final float SECONDS_PER_UPDATE = 1 / 60f;
+
+	// ===========================================================
+	// Fields
+	// ===========================================================
+
+	// ===========================================================
+	// Constructors
+	// ===========================================================
+
+	// ===========================================================
+	// Getter & Setter
+	// ===========================================================
+
+	// ===========================================================
+	// Methods for/from SuperClass/Interfaces
+	// ===========================================================
+
+	// ===========================================================
+	// Methods
+	// ===========================================================
+
+	public static void main(final String[] pArguments) {
+		final int worldCount = (pArguments.length > 0) ? Integer.parseInt(pArguments[0]) : 8;
+		final int boxCount = (pArguments.length > 1) ? Integer.parseInt(pArguments[1]) : 400;
+		final int updateCount = (pArguments.length > 2) ? Integer.parseInt(pArguments[2]) : 300;
+		final int[] threadCounts;
+		if(pArguments.length > 3) {
+			threadCounts = new int[pArguments.length - 3];
+			for(int i = 0; i < threadCounts.length; i++) {
+				threadCounts[i] = Integer.parseInt(pArguments[i + 3]);
+			}
+		} else {
+			final int processorCount = Runtime.getRuntime().availableProcessors();
+			if(processorCount >= 4) {
+				threadCounts = new int[] { 0, 1, processorCount / 2 - 1, processorCount - 1 };
+			} else {
+				threadCounts = new int[] { 0, Math.max(processorCount - 1, 1) };
+			}
+		}
+
+		System.out.println("cores: " + Runtime.getRuntime().availableProcessors() + ", worlds: " + worldCount + ", boxes per world: " + boxCount + ", updates: " + updateCount);
+
+		double baselineStepsPerSecond = 0;
+		long baselineHash = 0;
+		for(int i = 0; i < threadCounts.length; i++) {
+			final int threadCount = threadCounts[i];
+			final PhysicsWorldGroup physicsWorldGroup = new PhysicsWorldGroup(threadCount);
+			for(int j = 0; j < worldCount; j++) {
+				physicsWorldGroup.addPhysicsWorld(PhysicsWorldGroupBenchmark.createPile(j, boxCount));
+			}
+
+			for(int j = 0; j < WARMUP_UPDATES; j++) {
+				physicsWorldGroup.onUpdate(SECONDS_PER_UPDATE);
+			}
+			final long start = System.nanoTime();
+			for(int j = 0; j < updateCount; j++) {
+				physicsWorldGroup.onUpdate(SECONDS_PER_UPDATE);
+			}
+			final long duration = System.nanoTime() - start;
+
+			long hash = 0;
+			for(int j = 0; j < worldCount; j++) {
+				hash = hash * 31 + physicsWorldGroup.getPhysicsWorld(j).computeStateHash();
+			}
+			physicsWorldGroup.dispose();
+
+			final double stepsPerSecond = (double)worldCount * updateCount / (duration / 1e9);
+			if(i == 0) {
+				baselineStepsPerSecond = stepsPerSecond;
+				baselineHash = hash;
+			}
+			System.out.println(String.format("workers %d: %.0f world-steps/s, %.0f us/update, speedup %.2f, state %s", threadCount, stepsPerSecond, duration / 1e3 / updateCount, stepsPerSecond / baselineStepsPerSecond, (hash == baselineHash) ? "matches" : "DIFFERS"));
+		}
+	}
+
+	private static PhysicsWorld createPile(final int pIndex, final int pBoxCount) {
+		final PhysicsWorld physicsWorld = (pIndex % 2 == 0) ? new PhysicsWorld(new Vector2(0, -10), false) : new FixedStepPhysicsWorld(60, new Vector2(0, -10), false);
+		final FixtureDef fixtureDef = PhysicsFactory.createFixtureDef(1, 0.2f, 0.5f);
+		PhysicsFactory.createBoxBody(physicsWorld, 0, -16, 100000, 32, BodyType.StaticBody, fixtureDef);
+		for(int i = 0; i < pBoxCount; i++) {
+			PhysicsFactory.createBoxBody(physicsWorld, (i % 30) * 17 + 8, 8 + (i / 30) * 17, 16, 16, BodyType.DynamicBody, fixtureDef);
+		}
+		return physicsWorld;
+	}
+
+	// ===========================================================
+	// Inner and Anonymous Classes
+	// ===========================================================
+}
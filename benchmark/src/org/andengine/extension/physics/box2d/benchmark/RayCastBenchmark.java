@@ -0,0 +1,244 @@
+package org.andengine.extension.physics.box2d.benchmark;
+
+import java.nio.FloatBuffer;
+import java.nio.LongBuffer;
+import java.util.ArrayList;
+import java.util.Random;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.physics.box2d.RayCastCallback;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.physics.box2d.World.RayCastMode;
+import com.badlogic.gdx.utils.BufferUtils;
+
+/**
+ * Compares the batched {@link World#rayCast(FloatBuffer, int, RayCastMode, LongBuffer, FloatBuffer)} against one {@link World#rayCast(RayCastCallback, Vector2, Vector2)} per ray,
+ * on a desktop JVM with the native library built for the host, see run.sh. The world is a field of static boxes, crossed by random rays.
+ * Before measuring, the hits of each {@link RayCastMode} are checked against the callback path: the same fixture and fraction for Closest, a hit on every ray the callback path hits for Any, and the same fixtures per ray for All.
+ * Prints the microseconds per frame of all rays for the callback path and the batch, per mode.
+ *
+ * Arguments: box count, rays per frame, measured frames, e.g. "500 500 100".
+ */
+public class RayCastBenchmark {
+	// ===========================================================
+	// Constants
+	// ===========================================================
+
+	static {
+		System.loadLibrary("andenginephysicsbox2dextension");
+	}
+
+	private static final int WARMUP_FRAMES = 20;
+	private static final float WORLD_SIZE = 100;
+	private static final long SEED = 1;
+
+	// ===========================================================
+	// Fields
+	// ===========================================================
+
+	private final World mWorld;
+	private final int mRayCount;
+	private final FloatBuffer mRays;
+
+	private final LongBuffer mHitFixtures;
+	private final FloatBuffer mHits;
+
+	private final Vector2 mStart = new Vector2();
+	private final Vector2 mEnd = new Vector2();
+
+	private final ArrayList<Fixture> mCallbackFixtures = new ArrayList<Fixture>();
+	private float mCallbackFraction;
+
+	private final RayCastCallback mClosestRayCastCallback = new RayCastCallback() {
+		@Override
+		public float reportRayFixture(final Fixture pFixture, final Vector2 pPoint, final Vector2 pNormal, final float pFraction) {
+			RayCastBenchmark.this.mCallbackFixtures.clear();
+			RayCastBenchmark.this.mCallbackFixtures.add(pFixture);
+			RayCastBenchmark.this.mCallbackFraction = pFraction;
+			return pFraction;
+		}
+	};
+
+	private final RayCastCallback mAnyRayCastCallback = new RayCastCallback() {
+		@Override
+		public float reportRayFixture(final Fixture pFixture, final Vector2 pPoint, final Vector2 pNormal, final float pFraction) {
+			RayCastBenchmark.this.mCallbackFixtures.add(pFixture);
+			return 0;
+		}
+	};
+
+	private final RayCastCallback mAllRayCastCallback = new RayCastCallback() {
+		@Override
+		public float reportRayFixture(final Fixture pFixture, final Vector2 pPoint, final Vector2 pNormal, final float pFraction) {
+			RayCastBenchmark.this.mCallbackFixtures.add(pFixture);
+			return 1;
+		}
+	};
+
+	// ===========================================================
+	// Constructors
+	// ===========================================================
+
+	public RayCastBenchmark(final int pBoxCount, final int pRayCount) {
+		final Random random = new Random(RayCastBenchmark.SEED);
+
+		this.mWorld = new World(new Vector2(0, 0), true);
+		final PolygonShape polygonShape = new PolygonShape();
+		polygonShape.setAsBox(0.5f, 0.5f);
+		final BodyDef bodyDef = new BodyDef();
+		for(int i = 0; i < pBoxCount; i++) {
+			bodyDef.position.set(random.nextFloat() * RayCastBenchmark.WORLD_SIZE, random.nextFloat() * RayCastBenchmark.WORLD_SIZE);
+			this.mWorld.createBody(bodyDef).createFixture(polygonShape, 0);
+		}
+		polygonShape.dispose();
+		this.mWorld.step(1 / 60f, 8, 8);
+
+		this.mRayCount = pRayCount;
+		this.mRays = BufferUtils.newFloatBuffer(pRayCount * World.RAYCAST_RAY_STRIDE);
+		for(int i = 0; i < pRayCount * World.RAYCAST_RAY_STRIDE; i++) {
+			this.mRays.put(i, random.nextFloat() * RayCastBenchmark.WORLD_SIZE);
+		}
+
+		/* Size the results for every hit of every ray, so that All is never cut short. */
+		int hitCount = 0;
+		for(int i = 0; i < pRayCount; i++) {
+			hitCount += this.rayCastCallback(i, this.mAllRayCastCallback);
+		}
+		this.mHitFixtures = BufferUtils.newLongBuffer(hitCount + 1);
+		this.mHits = BufferUtils.newFloatBuffer((hitCount + 1) * World.RAYCAST_HIT_STRIDE);
+	}
+
+	// ===========================================================
+	// Getter & Setter
+	// ===========================================================
+
+	// ===========================================================
+	// Methods for/from SuperClass/Interfaces
+	// ===========================================================
+
+	// ===========================================================
+	// Methods
+	// ===========================================================
+
+	public static void main(final String[] pArguments) {
+		final int boxCount = (pArguments.length > 0) ? Integer.parseInt(pArguments[0]) : 500;
+		final int rayCount = (pArguments.length > 1) ? Integer.parseInt(pArguments[1]) : 500;
+		final int frameCount = (pArguments.length > 2) ? Integer.parseInt(pArguments[2]) : 100;
+
+		System.out.println("boxes: " + boxCount + ", rays per frame: " + rayCount + ", frames: " + frameCount);
+
+		final RayCastBenchmark rayCastBenchmark = new RayCastBenchmark(boxCount, rayCount);
+		final RayCastMode[] rayCastModes = RayCastMode.values();
+		for(int i = 0; i < rayCastModes.length; i++) {
+			final RayCastMode rayCastMode = rayCastModes[i];
+			final int hitCount = rayCastBenchmark.rayCastBatch(rayCastMode);
+			final int mismatchCount = rayCastBenchmark.check(rayCastMode, hitCount);
+
+			for(int j = 0; j < RayCastBenchmark.WARMUP_FRAMES; j++) {
+				rayCastBenchmark.rayCastCallbacks(rayCastMode);
+				rayCastBenchmark.rayCastBatch(rayCastMode);
+			}
+			final long start = System.nanoTime();
+			for(int j = 0; j < frameCount; j++) {
+				rayCastBenchmark.rayCastCallbacks(rayCastMode);
+			}
+			final long callbackDuration = System.nanoTime() - start;
+			final long batchStart = System.nanoTime();
+			for(int j = 0; j < frameCount; j++) {
+				rayCastBenchmark.rayCastBatch(rayCastMode);
+			}
+			final long batchDuration = System.nanoTime() - batchStart;
+
+			System.out.println(String.format("%-7s: callback %.0f us/frame, batch %.0f us/frame, speedup %.2f, %d hits, %s", rayCastMode, callbackDuration / 1e3 / frameCount, batchDuration / 1e3 / frameCount, (double)callbackDuration / batchDuration, hitCount, (mismatchCount == 0) ? "hits match" : mismatchCount + " rays DIFFER"));
+		}
+		rayCastBenchmark.mWorld.dispose();
+	}
+
+	private int rayCastBatch(final RayCastMode pRayCastMode) {
+		return this.mWorld.rayCast(this.mRays, this.mRayCount, pRayCastMode, this.mHitFixtures, this.mHits);
+	}
+
+	private void rayCastCallbacks(final RayCastMode pRayCastMode) {
+		final RayCastCallback rayCastCallback = this.getRayCastCallback(pRayCastMode);
+		for(int i = 0; i < this.mRayCount; i++) {
+			this.rayCastCallback(i, rayCastCallback);
+		}
+	}
+
+	private int rayCastCallback(final int pRayIndex, final RayCastCallback pRayCastCallback) {
+		final FloatBuffer rays = this.mRays;
+		final int offset = pRayIndex * World.RAYCAST_RAY_STRIDE;
+		this.mCallbackFixtures.clear();
+		this.mWorld.rayCast(pRayCastCallback, this.mStart.set(rays.get(offset), rays.get(offset + 1)), this.mEnd.set(rays.get(offset + 2), rays.get(offset + 3)));
+		return this.mCallbackFixtures.size();
+	}
+
+	private RayCastCallback getRayCastCallback(final RayCastMode pRayCastMode) {
+		switch(pRayCastMode) {
+			case Closest:
+				return this.mClosestRayCastCallback;
+			case Any:
+				return this.mAnyRayCastCallback;
+			case All:
+				return this.mAllRayCastCallback;
+			default:
+				throw new IllegalArgumentException("Unexpected " + RayCastMode.class.getSimpleName() + ": '" + pRayCastMode + "'.");
+		}
+	}
+
+	/**
+	 * Compares the pHitCount hits of the last {@link #rayCastBatch(RayCastMode)} against the callback path, ray by ray.
+	 * @return the number of rays whose hits differ.
+	 */
+	private int check(final RayCastMode pRayCastMode, final int pHitCount) {
+		final RayCastCallback rayCastCallback = this.getRayCastCallback(pRayCastMode);
+		int mismatchCount = 0;
+		int hitIndex = 0;
+		for(int i = 0; i < this.mRayCount; i++) {
+			/* The batch reports the hits ray by ray, so the hits of ray i are the run starting at hitIndex. */
+			final int runStart = hitIndex;
+			while(hitIndex < pHitCount && (int)this.mHits.get(hitIndex * World.RAYCAST_HIT_STRIDE) == i) {
+				hitIndex++;
+			}
+			final int runLength = hitIndex - runStart;
+
+			final boolean matches;
+			switch(pRayCastMode) {
+				case Closest:
+					this.rayCastCallback(i, rayCastCallback);
+					matches = (runLength == this.mCallbackFixtures.size()) && (runLength == 0 || (this.getHitFixture(runStart) == this.mCallbackFixtures.get(0) && this.mHits.get(runStart * World.RAYCAST_HIT_STRIDE + 5) == this.mCallbackFraction));
+					break;
+				case Any:
+					/* Any may stop at a different fixture than the callback path, as long as it is one the ray hits. */
+					this.rayCastCallback(i, this.mAllRayCastCallback);
+					matches = (runLength == Math.min(1, this.mCallbackFixtures.size())) && (runLength == 0 || this.mCallbackFixtures.contains(this.getHitFixture(runStart)));
+					break;
+				case All:
+					this.rayCastCallback(i, rayCastCallback);
+					boolean allFound = (runLength == this.mCallbackFixtures.size());
+					for(int j = runStart; j < hitIndex && allFound; j++) {
+						allFound = this.mCallbackFixtures.remove(this.getHitFixture(j));
+					}
+					matches = allFound;
+					break;
+				default:
+					throw new IllegalArgumentException("Unexpected " + RayCastMode.class.getSimpleName() + ": '" + pRayCastMode + "'.");
+			}
+			if(!matches) {
+				mismatchCount++;
+			}
+		}
+		return mismatchCount + (pHitCount - hitIndex);
+	}
+
+	private Fixture getHitFixture(final int pHitIndex) {
+		return this.mWorld.getFixture(this.mHitFixtures.get(pHitIndex));
+	}
+
+	// ===========================================================
+	// Inner and Anonymous Classes
+	// ===========================================================
+}
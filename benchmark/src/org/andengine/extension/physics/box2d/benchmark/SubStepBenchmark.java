@@ -0,0 +1,163 @@
+package org.andengine.extension.physics.box2d.benchmark;
+
+import java.util.Random;
+
+import org.andengine.extension.physics.box2d.PhysicsFactory;
+import org.andengine.extension.physics.box2d.PhysicsWorld;
+import org.andengine.extension.physics.box2d.util.constants.PhysicsConstants;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.badlogic.gdx.physics.box2d.FixtureDef;
+
+/**
+ * Compares {@link Body#setSubStepCount(int)} against plain stepping, {@link Body#setBullet(boolean) bullets} and stepping the whole world at 240 Hz,
+ * on a desktop JVM with the native library built for the host, see run.sh.
+ * The world holds projectiles (r=0.1 m, 30 m/s) fired at thin dynamic plates, which they tunnel through when stepped plainly at 60 Hz,
+ * next to a container of boxes bouncing around, which are stepped along in every mode.
+ * Prints the microseconds per frame of 1/60 s and how many plates were hit, per mode.
+ *
+ * Arguments: projectile count, box count, measured frames, e.g. "200 1000 40".
+ */
+public class SubStepBenchmark {
+	// ===========================================================
+	// Constants
+	// ===========================================================
+
+	private static final int MODE_PLAIN = 0;
+	private static final int MODE_BULLET = 1;
+	private static final int MODE_SUB_STEP = 2;
+	private static final int MODE_240_HZ = 3;
+	private static final String[] MODE_NAMES = { "plain 60 Hz", "bullet 60 Hz", "sub-step x4 60 Hz", "world 240 Hz" };
+
+	private static final int WARMUP_FRAMES = 5;
+	private static final int SUB_STEP_COUNT = 4;
+	private static final float SECONDS_PER_FRAME = 1 / 60f;
+
+	private static final float PROJECTILE_RADIUS = 0.1f;
+	private static final float PROJECTILE_VELOCITY = 30;
+	private static final float PLATE_DISTANCE = 10;
+	private static final float PLATE_WIDTH = 0.2f;
+	private static final float PLATE_HEIGHT = 2;
+	/** The velocity above which a plate counts as hit. */
+	private static final float PLATE_HIT_VELOCITY = 0.5f;
+
+	private static final long SEED = 1;
+
+	// ===========================================================
+	// Fields
+	// ===========================================================
+
+	private final int mMode;
+	private final PhysicsWorld mPhysicsWorld;
+	private final Body[] mPlates;
+
+	// ===========================================================
+	// Constructors
+	// ===========================================================
+
+	public SubStepBenchmark(final int pMode, final int pProjectileCount, final int pBoxCount) {
+		this.mMode = pMode;
+		this.mPhysicsWorld = new PhysicsWorld(new Vector2(0, 0), false);
+		final float ratio = PhysicsConstants.PIXEL_TO_METER_RATIO_DEFAULT;
+
+		/* The container of the bouncing boxes, away from the projectiles. */
+		final FixtureDef wallFixtureDef = PhysicsFactory.createFixtureDef(1, 0, 0.5f);
+		PhysicsFactory.createBoxBody(this.mPhysicsWorld, -4000, -100, 4000, 32, BodyType.StaticBody, wallFixtureDef);
+		PhysicsFactory.createBoxBody(this.mPhysicsWorld, -4000, 1500, 4000, 32, BodyType.StaticBody, wallFixtureDef);
+		PhysicsFactory.createBoxBody(this.mPhysicsWorld, -6000, 700, 32, 1600, BodyType.StaticBody, wallFixtureDef);
+		PhysicsFactory.createBoxBody(this.mPhysicsWorld, -2000, 700, 32, 1600, BodyType.StaticBody, wallFixtureDef);
+
+		final Random random = new Random(SubStepBenchmark.SEED);
+		final FixtureDef boxFixtureDef = PhysicsFactory.createFixtureDef(1, 0.5f, 0.5f);
+		for(int i = 0; i < pBoxCount; i++) {
+			final Body box = PhysicsFactory.createBoxBody(this.mPhysicsWorld, -5900 + (i % 50) * 70, (i / 50) * 70, 32, 32, BodyType.DynamicBody, boxFixtureDef);
+			box.setLinearVelocity(random.nextFloat() * 4 - 2, random.nextFloat() * 4 - 2);
+		}
+
+		/* One plate in front of each projectile. */
+		final FixtureDef plateFixtureDef = PhysicsFactory.createFixtureDef(1, 0, 0.3f);
+		final FixtureDef projectileFixtureDef = PhysicsFactory.createFixtureDef(5, 0, 0.3f);
+		this.mPlates = new Body[pProjectileCount];
+		for(int i = 0; i < pProjectileCount; i++) {
+			final float y = 2000 + i * 100;
+			this.mPlates[i] = PhysicsFactory.createBoxBody(this.mPhysicsWorld, SubStepBenchmark.PLATE_DISTANCE * ratio, y, SubStepBenchmark.PLATE_WIDTH * ratio, SubStepBenchmark.PLATE_HEIGHT * ratio, BodyType.DynamicBody, plateFixtureDef);
+
+			final Body projectile = PhysicsFactory.createCircleBody(this.mPhysicsWorld, 0, y, SubStepBenchmark.PROJECTILE_RADIUS * ratio, BodyType.DynamicBody, projectileFixtureDef);
+			projectile.setLinearVelocity(SubStepBenchmark.PROJECTILE_VELOCITY, 0);
+			switch(pMode) {
+				case SubStepBenchmark.MODE_PLAIN:
+				case SubStepBenchmark.MODE_240_HZ:
+					break;
+				case SubStepBenchmark.MODE_BULLET:
+					projectile.setBullet(true);
+					break;
+				case SubStepBenchmark.MODE_SUB_STEP:
+					projectile.setSubStepCount(SubStepBenchmark.SUB_STEP_COUNT);
+					break;
+				default:
+					throw new IllegalArgumentException("Unexpected mode: '" + pMode + "'.");
+			}
+		}
+	}
+
+	// ===========================================================
+	// Getter & Setter
+	// ===========================================================
+
+	// ===========================================================
+	// Methods for/from SuperClass/Interfaces
+	// ===========================================================
+
+	// ===========================================================
+	// Methods
+	// ===========================================================
+
+	public static void main(final String[] pArguments) {
+		final int projectileCount = (pArguments.length > 0) ? Integer.parseInt(pArguments[0]) : 200;
+		final int boxCount = (pArguments.length > 1) ? Integer.parseInt(pArguments[1]) : 1000;
+		final int frameCount = (pArguments.length > 2) ? Integer.parseInt(pArguments[2]) : 40;
+
+		System.out.println("projectiles: " + projectileCount + ", boxes: " + boxCount + ", frames: " + SubStepBenchmark.WARMUP_FRAMES + " + " + frameCount);
+
+		for(int mode = 0; mode < SubStepBenchmark.MODE_NAMES.length; mode++) {
+			final SubStepBenchmark subStepBenchmark = new SubStepBenchmark(mode, projectileCount, boxCount);
+			for(int i = 0; i < SubStepBenchmark.WARMUP_FRAMES; i++) {
+				subStepBenchmark.onFrame();
+			}
+			final long start = System.nanoTime();
+			for(int i = 0; i < frameCount; i++) {
+				subStepBenchmark.onFrame();
+			}
+			final long duration = System.nanoTime() - start;
+
+			System.out.println(String.format("%-17s: %.0f us/frame, plates hit %d/%d", SubStepBenchmark.MODE_NAMES[mode], duration / 1e3 / frameCount, subStepBenchmark.getPlatesHitCount(), projectileCount));
+			subStepBenchmark.mPhysicsWorld.dispose();
+		}
+	}
+
+	private void onFrame() {
+		if(this.mMode == SubStepBenchmark.MODE_240_HZ) {
+			for(int i = 0; i < SubStepBenchmark.SUB_STEP_COUNT; i++) {
+				this.mPhysicsWorld.onUpdate(SubStepBenchmark.SECONDS_PER_FRAME / SubStepBenchmark.SUB_STEP_COUNT);
+			}
+		} else {
+			this.mPhysicsWorld.onUpdate(SubStepBenchmark.SECONDS_PER_FRAME);
+		}
+	}
+
+	private int getPlatesHitCount() {
+		int platesHitCount = 0;
+		for(int i = 0; i < this.mPlates.length; i++) {
+			if(this.mPlates[i].getLinearVelocity().x > SubStepBenchmark.PLATE_HIT_VELOCITY) {
+				platesHitCount++;
+			}
+		}
+		return platesHitCount;
+	}
+
+	// ===========================================================
+	// Inner and Anonymous Classes
+	// ===========================================================
+}
@@ -1,52 +1,52 @@
-/**
-* Copyright 2010 Mario Zechner (contact@badlogicgames.com)
-* 
-* Licensed under the Apache License, Version 2.0 (the "License");
-* you may not use this file except in compliance with the License.
-* You may obtain a copy of the License at
-* 
-*   http://www.apache.org/licenses/LICENSE-2.0
-* 
-* Unless required by applicable law or agreed to in writing, software
-* distributed under the License is distributed on an "AS IS" BASIS,
-* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
-* See the License for the specific language governing permissions and
-* limitations under the License.
-*/
-/* DO NOT EDIT THIS FILE - it is machine generated */
-#include <jni.h>
-/* Header for class com_badlogic_gdx_physics_box2d_CircleShape */
-
-#ifndef _Included_com_badlogic_gdx_physics_box2d_CircleShape
-#define _Included_com_badlogic_gdx_physics_box2d_CircleShape
-#ifdef __cplusplus
-extern "C" {
-#endif
-/*
- * Class:     com_badlogic_gdx_physics_box2d_CircleShape
- * Method:    newCircleShape
- * Signature: ()J
- */
-JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_CircleShape_newCircleShape
-  (JNIEnv *, jobject);
-
-/*
- * Class:     com_badlogic_gdx_physics_box2d_CircleShape
- * Method:    jniGetPosition
- * Signature: (J[F)V
- */
-JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_CircleShape_jniGetPosition
-  (JNIEnv *, jobject, jlong, jfloatArray);
-
-/*
- * Class:     com_badlogic_gdx_physics_box2d_CircleShape
- * Method:    jniSetPosition
- * Signature: (JFF)V
- */
-JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_CircleShape_jniSetPosition
-  (JNIEnv *, jobject, jlong, jfloat, jfloat);
-
-#ifdef __cplusplus
-}
-#endif
-#endif
+/**
+* Copyright 2010 Mario Zechner (contact@badlogicgames.com)
+* 
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+* 
+*   http://www.apache.org/licenses/LICENSE-2.0
+* 
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class com_badlogic_gdx_physics_box2d_CircleShape */
+
+#ifndef _Included_com_badlogic_gdx_physics_box2d_CircleShape
+#define _Included_com_badlogic_gdx_physics_box2d_CircleShape
+#ifdef __cplusplus
+extern "C" {
+#endif
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_CircleShape
+ * Method:    newCircleShape
+ * Signature: ()J
+ */
+JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_CircleShape_newCircleShape
+  (JNIEnv *, jobject);
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_CircleShape
+ * Method:    jniGetPosition
+ * Signature: (J[F)V
+ */
+JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_CircleShape_jniGetPosition
+  (JNIEnv *, jobject, jlong, jfloatArray);
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_CircleShape
+ * Method:    jniSetPosition
+ * Signature: (JFF)V
+ */
+JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_CircleShape_jniSetPosition
+  (JNIEnv *, jobject, jlong, jfloat, jfloat);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
@@ -1,365 +1,559 @@
-/*
-* Copyright (c) 2009 Erin Catto http://www.gphysics.com
-*
-* This software is provided 'as-is', without any express or implied
-* warranty.  In no event will the authors be held liable for any damages
-* arising from the use of this software.
-* Permission is granted to anyone to use this software for any purpose,
-* including commercial applications, and to alter it and redistribute it
-* freely, subject to the following restrictions:
-* 1. The origin of this software must not be misrepresented; you must not
-* claim that you wrote the original software. If you use this software
-* in a product, an acknowledgment in the product documentation would be
-* appreciated but is not required.
-* 2. Altered source versions must be plainly marked as such, and must not be
-* misrepresented as being the original software.
-* 3. This notice may not be removed or altered from any source distribution.
-*/
-
-#include "Box2D/Collision/b2DynamicTree.h"
-#include <string.h>
-#include <float.h>
-
-b2DynamicTree::b2DynamicTree()
-{
-	m_root = b2_nullNode;
-
-	m_nodeCapacity = 16;
-	m_nodeCount = 0;
-	m_nodes = (b2DynamicTreeNode*)b2Alloc(m_nodeCapacity * sizeof(b2DynamicTreeNode));
-	memset(m_nodes, 0, m_nodeCapacity * sizeof(b2DynamicTreeNode));
-
-	// Build a linked list for the free list.
-	for (int32 i = 0; i < m_nodeCapacity - 1; ++i)
-	{
-		m_nodes[i].next = i + 1;
-	}
-	m_nodes[m_nodeCapacity-1].next = b2_nullNode;
-	m_freeList = 0;
-
-	m_path = 0;
-
-	m_insertionCount = 0;
-}
-
-b2DynamicTree::~b2DynamicTree()
-{
-	// This frees the entire tree in one shot.
-	b2Free(m_nodes);
-}
-
-// Allocate a node from the pool. Grow the pool if necessary.
-int32 b2DynamicTree::AllocateNode()
-{
-	// Expand the node pool as needed.
-	if (m_freeList == b2_nullNode)
-	{
-		b2Assert(m_nodeCount == m_nodeCapacity);
-
-		// The free list is empty. Rebuild a bigger pool.
-		b2DynamicTreeNode* oldNodes = m_nodes;
-		m_nodeCapacity *= 2;
-		m_nodes = (b2DynamicTreeNode*)b2Alloc(m_nodeCapacity * sizeof(b2DynamicTreeNode));
-		memcpy(m_nodes, oldNodes, m_nodeCount * sizeof(b2DynamicTreeNode));
-		b2Free(oldNodes);
-
-		// Build a linked list for the free list. The parent
-		// pointer becomes the "next" pointer.
-		for (int32 i = m_nodeCount; i < m_nodeCapacity - 1; ++i)
-		{
-			m_nodes[i].next = i + 1;
-		}
-		m_nodes[m_nodeCapacity-1].next = b2_nullNode;
-		m_freeList = m_nodeCount;
-	}
-
-	// Peel a node off the free list.
-	int32 nodeId = m_freeList;
-	m_freeList = m_nodes[nodeId].next;
-	m_nodes[nodeId].parent = b2_nullNode;
-	m_nodes[nodeId].child1 = b2_nullNode;
-	m_nodes[nodeId].child2 = b2_nullNode;
-	++m_nodeCount;
-	return nodeId;
-}
-
-// Return a node to the pool.
-void b2DynamicTree::FreeNode(int32 nodeId)
-{
-	b2Assert(0 <= nodeId && nodeId < m_nodeCapacity);
-	b2Assert(0 < m_nodeCount);
-	m_nodes[nodeId].next = m_freeList;
-	m_freeList = nodeId;
-	--m_nodeCount;
-}
-
-// Create a proxy in the tree as a leaf node. We return the index
-// of the node instead of a pointer so that we can grow
-// the node pool.
-int32 b2DynamicTree::CreateProxy(const b2AABB& aabb, void* userData)
-{
-	int32 proxyId = AllocateNode();
-
-	// Fatten the aabb.
-	b2Vec2 r(b2_aabbExtension, b2_aabbExtension);
-	m_nodes[proxyId].aabb.lowerBound = aabb.lowerBound - r;
-	m_nodes[proxyId].aabb.upperBound = aabb.upperBound + r;
-	m_nodes[proxyId].userData = userData;
-
-	InsertLeaf(proxyId);
-
-	// Rebalance if necessary.
-	int32 iterationCount = m_nodeCount >> 4;
-	int32 tryCount = 0;
-	int32 height = ComputeHeight();
-	while (height > 64 && tryCount < 10)
-	{
-		Rebalance(iterationCount);
-		height = ComputeHeight();
-		++tryCount;
-	}
-
-	return proxyId;
-}
-
-void b2DynamicTree::DestroyProxy(int32 proxyId)
-{
-	b2Assert(0 <= proxyId && proxyId < m_nodeCapacity);
-	b2Assert(m_nodes[proxyId].IsLeaf());
-
-	RemoveLeaf(proxyId);
-	FreeNode(proxyId);
-}
-
-bool b2DynamicTree::MoveProxy(int32 proxyId, const b2AABB& aabb, const b2Vec2& displacement)
-{
-	b2Assert(0 <= proxyId && proxyId < m_nodeCapacity);
-
-	b2Assert(m_nodes[proxyId].IsLeaf());
-
-	if (m_nodes[proxyId].aabb.Contains(aabb))
-	{
-		return false;
-	}
-
-	RemoveLeaf(proxyId);
-
-	// Extend AABB.
-	b2AABB b = aabb;
-	b2Vec2 r(b2_aabbExtension, b2_aabbExtension);
-	b.lowerBound = b.lowerBound - r;
-	b.upperBound = b.upperBound + r;
-
-	// Predict AABB displacement.
-	b2Vec2 d = b2_aabbMultiplier * displacement;
-
-	if (d.x < 0.0f)
-	{
-		b.lowerBound.x += d.x;
-	}
-	else
-	{
-		b.upperBound.x += d.x;
-	}
-
-	if (d.y < 0.0f)
-	{
-		b.lowerBound.y += d.y;
-	}
-	else
-	{
-		b.upperBound.y += d.y;
-	}
-
-	m_nodes[proxyId].aabb = b;
-
-	InsertLeaf(proxyId);
-	return true;
-}
-
-void b2DynamicTree::InsertLeaf(int32 leaf)
-{
-	++m_insertionCount;
-
-	if (m_root == b2_nullNode)
-	{
-		m_root = leaf;
-		m_nodes[m_root].parent = b2_nullNode;
-		return;
-	}
-
-	// Find the best sibling for this node.
-	b2Vec2 center = m_nodes[leaf].aabb.GetCenter();
-	int32 sibling = m_root;
-	if (m_nodes[sibling].IsLeaf() == false)
-	{
-		do 
-		{
-			int32 child1 = m_nodes[sibling].child1;
-			int32 child2 = m_nodes[sibling].child2;
-
-			b2Vec2 delta1 = b2Abs(m_nodes[child1].aabb.GetCenter() - center);
-			b2Vec2 delta2 = b2Abs(m_nodes[child2].aabb.GetCenter() - center);
-
-			float32 norm1 = delta1.x + delta1.y;
-			float32 norm2 = delta2.x + delta2.y;
-
-			if (norm1 < norm2)
-			{
-				sibling = child1;
-			}
-			else
-			{
-				sibling = child2;
-			}
-
-		}
-		while(m_nodes[sibling].IsLeaf() == false);
-	}
-
-	// Create a parent for the siblings.
-	int32 node1 = m_nodes[sibling].parent;
-	int32 node2 = AllocateNode();
-	m_nodes[node2].parent = node1;
-	m_nodes[node2].userData = NULL;
-	m_nodes[node2].aabb.Combine(m_nodes[leaf].aabb, m_nodes[sibling].aabb);
-
-	if (node1 != b2_nullNode)
-	{
-		if (m_nodes[m_nodes[sibling].parent].child1 == sibling)
-		{
-			m_nodes[node1].child1 = node2;
-		}
-		else
-		{
-			m_nodes[node1].child2 = node2;
-		}
-
-		m_nodes[node2].child1 = sibling;
-		m_nodes[node2].child2 = leaf;
-		m_nodes[sibling].parent = node2;
-		m_nodes[leaf].parent = node2;
-
-		do 
-		{
-			if (m_nodes[node1].aabb.Contains(m_nodes[node2].aabb))
-			{
-				break;
-			}
-
-			m_nodes[node1].aabb.Combine(m_nodes[m_nodes[node1].child1].aabb, m_nodes[m_nodes[node1].child2].aabb);
-			node2 = node1;
-			node1 = m_nodes[node1].parent;
-		}
-		while(node1 != b2_nullNode);
-	}
-	else
-	{
-		m_nodes[node2].child1 = sibling;
-		m_nodes[node2].child2 = leaf;
-		m_nodes[sibling].parent = node2;
-		m_nodes[leaf].parent = node2;
-		m_root = node2;
-	}
-}
-
-void b2DynamicTree::RemoveLeaf(int32 leaf)
-{
-	if (leaf == m_root)
-	{
-		m_root = b2_nullNode;
-		return;
-	}
-
-	int32 node2 = m_nodes[leaf].parent;
-	int32 node1 = m_nodes[node2].parent;
-	int32 sibling;
-	if (m_nodes[node2].child1 == leaf)
-	{
-		sibling = m_nodes[node2].child2;
-	}
-	else
-	{
-		sibling = m_nodes[node2].child1;
-	}
-
-	if (node1 != b2_nullNode)
-	{
-		// Destroy node2 and connect node1 to sibling.
-		if (m_nodes[node1].child1 == node2)
-		{
-			m_nodes[node1].child1 = sibling;
-		}
-		else
-		{
-			m_nodes[node1].child2 = sibling;
-		}
-		m_nodes[sibling].parent = node1;
-		FreeNode(node2);
-
-		// Adjust ancestor bounds.
-		while (node1 != b2_nullNode)
-		{
-			b2AABB oldAABB = m_nodes[node1].aabb;
-			m_nodes[node1].aabb.Combine(m_nodes[m_nodes[node1].child1].aabb, m_nodes[m_nodes[node1].child2].aabb);
-
-			if (oldAABB.Contains(m_nodes[node1].aabb))
-			{
-				break;
-			}
-
-			node1 = m_nodes[node1].parent;
-		}
-	}
-	else
-	{
-		m_root = sibling;
-		m_nodes[sibling].parent = b2_nullNode;
-		FreeNode(node2);
-	}
-}
-
-void b2DynamicTree::Rebalance(int32 iterations)
-{
-	if (m_root == b2_nullNode)
-	{
-		return;
-	}
-
-	for (int32 i = 0; i < iterations; ++i)
-	{
-		int32 node = m_root;
-
-		uint32 bit = 0;
-		while (m_nodes[node].IsLeaf() == false)
-		{
-			int32* children = &m_nodes[node].child1;
-			node = children[(m_path >> bit) & 1];
-			bit = (bit + 1) & (8* sizeof(uint32) - 1);
-		}
-		++m_path;
-
-		RemoveLeaf(node);
-		InsertLeaf(node);
-	}
-}
-
-// Compute the height of a sub-tree.
-int32 b2DynamicTree::ComputeHeight(int32 nodeId) const
-{
-	if (nodeId == b2_nullNode)
-	{
-		return 0;
-	}
-
-	b2Assert(0 <= nodeId && nodeId < m_nodeCapacity);
-	b2DynamicTreeNode* node = m_nodes + nodeId;
-	int32 height1 = ComputeHeight(node->child1);
-	int32 height2 = ComputeHeight(node->child2);
-	return 1 + b2Max(height1, height2);
-}
-
-int32 b2DynamicTree::ComputeHeight() const
-{
-	return ComputeHeight(m_root);
-}
+/*
+* Copyright (c) 2009 Erin Catto http://www.gphysics.com
+*
+* This software is provided 'as-is', without any express or implied
+* warranty.  In no event will the authors be held liable for any damages
+* arising from the use of this software.
+* Permission is granted to anyone to use this software for any purpose,
+* including commercial applications, and to alter it and redistribute it
+* freely, subject to the following restrictions:
+* 1. The origin of this software must not be misrepresented; you must not
+* claim that you wrote the original software. If you use this software
+* in a product, an acknowledgment in the product documentation would be
+* appreciated but is not required.
+* 2. Altered source versions must be plainly marked as such, and must not be
+* misrepresented as being the original software.
+* 3. This notice may not be removed or altered from any source distribution.
+*/
+
+#include "Box2D/Collision/b2DynamicTree.h"
+#include <string.h>
+#include <float.h>
+
+b2DynamicTree::b2DynamicTree()
+{
+	m_root = b2_nullNode;
+
+	m_nodeCapacity = 16;
+	m_nodeCount = 0;
+	m_nodes = (b2DynamicTreeNode*)b2Alloc(m_nodeCapacity * sizeof(b2DynamicTreeNode));
+	memset(m_nodes, 0, m_nodeCapacity * sizeof(b2DynamicTreeNode));
+
+	// Build a linked list for the free list.
+	for (int32 i = 0; i < m_nodeCapacity - 1; ++i)
+	{
+		m_nodes[i].next = i + 1;
+	}
+	m_nodes[m_nodeCapacity-1].next = b2_nullNode;
+	m_freeList = 0;
+
+	m_path = 0;
+
+	m_insertionCount = 0;
+}
+
+b2DynamicTree::~b2DynamicTree()
+{
+	// This frees the entire tree in one shot.
+	b2Free(m_nodes);
+}
+
+// Allocate a node from the pool. Grow the pool if necessary.
+int32 b2DynamicTree::AllocateNode()
+{
+	// Expand the node pool as needed.
+	if (m_freeList == b2_nullNode)
+	{
+		b2Assert(m_nodeCount == m_nodeCapacity);
+
+		// The free list is empty. Rebuild a bigger pool.
+		b2DynamicTreeNode* oldNodes = m_nodes;
+		m_nodeCapacity *= 2;
+		m_nodes = (b2DynamicTreeNode*)b2Alloc(m_nodeCapacity * sizeof(b2DynamicTreeNode));
+		memcpy(m_nodes, oldNodes, m_nodeCount * sizeof(b2DynamicTreeNode));
+		b2Free(oldNodes);
+
+		// Build a linked list for the free list. The parent
+		// pointer becomes the "next" pointer.
+		for (int32 i = m_nodeCount; i < m_nodeCapacity - 1; ++i)
+		{
+			m_nodes[i].next = i + 1;
+		}
+		m_nodes[m_nodeCapacity-1].next = b2_nullNode;
+		m_freeList = m_nodeCount;
+	}
+
+	// Peel a node off the free list.
+	int32 nodeId = m_freeList;
+	m_freeList = m_nodes[nodeId].next;
+	m_nodes[nodeId].parent = b2_nullNode;
+	m_nodes[nodeId].child1 = b2_nullNode;
+	m_nodes[nodeId].child2 = b2_nullNode;
+	++m_nodeCount;
+	return nodeId;
+}
+
+// Return a node to the pool.
+void b2DynamicTree::FreeNode(int32 nodeId)
+{
+	b2Assert(0 <= nodeId && nodeId < m_nodeCapacity);
+	b2Assert(0 < m_nodeCount);
+	m_nodes[nodeId].next = m_freeList;
+	m_freeList = nodeId;
+	--m_nodeCount;
+}
+
+// Create a proxy in the tree as a leaf node. We return the index
+// of the node instead of a pointer so that we can grow
+// the node pool.
+int32 b2DynamicTree::CreateProxy(const b2AABB& aabb, void* userData)
+{
+	int32 proxyId = AllocateNode();
+
+	// Fatten the aabb.
+	b2Vec2 r(b2_aabbExtension, b2_aabbExtension);
+	m_nodes[proxyId].aabb.lowerBound = aabb.lowerBound - r;
+	m_nodes[proxyId].aabb.upperBound = aabb.upperBound + r;
+	m_nodes[proxyId].userData = userData;
+
+	InsertLeaf(proxyId);
+
+	// Rebalance if necessary. Only the path to the new leaf can have grown, so walk it
+	// instead of computing the height of the whole tree on every insertion.
+	int32 depth = 1;
+	for (int32 index = m_nodes[proxyId].parent; index != b2_nullNode; index = m_nodes[index].parent)
+	{
+		++depth;
+	}
+
+	if (depth > 64)
+	{
+		int32 iterationCount = m_nodeCount >> 4;
+		int32 tryCount = 0;
+		int32 height = ComputeHeight();
+		while (height > 64 && tryCount < 10)
+		{
+			Rebalance(iterationCount);
+			height = ComputeHeight();
+			++tryCount;
+		}
+	}
+
+	return proxyId;
+}
+
+void b2DynamicTree::DestroyProxy(int32 proxyId)
+{
+	b2Assert(0 <= proxyId && proxyId < m_nodeCapacity);
+	b2Assert(m_nodes[proxyId].IsLeaf());
+
+	RemoveLeaf(proxyId);
+	FreeNode(proxyId);
+}
+
+bool b2DynamicTree::MoveProxy(int32 proxyId, const b2AABB& aabb, const b2Vec2& displacement)
+{
+	b2Assert(0 <= proxyId && proxyId < m_nodeCapacity);
+
+	b2Assert(m_nodes[proxyId].IsLeaf());
+
+	if (m_nodes[proxyId].aabb.Contains(aabb))
+	{
+		return false;
+	}
+
+	RemoveLeaf(proxyId);
+
+	// Extend AABB.
+	b2AABB b = aabb;
+	b2Vec2 r(b2_aabbExtension, b2_aabbExtension);
+	b.lowerBound = b.lowerBound - r;
+	b.upperBound = b.upperBound + r;
+
+	// Predict AABB displacement.
+	b2Vec2 d = b2_aabbMultiplier * displacement;
+
+	if (d.x < 0.0f)
+	{
+		b.lowerBound.x += d.x;
+	}
+	else
+	{
+		b.upperBound.x += d.x;
+	}
+
+	if (d.y < 0.0f)
+	{
+		b.lowerBound.y += d.y;
+	}
+	else
+	{
+		b.upperBound.y += d.y;
+	}
+
+	m_nodes[proxyId].aabb = b;
+
+	InsertLeaf(proxyId);
+	return true;
+}
+
+void b2DynamicTree::InsertLeaf(int32 leaf)
+{
+	++m_insertionCount;
+
+	if (m_root == b2_nullNode)
+	{
+		m_root = leaf;
+		m_nodes[m_root].parent = b2_nullNode;
+		return;
+	}
+
+	// Find the best sibling for this node.
+	b2Vec2 center = m_nodes[leaf].aabb.GetCenter();
+	int32 sibling = m_root;
+	if (m_nodes[sibling].IsLeaf() == false)
+	{
+		do 
+		{
+			int32 child1 = m_nodes[sibling].child1;
+			int32 child2 = m_nodes[sibling].child2;
+
+			b2Vec2 delta1 = b2Abs(m_nodes[child1].aabb.GetCenter() - center);
+			b2Vec2 delta2 = b2Abs(m_nodes[child2].aabb.GetCenter() - center);
+
+			float32 norm1 = delta1.x + delta1.y;
+			float32 norm2 = delta2.x + delta2.y;
+
+			if (norm1 < norm2)
+			{
+				sibling = child1;
+			}
+			else
+			{
+				sibling = child2;
+			}
+
+		}
+		while(m_nodes[sibling].IsLeaf() == false);
+	}
+
+	// Create a parent for the siblings.
+	int32 node1 = m_nodes[sibling].parent;
+	int32 node2 = AllocateNode();
+	m_nodes[node2].parent = node1;
+	m_nodes[node2].userData = NULL;
+	m_nodes[node2].aabb.Combine(m_nodes[leaf].aabb, m_nodes[sibling].aabb);
+
+	if (node1 != b2_nullNode)
+	{
+		if (m_nodes[m_nodes[sibling].parent].child1 == sibling)
+		{
+			m_nodes[node1].child1 = node2;
+		}
+		else
+		{
+			m_nodes[node1].child2 = node2;
+		}
+
+		m_nodes[node2].child1 = sibling;
+		m_nodes[node2].child2 = leaf;
+		m_nodes[sibling].parent = node2;
+		m_nodes[leaf].parent = node2;
+
+		do 
+		{
+			if (m_nodes[node1].aabb.Contains(m_nodes[node2].aabb))
+			{
+				break;
+			}
+
+			m_nodes[node1].aabb.Combine(m_nodes[m_nodes[node1].child1].aabb, m_nodes[m_nodes[node1].child2].aabb);
+			node2 = node1;
+			node1 = m_nodes[node1].parent;
+		}
+		while(node1 != b2_nullNode);
+	}
+	else
+	{
+		m_nodes[node2].child1 = sibling;
+		m_nodes[node2].child2 = leaf;
+		m_nodes[sibling].parent = node2;
+		m_nodes[leaf].parent = node2;
+		m_root = node2;
+	}
+}
+
+void b2DynamicTree::RemoveLeaf(int32 leaf)
+{
+	if (leaf == m_root)
+	{
+		m_root = b2_nullNode;
+		return;
+	}
+
+	int32 node2 = m_nodes[leaf].parent;
+	int32 node1 = m_nodes[node2].parent;
+	int32 sibling;
+	if (m_nodes[node2].child1 == leaf)
+	{
+		sibling = m_nodes[node2].child2;
+	}
+	else
+	{
+		sibling = m_nodes[node2].child1;
+	}
+
+	if (node1 != b2_nullNode)
+	{
+		// Destroy node2 and connect node1 to sibling.
+		if (m_nodes[node1].child1 == node2)
+		{
+			m_nodes[node1].child1 = sibling;
+		}
+		else
+		{
+			m_nodes[node1].child2 = sibling;
+		}
+		m_nodes[sibling].parent = node1;
+		FreeNode(node2);
+
+		// Adjust ancestor bounds.
+		while (node1 != b2_nullNode)
+		{
+			b2AABB oldAABB = m_nodes[node1].aabb;
+			m_nodes[node1].aabb.Combine(m_nodes[m_nodes[node1].child1].aabb, m_nodes[m_nodes[node1].child2].aabb);
+
+			if (oldAABB.Contains(m_nodes[node1].aabb))
+			{
+				break;
+			}
+
+			node1 = m_nodes[node1].parent;
+		}
+	}
+	else
+	{
+		m_root = sibling;
+		m_nodes[sibling].parent = b2_nullNode;
+		FreeNode(node2);
+	}
+}
+
+void b2DynamicTree::Rebalance(int32 iterations)
+{
+	if (m_root == b2_nullNode)
+	{
+		return;
+	}
+
+	for (int32 i = 0; i < iterations; ++i)
+	{
+		int32 node = m_root;
+
+		uint32 bit = 0;
+		while (m_nodes[node].IsLeaf() == false)
+		{
+			int32* children = &m_nodes[node].child1;
+			node = children[(m_path >> bit) & 1];
+			bit = (bit + 1) & (8* sizeof(uint32) - 1);
+		}
+		++m_path;
+
+		RemoveLeaf(node);
+		InsertLeaf(node);
+	}
+}
+
+// Compute the height of a sub-tree.
+int32 b2DynamicTree::ComputeHeight(int32 nodeId) const
+{
+	if (nodeId == b2_nullNode)
+	{
+		return 0;
+	}
+
+	b2Assert(0 <= nodeId && nodeId < m_nodeCapacity);
+	b2DynamicTreeNode* node = m_nodes + nodeId;
+	int32 height1 = ComputeHeight(node->child1);
+	int32 height2 = ComputeHeight(node->child2);
+	return 1 + b2Max(height1, height2);
+}
+
+int32 b2DynamicTree::ComputeHeight() const
+{
+	return ComputeHeight(m_root);
+}
+
+// The header holds the root, node count, node capacity, free list, path and insertion count.
+// Each node holds its AABB, parent (or next) and children.
+static const int32 b2_treeStateHeaderSize = 6 * sizeof(int32);
+static const int32 b2_treeStateNodeSize = sizeof(b2AABB) + 3 * sizeof(int32);
+
+int32 b2DynamicTree::GetStateSize() const
+{
+	return b2_treeStateHeaderSize + m_nodeCapacity * b2_treeStateNodeSize;
+}
+
+bool b2DynamicTree::CheckState(const uint8* buffer, int32 size, const bool* proxies, int32 proxyIdCount) const
+{
+	if (size < b2_treeStateHeaderSize)
+	{
+		return false;
+	}
+
+	int32 header[6];
+	memcpy(header, buffer, sizeof(header));
+	buffer += sizeof(header);
+
+	int32 root = header[0];
+	int32 nodeCount = header[1];
+	int32 nodeCapacity = header[2];
+	int32 freeList = header[3];
+	if (nodeCapacity <= 0 || (size - b2_treeStateHeaderSize) % b2_treeStateNodeSize != 0 ||
+		nodeCapacity != (size - b2_treeStateHeaderSize) / b2_treeStateNodeSize ||
+		nodeCount < 0 || nodeCount > nodeCapacity || root < b2_nullNode || root >= nodeCapacity ||
+		freeList < b2_nullNode || freeList >= nodeCapacity || (root == b2_nullNode) != (nodeCount == 0))
+	{
+		return false;
+	}
+
+	// Every node must be either reachable from the root exactly once, with matching parents, or on the
+	// free list, and the leaves must be exactly the proxies. The scratch holds the marks and the stack.
+	int32* links = (int32*)b2Alloc(nodeCapacity * 3 * sizeof(int32));
+	int32* marks = (int32*)b2Alloc(nodeCapacity * 2 * sizeof(int32));
+	int32* stack = marks + nodeCapacity;
+	for (int32 i = 0; i < nodeCapacity; ++i)
+	{
+		memcpy(links + 3 * i, buffer + i * b2_treeStateNodeSize + sizeof(b2AABB), 3 * sizeof(int32));
+		marks[i] = 0;
+	}
+
+	bool valid = true;
+	int32 reachableCount = 0;
+	int32 leafCount = 0;
+	int32 stackCount = 0;
+	if (root != b2_nullNode)
+	{
+		valid = links[3 * root] == b2_nullNode;
+		stack[stackCount++] = root;
+	}
+
+	while (valid && stackCount > 0)
+	{
+		int32 nodeId = stack[--stackCount];
+		if (marks[nodeId] != 0)
+		{
+			valid = false;
+			break;
+		}
+
+		marks[nodeId] = 1;
+		++reachableCount;
+
+		int32 child1 = links[3 * nodeId + 1];
+		int32 child2 = links[3 * nodeId + 2];
+		if (child1 == b2_nullNode)
+		{
+			valid = child2 == b2_nullNode && nodeId < proxyIdCount && proxies[nodeId];
+			++leafCount;
+			continue;
+		}
+
+		if (child1 < 0 || child1 >= nodeCapacity || child2 < 0 || child2 >= nodeCapacity ||
+			links[3 * child1] != nodeId || links[3 * child2] != nodeId || stackCount + 2 > nodeCapacity)
+		{
+			valid = false;
+			break;
+		}
+
+		stack[stackCount++] = child1;
+		stack[stackCount++] = child2;
+	}
+
+	int32 freeCount = 0;
+	for (int32 nodeId = freeList; valid && nodeId != b2_nullNode; nodeId = links[3 * nodeId])
+	{
+		if (nodeId < 0 || nodeId >= nodeCapacity || marks[nodeId] != 0)
+		{
+			valid = false;
+			break;
+		}
+
+		marks[nodeId] = 1;
+		++freeCount;
+	}
+
+	int32 proxyCount = 0;
+	for (int32 i = 0; i < proxyIdCount; ++i)
+	{
+		if (proxies[i])
+		{
+			++proxyCount;
+		}
+	}
+
+	b2Free(marks);
+	b2Free(links);
+
+	return valid && reachableCount == nodeCount && reachableCount + freeCount == nodeCapacity && leafCount == proxyCount;
+}
+
+uint8* b2DynamicTree::WriteState(uint8* buffer) const
+{
+	int32 header[6] = { m_root, m_nodeCount, m_nodeCapacity, m_freeList, (int32)m_path, m_insertionCount };
+	memcpy(buffer, header, sizeof(header));
+	buffer += sizeof(header);
+
+	for (int32 i = 0; i < m_nodeCapacity; ++i)
+	{
+		const b2DynamicTreeNode* node = m_nodes + i;
+		int32 links[3] = { node->parent, node->child1, node->child2 };
+		memcpy(buffer, &node->aabb, sizeof(b2AABB));
+		memcpy(buffer + sizeof(b2AABB), links, sizeof(links));
+		buffer += b2_treeStateNodeSize;
+	}
+
+	return buffer;
+}
+
+const uint8* b2DynamicTree::ReadState(const uint8* buffer)
+{
+	int32 header[6];
+	memcpy(header, buffer, sizeof(header));
+	buffer += sizeof(header);
+
+	int32 nodeCapacity = header[2];
+	b2DynamicTreeNode* oldNodes = m_nodes;
+	int32 oldNodeCapacity = m_nodeCapacity;
+	if (nodeCapacity != m_nodeCapacity)
+	{
+		m_nodes = (b2DynamicTreeNode*)b2Alloc(nodeCapacity * sizeof(b2DynamicTreeNode));
+		m_nodeCapacity = nodeCapacity;
+	}
+
+	m_root = header[0];
+	m_nodeCount = header[1];
+	m_freeList = header[3];
+	m_path = (uint32)header[4];
+	m_insertionCount = header[5];
+
+	for (int32 i = 0; i < nodeCapacity; ++i)
+	{
+		b2DynamicTreeNode* node = m_nodes + i;
+		int32 links[3];
+		memcpy(&node->aabb, buffer, sizeof(b2AABB));
+		memcpy(links, buffer + sizeof(b2AABB), sizeof(links));
+		buffer += b2_treeStateNodeSize;
+
+		node->parent = links[0];
+		node->child1 = links[1];
+		node->child2 = links[2];
+
+		// Leaves are the proxies, which have the same ids in both trees.
+		if (node->IsLeaf() && i < oldNodeCapacity)
+		{
+			node->userData = oldNodes[i].userData;
+		}
+		else
+		{
+			node->userData = NULL;
+		}
+	}
+
+	if (oldNodes != m_nodes)
+	{
+		b2Free(oldNodes);
+	}
+
+	return buffer;
+}
@@ -1,55 +1,157 @@
-/*
-* Copyright (c) 2007-2009 Erin Catto http://www.gphysics.com
-*
-* This software is provided 'as-is', without any express or implied
-* warranty.  In no event will the authors be held liable for any damages
-* arising from the use of this software.
-* Permission is granted to anyone to use this software for any purpose,
-* including commercial applications, and to alter it and redistribute it
-* freely, subject to the following restrictions:
-* 1. The origin of this software must not be misrepresented; you must not
-* claim that you wrote the original software. If you use this software
-* in a product, an acknowledgment in the product documentation would be
-* appreciated but is not required.
-* 2. Altered source versions must be plainly marked as such, and must not be
-* misrepresented as being the original software.
-* 3. This notice may not be removed or altered from any source distribution.
-*/
-
-#include "Box2D/Common/b2Math.h"
-
-const b2Vec2 b2Vec2_zero(0.0f, 0.0f);
-const b2Mat22 b2Mat22_identity(1.0f, 0.0f, 0.0f, 1.0f);
-const b2Transform b2Transform_identity(b2Vec2_zero, b2Mat22_identity);
-
-/// Solve A * x = b, where b is a column vector. This is more efficient
-/// than computing the inverse in one-shot cases.
-b2Vec3 b2Mat33::Solve33(const b2Vec3& b) const
-{
-	float32 det = b2Dot(col1, b2Cross(col2, col3));
-	if (det != 0.0f)
-	{
-		det = 1.0f / det;
-	}
-	b2Vec3 x;
-	x.x = det * b2Dot(b, b2Cross(col2, col3));
-	x.y = det * b2Dot(col1, b2Cross(b, col3));
-	x.z = det * b2Dot(col1, b2Cross(col2, b));
-	return x;
-}
-
-/// Solve A * x = b, where b is a column vector. This is more efficient
-/// than computing the inverse in one-shot cases.
-b2Vec2 b2Mat33::Solve22(const b2Vec2& b) const
-{
-	float32 a11 = col1.x, a12 = col2.x, a21 = col1.y, a22 = col2.y;
-	float32 det = a11 * a22 - a12 * a21;
-	if (det != 0.0f)
-	{
-		det = 1.0f / det;
-	}
-	b2Vec2 x;
-	x.x = det * (a22 * b.x - a12 * b.y);
-	x.y = det * (a11 * b.y - a21 * b.x);
-	return x;
-}
+/*
+* Copyright (c) 2007-2009 Erin Catto http://www.gphysics.com
+*
+* This software is provided 'as-is', without any express or implied
+* warranty.  In no event will the authors be held liable for any damages
+* arising from the use of this software.
+* Permission is granted to anyone to use this software for any purpose,
+* including commercial applications, and to alter it and redistribute it
+* freely, subject to the following restrictions:
+* 1. The origin of this software must not be misrepresented; you must not
+* claim that you wrote the original software. If you use this software
+* in a product, an acknowledgment in the product documentation would be
+* appreciated but is not required.
+* 2. Altered source versions must be plainly marked as such, and must not be
+* misrepresented as being the original software.
+* 3. This notice may not be removed or altered from any source distribution.
+*/
+
+#include "Box2D/Common/b2Math.h"
+
+const b2Vec2 b2Vec2_zero(0.0f, 0.0f);
+const b2Mat22 b2Mat22_identity(1.0f, 0.0f, 0.0f, 1.0f);
+const b2Transform b2Transform_identity(b2Vec2_zero, b2Mat22_identity);
+
+/// Solve A * x = b, where b is a column vector. This is more efficient
+/// than computing the inverse in one-shot cases.
+b2Vec3 b2Mat33::Solve33(const b2Vec3& b) const
+{
+	float32 det = b2Dot(col1, b2Cross(col2, col3));
+	if (det != 0.0f)
+	{
+		det = 1.0f / det;
+	}
+	b2Vec3 x;
+	x.x = det * b2Dot(b, b2Cross(col2, col3));
+	x.y = det * b2Dot(col1, b2Cross(b, col3));
+	x.z = det * b2Dot(col1, b2Cross(col2, b));
+	return x;
+}
+
+/// Solve A * x = b, where b is a column vector. This is more efficient
+/// than computing the inverse in one-shot cases.
+b2Vec2 b2Mat33::Solve22(const b2Vec2& b) const
+{
+	float32 a11 = col1.x, a12 = col2.x, a21 = col1.y, a22 = col2.y;
+	float32 det = a11 * a22 - a12 * a21;
+	if (det != 0.0f)
+	{
+		det = 1.0f / det;
+	}
+	b2Vec2 x;
+	x.x = det * (a22 * b.x - a12 * b.y);
+	x.y = det * (a11 * b.y - a21 * b.x);
+	return x;
+}
+
+#ifdef B2_DETERMINISTIC
+
+// The functions below only use basic IEEE 754 double operations, which round the same way on every device,
+// so a B2_DETERMINISTIC build does not depend on the libm of the Android release it runs on.
+
+// pi/2 split into a 33 bit head and a tail, and the kernel coefficients, from fdlibm.
+static const double b2_deterministicHalfPiHi = 1.57079632673412561417e+00;
+static const double b2_deterministicHalfPiLo = 6.07710050650619224932e-11;
+static const double b2_deterministicTwoOverPi = 6.36619772367581382433e-01;
+static const double b2_deterministicHalfPi = 1.57079632679489655800e+00;
+static const double b2_deterministicPi = 3.14159265358979311600e+00;
+static const double b2_deterministicSixthPi = 5.23598775598298815659e-01;
+static const double b2_deterministicSqrt3 = 1.73205080756887719318e+00;
+static const double b2_deterministicTanTwelfthPi = 2.67949192431122696e-01;
+
+/// Sine of r in [-pi/4, pi/4].
+static double b2SinKernel(double r)
+{
+	const double z = r * r;
+	return r + r * z * (-1.66666666666666324348e-01 + z * (8.33333333332248946124e-03 + z * (-1.98412698298579493134e-04
+		+ z * (2.75573137070700676789e-06 + z * (-2.50507602534068634195e-08 + z * 1.58969099521155010221e-10)))));
+}
+
+/// Cosine of r in [-pi/4, pi/4].
+static double b2CosKernel(double r)
+{
+	const double z = r * r;
+	return 1.0 - 0.5 * z + z * z * (4.16666666666666019037e-02 + z * (-1.38888888888741095749e-03 + z * (2.48015872894767294178e-05
+		+ z * (-2.75573143513906633035e-07 + z * (2.08757232129817482790e-09 + z * -1.13596475577881948265e-11)))));
+}
+
+void b2SinCos(float32 angle, float32* s, float32* c)
+{
+	// reduce to r in [-pi/4, pi/4] and the quadrant, exact enough for the angles a simulation accumulates
+	const double x = angle;
+	const double k = floor(x * b2_deterministicTwoOverPi + 0.5);
+	const double r = (x - k * b2_deterministicHalfPiHi) - k * b2_deterministicHalfPiLo;
+	const int quadrant = (int)(k - 4.0 * floor(k * 0.25));
+
+	const double sinR = b2SinKernel(r);
+	const double cosR = b2CosKernel(r);
+	switch (quadrant)
+	{
+	case 0:
+		*s = (float32)sinR;
+		*c = (float32)cosR;
+		break;
+	case 1:
+		*s = (float32)cosR;
+		*c = (float32)-sinR;
+		break;
+	case 2:
+		*s = (float32)-sinR;
+		*c = (float32)-cosR;
+		break;
+	default:
+		*s = (float32)-cosR;
+		*c = (float32)sinR;
+		break;
+	}
+}
+
+/// Arc tangent of t in [0, 1].
+static double b2AtanKernel(double t)
+{
+	// atan(t) = pi/6 + atan((t * sqrt(3) - 1) / (t + sqrt(3))) brings t below tan(pi/12), where the series converges quickly
+	double offset = 0.0;
+	if (t > b2_deterministicTanTwelfthPi)
+	{
+		t = (t * b2_deterministicSqrt3 - 1.0) / (t + b2_deterministicSqrt3);
+		offset = b2_deterministicSixthPi;
+	}
+
+	const double z = t * t;
+	return offset + t * (1.0 - z * (1.0 / 3.0 - z * (1.0 / 5.0 - z * (1.0 / 7.0 - z * (1.0 / 9.0 - z * (1.0 / 11.0
+		- z * (1.0 / 13.0 - z * (1.0 / 15.0 - z * (1.0 / 17.0)))))))));
+}
+
+float32 b2Atan2(float32 y, float32 x)
+{
+	const double ax = b2Abs(x);
+	const double ay = b2Abs(y);
+
+	double a;
+	if (ax >= ay)
+	{
+		a = (ax == 0.0) ? 0.0 : b2AtanKernel(ay / ax);
+	}
+	else
+	{
+		a = b2_deterministicHalfPi - b2AtanKernel(ax / ay);
+	}
+
+	if (x < 0.0f)
+	{
+		a = b2_deterministicPi - a;
+	}
+	return (float32)((y < 0.0f) ? -a : a);
+}
+
+#endif
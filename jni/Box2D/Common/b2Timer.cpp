@@ -0,0 +1,25 @@
+#include "Box2D/Common/b2Timer.h"
+
+#include <time.h>
+
+static long long b2GetNanoseconds()
+{
+	struct timespec now;
+	clock_gettime(CLOCK_MONOTONIC, &now);
+	return now.tv_sec * 1000000000LL + now.tv_nsec;
+}
+
+b2Timer::b2Timer()
+{
+	Reset();
+}
+
+void b2Timer::Reset()
+{
+	m_start = b2GetNanoseconds();
+}
+
+float32 b2Timer::GetMilliseconds() const
+{
+	return (b2GetNanoseconds() - m_start) * 0.000001f;
+}
@@ -0,0 +1,26 @@
+#ifndef B2_TIMER_H
+#define B2_TIMER_H
+
+#include "Box2D/Common/b2Settings.h"
+
+/// Timer for profiling. This has platform specific code and may
+/// not work on every platform.
+class b2Timer
+{
+public:
+
+	/// Constructor
+	b2Timer();
+
+	/// Reset the timer.
+	void Reset();
+
+	/// Get the time since construction or the last reset.
+	float32 GetMilliseconds() const;
+
+private:
+
+	long long m_start;
+};
+
+#endif
@@ -1,29 +1,29 @@
-/* DO NOT EDIT THIS FILE - it is machine generated */
-#include <jni.h>
-/* Header for class com_badlogic_gdx_physics_box2d_ContactImpulse */
-
-#ifndef _Included_com_badlogic_gdx_physics_box2d_ContactImpulse
-#define _Included_com_badlogic_gdx_physics_box2d_ContactImpulse
-#ifdef __cplusplus
-extern "C" {
-#endif
-/*
- * Class:     com_badlogic_gdx_physics_box2d_ContactImpulse
- * Method:    jniGetNormalImpulses
- * Signature: (J[F)V
- */
-JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_ContactImpulse_jniGetNormalImpulses
-  (JNIEnv *, jobject, jlong, jfloatArray);
-
-/*
- * Class:     com_badlogic_gdx_physics_box2d_ContactImpulse
- * Method:    jniGetTangentImpulses
- * Signature: (J[F)V
- */
-JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_ContactImpulse_jniGetTangentImpulses
-  (JNIEnv *, jobject, jlong, jfloatArray);
-
-#ifdef __cplusplus
-}
-#endif
-#endif
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class com_badlogic_gdx_physics_box2d_ContactImpulse */
+
+#ifndef _Included_com_badlogic_gdx_physics_box2d_ContactImpulse
+#define _Included_com_badlogic_gdx_physics_box2d_ContactImpulse
+#ifdef __cplusplus
+extern "C" {
+#endif
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_ContactImpulse
+ * Method:    jniGetNormalImpulses
+ * Signature: (J[F)V
+ */
+JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_ContactImpulse_jniGetNormalImpulses
+  (JNIEnv *, jobject, jlong, jfloatArray);
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_ContactImpulse
+ * Method:    jniGetTangentImpulses
+ * Signature: (J[F)V
+ */
+JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_ContactImpulse_jniGetTangentImpulses
+  (JNIEnv *, jobject, jlong, jfloatArray);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
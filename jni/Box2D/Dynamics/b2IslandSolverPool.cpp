@@ -0,0 +1,102 @@
+#include "Box2D/Dynamics/b2IslandSolverPool.h"
+
+b2IslandSolverPool::b2IslandSolverPool(int32 threadCount)
+{
+	m_threadCount = threadCount;
+	m_task = NULL;
+	m_context = NULL;
+	m_generation = 0;
+	m_pendingCount = 0;
+	m_stop = false;
+
+	pthread_mutex_init(&m_mutex, NULL);
+	pthread_cond_init(&m_startCondition, NULL);
+	pthread_cond_init(&m_doneCondition, NULL);
+
+	m_workers = new b2IslandSolverWorker[threadCount];
+	for (int32 i = 0; i < threadCount; ++i)
+	{
+		m_workers[i].pool = this;
+		pthread_create(&m_workers[i].thread, NULL, ThreadMain, m_workers + i);
+	}
+}
+
+b2IslandSolverPool::~b2IslandSolverPool()
+{
+	pthread_mutex_lock(&m_mutex);
+	m_stop = true;
+	pthread_cond_broadcast(&m_startCondition);
+	pthread_mutex_unlock(&m_mutex);
+
+	for (int32 i = 0; i < m_threadCount; ++i)
+	{
+		pthread_join(m_workers[i].thread, NULL);
+	}
+	delete [] m_workers;
+
+	pthread_cond_destroy(&m_doneCondition);
+	pthread_cond_destroy(&m_startCondition);
+	pthread_mutex_destroy(&m_mutex);
+}
+
+void b2IslandSolverPool::Run(b2IslandSolverTask task, void* context)
+{
+	pthread_mutex_lock(&m_mutex);
+	m_task = task;
+	m_context = context;
+	m_pendingCount = m_threadCount;
+	++m_generation;
+	pthread_cond_broadcast(&m_startCondition);
+	pthread_mutex_unlock(&m_mutex);
+
+	task(context, &m_allocator);
+
+	pthread_mutex_lock(&m_mutex);
+	while (m_pendingCount > 0)
+	{
+		pthread_cond_wait(&m_doneCondition, &m_mutex);
+	}
+	m_task = NULL;
+	m_context = NULL;
+	pthread_mutex_unlock(&m_mutex);
+}
+
+void* b2IslandSolverPool::ThreadMain(void* argument)
+{
+	b2IslandSolverWorker* worker = (b2IslandSolverWorker*)argument;
+	worker->pool->Work(worker);
+	return NULL;
+}
+
+void b2IslandSolverPool::Work(b2IslandSolverWorker* worker)
+{
+	int32 generation = 0;
+
+	pthread_mutex_lock(&m_mutex);
+	for (;;)
+	{
+		while (m_stop == false && m_generation == generation)
+		{
+			pthread_cond_wait(&m_startCondition, &m_mutex);
+		}
+
+		if (m_stop)
+		{
+			break;
+		}
+
+		generation = m_generation;
+		b2IslandSolverTask task = m_task;
+		void* context = m_context;
+		pthread_mutex_unlock(&m_mutex);
+
+		task(context, &worker->allocator);
+
+		pthread_mutex_lock(&m_mutex);
+		if (--m_pendingCount == 0)
+		{
+			pthread_cond_signal(&m_doneCondition);
+		}
+	}
+	pthread_mutex_unlock(&m_mutex);
+}
@@ -0,0 +1,71 @@
+#ifndef B2_ISLAND_SOLVER_POOL_H
+#define B2_ISLAND_SOLVER_POOL_H
+
+#include <pthread.h>
+
+#include "Box2D/Common/b2Settings.h"
+#include "Box2D/Common/b2StackAllocator.h"
+
+class b2IslandSolverPool;
+
+/// A task run by every thread of the pool. Each thread passes its own stack allocator.
+typedef void (*b2IslandSolverTask)(void* context, b2StackAllocator* allocator);
+
+/// This is an internal structure.
+struct b2IslandSolverWorker
+{
+	b2IslandSolverPool* pool;
+	pthread_t thread;
+	b2StackAllocator allocator;
+};
+
+/// This is an internal class. A fixed set of threads that solve islands
+/// concurrently with the thread that steps the world.
+class b2IslandSolverPool
+{
+public:
+	b2IslandSolverPool(int32 threadCount);
+	~b2IslandSolverPool();
+
+	/// Get the number of threads, in addition to the calling thread.
+	int32 GetThreadCount() const;
+
+	/// Get the stack allocator of the calling thread.
+	b2StackAllocator* GetAllocator();
+
+	/// Run the task on all threads of the pool and on the calling thread,
+	/// and return once all of them have returned from it.
+	void Run(b2IslandSolverTask task, void* context);
+
+private:
+
+	static void* ThreadMain(void* argument);
+
+	void Work(b2IslandSolverWorker* worker);
+
+	int32 m_threadCount;
+	b2IslandSolverWorker* m_workers;
+	b2StackAllocator m_allocator;
+
+	pthread_mutex_t m_mutex;
+	pthread_cond_t m_startCondition;
+	pthread_cond_t m_doneCondition;
+
+	b2IslandSolverTask m_task;
+	void* m_context;
+	int32 m_generation;
+	int32 m_pendingCount;
+	bool m_stop;
+};
+
+inline int32 b2IslandSolverPool::GetThreadCount() const
+{
+	return m_threadCount;
+}
+
+inline b2StackAllocator* b2IslandSolverPool::GetAllocator()
+{
+	return &m_allocator;
+}
+
+#endif
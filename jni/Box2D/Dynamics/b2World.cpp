@@ -1,1076 +1,1848 @@
-/*
-* Copyright (c) 2006-2009 Erin Catto http://www.gphysics.com
-*
-* This software is provided 'as-is', without any express or implied
-* warranty.  In no event will the authors be held liable for any damages
-* arising from the use of this software.
-* Permission is granted to anyone to use this software for any purpose,
-* including commercial applications, and to alter it and redistribute it
-* freely, subject to the following restrictions:
-* 1. The origin of this software must not be misrepresented; you must not
-* claim that you wrote the original software. If you use this software
-* in a product, an acknowledgment in the product documentation would be
-* appreciated but is not required.
-* 2. Altered source versions must be plainly marked as such, and must not be
-* misrepresented as being the original software.
-* 3. This notice may not be removed or altered from any source distribution.
-*/
-
-#include "Box2D/Dynamics/b2World.h"
-#include "Box2D/Dynamics/b2Body.h"
-#include "Box2D/Dynamics/b2Fixture.h"
-#include "Box2D/Dynamics/b2Island.h"
-#include "Box2D/Dynamics/Joints/b2PulleyJoint.h"
-#include "Box2D/Dynamics/Contacts/b2Contact.h"
-#include "Box2D/Dynamics/Contacts/b2ContactSolver.h"
-#include "Box2D/Dynamics/Contacts/b2TOISolver.h"
-#include "Box2D/Collision/b2Collision.h"
-#include "Box2D/Collision/b2BroadPhase.h"
-#include "Box2D/Collision/Shapes/b2CircleShape.h"
-#include "Box2D/Collision/Shapes/b2PolygonShape.h"
-#include "Box2D/Collision/b2TimeOfImpact.h"
-#include <new>
-
-b2World::b2World(const b2Vec2& gravity, bool doSleep)
-{
-	m_destructionListener = NULL;
-	m_debugDraw = NULL;
-
-	m_bodyList = NULL;
-	m_jointList = NULL;
-
-	m_bodyCount = 0;
-	m_jointCount = 0;
-
-	m_warmStarting = true;
-	m_continuousPhysics = true;
-
-	m_allowSleep = doSleep;
-	m_gravity = gravity;
-
-	m_flags = e_clearForces;
-
-	m_inv_dt0 = 0.0f;
-
-	m_contactManager.m_allocator = &m_blockAllocator;
-}
-
-b2World::~b2World()
-{
-}
-
-void b2World::SetDestructionListener(b2DestructionListener* listener)
-{
-	m_destructionListener = listener;
-}
-
-void b2World::SetContactFilter(b2ContactFilter* filter)
-{
-	m_contactManager.m_contactFilter = filter;
-}
-
-void b2World::SetContactListener(b2ContactListener* listener)
-{
-	m_contactManager.m_contactListener = listener;
-}
-
-void b2World::SetDebugDraw(b2DebugDraw* debugDraw)
-{
-	m_debugDraw = debugDraw;
-}
-
-b2Body* b2World::CreateBody(const b2BodyDef* def)
-{
-	b2Assert(IsLocked() == false);
-	if (IsLocked())
-	{
-		return NULL;
-	}
-
-	void* mem = m_blockAllocator.Allocate(sizeof(b2Body));
-	b2Body* b = new (mem) b2Body(def, this);
-
-	// Add to world doubly linked list.
-	b->m_prev = NULL;
-	b->m_next = m_bodyList;
-	if (m_bodyList)
-	{
-		m_bodyList->m_prev = b;
-	}
-	m_bodyList = b;
-	++m_bodyCount;
-
-	return b;
-}
-
-void b2World::DestroyBody(b2Body* b)
-{
-	b2Assert(m_bodyCount > 0);
-	b2Assert(IsLocked() == false);
-	if (IsLocked())
-	{
-		return;
-	}
-
-	// Delete the attached joints.
-	b2JointEdge* je = b->m_jointList;
-	while (je)
-	{
-		b2JointEdge* je0 = je;
-		je = je->next;
-
-		if (m_destructionListener)
-		{
-			m_destructionListener->SayGoodbye(je0->joint);
-		}
-
-		DestroyJoint(je0->joint);
-	}
-	b->m_jointList = NULL;
-
-	// Delete the attached contacts.
-	b2ContactEdge* ce = b->m_contactList;
-	while (ce)
-	{
-		b2ContactEdge* ce0 = ce;
-		ce = ce->next;
-		m_contactManager.Destroy(ce0->contact);
-	}
-	b->m_contactList = NULL;
-
-	// Delete the attached fixtures. This destroys broad-phase proxies.
-	b2Fixture* f = b->m_fixtureList;
-	while (f)
-	{
-		b2Fixture* f0 = f;
-		f = f->m_next;
-
-		if (m_destructionListener)
-		{
-			m_destructionListener->SayGoodbye(f0);
-		}
-
-		f0->DestroyProxy(&m_contactManager.m_broadPhase);
-		f0->Destroy(&m_blockAllocator);
-		f0->~b2Fixture();
-		m_blockAllocator.Free(f0, sizeof(b2Fixture));
-	}
-	b->m_fixtureList = NULL;
-	b->m_fixtureCount = 0;
-
-	// Remove world body list.
-	if (b->m_prev)
-	{
-		b->m_prev->m_next = b->m_next;
-	}
-
-	if (b->m_next)
-	{
-		b->m_next->m_prev = b->m_prev;
-	}
-
-	if (b == m_bodyList)
-	{
-		m_bodyList = b->m_next;
-	}
-
-	--m_bodyCount;
-	b->~b2Body();
-	m_blockAllocator.Free(b, sizeof(b2Body));
-}
-
-b2Joint* b2World::CreateJoint(const b2JointDef* def)
-{
-	b2Assert(IsLocked() == false);
-	if (IsLocked())
-	{
-		return NULL;
-	}
-
-	b2Joint* j = b2Joint::Create(def, &m_blockAllocator);
-
-	// Connect to the world list.
-	j->m_prev = NULL;
-	j->m_next = m_jointList;
-	if (m_jointList)
-	{
-		m_jointList->m_prev = j;
-	}
-	m_jointList = j;
-	++m_jointCount;
-
-	// Connect to the bodies' doubly linked lists.
-	j->m_edgeA.joint = j;
-	j->m_edgeA.other = j->m_bodyB;
-	j->m_edgeA.prev = NULL;
-	j->m_edgeA.next = j->m_bodyA->m_jointList;
-	if (j->m_bodyA->m_jointList) j->m_bodyA->m_jointList->prev = &j->m_edgeA;
-	j->m_bodyA->m_jointList = &j->m_edgeA;
-
-	j->m_edgeB.joint = j;
-	j->m_edgeB.other = j->m_bodyA;
-	j->m_edgeB.prev = NULL;
-	j->m_edgeB.next = j->m_bodyB->m_jointList;
-	if (j->m_bodyB->m_jointList) j->m_bodyB->m_jointList->prev = &j->m_edgeB;
-	j->m_bodyB->m_jointList = &j->m_edgeB;
-
-	b2Body* bodyA = def->bodyA;
-	b2Body* bodyB = def->bodyB;
-
-	// If the joint prevents collisions, then flag any contacts for filtering.
-	if (def->collideConnected == false)
-	{
-		b2ContactEdge* edge = bodyB->GetContactList();
-		while (edge)
-		{
-			if (edge->other == bodyA)
-			{
-				// Flag the contact for filtering at the next time step (where either
-				// body is awake).
-				edge->contact->FlagForFiltering();
-			}
-
-			edge = edge->next;
-		}
-	}
-
-	// Note: creating a joint doesn't wake the bodies.
-
-	return j;
-}
-
-void b2World::DestroyJoint(b2Joint* j)
-{
-	b2Assert(IsLocked() == false);
-	if (IsLocked())
-	{
-		return;
-	}
-
-	bool collideConnected = j->m_collideConnected;
-
-	// Remove from the doubly linked list.
-	if (j->m_prev)
-	{
-		j->m_prev->m_next = j->m_next;
-	}
-
-	if (j->m_next)
-	{
-		j->m_next->m_prev = j->m_prev;
-	}
-
-	if (j == m_jointList)
-	{
-		m_jointList = j->m_next;
-	}
-
-	// Disconnect from island graph.
-	b2Body* bodyA = j->m_bodyA;
-	b2Body* bodyB = j->m_bodyB;
-
-	// Wake up connected bodies.
-	bodyA->SetAwake(true);
-	bodyB->SetAwake(true);
-
-	// Remove from body 1.
-	if (j->m_edgeA.prev)
-	{
-		j->m_edgeA.prev->next = j->m_edgeA.next;
-	}
-
-	if (j->m_edgeA.next)
-	{
-		j->m_edgeA.next->prev = j->m_edgeA.prev;
-	}
-
-	if (&j->m_edgeA == bodyA->m_jointList)
-	{
-		bodyA->m_jointList = j->m_edgeA.next;
-	}
-
-	j->m_edgeA.prev = NULL;
-	j->m_edgeA.next = NULL;
-
-	// Remove from body 2
-	if (j->m_edgeB.prev)
-	{
-		j->m_edgeB.prev->next = j->m_edgeB.next;
-	}
-
-	if (j->m_edgeB.next)
-	{
-		j->m_edgeB.next->prev = j->m_edgeB.prev;
-	}
-
-	if (&j->m_edgeB == bodyB->m_jointList)
-	{
-		bodyB->m_jointList = j->m_edgeB.next;
-	}
-
-	j->m_edgeB.prev = NULL;
-	j->m_edgeB.next = NULL;
-
-	b2Joint::Destroy(j, &m_blockAllocator);
-
-	b2Assert(m_jointCount > 0);
-	--m_jointCount;
-
-	// If the joint prevents collisions, then flag any contacts for filtering.
-	if (collideConnected == false)
-	{
-		b2ContactEdge* edge = bodyB->GetContactList();
-		while (edge)
-		{
-			if (edge->other == bodyA)
-			{
-				// Flag the contact for filtering at the next time step (where either
-				// body is awake).
-				edge->contact->FlagForFiltering();
-			}
-
-			edge = edge->next;
-		}
-	}
-}
-
-// Find islands, integrate and solve constraints, solve position constraints
-void b2World::Solve(const b2TimeStep& step)
-{
-	// Size the island for the worst case.
-	b2Island island(m_bodyCount,
-					m_contactManager.m_contactCount,
-					m_jointCount,
-					&m_stackAllocator,
-					m_contactManager.m_contactListener);
-
-	// Clear all the island flags.
-	for (b2Body* b = m_bodyList; b; b = b->m_next)
-	{
-		b->m_flags &= ~b2Body::e_islandFlag;
-	}
-	for (b2Contact* c = m_contactManager.m_contactList; c; c = c->m_next)
-	{
-		c->m_flags &= ~b2Contact::e_islandFlag;
-	}
-	for (b2Joint* j = m_jointList; j; j = j->m_next)
-	{
-		j->m_islandFlag = false;
-	}
-
-	// Build and simulate all awake islands.
-	int32 stackSize = m_bodyCount;
-	b2Body** stack = (b2Body**)m_stackAllocator.Allocate(stackSize * sizeof(b2Body*));
-	for (b2Body* seed = m_bodyList; seed; seed = seed->m_next)
-	{
-		if (seed->m_flags & b2Body::e_islandFlag)
-		{
-			continue;
-		}
-
-		if (seed->IsAwake() == false || seed->IsActive() == false)
-		{
-			continue;
-		}
-
-		// The seed can be dynamic or kinematic.
-		if (seed->GetType() == b2_staticBody)
-		{
-			continue;
-		}
-
-		// Reset island and stack.
-		island.Clear();
-		int32 stackCount = 0;
-		stack[stackCount++] = seed;
-		seed->m_flags |= b2Body::e_islandFlag;
-
-		// Perform a depth first search (DFS) on the constraint graph.
-		while (stackCount > 0)
-		{
-			// Grab the next body off the stack and add it to the island.
-			b2Body* b = stack[--stackCount];
-			b2Assert(b->IsActive() == true);
-			island.Add(b);
-
-			// Make sure the body is awake.
-			b->SetAwake(true);
-
-			// To keep islands as small as possible, we don't
-			// propagate islands across static bodies.
-			if (b->GetType() == b2_staticBody)
-			{
-				continue;
-			}
-
-			// Search all contacts connected to this body.
-			for (b2ContactEdge* ce = b->m_contactList; ce; ce = ce->next)
-			{
-				b2Contact* contact = ce->contact;
-
-				// Has this contact already been added to an island?
-				if (contact->m_flags & b2Contact::e_islandFlag)
-				{
-					continue;
-				}
-
-				// Is this contact solid and touching?
-				if (contact->IsEnabled() == false ||
-					contact->IsTouching() == false)
-				{
-					continue;
-				}
-
-				// Skip sensors.
-				bool sensorA = contact->m_fixtureA->m_isSensor;
-				bool sensorB = contact->m_fixtureB->m_isSensor;
-				if (sensorA || sensorB)
-				{
-					continue;
-				}
-
-				island.Add(contact);
-				contact->m_flags |= b2Contact::e_islandFlag;
-
-				b2Body* other = ce->other;
-
-				// Was the other body already added to this island?
-				if (other->m_flags & b2Body::e_islandFlag)
-				{
-					continue;
-				}
-
-				b2Assert(stackCount < stackSize);
-				stack[stackCount++] = other;
-				other->m_flags |= b2Body::e_islandFlag;
-			}
-
-			// Search all joints connect to this body.
-			for (b2JointEdge* je = b->m_jointList; je; je = je->next)
-			{
-				if (je->joint->m_islandFlag == true)
-				{
-					continue;
-				}
-
-				b2Body* other = je->other;
-
-				// Don't simulate joints connected to inactive bodies.
-				if (other->IsActive() == false)
-				{
-					continue;
-				}
-
-				island.Add(je->joint);
-				je->joint->m_islandFlag = true;
-
-				if (other->m_flags & b2Body::e_islandFlag)
-				{
-					continue;
-				}
-
-				b2Assert(stackCount < stackSize);
-				stack[stackCount++] = other;
-				other->m_flags |= b2Body::e_islandFlag;
-			}
-		}
-
-		island.Solve(step, m_gravity, m_allowSleep);
-
-		// Post solve cleanup.
-		for (int32 i = 0; i < island.m_bodyCount; ++i)
-		{
-			// Allow static bodies to participate in other islands.
-			b2Body* b = island.m_bodies[i];
-			if (b->GetType() == b2_staticBody)
-			{
-				b->m_flags &= ~b2Body::e_islandFlag;
-			}
-		}
-	}
-
-	m_stackAllocator.Free(stack);
-
-	// Synchronize fixtures, check for out of range bodies.
-	for (b2Body* b = m_bodyList; b; b = b->GetNext())
-	{
-		// If a body was not in an island then it did not move.
-		if ((b->m_flags & b2Body::e_islandFlag) == 0)
-		{
-			continue;
-		}
-
-		if (b->GetType() == b2_staticBody)
-		{
-			continue;
-		}
-
-		// Update fixtures (for broad-phase).
-		b->SynchronizeFixtures();
-	}
-
-	// Look for new contacts.
-	m_contactManager.FindNewContacts();
-}
-
-// Advance a dynamic body to its first time of contact
-// and adjust the position to ensure clearance.
-void b2World::SolveTOI(b2Body* body)
-{
-	// Find the minimum contact.
-	b2Contact* toiContact = NULL;
-	float32 toi = 1.0f;
-	b2Body* toiOther = NULL;
-	bool found;
-	int32 count;
-	int32 iter = 0;
-
-	bool bullet = body->IsBullet();
-
-	// Iterate until all contacts agree on the minimum TOI. We have
-	// to iterate because the TOI algorithm may skip some intermediate
-	// collisions when objects rotate through each other.
-	do
-	{
-		count = 0;
-		found = false;
-		for (b2ContactEdge* ce = body->m_contactList; ce; ce = ce->next)
-		{
-			if (ce->contact == toiContact)
-			{
-				continue;
-			}
-
-			b2Body* other = ce->other;
-			b2BodyType type = other->GetType();
-
-			// Only bullets perform TOI with dynamic bodies.
-			if (bullet == true)
-			{
-				// Bullets only perform TOI with bodies that have their TOI resolved.
-				if ((other->m_flags & b2Body::e_toiFlag) == 0)
-				{
-					continue;
-				}
-
-				// No repeated hits on non-static bodies
-				if (type != b2_staticBody && (ce->contact->m_flags & b2Contact::e_bulletHitFlag) != 0)
-				{
-						continue;
-				}
-			}
-			else if (type == b2_dynamicBody)
-			{
-				continue;
-			}
-
-			// Check for a disabled contact.
-			b2Contact* contact = ce->contact;
-			if (contact->IsEnabled() == false)
-			{
-				continue;
-			}
-
-			// Prevent infinite looping.
-			if (contact->m_toiCount > 10)
-			{
-				continue;
-			}
-
-			b2Fixture* fixtureA = contact->m_fixtureA;
-			b2Fixture* fixtureB = contact->m_fixtureB;
-
-			// Cull sensors.
-			if (fixtureA->IsSensor() || fixtureB->IsSensor())
-			{
-				continue;
-			}
-
-			b2Body* bodyA = fixtureA->m_body;
-			b2Body* bodyB = fixtureB->m_body;
-
-			// Compute the time of impact in interval [0, minTOI]
-			b2TOIInput input;
-			input.proxyA.Set(fixtureA->GetShape());
-			input.proxyB.Set(fixtureB->GetShape());
-			input.sweepA = bodyA->m_sweep;
-			input.sweepB = bodyB->m_sweep;
-			input.tMax = toi;
-
-			b2TOIOutput output;
-			b2TimeOfImpact(&output, &input);
-
-			if (output.state == b2TOIOutput::e_touching && output.t < toi)
-			{
-				toiContact = contact;
-				toi = output.t;
-				toiOther = other;
-				found = true;
-			}
-
-			++count;
-		}
-
-		++iter;
-	} while (found && count > 1 && iter < 50);
-
-	if (toiContact == NULL)
-	{
-		body->Advance(1.0f);
-		return;
-	}
-
-	b2Sweep backup = body->m_sweep;
-	body->Advance(toi);
-	toiContact->Update(m_contactManager.m_contactListener);
-	if (toiContact->IsEnabled() == false)
-	{
-		// Contact disabled. Backup and recurse.
-		body->m_sweep = backup;
-		SolveTOI(body);
-	}
-
-	++toiContact->m_toiCount;
-
-	// Update all the valid contacts on this body and build a contact island.
-	b2Contact* contacts[b2_maxTOIContacts];
-	count = 0;
-	for (b2ContactEdge* ce = body->m_contactList; ce && count < b2_maxTOIContacts; ce = ce->next)
-	{
-		b2Body* other = ce->other;
-		b2BodyType type = other->GetType();
-
-		// Only perform correction with static bodies, so the
-		// body won't get pushed out of the world.
-		if (type == b2_dynamicBody)
-		{
-			continue;
-		}
-
-		// Check for a disabled contact.
-		b2Contact* contact = ce->contact;
-		if (contact->IsEnabled() == false)
-		{
-			continue;
-		}
-
-		b2Fixture* fixtureA = contact->m_fixtureA;
-		b2Fixture* fixtureB = contact->m_fixtureB;
-
-		// Cull sensors.
-		if (fixtureA->IsSensor() || fixtureB->IsSensor())
-		{
-			continue;
-		}
-
-		// The contact likely has some new contact points. The listener
-		// gives the user a chance to disable the contact.
-		if (contact != toiContact)
-		{
-			contact->Update(m_contactManager.m_contactListener);
-		}
-
-		// Did the user disable the contact?
-		if (contact->IsEnabled() == false)
-		{
-			// Skip this contact.
-			continue;
-		}
-
-		if (contact->IsTouching() == false)
-		{
-			continue;
-		}
-
-		contacts[count] = contact;
-		++count;
-	}
-
-	// Reduce the TOI body's overlap with the contact island.
-	b2TOISolver solver(&m_stackAllocator);
-	solver.Initialize(contacts, count, body);
-
-	const float32 k_toiBaumgarte = 0.75f;
-	bool solved = false;
-	for (int32 i = 0; i < 20; ++i)
-	{
-		bool contactsOkay = solver.Solve(k_toiBaumgarte);
-		if (contactsOkay)
-		{
-			solved = true;
-			break;
-		}
-	}
-
-	if (toiOther->GetType() != b2_staticBody)
-	{
-			toiContact->m_flags |= b2Contact::e_bulletHitFlag;
-	}
-}
-
-// Sequentially solve TOIs for each body. We bring each
-// body to the time of contact and perform some position correction.
-// Time is not conserved.
-void b2World::SolveTOI()
-{
-	// Prepare all contacts.
-	for (b2Contact* c = m_contactManager.m_contactList; c; c = c->m_next)
-	{
-		// Enable the contact
-		c->m_flags |= b2Contact::e_enabledFlag;
-
-		// Set the number of TOI events for this contact to zero.
-		c->m_toiCount = 0;
-	}
-
-	// Initialize the TOI flag.
-	for (b2Body* body = m_bodyList; body; body = body->m_next)
-	{
-		// Kinematic, and static bodies will not be affected by the TOI event.
-		// If a body was not in an island then it did not move.
-		if ((body->m_flags & b2Body::e_islandFlag) == 0 || body->GetType() == b2_kinematicBody || body->GetType() == b2_staticBody)
-		{
-			body->m_flags |= b2Body::e_toiFlag;
-		}
-		else
-		{
-			body->m_flags &= ~b2Body::e_toiFlag;
-		}
-	}
-
-	// Collide non-bullets.
-	for (b2Body* body = m_bodyList; body; body = body->m_next)
-	{
-		if (body->m_flags & b2Body::e_toiFlag)
-		{
-			continue;
-		}
-
-		if (body->IsBullet() == true)
-		{
-			continue;
-		}
-
-		SolveTOI(body);
-
-		body->m_flags |= b2Body::e_toiFlag;
-	}
-
-	// Collide bullets.
-	for (b2Body* body = m_bodyList; body; body = body->m_next)
-	{
-		if (body->m_flags & b2Body::e_toiFlag)
-		{
-			continue;
-		}
-
-		if (body->IsBullet() == false)
-		{
-			continue;
-		}
-
-		SolveTOI(body);
-
-		body->m_flags |= b2Body::e_toiFlag;
-	}
-}
-
-void b2World::Step(float32 dt, int32 velocityIterations, int32 positionIterations)
-{
-	// If new fixtures were added, we need to find the new contacts.
-	if (m_flags & e_newFixture)
-	{
-		m_contactManager.FindNewContacts();
-		m_flags &= ~e_newFixture;
-	}
-
-	m_flags |= e_locked;
-
-	b2TimeStep step;
-	step.dt = dt;
-	step.velocityIterations	= velocityIterations;
-	step.positionIterations = positionIterations;
-	if (dt > 0.0f)
-	{
-		step.inv_dt = 1.0f / dt;
-	}
-	else
-	{
-		step.inv_dt = 0.0f;
-	}
-
-	step.dtRatio = m_inv_dt0 * dt;
-
-	step.warmStarting = m_warmStarting;
-
-	// Update contacts. This is where some contacts are destroyed.
-	m_contactManager.Collide();
-
-	// Integrate velocities, solve velocity constraints, and integrate positions.
-	if (step.dt > 0.0f)
-	{
-		Solve(step);
-	}
-
-	// Handle TOI events.
-	if (m_continuousPhysics && step.dt > 0.0f)
-	{
-		SolveTOI();
-	}
-
-	if (step.dt > 0.0f)
-	{
-		m_inv_dt0 = step.inv_dt;
-	}
-
-	if (m_flags & e_clearForces)
-	{
-		ClearForces();
-	}
-
-	m_flags &= ~e_locked;
-}
-
-void b2World::ClearForces()
-{
-	for (b2Body* body = m_bodyList; body; body = body->GetNext())
-	{
-		body->m_force.SetZero();
-		body->m_torque = 0.0f;
-	}
-}
-
-struct b2WorldQueryWrapper
-{
-	bool QueryCallback(int32 proxyId)
-	{
-		b2Fixture* fixture = (b2Fixture*)broadPhase->GetUserData(proxyId);
-		return callback->ReportFixture(fixture);
-	}
-
-	const b2BroadPhase* broadPhase;
-	b2QueryCallback* callback;
-};
-
-void b2World::QueryAABB(b2QueryCallback* callback, const b2AABB& aabb) const
-{
-	b2WorldQueryWrapper wrapper;
-	wrapper.broadPhase = &m_contactManager.m_broadPhase;
-	wrapper.callback = callback;
-	m_contactManager.m_broadPhase.Query(&wrapper, aabb);
-}
-
-struct b2WorldRayCastWrapper
-{
-	float32 RayCastCallback(const b2RayCastInput& input, int32 proxyId)
-	{
-		void* userData = broadPhase->GetUserData(proxyId);
-		b2Fixture* fixture = (b2Fixture*)userData;
-		b2RayCastOutput output;
-		bool hit = fixture->RayCast(&output, input);
-
-		if (hit)
-		{
-			float32 fraction = output.fraction;
-			b2Vec2 point = (1.0f - fraction) * input.p1 + fraction * input.p2;
-			return callback->ReportFixture(fixture, point, output.normal, fraction);
-		}
-
-		return input.maxFraction;
-	}
-
-	const b2BroadPhase* broadPhase;
-	b2RayCastCallback* callback;
-};
-
-void b2World::RayCast(b2RayCastCallback* callback, const b2Vec2& point1, const b2Vec2& point2) const
-{
-	b2WorldRayCastWrapper wrapper;
-	wrapper.broadPhase = &m_contactManager.m_broadPhase;
-	wrapper.callback = callback;
-	b2RayCastInput input;
-	input.maxFraction = 1.0f;
-	input.p1 = point1;
-	input.p2 = point2;
-	m_contactManager.m_broadPhase.RayCast(&wrapper, input);
-}
-
-void b2World::DrawShape(b2Fixture* fixture, const b2Transform& xf, const b2Color& color)
-{
-	switch (fixture->GetType())
-	{
-	case b2Shape::e_circle:
-		{
-			b2CircleShape* circle = (b2CircleShape*)fixture->GetShape();
-
-			b2Vec2 center = b2Mul(xf, circle->m_p);
-			float32 radius = circle->m_radius;
-			b2Vec2 axis = xf.R.col1;
-
-			m_debugDraw->DrawSolidCircle(center, radius, axis, color);
-		}
-		break;
-
-	case b2Shape::e_polygon:
-		{
-			b2PolygonShape* poly = (b2PolygonShape*)fixture->GetShape();
-			int32 vertexCount = poly->m_vertexCount;
-			b2Assert(vertexCount <= b2_maxPolygonVertices);
-			b2Vec2 vertices[b2_maxPolygonVertices];
-
-			for (int32 i = 0; i < vertexCount; ++i)
-			{
-				vertices[i] = b2Mul(xf, poly->m_vertices[i]);
-			}
-
-			m_debugDraw->DrawSolidPolygon(vertices, vertexCount, color);
-		}
-		break;
-	}
-}
-
-void b2World::DrawJoint(b2Joint* joint)
-{
-	b2Body* bodyA = joint->GetBodyA();
-	b2Body* bodyB = joint->GetBodyB();
-	const b2Transform& xf1 = bodyA->GetTransform();
-	const b2Transform& xf2 = bodyB->GetTransform();
-	b2Vec2 x1 = xf1.position;
-	b2Vec2 x2 = xf2.position;
-	b2Vec2 p1 = joint->GetAnchorA();
-	b2Vec2 p2 = joint->GetAnchorB();
-
-	b2Color color(0.5f, 0.8f, 0.8f);
-
-	switch (joint->GetType())
-	{
-	case e_distanceJoint:
-		m_debugDraw->DrawSegment(p1, p2, color);
-		break;
-
-	case e_pulleyJoint:
-		{
-			b2PulleyJoint* pulley = (b2PulleyJoint*)joint;
-			b2Vec2 s1 = pulley->GetGroundAnchorA();
-			b2Vec2 s2 = pulley->GetGroundAnchorB();
-			m_debugDraw->DrawSegment(s1, p1, color);
-			m_debugDraw->DrawSegment(s2, p2, color);
-			m_debugDraw->DrawSegment(s1, s2, color);
-		}
-		break;
-
-	case e_mouseJoint:
-		// don't draw this
-		break;
-
-	default:
-		m_debugDraw->DrawSegment(x1, p1, color);
-		m_debugDraw->DrawSegment(p1, p2, color);
-		m_debugDraw->DrawSegment(x2, p2, color);
-	}
-}
-
-void b2World::DrawDebugData()
-{
-	if (m_debugDraw == NULL)
-	{
-		return;
-	}
-
-	uint32 flags = m_debugDraw->GetFlags();
-
-	if (flags & b2DebugDraw::e_shapeBit)
-	{
-		for (b2Body* b = m_bodyList; b; b = b->GetNext())
-		{
-			const b2Transform& xf = b->GetTransform();
-			for (b2Fixture* f = b->GetFixtureList(); f; f = f->GetNext())
-			{
-				if (b->IsActive() == false)
-				{
-					DrawShape(f, xf, b2Color(0.5f, 0.5f, 0.3f));
-				}
-				else if (b->GetType() == b2_staticBody)
-				{
-					DrawShape(f, xf, b2Color(0.5f, 0.9f, 0.5f));
-				}
-				else if (b->GetType() == b2_kinematicBody)
-				{
-					DrawShape(f, xf, b2Color(0.5f, 0.5f, 0.9f));
-				}
-				else if (b->IsAwake() == false)
-				{
-					DrawShape(f, xf, b2Color(0.6f, 0.6f, 0.6f));
-				}
-				else
-				{
-					DrawShape(f, xf, b2Color(0.9f, 0.7f, 0.7f));
-				}
-			}
-		}
-	}
-
-	if (flags & b2DebugDraw::e_jointBit)
-	{
-		for (b2Joint* j = m_jointList; j; j = j->GetNext())
-		{
-			DrawJoint(j);
-		}
-	}
-
-	if (flags & b2DebugDraw::e_pairBit)
-	{
-		b2Color color(0.3f, 0.9f, 0.9f);
-		for (b2Contact* c = m_contactManager.m_contactList; c; c = c->GetNext())
-		{
-			b2Fixture* fixtureA = c->GetFixtureA();
-			b2Fixture* fixtureB = c->GetFixtureB();
-
-			b2Vec2 cA = fixtureA->GetAABB().GetCenter();
-			b2Vec2 cB = fixtureB->GetAABB().GetCenter();
-
-			m_debugDraw->DrawSegment(cA, cB, color);
-		}
-	}
-
-	if (flags & b2DebugDraw::e_aabbBit)
-	{
-		b2Color color(0.9f, 0.3f, 0.9f);
-		b2BroadPhase* bp = &m_contactManager.m_broadPhase;
-
-		for (b2Body* b = m_bodyList; b; b = b->GetNext())
-		{
-			if (b->IsActive() == false)
-			{
-				continue;
-			}
-
-			for (b2Fixture* f = b->GetFixtureList(); f; f = f->GetNext())
-			{
-				b2AABB aabb = bp->GetFatAABB(f->m_proxyId);
-				b2Vec2 vs[4];
-				vs[0].Set(aabb.lowerBound.x, aabb.lowerBound.y);
-				vs[1].Set(aabb.upperBound.x, aabb.lowerBound.y);
-				vs[2].Set(aabb.upperBound.x, aabb.upperBound.y);
-				vs[3].Set(aabb.lowerBound.x, aabb.upperBound.y);
-
-				m_debugDraw->DrawPolygon(vs, 4, color);
-			}
-		}
-	}
-
-	if (flags & b2DebugDraw::e_centerOfMassBit)
-	{
-		for (b2Body* b = m_bodyList; b; b = b->GetNext())
-		{
-			b2Transform xf = b->GetTransform();
-			xf.position = b->GetWorldCenter();
-			m_debugDraw->DrawTransform(xf);
-		}
-	}
-}
-
-int32 b2World::GetProxyCount() const
-{
-	return m_contactManager.m_broadPhase.GetProxyCount();
-}
+/*
+* Copyright (c) 2006-2009 Erin Catto http://www.gphysics.com
+*
+* This software is provided 'as-is', without any express or implied
+* warranty.  In no event will the authors be held liable for any damages
+* arising from the use of this software.
+* Permission is granted to anyone to use this software for any purpose,
+* including commercial applications, and to alter it and redistribute it
+* freely, subject to the following restrictions:
+* 1. The origin of this software must not be misrepresented; you must not
+* claim that you wrote the original software. If you use this software
+* in a product, an acknowledgment in the product documentation would be
+* appreciated but is not required.
+* 2. Altered source versions must be plainly marked as such, and must not be
+* misrepresented as being the original software.
+* 3. This notice may not be removed or altered from any source distribution.
+*/
+
+#include "Box2D/Dynamics/b2World.h"
+#include "Box2D/Dynamics/b2Body.h"
+#include "Box2D/Dynamics/b2Fixture.h"
+#include "Box2D/Dynamics/b2Island.h"
+#include "Box2D/Dynamics/b2IslandSolverPool.h"
+#include "Box2D/Dynamics/Joints/b2PulleyJoint.h"
+#include "Box2D/Dynamics/Contacts/b2Contact.h"
+#include "Box2D/Dynamics/Contacts/b2ContactSolver.h"
+#include "Box2D/Dynamics/Contacts/b2TOISolver.h"
+#include "Box2D/Collision/b2Collision.h"
+#include "Box2D/Collision/b2BroadPhase.h"
+#include "Box2D/Collision/Shapes/b2CircleShape.h"
+#include "Box2D/Collision/Shapes/b2PolygonShape.h"
+#include "Box2D/Collision/b2TimeOfImpact.h"
+#include "Box2D/Common/b2Timer.h"
+#include <new>
+#include <string.h>
+
+b2World::b2World(const b2Vec2& gravity, bool doSleep)
+{
+	m_destructionListener = NULL;
+	m_debugDraw = NULL;
+
+	m_bodyList = NULL;
+	m_jointList = NULL;
+
+	m_bodyCount = 0;
+	m_jointCount = 0;
+
+	m_warmStarting = true;
+	m_continuousPhysics = true;
+
+	m_allowSleep = doSleep;
+	m_gravity = gravity;
+
+	m_flags = e_clearForces;
+
+	m_inv_dt0 = 0.0f;
+
+	m_contactManager.m_allocator = &m_blockAllocator;
+
+	m_islandSolverPool = NULL;
+
+	memset(&m_profile, 0, sizeof(b2Profile));
+}
+
+b2World::~b2World()
+{
+	delete m_islandSolverPool;
+}
+
+void b2World::SetIslandThreadCount(int32 count)
+{
+	b2Assert(IsLocked() == false);
+	if (count == GetIslandThreadCount())
+	{
+		return;
+	}
+
+	delete m_islandSolverPool;
+	m_islandSolverPool = count > 0 ? new b2IslandSolverPool(count) : NULL;
+}
+
+int32 b2World::GetIslandThreadCount() const
+{
+	return m_islandSolverPool != NULL ? m_islandSolverPool->GetThreadCount() : 0;
+}
+
+void b2World::SetDestructionListener(b2DestructionListener* listener)
+{
+	m_destructionListener = listener;
+}
+
+void b2World::SetContactFilter(b2ContactFilter* filter)
+{
+	m_contactManager.m_contactFilter = filter;
+}
+
+void b2World::SetContactListener(b2ContactListener* listener)
+{
+	m_contactManager.m_contactListener = listener;
+}
+
+void b2World::SetDebugDraw(b2DebugDraw* debugDraw)
+{
+	m_debugDraw = debugDraw;
+}
+
+b2Body* b2World::CreateBody(const b2BodyDef* def)
+{
+	b2Assert(IsLocked() == false);
+	if (IsLocked())
+	{
+		return NULL;
+	}
+
+	void* mem = m_blockAllocator.Allocate(sizeof(b2Body));
+	b2Body* b = new (mem) b2Body(def, this);
+
+	// Add to world doubly linked list.
+	b->m_prev = NULL;
+	b->m_next = m_bodyList;
+	if (m_bodyList)
+	{
+		m_bodyList->m_prev = b;
+	}
+	m_bodyList = b;
+	++m_bodyCount;
+
+	return b;
+}
+
+void b2World::DestroyBody(b2Body* b)
+{
+	b2Assert(m_bodyCount > 0);
+	b2Assert(IsLocked() == false);
+	if (IsLocked())
+	{
+		return;
+	}
+
+	// Delete the attached joints.
+	b2JointEdge* je = b->m_jointList;
+	while (je)
+	{
+		b2JointEdge* je0 = je;
+		je = je->next;
+
+		if (m_destructionListener)
+		{
+			m_destructionListener->SayGoodbye(je0->joint);
+		}
+
+		DestroyJoint(je0->joint);
+	}
+	b->m_jointList = NULL;
+
+	// Delete the attached contacts.
+	b2ContactEdge* ce = b->m_contactList;
+	while (ce)
+	{
+		b2ContactEdge* ce0 = ce;
+		ce = ce->next;
+		m_contactManager.Destroy(ce0->contact);
+	}
+	b->m_contactList = NULL;
+
+	// Delete the attached fixtures. This destroys broad-phase proxies.
+	b2Fixture* f = b->m_fixtureList;
+	while (f)
+	{
+		b2Fixture* f0 = f;
+		f = f->m_next;
+
+		if (m_destructionListener)
+		{
+			m_destructionListener->SayGoodbye(f0);
+		}
+
+		f0->DestroyProxy(&m_contactManager.m_broadPhase);
+		f0->Destroy(&m_blockAllocator);
+		f0->~b2Fixture();
+		m_blockAllocator.Free(f0, sizeof(b2Fixture));
+	}
+	b->m_fixtureList = NULL;
+	b->m_fixtureCount = 0;
+
+	// Remove world body list.
+	if (b->m_prev)
+	{
+		b->m_prev->m_next = b->m_next;
+	}
+
+	if (b->m_next)
+	{
+		b->m_next->m_prev = b->m_prev;
+	}
+
+	if (b == m_bodyList)
+	{
+		m_bodyList = b->m_next;
+	}
+
+	--m_bodyCount;
+	b->~b2Body();
+	m_blockAllocator.Free(b, sizeof(b2Body));
+}
+
+b2Joint* b2World::CreateJoint(const b2JointDef* def)
+{
+	b2Assert(IsLocked() == false);
+	if (IsLocked())
+	{
+		return NULL;
+	}
+
+	b2Joint* j = b2Joint::Create(def, &m_blockAllocator);
+
+	// Connect to the world list.
+	j->m_prev = NULL;
+	j->m_next = m_jointList;
+	if (m_jointList)
+	{
+		m_jointList->m_prev = j;
+	}
+	m_jointList = j;
+	++m_jointCount;
+
+	// Connect to the bodies' doubly linked lists.
+	j->m_edgeA.joint = j;
+	j->m_edgeA.other = j->m_bodyB;
+	j->m_edgeA.prev = NULL;
+	j->m_edgeA.next = j->m_bodyA->m_jointList;
+	if (j->m_bodyA->m_jointList) j->m_bodyA->m_jointList->prev = &j->m_edgeA;
+	j->m_bodyA->m_jointList = &j->m_edgeA;
+
+	j->m_edgeB.joint = j;
+	j->m_edgeB.other = j->m_bodyA;
+	j->m_edgeB.prev = NULL;
+	j->m_edgeB.next = j->m_bodyB->m_jointList;
+	if (j->m_bodyB->m_jointList) j->m_bodyB->m_jointList->prev = &j->m_edgeB;
+	j->m_bodyB->m_jointList = &j->m_edgeB;
+
+	b2Body* bodyA = def->bodyA;
+	b2Body* bodyB = def->bodyB;
+
+	// If the joint prevents collisions, then flag any contacts for filtering.
+	if (def->collideConnected == false)
+	{
+		b2ContactEdge* edge = bodyB->GetContactList();
+		while (edge)
+		{
+			if (edge->other == bodyA)
+			{
+				// Flag the contact for filtering at the next time step (where either
+				// body is awake).
+				edge->contact->FlagForFiltering();
+			}
+
+			edge = edge->next;
+		}
+	}
+
+	// Note: creating a joint doesn't wake the bodies.
+
+	return j;
+}
+
+void b2World::DestroyJoint(b2Joint* j)
+{
+	b2Assert(IsLocked() == false);
+	if (IsLocked())
+	{
+		return;
+	}
+
+	bool collideConnected = j->m_collideConnected;
+
+	// Remove from the doubly linked list.
+	if (j->m_prev)
+	{
+		j->m_prev->m_next = j->m_next;
+	}
+
+	if (j->m_next)
+	{
+		j->m_next->m_prev = j->m_prev;
+	}
+
+	if (j == m_jointList)
+	{
+		m_jointList = j->m_next;
+	}
+
+	// Disconnect from island graph.
+	b2Body* bodyA = j->m_bodyA;
+	b2Body* bodyB = j->m_bodyB;
+
+	// Wake up connected bodies.
+	bodyA->SetAwake(true);
+	bodyB->SetAwake(true);
+
+	// Remove from body 1.
+	if (j->m_edgeA.prev)
+	{
+		j->m_edgeA.prev->next = j->m_edgeA.next;
+	}
+
+	if (j->m_edgeA.next)
+	{
+		j->m_edgeA.next->prev = j->m_edgeA.prev;
+	}
+
+	if (&j->m_edgeA == bodyA->m_jointList)
+	{
+		bodyA->m_jointList = j->m_edgeA.next;
+	}
+
+	j->m_edgeA.prev = NULL;
+	j->m_edgeA.next = NULL;
+
+	// Remove from body 2
+	if (j->m_edgeB.prev)
+	{
+		j->m_edgeB.prev->next = j->m_edgeB.next;
+	}
+
+	if (j->m_edgeB.next)
+	{
+		j->m_edgeB.next->prev = j->m_edgeB.prev;
+	}
+
+	if (&j->m_edgeB == bodyB->m_jointList)
+	{
+		bodyB->m_jointList = j->m_edgeB.next;
+	}
+
+	j->m_edgeB.prev = NULL;
+	j->m_edgeB.next = NULL;
+
+	b2Joint::Destroy(j, &m_blockAllocator);
+
+	b2Assert(m_jointCount > 0);
+	--m_jointCount;
+
+	// If the joint prevents collisions, then flag any contacts for filtering.
+	if (collideConnected == false)
+	{
+		b2ContactEdge* edge = bodyB->GetContactList();
+		while (edge)
+		{
+			if (edge->other == bodyA)
+			{
+				// Flag the contact for filtering at the next time step (where either
+				// body is awake).
+				edge->contact->FlagForFiltering();
+			}
+
+			edge = edge->next;
+		}
+	}
+}
+
+// Find islands, integrate and solve constraints, solve position constraints
+void b2World::BuildIsland(b2Island& island, b2Body* seed, b2Body** stack)
+{
+	int32 stackCount = 0;
+	stack[stackCount++] = seed;
+	seed->m_flags |= b2Body::e_islandFlag;
+
+	// Perform a depth first search (DFS) on the constraint graph.
+	while (stackCount > 0)
+	{
+		// Grab the next body off the stack and add it to the island.
+		b2Body* b = stack[--stackCount];
+		b2Assert(b->IsActive() == true);
+		island.Add(b);
+
+		// Make sure the body is awake.
+		b->SetAwake(true);
+
+		// To keep islands as small as possible, we don't
+		// propagate islands across static bodies.
+		if (b->GetType() == b2_staticBody)
+		{
+			continue;
+		}
+
+		// Search all contacts connected to this body.
+		for (b2ContactEdge* ce = b->m_contactList; ce; ce = ce->next)
+		{
+			b2Contact* contact = ce->contact;
+
+			// Has this contact already been added to an island?
+			if (contact->m_flags & b2Contact::e_islandFlag)
+			{
+				continue;
+			}
+
+			// Is this contact solid and touching?
+			if (contact->IsEnabled() == false ||
+				contact->IsTouching() == false)
+			{
+				continue;
+			}
+
+			// Skip sensors.
+			bool sensorA = contact->m_fixtureA->m_isSensor;
+			bool sensorB = contact->m_fixtureB->m_isSensor;
+			if (sensorA || sensorB)
+			{
+				continue;
+			}
+
+			island.Add(contact);
+			contact->m_flags |= b2Contact::e_islandFlag;
+
+			b2Body* other = ce->other;
+
+			// Was the other body already added to this island?
+			if (other->m_flags & b2Body::e_islandFlag)
+			{
+				continue;
+			}
+
+			b2Assert(stackCount < m_bodyCount);
+			stack[stackCount++] = other;
+			other->m_flags |= b2Body::e_islandFlag;
+		}
+
+		// Search all joints connect to this body.
+		for (b2JointEdge* je = b->m_jointList; je; je = je->next)
+		{
+			if (je->joint->m_islandFlag == true)
+			{
+				continue;
+			}
+
+			b2Body* other = je->other;
+
+			// Don't simulate joints connected to inactive bodies.
+			if (other->IsActive() == false)
+			{
+				continue;
+			}
+
+			island.Add(je->joint);
+			je->joint->m_islandFlag = true;
+
+			if (other->m_flags & b2Body::e_islandFlag)
+			{
+				continue;
+			}
+
+			b2Assert(stackCount < m_bodyCount);
+			stack[stackCount++] = other;
+			other->m_flags |= b2Body::e_islandFlag;
+		}
+	}
+}
+
+// Solves the islands of bodies with more than one sub-step in smaller steps, updating their
+// contacts in between. All of them are sub-stepped together, by the largest sub-step count among
+// them, so that the broad-phase is updated once per sub-step. The bodies solved stay in a group
+// across the sub-steps, as their islands may split or grow. A body the group runs into during the
+// step joins it for the remaining sub-steps. The group keeps its island flags, and so do its contacts
+// and joints, so that Solve does not solve its bodies again.
+void b2World::SolveSubSteps(const b2TimeStep& step, b2Island& island, b2Body** stack)
+{
+	int32 subStepCount = 1;
+	for (b2Body* b = m_bodyList; b; b = b->m_next)
+	{
+		if (b->m_subStepCount > subStepCount && b->IsAwake() && b->IsActive() && b->GetType() != b2_staticBody)
+		{
+			subStepCount = b->m_subStepCount;
+		}
+	}
+
+	if (subStepCount == 1)
+	{
+		return;
+	}
+
+	b2Body** group = (b2Body**)m_stackAllocator.Allocate(m_bodyCount * sizeof(b2Body*));
+	int32 groupCount = 0;
+
+	b2TimeStep subStep = step;
+	subStep.dt = step.dt / subStepCount;
+	subStep.inv_dt = step.inv_dt * subStepCount;
+
+	for (int32 k = 0; k < subStepCount; ++k)
+	{
+		if (k > 0)
+		{
+			// The impulses to warm start with are from the last sub-step.
+			subStep.dtRatio = 1.0f;
+
+			// Allow the group to be split into new islands. Contacts and joints
+			// with bodies solved elsewhere are kept out of them.
+			for (int32 i = 0; i < groupCount; ++i)
+			{
+				group[i]->m_flags &= ~b2Body::e_islandFlag;
+			}
+			for (int32 i = 0; i < groupCount; ++i)
+			{
+				b2Body* b = group[i];
+				for (b2ContactEdge* ce = b->m_contactList; ce; ce = ce->next)
+				{
+					if (ce->other->m_flags & b2Body::e_islandFlag)
+					{
+						ce->contact->m_flags |= b2Contact::e_islandFlag;
+					}
+					else
+					{
+						ce->contact->m_flags &= ~b2Contact::e_islandFlag;
+					}
+				}
+				for (b2JointEdge* je = b->m_jointList; je; je = je->next)
+				{
+					je->joint->m_islandFlag = (je->other->m_flags & b2Body::e_islandFlag) != 0;
+				}
+			}
+		}
+
+		// The first sub-step starts from the sub-stepped bodies, the others from the group.
+		b2Body* seed = k == 0 ? m_bodyList : NULL;
+		int32 next = 0;
+		for (;;)
+		{
+			if (k == 0)
+			{
+				while (seed && (seed->m_subStepCount == 1 || (seed->m_flags & b2Body::e_islandFlag) ||
+					seed->IsAwake() == false || seed->IsActive() == false || seed->GetType() == b2_staticBody))
+				{
+					seed = seed->m_next;
+				}
+			}
+			else
+			{
+				while (next < groupCount && ((group[next]->m_flags & b2Body::e_islandFlag) || group[next]->IsAwake() == false))
+				{
+					++next;
+				}
+				seed = next < groupCount ? group[next] : NULL;
+			}
+
+			if (seed == NULL)
+			{
+				break;
+			}
+
+			island.Clear();
+			BuildIsland(island, seed, stack);
+			island.Solve(subStep, m_gravity, m_allowSleep);
+
+			for (int32 i = 0; i < island.m_bodyCount; ++i)
+			{
+				b2Body* b = island.m_bodies[i];
+				if (b->GetType() == b2_staticBody)
+				{
+					// Allow static bodies to participate in other islands.
+					b->m_flags &= ~b2Body::e_islandFlag;
+				}
+				else if ((b->m_flags & b2Body::e_subStepFlag) == 0)
+				{
+					b->m_flags |= b2Body::e_subStepFlag;
+					group[groupCount++] = b;
+				}
+			}
+		}
+
+		if (k < subStepCount - 1)
+		{
+			UpdateSubStepContacts(group, groupCount);
+		}
+	}
+
+	// Keep the group, including bodies that fell asleep, out of other islands.
+	for (int32 i = 0; i < groupCount; ++i)
+	{
+		b2Body* b = group[i];
+		b->m_flags |= b2Body::e_islandFlag;
+		b->m_flags &= ~b2Body::e_subStepFlag;
+		for (b2ContactEdge* ce = b->m_contactList; ce; ce = ce->next)
+		{
+			ce->contact->m_flags |= b2Contact::e_islandFlag;
+		}
+		for (b2JointEdge* je = b->m_jointList; je; je = je->next)
+		{
+			je->joint->m_islandFlag = true;
+		}
+	}
+
+	m_stackAllocator.Free(group);
+}
+
+// Moves the broad-phase proxies of the group and updates its contacts, so that the
+// next sub-step finds the bodies it collides with.
+void b2World::UpdateSubStepContacts(b2Body** group, int32 groupCount)
+{
+	for (int32 i = 0; i < groupCount; ++i)
+	{
+		group[i]->SynchronizeFixtures();
+	}
+
+	m_contactManager.FindNewContacts();
+
+	for (int32 i = 0; i < groupCount; ++i)
+	{
+		b2Body* b = group[i];
+		for (b2ContactEdge* ce = b->m_contactList; ce; ce = ce->next)
+		{
+			b2Contact* contact = ce->contact;
+
+			// Update contacts within the group once.
+			if ((ce->other->m_flags & b2Body::e_subStepFlag) && contact->m_fixtureA->m_body != b)
+			{
+				continue;
+			}
+
+			contact->Update(m_contactManager.m_contactListener);
+		}
+	}
+}
+
+// An island built by b2World::Solve, as ranges of the flat arrays of a b2IslandBatch.
+struct b2IslandRange
+{
+	int32 bodyIndex, bodyCount;
+	int32 contactIndex, contactCount;
+	int32 jointIndex, jointCount;
+};
+
+// The islands of a time step, solved concurrently by b2SolveIslands.
+struct b2IslandBatch
+{
+	const b2TimeStep* step;
+	b2Vec2 gravity;
+	bool allowSleep;
+	b2ContactListener* listener;
+
+	b2Body** bodies;
+	b2Contact** contacts;
+	b2Joint** joints;
+	b2ContactImpulse* impulses;
+
+	b2IslandRange* islands;
+	int32 islandCount;
+	volatile int32 nextIsland;
+};
+
+// Solves islands of the batch until none are left. Each island only writes to its own
+// bodies, contacts and joints. The static bodies it shares with other islands are only
+// read, as the contact and joint solvers skip the writes to bodies without mass, so the
+// result of an island does not depend on which thread solves it or when.
+static void b2SolveIslands(void* context, b2StackAllocator* allocator)
+{
+	b2IslandBatch* batch = (b2IslandBatch*)context;
+
+	for (;;)
+	{
+		int32 index = __sync_fetch_and_add(&batch->nextIsland, 1);
+		if (index >= batch->islandCount)
+		{
+			break;
+		}
+
+		const b2IslandRange* range = batch->islands + index;
+		b2Island island(range->bodyCount,
+						range->contactCount,
+						range->jointCount,
+						allocator,
+						batch->listener);
+
+		memcpy(island.m_bodies, batch->bodies + range->bodyIndex, range->bodyCount * sizeof(b2Body*));
+		memcpy(island.m_contacts, batch->contacts + range->contactIndex, range->contactCount * sizeof(b2Contact*));
+		memcpy(island.m_joints, batch->joints + range->jointIndex, range->jointCount * sizeof(b2Joint*));
+		island.m_bodyCount = range->bodyCount;
+		island.m_contactCount = range->contactCount;
+		island.m_jointCount = range->jointCount;
+		island.m_impulses = batch->impulses + range->contactIndex;
+
+		island.Solve(*batch->step, batch->gravity, batch->allowSleep);
+
+		// Keep the order the contacts were solved and reported in.
+		memcpy(batch->contacts + range->contactIndex, island.m_contacts, range->contactCount * sizeof(b2Contact*));
+	}
+}
+
+void b2World::Solve(const b2TimeStep& step)
+{
+	// Size the island for the worst case.
+	b2Island island(m_bodyCount,
+					m_contactManager.m_contactCount,
+					m_jointCount,
+					&m_stackAllocator,
+					m_contactManager.m_contactListener);
+
+	// Clear all the island flags.
+	for (b2Body* b = m_bodyList; b; b = b->m_next)
+	{
+		b->m_flags &= ~b2Body::e_islandFlag;
+	}
+	for (b2Contact* c = m_contactManager.m_contactList; c; c = c->m_next)
+	{
+		c->m_flags &= ~b2Contact::e_islandFlag;
+	}
+	for (b2Joint* j = m_jointList; j; j = j->m_next)
+	{
+		j->m_islandFlag = false;
+	}
+
+	// Build and simulate all awake islands.
+	int32 stackSize = m_bodyCount;
+	b2Body** stack = (b2Body**)m_stackAllocator.Allocate(stackSize * sizeof(b2Body*));
+
+	// Sub-step the islands of fast bodies first, the rest of the islands skip their bodies.
+	SolveSubSteps(step, island, stack);
+
+	// With an island solver pool, the islands are only built here and solved afterwards.
+	// A static body can be part of several islands, once per contact or joint at most.
+	b2IslandBatch batch;
+	if (m_islandSolverPool)
+	{
+		int32 contactCount = m_contactManager.m_contactCount;
+		batch.step = &step;
+		batch.gravity = m_gravity;
+		batch.allowSleep = m_allowSleep;
+		batch.listener = m_contactManager.m_contactListener;
+		batch.bodies = (b2Body**)m_stackAllocator.Allocate((m_bodyCount + contactCount + m_jointCount) * sizeof(b2Body*));
+		batch.contacts = (b2Contact**)m_stackAllocator.Allocate(contactCount * sizeof(b2Contact*));
+		batch.joints = (b2Joint**)m_stackAllocator.Allocate(m_jointCount * sizeof(b2Joint*));
+		batch.impulses = (b2ContactImpulse*)m_stackAllocator.Allocate(contactCount * sizeof(b2ContactImpulse));
+		batch.islands = (b2IslandRange*)m_stackAllocator.Allocate(m_bodyCount * sizeof(b2IslandRange));
+		batch.islandCount = 0;
+		batch.nextIsland = 0;
+	}
+	for (b2Body* seed = m_bodyList; seed; seed = seed->m_next)
+	{
+		if (seed->m_flags & b2Body::e_islandFlag)
+		{
+			continue;
+		}
+
+		if (seed->IsAwake() == false || seed->IsActive() == false)
+		{
+			continue;
+		}
+
+		// The seed can be dynamic or kinematic.
+		if (seed->GetType() == b2_staticBody)
+		{
+			continue;
+		}
+
+		// Reset island and build it from the seed.
+		island.Clear();
+		BuildIsland(island, seed, stack);
+
+		if (m_islandSolverPool)
+		{
+			b2IslandRange* range = batch.islands + batch.islandCount;
+			if (batch.islandCount == 0)
+			{
+				range->bodyIndex = 0;
+				range->contactIndex = 0;
+				range->jointIndex = 0;
+			}
+			else
+			{
+				const b2IslandRange* previous = range - 1;
+				range->bodyIndex = previous->bodyIndex + previous->bodyCount;
+				range->contactIndex = previous->contactIndex + previous->contactCount;
+				range->jointIndex = previous->jointIndex + previous->jointCount;
+			}
+			range->bodyCount = island.m_bodyCount;
+			range->contactCount = island.m_contactCount;
+			range->jointCount = island.m_jointCount;
+			++batch.islandCount;
+
+			memcpy(batch.bodies + range->bodyIndex, island.m_bodies, island.m_bodyCount * sizeof(b2Body*));
+			memcpy(batch.contacts + range->contactIndex, island.m_contacts, island.m_contactCount * sizeof(b2Contact*));
+			memcpy(batch.joints + range->jointIndex, island.m_joints, island.m_jointCount * sizeof(b2Joint*));
+		}
+		else
+		{
+			island.Solve(step, m_gravity, m_allowSleep);
+		}
+
+		// Post solve cleanup.
+		for (int32 i = 0; i < island.m_bodyCount; ++i)
+		{
+			// Allow static bodies to participate in other islands.
+			b2Body* b = island.m_bodies[i];
+			if (b->GetType() == b2_staticBody)
+			{
+				b->m_flags &= ~b2Body::e_islandFlag;
+			}
+		}
+	}
+
+	if (m_islandSolverPool)
+	{
+		if (batch.islandCount > 1)
+		{
+			m_islandSolverPool->Run(b2SolveIslands, &batch);
+		}
+		else
+		{
+			b2SolveIslands(&batch, m_islandSolverPool->GetAllocator());
+		}
+
+		// Report the contacts and update the static bodies in island order, as if
+		// the islands had been built and solved one after another.
+		for (int32 i = 0; i < batch.islandCount; ++i)
+		{
+			const b2IslandRange* range = batch.islands + i;
+
+			if (batch.listener)
+			{
+				for (int32 j = range->contactIndex; j < range->contactIndex + range->contactCount; ++j)
+				{
+					batch.listener->PostSolve(batch.contacts[j], batch.impulses + j);
+				}
+			}
+
+			// The first body is the seed, which is never static.
+			bool asleep = batch.bodies[range->bodyIndex]->IsAwake() == false;
+			for (int32 j = range->bodyIndex; j < range->bodyIndex + range->bodyCount; ++j)
+			{
+				b2Body* b = batch.bodies[j];
+				if (b->GetType() == b2_staticBody)
+				{
+					b->SetAwake(true);
+					if (asleep)
+					{
+						b->SetAwake(false);
+					}
+				}
+			}
+		}
+
+		m_stackAllocator.Free(batch.islands);
+		m_stackAllocator.Free(batch.impulses);
+		m_stackAllocator.Free(batch.joints);
+		m_stackAllocator.Free(batch.contacts);
+		m_stackAllocator.Free(batch.bodies);
+	}
+
+	m_stackAllocator.Free(stack);
+
+	b2Timer timer;
+
+	// Synchronize fixtures, check for out of range bodies.
+	for (b2Body* b = m_bodyList; b; b = b->GetNext())
+	{
+		// If a body was not in an island then it did not move.
+		if ((b->m_flags & b2Body::e_islandFlag) == 0)
+		{
+			continue;
+		}
+
+		if (b->GetType() == b2_staticBody)
+		{
+			continue;
+		}
+
+		// Update fixtures (for broad-phase).
+		b->SynchronizeFixtures();
+	}
+
+	// Look for new contacts.
+	m_contactManager.FindNewContacts();
+	m_profile.broadphase += timer.GetMilliseconds();
+}
+
+// Advance a dynamic body to its first time of contact
+// and adjust the position to ensure clearance.
+void b2World::SolveTOI(b2Body* body)
+{
+	// Find the minimum contact.
+	b2Contact* toiContact = NULL;
+	float32 toi = 1.0f;
+	b2Body* toiOther = NULL;
+	bool found;
+	int32 count;
+	int32 iter = 0;
+
+	bool bullet = body->IsBullet();
+
+	// Iterate until all contacts agree on the minimum TOI. We have
+	// to iterate because the TOI algorithm may skip some intermediate
+	// collisions when objects rotate through each other.
+	do
+	{
+		count = 0;
+		found = false;
+		for (b2ContactEdge* ce = body->m_contactList; ce; ce = ce->next)
+		{
+			if (ce->contact == toiContact)
+			{
+				continue;
+			}
+
+			b2Body* other = ce->other;
+			b2BodyType type = other->GetType();
+
+			// Only bullets perform TOI with dynamic bodies.
+			if (bullet == true)
+			{
+				// Bullets only perform TOI with bodies that have their TOI resolved.
+				if ((other->m_flags & b2Body::e_toiFlag) == 0)
+				{
+					continue;
+				}
+
+				// No repeated hits on non-static bodies
+				if (type != b2_staticBody && (ce->contact->m_flags & b2Contact::e_bulletHitFlag) != 0)
+				{
+						continue;
+				}
+			}
+			else if (type == b2_dynamicBody)
+			{
+				continue;
+			}
+
+			// Check for a disabled contact.
+			b2Contact* contact = ce->contact;
+			if (contact->IsEnabled() == false)
+			{
+				continue;
+			}
+
+			// Prevent infinite looping.
+			if (contact->m_toiCount > 10)
+			{
+				continue;
+			}
+
+			b2Fixture* fixtureA = contact->m_fixtureA;
+			b2Fixture* fixtureB = contact->m_fixtureB;
+
+			// Cull sensors.
+			if (fixtureA->IsSensor() || fixtureB->IsSensor())
+			{
+				continue;
+			}
+
+			b2Body* bodyA = fixtureA->m_body;
+			b2Body* bodyB = fixtureB->m_body;
+
+			// Compute the time of impact in interval [0, minTOI]
+			b2TOIInput input;
+			input.proxyA.Set(fixtureA->GetShape());
+			input.proxyB.Set(fixtureB->GetShape());
+			input.sweepA = bodyA->m_sweep;
+			input.sweepB = bodyB->m_sweep;
+			input.tMax = toi;
+
+			b2TOIOutput output;
+			b2TimeOfImpact(&output, &input);
+
+			if (output.state == b2TOIOutput::e_touching && output.t < toi)
+			{
+				toiContact = contact;
+				toi = output.t;
+				toiOther = other;
+				found = true;
+			}
+
+			++count;
+		}
+
+		++iter;
+	} while (found && count > 1 && iter < 50);
+
+	if (toiContact == NULL)
+	{
+		body->Advance(1.0f);
+		return;
+	}
+
+	b2Sweep backup = body->m_sweep;
+	body->Advance(toi);
+	toiContact->Update(m_contactManager.m_contactListener);
+	if (toiContact->IsEnabled() == false)
+	{
+		// Contact disabled. Backup and recurse.
+		body->m_sweep = backup;
+		SolveTOI(body);
+	}
+
+	++toiContact->m_toiCount;
+
+	// Update all the valid contacts on this body and build a contact island.
+	b2Contact* contacts[b2_maxTOIContacts];
+	count = 0;
+	for (b2ContactEdge* ce = body->m_contactList; ce && count < b2_maxTOIContacts; ce = ce->next)
+	{
+		b2Body* other = ce->other;
+		b2BodyType type = other->GetType();
+
+		// Only perform correction with static bodies, so the
+		// body won't get pushed out of the world.
+		if (type == b2_dynamicBody)
+		{
+			continue;
+		}
+
+		// Check for a disabled contact.
+		b2Contact* contact = ce->contact;
+		if (contact->IsEnabled() == false)
+		{
+			continue;
+		}
+
+		b2Fixture* fixtureA = contact->m_fixtureA;
+		b2Fixture* fixtureB = contact->m_fixtureB;
+
+		// Cull sensors.
+		if (fixtureA->IsSensor() || fixtureB->IsSensor())
+		{
+			continue;
+		}
+
+		// The contact likely has some new contact points. The listener
+		// gives the user a chance to disable the contact.
+		if (contact != toiContact)
+		{
+			contact->Update(m_contactManager.m_contactListener);
+		}
+
+		// Did the user disable the contact?
+		if (contact->IsEnabled() == false)
+		{
+			// Skip this contact.
+			continue;
+		}
+
+		if (contact->IsTouching() == false)
+		{
+			continue;
+		}
+
+		contacts[count] = contact;
+		++count;
+	}
+
+	// Reduce the TOI body's overlap with the contact island.
+	b2TOISolver solver(&m_stackAllocator);
+	solver.Initialize(contacts, count, body);
+
+	const float32 k_toiBaumgarte = 0.75f;
+	bool solved = false;
+	for (int32 i = 0; i < 20; ++i)
+	{
+		bool contactsOkay = solver.Solve(k_toiBaumgarte);
+		if (contactsOkay)
+		{
+			solved = true;
+			break;
+		}
+	}
+
+	if (toiOther->GetType() != b2_staticBody)
+	{
+			toiContact->m_flags |= b2Contact::e_bulletHitFlag;
+	}
+}
+
+// Sequentially solve TOIs for each body. We bring each
+// body to the time of contact and perform some position correction.
+// Time is not conserved.
+void b2World::SolveTOI()
+{
+	// Prepare all contacts.
+	for (b2Contact* c = m_contactManager.m_contactList; c; c = c->m_next)
+	{
+		// Enable the contact
+		c->m_flags |= b2Contact::e_enabledFlag;
+
+		// Set the number of TOI events for this contact to zero.
+		c->m_toiCount = 0;
+	}
+
+	// Initialize the TOI flag.
+	for (b2Body* body = m_bodyList; body; body = body->m_next)
+	{
+		// Kinematic, and static bodies will not be affected by the TOI event.
+		// If a body was not in an island then it did not move.
+		if ((body->m_flags & b2Body::e_islandFlag) == 0 || body->GetType() == b2_kinematicBody || body->GetType() == b2_staticBody)
+		{
+			body->m_flags |= b2Body::e_toiFlag;
+		}
+		else
+		{
+			body->m_flags &= ~b2Body::e_toiFlag;
+		}
+	}
+
+	// Collide non-bullets.
+	for (b2Body* body = m_bodyList; body; body = body->m_next)
+	{
+		if (body->m_flags & b2Body::e_toiFlag)
+		{
+			continue;
+		}
+
+		if (body->IsBullet() == true)
+		{
+			continue;
+		}
+
+		SolveTOI(body);
+
+		body->m_flags |= b2Body::e_toiFlag;
+	}
+
+	// Collide bullets.
+	for (b2Body* body = m_bodyList; body; body = body->m_next)
+	{
+		if (body->m_flags & b2Body::e_toiFlag)
+		{
+			continue;
+		}
+
+		if (body->IsBullet() == false)
+		{
+			continue;
+		}
+
+		SolveTOI(body);
+
+		body->m_flags |= b2Body::e_toiFlag;
+	}
+}
+
+void b2World::Step(float32 dt, int32 velocityIterations, int32 positionIterations)
+{
+	b2Timer stepTimer;
+	memset(&m_profile, 0, sizeof(b2Profile));
+
+	// If new fixtures were added, we need to find the new contacts.
+	if (m_flags & e_newFixture)
+	{
+		b2Timer timer;
+		m_contactManager.FindNewContacts();
+		m_flags &= ~e_newFixture;
+		m_profile.broadphase = timer.GetMilliseconds();
+	}
+
+	m_flags |= e_locked;
+
+	b2TimeStep step;
+	step.dt = dt;
+	step.velocityIterations	= velocityIterations;
+	step.positionIterations = positionIterations;
+	if (dt > 0.0f)
+	{
+		step.inv_dt = 1.0f / dt;
+	}
+	else
+	{
+		step.inv_dt = 0.0f;
+	}
+
+	step.dtRatio = m_inv_dt0 * dt;
+
+	step.warmStarting = m_warmStarting;
+
+	// Update contacts. This is where some contacts are destroyed.
+	{
+		b2Timer timer;
+		m_contactManager.Collide();
+		m_profile.collide = timer.GetMilliseconds();
+	}
+
+	// Integrate velocities, solve velocity constraints, and integrate positions.
+	if (step.dt > 0.0f)
+	{
+		b2Timer timer;
+		float32 broadphase = m_profile.broadphase;
+		Solve(step);
+		m_profile.solve = timer.GetMilliseconds() - (m_profile.broadphase - broadphase);
+	}
+
+	// Handle TOI events.
+	if (m_continuousPhysics && step.dt > 0.0f)
+	{
+		b2Timer timer;
+		SolveTOI();
+		m_profile.solveTOI = timer.GetMilliseconds();
+	}
+
+	if (step.dt > 0.0f)
+	{
+		m_inv_dt0 = step.inv_dt;
+	}
+
+	if (m_flags & e_clearForces)
+	{
+		ClearForces();
+	}
+
+	m_flags &= ~e_locked;
+
+	m_profile.step = stepTimer.GetMilliseconds();
+}
+
+void b2World::ClearForces()
+{
+	for (b2Body* body = m_bodyList; body; body = body->GetNext())
+	{
+		body->m_force.SetZero();
+		body->m_torque = 0.0f;
+	}
+}
+
+void b2World::FindNewContacts()
+{
+	b2Assert(IsLocked() == false);
+	if (IsLocked())
+	{
+		return;
+	}
+
+	m_contactManager.FindNewContacts();
+}
+
+struct b2WorldQueryWrapper
+{
+	bool QueryCallback(int32 proxyId)
+	{
+		b2Fixture* fixture = (b2Fixture*)broadPhase->GetUserData(proxyId);
+		return callback->ReportFixture(fixture);
+	}
+
+	const b2BroadPhase* broadPhase;
+	b2QueryCallback* callback;
+};
+
+void b2World::QueryAABB(b2QueryCallback* callback, const b2AABB& aabb) const
+{
+	b2WorldQueryWrapper wrapper;
+	wrapper.broadPhase = &m_contactManager.m_broadPhase;
+	wrapper.callback = callback;
+	m_contactManager.m_broadPhase.Query(&wrapper, aabb);
+}
+
+struct b2WorldRayCastWrapper
+{
+	float32 RayCastCallback(const b2RayCastInput& input, int32 proxyId)
+	{
+		void* userData = broadPhase->GetUserData(proxyId);
+		b2Fixture* fixture = (b2Fixture*)userData;
+		b2RayCastOutput output;
+		bool hit = fixture->RayCast(&output, input);
+
+		if (hit)
+		{
+			float32 fraction = output.fraction;
+			b2Vec2 point = (1.0f - fraction) * input.p1 + fraction * input.p2;
+			return callback->ReportFixture(fixture, point, output.normal, fraction);
+		}
+
+		return input.maxFraction;
+	}
+
+	const b2BroadPhase* broadPhase;
+	b2RayCastCallback* callback;
+};
+
+void b2World::RayCast(b2RayCastCallback* callback, const b2Vec2& point1, const b2Vec2& point2) const
+{
+	b2WorldRayCastWrapper wrapper;
+	wrapper.broadPhase = &m_contactManager.m_broadPhase;
+	wrapper.callback = callback;
+	b2RayCastInput input;
+	input.maxFraction = 1.0f;
+	input.p1 = point1;
+	input.p2 = point2;
+	m_contactManager.m_broadPhase.RayCast(&wrapper, input);
+}
+
+void b2World::DrawShape(b2Fixture* fixture, const b2Transform& xf, const b2Color& color)
+{
+	switch (fixture->GetType())
+	{
+	case b2Shape::e_circle:
+		{
+			b2CircleShape* circle = (b2CircleShape*)fixture->GetShape();
+
+			b2Vec2 center = b2Mul(xf, circle->m_p);
+			float32 radius = circle->m_radius;
+			b2Vec2 axis = xf.R.col1;
+
+			m_debugDraw->DrawSolidCircle(center, radius, axis, color);
+		}
+		break;
+
+	case b2Shape::e_polygon:
+		{
+			b2PolygonShape* poly = (b2PolygonShape*)fixture->GetShape();
+			int32 vertexCount = poly->m_vertexCount;
+			b2Assert(vertexCount <= b2_maxPolygonVertices);
+			b2Vec2 vertices[b2_maxPolygonVertices];
+
+			for (int32 i = 0; i < vertexCount; ++i)
+			{
+				vertices[i] = b2Mul(xf, poly->m_vertices[i]);
+			}
+
+			m_debugDraw->DrawSolidPolygon(vertices, vertexCount, color);
+		}
+		break;
+	}
+}
+
+void b2World::DrawJoint(b2Joint* joint)
+{
+	b2Body* bodyA = joint->GetBodyA();
+	b2Body* bodyB = joint->GetBodyB();
+	const b2Transform& xf1 = bodyA->GetTransform();
+	const b2Transform& xf2 = bodyB->GetTransform();
+	b2Vec2 x1 = xf1.position;
+	b2Vec2 x2 = xf2.position;
+	b2Vec2 p1 = joint->GetAnchorA();
+	b2Vec2 p2 = joint->GetAnchorB();
+
+	b2Color color(0.5f, 0.8f, 0.8f);
+
+	switch (joint->GetType())
+	{
+	case e_distanceJoint:
+		m_debugDraw->DrawSegment(p1, p2, color);
+		break;
+
+	case e_pulleyJoint:
+		{
+			b2PulleyJoint* pulley = (b2PulleyJoint*)joint;
+			b2Vec2 s1 = pulley->GetGroundAnchorA();
+			b2Vec2 s2 = pulley->GetGroundAnchorB();
+			m_debugDraw->DrawSegment(s1, p1, color);
+			m_debugDraw->DrawSegment(s2, p2, color);
+			m_debugDraw->DrawSegment(s1, s2, color);
+		}
+		break;
+
+	case e_mouseJoint:
+		// don't draw this
+		break;
+
+	default:
+		m_debugDraw->DrawSegment(x1, p1, color);
+		m_debugDraw->DrawSegment(p1, p2, color);
+		m_debugDraw->DrawSegment(x2, p2, color);
+	}
+}
+
+void b2World::DrawDebugData()
+{
+	if (m_debugDraw == NULL)
+	{
+		return;
+	}
+
+	uint32 flags = m_debugDraw->GetFlags();
+
+	if (flags & b2DebugDraw::e_shapeBit)
+	{
+		for (b2Body* b = m_bodyList; b; b = b->GetNext())
+		{
+			const b2Transform& xf = b->GetTransform();
+			for (b2Fixture* f = b->GetFixtureList(); f; f = f->GetNext())
+			{
+				if (b->IsActive() == false)
+				{
+					DrawShape(f, xf, b2Color(0.5f, 0.5f, 0.3f));
+				}
+				else if (b->GetType() == b2_staticBody)
+				{
+					DrawShape(f, xf, b2Color(0.5f, 0.9f, 0.5f));
+				}
+				else if (b->GetType() == b2_kinematicBody)
+				{
+					DrawShape(f, xf, b2Color(0.5f, 0.5f, 0.9f));
+				}
+				else if (b->IsAwake() == false)
+				{
+					DrawShape(f, xf, b2Color(0.6f, 0.6f, 0.6f));
+				}
+				else
+				{
+					DrawShape(f, xf, b2Color(0.9f, 0.7f, 0.7f));
+				}
+			}
+		}
+	}
+
+	if (flags & b2DebugDraw::e_jointBit)
+	{
+		for (b2Joint* j = m_jointList; j; j = j->GetNext())
+		{
+			DrawJoint(j);
+		}
+	}
+
+	if (flags & b2DebugDraw::e_pairBit)
+	{
+		b2Color color(0.3f, 0.9f, 0.9f);
+		for (b2Contact* c = m_contactManager.m_contactList; c; c = c->GetNext())
+		{
+			b2Fixture* fixtureA = c->GetFixtureA();
+			b2Fixture* fixtureB = c->GetFixtureB();
+
+			b2Vec2 cA = fixtureA->GetAABB().GetCenter();
+			b2Vec2 cB = fixtureB->GetAABB().GetCenter();
+
+			m_debugDraw->DrawSegment(cA, cB, color);
+		}
+	}
+
+	if (flags & b2DebugDraw::e_aabbBit)
+	{
+		b2Color color(0.9f, 0.3f, 0.9f);
+		b2BroadPhase* bp = &m_contactManager.m_broadPhase;
+
+		for (b2Body* b = m_bodyList; b; b = b->GetNext())
+		{
+			if (b->IsActive() == false)
+			{
+				continue;
+			}
+
+			for (b2Fixture* f = b->GetFixtureList(); f; f = f->GetNext())
+			{
+				b2AABB aabb = bp->GetFatAABB(f->m_proxyId);
+				b2Vec2 vs[4];
+				vs[0].Set(aabb.lowerBound.x, aabb.lowerBound.y);
+				vs[1].Set(aabb.upperBound.x, aabb.lowerBound.y);
+				vs[2].Set(aabb.upperBound.x, aabb.upperBound.y);
+				vs[3].Set(aabb.lowerBound.x, aabb.upperBound.y);
+
+				m_debugDraw->DrawPolygon(vs, 4, color);
+			}
+		}
+	}
+
+	if (flags & b2DebugDraw::e_centerOfMassBit)
+	{
+		for (b2Body* b = m_bodyList; b; b = b->GetNext())
+		{
+			b2Transform xf = b->GetTransform();
+			xf.position = b->GetWorldCenter();
+			m_debugDraw->DrawTransform(xf);
+		}
+	}
+}
+
+int32 b2World::GetProxyCount() const
+{
+	return m_contactManager.m_broadPhase.GetProxyCount();
+}
+
+// World states consist of a header and the inverse of the last time step, then the bodies, joints and contacts in list
+// order, then the broad-phase. Fixtures are referenced by their proxy id.
+static const int32 b2_stateMagic = 0x62327773;
+static const int32 b2_stateVersion = 1;
+static const int32 b2_stateHeaderSize = 9 * sizeof(int32);
+static const int32 b2_stateBodySize = sizeof(int32) + sizeof(b2Transform) + sizeof(b2Sweep) + 2 * sizeof(b2Vec2) + 3 * sizeof(float32);
+static const int32 b2_stateJointSize = b2_maxJointImpulses * sizeof(float32);
+static const int32 b2_stateContactSize = 4 * sizeof(int32) + sizeof(b2Manifold);
+
+static inline void b2HashValue(uint32& hash, int32 value)
+{
+	// 32 bit FNV-1a.
+	for (int32 i = 0; i < 4; ++i)
+	{
+		hash ^= (value >> (i * 8)) & 0xff;
+		hash *= 16777619u;
+	}
+}
+
+uint32 b2World::ComputeStructureHash() const
+{
+	uint32 hash = 2166136261u;
+
+	b2HashValue(hash, m_bodyCount);
+	for (b2Body* b = m_bodyList; b; b = b->m_next)
+	{
+		b2HashValue(hash, b->m_type);
+		b2HashValue(hash, b->m_fixtureCount);
+		for (b2Fixture* f = b->m_fixtureList; f; f = f->m_next)
+		{
+			b2HashValue(hash, f->m_proxyId);
+		}
+	}
+
+	b2HashValue(hash, m_jointCount);
+	for (b2Joint* j = m_jointList; j; j = j->m_next)
+	{
+		b2HashValue(hash, j->m_type);
+	}
+
+	return hash;
+}
+
+int32 b2World::GetStateSize() const
+{
+	return b2_stateHeaderSize
+		+ m_bodyCount * b2_stateBodySize
+		+ m_jointCount * b2_stateJointSize
+		+ m_contactManager.m_contactCount * b2_stateContactSize
+		+ m_contactManager.m_broadPhase.GetStateSize();
+}
+
+int32 b2World::SaveState(void* buffer) const
+{
+	uint8* data = (uint8*)buffer;
+
+	// The body flags that change while stepping. The others are only set by the user.
+	const uint16 stateBodyFlags = b2Body::e_islandFlag | b2Body::e_awakeFlag | b2Body::e_toiFlag | b2Body::e_subStepFlag;
+
+	int32 header[8] = { b2_stateMagic, b2_stateVersion, (int32)ComputeStructureHash(), m_flags & e_newFixture,
+		m_bodyCount, m_jointCount, m_contactManager.m_contactCount, m_contactManager.m_broadPhase.GetStateSize() };
+	memcpy(data, header, sizeof(header));
+	data += sizeof(header);
+
+	// The warm starting impulses are scaled by the ratio of the time steps.
+	memcpy(data, &m_inv_dt0, sizeof(float32));
+	data += sizeof(float32);
+
+	for (b2Body* b = m_bodyList; b; b = b->m_next)
+	{
+		int32 flags = b->m_flags & stateBodyFlags;
+		float32 values[6] = { b->m_linearVelocity.x, b->m_linearVelocity.y, b->m_angularVelocity, b->m_force.x, b->m_force.y, b->m_torque };
+		memcpy(data, &flags, sizeof(int32));
+		data += sizeof(int32);
+		memcpy(data, &b->m_xf, sizeof(b2Transform));
+		data += sizeof(b2Transform);
+		memcpy(data, &b->m_sweep, sizeof(b2Sweep));
+		data += sizeof(b2Sweep);
+		memcpy(data, values, sizeof(values));
+		data += sizeof(values);
+		memcpy(data, &b->m_sleepTime, sizeof(float32));
+		data += sizeof(float32);
+	}
+
+	for (b2Joint* j = m_jointList; j; j = j->m_next)
+	{
+		float32 impulses[b2_maxJointImpulses] = { 0.0f };
+		j->GetImpulses(impulses);
+		memcpy(data, impulses, sizeof(impulses));
+		data += sizeof(impulses);
+	}
+
+	for (b2Contact* c = m_contactManager.m_contactList; c; c = c->m_next)
+	{
+		int32 values[4] = { c->m_fixtureA->m_proxyId, c->m_fixtureB->m_proxyId, (int32)c->m_flags, c->m_toiCount };
+		memcpy(data, values, sizeof(values));
+		data += sizeof(values);
+		memcpy(data, &c->m_manifold, sizeof(b2Manifold));
+		data += sizeof(b2Manifold);
+	}
+
+	data = m_contactManager.m_broadPhase.WriteState(data);
+
+	return (int32)(data - (uint8*)buffer);
+}
+
+bool b2World::CheckState(const uint8* contactData, int32 contactCount, int32 broadPhaseSize)
+{
+	// Flag the proxies of the fixtures, the state may only reference these.
+	int32 proxyIdCount = 0;
+	for (b2Body* b = m_bodyList; b; b = b->m_next)
+	{
+		for (b2Fixture* f = b->m_fixtureList; f; f = f->m_next)
+		{
+			proxyIdCount = b2Max(proxyIdCount, f->m_proxyId + 1);
+		}
+	}
+
+	bool* proxies = NULL;
+	if (proxyIdCount > 0)
+	{
+		proxies = (bool*)m_stackAllocator.Allocate(proxyIdCount * sizeof(bool));
+		memset(proxies, 0, proxyIdCount * sizeof(bool));
+	}
+
+	for (b2Body* b = m_bodyList; b; b = b->m_next)
+	{
+		for (b2Fixture* f = b->m_fixtureList; f; f = f->m_next)
+		{
+			if (f->m_proxyId != b2BroadPhase::e_nullProxy)
+			{
+				proxies[f->m_proxyId] = true;
+			}
+		}
+	}
+
+	b2BroadPhase* broadPhase = &m_contactManager.m_broadPhase;
+	bool valid = broadPhase->CheckState(contactData + contactCount * b2_stateContactSize, broadPhaseSize, proxies, proxyIdCount);
+
+	// Each contact must join the proxies of fixtures of two different bodies, at most once per pair.
+	b2Pair* pairs = NULL;
+	if (valid && contactCount > 0)
+	{
+		pairs = (b2Pair*)m_stackAllocator.Allocate(contactCount * sizeof(b2Pair));
+	}
+
+	for (int32 i = 0; valid && i < contactCount; ++i)
+	{
+		int32 proxyIds[2];
+		b2Manifold manifold;
+		memcpy(proxyIds, contactData + i * b2_stateContactSize, sizeof(proxyIds));
+		memcpy(&manifold, contactData + i * b2_stateContactSize + 4 * sizeof(int32), sizeof(b2Manifold));
+
+		if (proxyIds[0] < 0 || proxyIds[0] >= proxyIdCount || proxies[proxyIds[0]] == false ||
+			proxyIds[1] < 0 || proxyIds[1] >= proxyIdCount || proxies[proxyIds[1]] == false ||
+			manifold.pointCount < 0 || manifold.pointCount > b2_maxManifoldPoints ||
+			(manifold.pointCount > 0 && (manifold.type < b2Manifold::e_circles || manifold.type > b2Manifold::e_faceB)))
+		{
+			valid = false;
+			break;
+		}
+
+		b2Fixture* fixtureA = (b2Fixture*)broadPhase->GetUserData(proxyIds[0]);
+		b2Fixture* fixtureB = (b2Fixture*)broadPhase->GetUserData(proxyIds[1]);
+		if (fixtureA->m_body == fixtureB->m_body)
+		{
+			valid = false;
+			break;
+		}
+
+		pairs[i].proxyIdA = b2Min(proxyIds[0], proxyIds[1]);
+		pairs[i].proxyIdB = b2Max(proxyIds[0], proxyIds[1]);
+	}
+
+	if (pairs != NULL)
+	{
+		if (valid)
+		{
+			qsort(pairs, contactCount, sizeof(b2Pair), b2PairCompareQSort);
+			for (int32 i = 1; i < contactCount; ++i)
+			{
+				if (pairs[i].proxyIdA == pairs[i - 1].proxyIdA && pairs[i].proxyIdB == pairs[i - 1].proxyIdB)
+				{
+					valid = false;
+					break;
+				}
+			}
+		}
+
+		m_stackAllocator.Free(pairs);
+	}
+
+	if (proxies != NULL)
+	{
+		m_stackAllocator.Free(proxies);
+	}
+
+	return valid;
+}
+
+bool b2World::RestoreState(const void* buffer, int32 size)
+{
+	b2Assert(IsLocked() == false);
+	if (IsLocked() || size < b2_stateHeaderSize)
+	{
+		return false;
+	}
+
+	const uint8* data = (const uint8*)buffer;
+	const uint16 stateBodyFlags = b2Body::e_islandFlag | b2Body::e_awakeFlag | b2Body::e_toiFlag | b2Body::e_subStepFlag;
+
+	int32 header[8];
+	memcpy(header, data, sizeof(header));
+	data += sizeof(header);
+
+	int32 contactCount = header[6];
+	int32 fixedSize = b2_stateHeaderSize + m_bodyCount * b2_stateBodySize + m_jointCount * b2_stateJointSize;
+	if (header[0] != b2_stateMagic || header[1] != b2_stateVersion || header[2] != (int32)ComputeStructureHash() ||
+		header[4] != m_bodyCount || header[5] != m_jointCount || size < fixedSize ||
+		contactCount < 0 || contactCount > (size - fixedSize) / b2_stateContactSize ||
+		header[7] < 0 || header[7] > size - fixedSize - contactCount * b2_stateContactSize)
+	{
+		return false;
+	}
+
+	if (!CheckState(data + sizeof(float32) + m_bodyCount * b2_stateBodySize + m_jointCount * b2_stateJointSize, contactCount, header[7]))
+	{
+		return false;
+	}
+
+	memcpy(&m_inv_dt0, data, sizeof(float32));
+	data += sizeof(float32);
+
+	m_flags = (m_flags & ~e_newFixture) | (header[3] & e_newFixture);
+
+	const uint8* bodyData = data;
+	data += m_bodyCount * b2_stateBodySize;
+	const uint8* jointData = data;
+	data += m_jointCount * b2_stateJointSize;
+	const uint8* contactData = data;
+	data += contactCount * b2_stateContactSize;
+
+	b2BroadPhase* broadPhase = &m_contactManager.m_broadPhase;
+
+	// Keep the contacts that are part of the state and create the missing ones. The island
+	// flag is reset before each solve, so it marks the kept contacts meanwhile.
+	for (b2Contact* c = m_contactManager.m_contactList; c; c = c->m_next)
+	{
+		c->m_flags &= ~b2Contact::e_islandFlag;
+	}
+
+	b2Contact** contacts = NULL;
+	if (contactCount > 0)
+	{
+		contacts = (b2Contact**)m_stackAllocator.Allocate(contactCount * sizeof(b2Contact*));
+	}
+
+	for (int32 i = 0; i < contactCount; ++i)
+	{
+		int32 proxyIds[2];
+		memcpy(proxyIds, contactData + i * b2_stateContactSize, sizeof(proxyIds));
+		b2Fixture* fixtureA = (b2Fixture*)broadPhase->GetUserData(proxyIds[0]);
+		b2Fixture* fixtureB = (b2Fixture*)broadPhase->GetUserData(proxyIds[1]);
+
+		b2Contact* contact = NULL;
+		for (b2ContactEdge* ce = fixtureA->m_body->m_contactList; ce; ce = ce->next)
+		{
+			if (ce->contact->m_fixtureA == fixtureA && ce->contact->m_fixtureB == fixtureB)
+			{
+				contact = ce->contact;
+				break;
+			}
+		}
+
+		if (contact == NULL)
+		{
+			contact = b2Contact::Create(fixtureA, fixtureB, &m_blockAllocator);
+		}
+
+		contact->m_flags |= b2Contact::e_islandFlag;
+		contacts[i] = contact;
+	}
+
+	b2Contact* c = m_contactManager.m_contactList;
+	while (c)
+	{
+		b2Contact* next = c->m_next;
+		if ((c->m_flags & b2Contact::e_islandFlag) == 0)
+		{
+			b2Contact::Destroy(c, &m_blockAllocator);
+		}
+		c = next;
+	}
+
+	// Relink the contacts in the order of the state. Contacts are only ever inserted at the
+	// head of the world and body lists, so the body lists follow the order of the world list.
+	for (b2Body* b = m_bodyList; b; b = b->m_next)
+	{
+		b->m_contactList = NULL;
+	}
+
+	m_contactManager.m_contactList = NULL;
+	m_contactManager.m_contactCount = contactCount;
+	for (int32 i = contactCount - 1; i >= 0; --i)
+	{
+		c = contacts[i];
+
+		int32 values[4];
+		memcpy(values, contactData + i * b2_stateContactSize, sizeof(values));
+		memcpy(&c->m_manifold, contactData + i * b2_stateContactSize + sizeof(values), sizeof(b2Manifold));
+		c->m_flags = (uint32)values[2];
+		c->m_toiCount = values[3];
+
+		c->m_prev = NULL;
+		c->m_next = m_contactManager.m_contactList;
+		if (m_contactManager.m_contactList != NULL)
+		{
+			m_contactManager.m_contactList->m_prev = c;
+		}
+		m_contactManager.m_contactList = c;
+
+		b2Body* bodyA = c->m_fixtureA->m_body;
+		b2Body* bodyB = c->m_fixtureB->m_body;
+
+		c->m_nodeA.contact = c;
+		c->m_nodeA.other = bodyB;
+		c->m_nodeA.prev = NULL;
+		c->m_nodeA.next = bodyA->m_contactList;
+		if (bodyA->m_contactList != NULL)
+		{
+			bodyA->m_contactList->prev = &c->m_nodeA;
+		}
+		bodyA->m_contactList = &c->m_nodeA;
+
+		c->m_nodeB.contact = c;
+		c->m_nodeB.other = bodyA;
+		c->m_nodeB.prev = NULL;
+		c->m_nodeB.next = bodyB->m_contactList;
+		if (bodyB->m_contactList != NULL)
+		{
+			bodyB->m_contactList->prev = &c->m_nodeB;
+		}
+		bodyB->m_contactList = &c->m_nodeB;
+	}
+
+	if (contacts != NULL)
+	{
+		m_stackAllocator.Free(contacts);
+	}
+
+	// Destroying contacts wakes their bodies, so the bodies are restored afterwards.
+	for (b2Body* b = m_bodyList; b; b = b->m_next)
+	{
+		int32 flags;
+		float32 values[6];
+		memcpy(&flags, bodyData, sizeof(int32));
+		bodyData += sizeof(int32);
+		memcpy(&b->m_xf, bodyData, sizeof(b2Transform));
+		bodyData += sizeof(b2Transform);
+		memcpy(&b->m_sweep, bodyData, sizeof(b2Sweep));
+		bodyData += sizeof(b2Sweep);
+		memcpy(values, bodyData, sizeof(values));
+		bodyData += sizeof(values);
+		memcpy(&b->m_sleepTime, bodyData, sizeof(float32));
+		bodyData += sizeof(float32);
+
+		b->m_flags = (b->m_flags & ~stateBodyFlags) | (flags & stateBodyFlags);
+		b->m_linearVelocity.Set(values[0], values[1]);
+		b->m_angularVelocity = values[2];
+		b->m_force.Set(values[3], values[4]);
+		b->m_torque = values[5];
+	}
+
+	for (b2Joint* j = m_jointList; j; j = j->m_next)
+	{
+		float32 impulses[b2_maxJointImpulses];
+		memcpy(impulses, jointData, sizeof(impulses));
+		jointData += sizeof(impulses);
+		j->SetImpulses(impulses);
+	}
+
+	broadPhase->ReadState(data);
+
+	return true;
+}
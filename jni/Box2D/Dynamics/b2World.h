@@ -32,6 +32,18 @@ struct b2TimeStep;
 class b2Body;
 class b2Fixture;
 class b2Joint;
+class b2IslandSolverPool;
+class b2Island;
+
+/// Profiling data of the last time step, in milliseconds.
+struct b2Profile
+{
+	float32 step;
+	float32 collide;
+	float32 solve;
+	float32 broadphase;
+	float32 solveTOI;
+};
 
 /// The world class manages all physics entities, dynamic simulation,
 /// and asynchronous queries. The world also contains efficient memory
@@ -100,6 +112,10 @@ public:
 	/// @see SetAutoClearForces
 	void ClearForces();
 
+	/// Create the contacts of fixtures that started to overlap since they were last moved,
+	/// after moving bodies with b2Body::SetTransform without finding new contacts.
+	void FindNewContacts();
+
 	/// Call this to draw shapes and other debug draw data.
 	void DrawDebugData();
 
@@ -166,6 +182,38 @@ public:
 	/// Get the flag that controls automatic clearing of forces after each time step.
 	bool GetAutoClearForces() const;
 
+	/// Solve the islands of each time step concurrently on the given number of threads,
+	/// in addition to the thread calling Step. The results do not depend on the number of
+	/// threads. Contacts are reported to PostSolve after all islands were solved.
+	/// 0 solves the islands one after another, which is the default.
+	void SetIslandThreadCount(int32 count);
+
+	/// Get the number of threads solving islands, in addition to the thread calling Step.
+	int32 GetIslandThreadCount() const;
+
+	/// Get the time spent in each phase of the last time step. The broad-phase time
+	/// is not included in the solve time.
+	const b2Profile& GetProfile() const;
+
+	/// Get the number of bytes SaveState needs for the current state of the world.
+	int32 GetStateSize() const;
+
+	/// Write the dynamic state of the world into the buffer: the transforms, velocities,
+	/// forces and sleep state of the bodies, the warm starting impulses of the joints,
+	/// the contacts with their manifolds and the broad-phase. The buffer must hold
+	/// at least GetStateSize bytes.
+	/// @return the number of bytes written.
+	int32 SaveState(void* buffer) const;
+
+	/// Restore a state written by SaveState. The world must have the same bodies,
+	/// fixtures and joints, created in the same order, as the world that wrote the state.
+	/// Body types, fixtures and joints are not restored. Contacts are created and destroyed
+	/// without notifying the contact listener.
+	/// The state is validated before anything is changed.
+	/// @return false if the state does not belong to a world with the same structure
+	/// or is inconsistent.
+	bool RestoreState(const void* buffer, int32 size);
+
 private:
 
 	// m_flags
@@ -181,14 +229,21 @@ private:
 	friend class b2Controller;
 
 	void Solve(const b2TimeStep& step);
+	void BuildIsland(b2Island& island, b2Body* seed, b2Body** stack);
+	void SolveSubSteps(const b2TimeStep& step, b2Island& island, b2Body** stack);
+	void UpdateSubStepContacts(b2Body** group, int32 groupCount);
 	void SolveTOI();
 	void SolveTOI(b2Body* body);
 
+	uint32 ComputeStructureHash() const;
+	bool CheckState(const uint8* contactData, int32 contactCount, int32 broadPhaseSize);
+
 	void DrawJoint(b2Joint* joint);
 	void DrawShape(b2Fixture* shape, const b2Transform& xf, const b2Color& color);
 
 	b2BlockAllocator m_blockAllocator;
 	b2StackAllocator m_stackAllocator;
+	b2IslandSolverPool* m_islandSolverPool;
 
 	int32 m_flags;
 
@@ -217,6 +272,8 @@ private:
 
 	// This is for debugging the solver.
 	bool m_continuousPhysics;
+
+	b2Profile m_profile;
 };
 
 inline b2Body* b2World::GetBodyList()
@@ -234,6 +291,11 @@ inline b2Contact* b2World::GetContactList()
 	return m_contactManager.m_contactList;
 }
 
+inline const b2Profile& b2World::GetProfile() const
+{
+	return m_profile;
+}
+
 inline int32 b2World::GetBodyCount() const
 {
 	return m_bodyCount;
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2010 Mario Zechner (contact@badlogicgames.com), Nathan Sweet (admin@esotericsoftware.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+#ifndef NATIVE_WORLD_H
+#define NATIVE_WORLD_H
+
+#include "Box2D.h"
+
+/// Number of category bits of b2Filter, i.e. rows of a collision matrix.
+static const int COLLISION_MATRIX_SIZE = 16;
+
+/// Contact filter evaluated without calling into Java: the stock group/category/mask rules of
+/// b2ContactFilter, optionally narrowed down by a collision matrix indexed by category bit.
+class NativeContactFilter: public b2ContactFilter
+{
+public:
+	NativeContactFilter()
+	{
+		hasCollisionMatrix = false;
+	}
+
+	/// Row i holds the categories that collide with category bit i.
+	uint16 collisionMatrix[COLLISION_MATRIX_SIZE];
+	bool hasCollisionMatrix;
+
+	virtual bool ShouldCollide(b2Fixture* fixtureA, b2Fixture* fixtureB)
+	{
+		const b2Filter& filterA = fixtureA->GetFilterData();
+		const b2Filter& filterB = fixtureB->GetFilterData();
+
+		if( filterA.groupIndex == filterB.groupIndex && filterA.groupIndex != 0 )
+			return filterA.groupIndex > 0;
+
+		if( (filterA.maskBits & filterB.categoryBits) == 0 || (filterA.categoryBits & filterB.maskBits) == 0 )
+			return false;
+
+		if( !hasCollisionMatrix )
+			return true;
+
+		return (GetCollisionMask(filterA.categoryBits) & filterB.categoryBits) != 0
+			&& (GetCollisionMask(filterB.categoryBits) & filterA.categoryBits) != 0;
+	}
+
+private:
+	uint16 GetCollisionMask(uint16 categoryBits) const
+	{
+		uint16 mask = 0;
+		for( int i = 0; i < COLLISION_MATRIX_SIZE; i++ )
+		{
+			if( categoryBits & (1 << i) )
+				mask |= collisionMatrix[i];
+		}
+		return mask;
+	}
+};
+
+/// Number of steps the rolling profile statistics are taken over.
+static const int PROFILE_HISTORY_SIZE = 60;
+
+/// Number of phases of b2Profile, and of statistics per phase. Must match World.PROFILE_PHASE_COUNT and World.PROFILE_STAT_COUNT in World.java
+static const int PROFILE_PHASE_COUNT = 5;
+static const int PROFILE_STAT_COUNT = 4;
+
+/// The profiles of the last PROFILE_HISTORY_SIZE steps.
+class NativeProfileHistory
+{
+public:
+	NativeProfileHistory()
+	{
+		count = 0;
+		index = 0;
+	}
+
+	void Add(const b2Profile& profile)
+	{
+		profiles[index] = profile;
+		index = (index + 1) % PROFILE_HISTORY_SIZE;
+		if( count < PROFILE_HISTORY_SIZE )
+			count++;
+	}
+
+	/// Writes the last value, minimum, average and maximum of each phase.
+	/// @return the number of steps the statistics were taken over.
+	int Get(float* stats) const
+	{
+		for( int phase = 0; phase < PROFILE_PHASE_COUNT; phase++ )
+		{
+			float* phaseStats = stats + phase * PROFILE_STAT_COUNT;
+			if( count == 0 )
+			{
+				phaseStats[0] = phaseStats[1] = phaseStats[2] = phaseStats[3] = 0;
+				continue;
+			}
+
+			float last = GetPhase(profiles[(index + PROFILE_HISTORY_SIZE - 1) % PROFILE_HISTORY_SIZE], phase);
+			float min = last, max = last, sum = 0;
+			for( int i = 0; i < count; i++ )
+			{
+				float value = GetPhase(profiles[i], phase);
+				min = b2Min(min, value);
+				max = b2Max(max, value);
+				sum += value;
+			}
+			phaseStats[0] = last;
+			phaseStats[1] = min;
+			phaseStats[2] = sum / count;
+			phaseStats[3] = max;
+		}
+		return count;
+	}
+
+	void Clear()
+	{
+		count = 0;
+		index = 0;
+	}
+
+private:
+	static float GetPhase(const b2Profile& profile, int phase)
+	{
+		switch( phase )
+		{
+		case 0: return profile.step;
+		case 1: return profile.collide;
+		case 2: return profile.solve;
+		case 3: return profile.broadphase;
+		default: return profile.solveTOI;
+		}
+	}
+
+	b2Profile profiles[PROFILE_HISTORY_SIZE];
+	int count;
+	int index;
+};
+
+/// A b2World plus the state the JNI bindings keep between calls. The world address handed to
+/// Java points to an instance of this class, so casting it to b2World* stays valid.
+class NativeWorld: public b2World
+{
+public:
+	NativeWorld(const b2Vec2& gravity, bool doSleep)
+		: b2World(gravity, doSleep)
+	{
+		SetContactFilter(&contactFilter);
+	}
+
+	/// Used whenever no Java ContactFilter is registered.
+	NativeContactFilter contactFilter;
+
+	/// The profiles of the last steps, see World.getProfile.
+	NativeProfileHistory profileHistory;
+};
+
+#endif
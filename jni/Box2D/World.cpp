@@ -1,712 +1,1926 @@
-/*
- * Copyright 2010 Mario Zechner (contact@badlogicgames.com), Nathan Sweet (admin@esotericsoftware.com)
- *
- * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
- * License. You may obtain a copy of the License at
- *
- * http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS"
- * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language
- * governing permissions and limitations under the License.
- */
-#include "Box2D.h"
-#include "World.h"
-#ifdef ANDROID
-#include <android/log.h>
-#endif
-
-static jclass worldClass = 0;
-static jmethodID shouldCollideID = 0;
-static jmethodID beginContactID = 0;
-static jmethodID endContactID = 0;
-static jmethodID preSolveID = 0;
-static jmethodID postSolveID = 0;
-static jmethodID reportFixtureID = 0;
-static jmethodID reportRayFixtureID = 0;
-
-class CustomRayCastCallback: public b2RayCastCallback
-{
-private:
-	JNIEnv* env;
-	jobject obj;
-
-public:
-	CustomRayCastCallback( JNIEnv *env, jobject obj )
-	{
-		this->env = env;
-		this->obj = obj;
-	}
-
-	virtual float32 ReportFixture( b2Fixture* fixture, const b2Vec2& point, const b2Vec2& normal, float32 fraction)
-	{
-		return env->CallFloatMethod(obj, reportRayFixtureID, (jlong)fixture, (jfloat)point.x, (jfloat)point.y,
-																(jfloat)normal.x, (jfloat)normal.y, (jfloat)fraction );
-	}
-};
-
-class CustomContactFilter: public b2ContactFilter
-{
-private:
-	JNIEnv* env;
-	jobject obj;
-
-public:
-	CustomContactFilter( JNIEnv* env, jobject obj )
-	{
-		this->env = env;
-		this->obj = obj;
-	}
-
-	virtual bool ShouldCollide(b2Fixture* fixtureA, b2Fixture* fixtureB)
-	{
-		if( shouldCollideID != 0 )
-			return env->CallBooleanMethod( obj, shouldCollideID, (jlong)fixtureA, (jlong)fixtureB );
-		else
-			return true;
-	}
-};
-
-class CustomContactListener: public b2ContactListener
-{
-private:
-	JNIEnv* env;
-	jobject obj;
-
-public:
-		CustomContactListener( JNIEnv* env, jobject obj )
-		{
-			this->env = env;
-			this->obj = obj;
-		}
-
-		/// Called when two fixtures begin to touch.
-		virtual void BeginContact(b2Contact* contact)
-		{
-			if( beginContactID != 0 )
-				env->CallVoidMethod(obj, beginContactID, (jlong)contact );
-		}
-
-		/// Called when two fixtures cease to touch.
-		virtual void EndContact(b2Contact* contact)
-		{
-			if( endContactID != 0 )
-				env->CallVoidMethod(obj, endContactID, (jlong)contact);
-		}
-		
-		/// This is called after a contact is updated.
-		virtual void PreSolve(b2Contact* contact, const b2Manifold* oldManifold)
-		{
-			if( preSolveID != 0 )
-				env->CallVoidMethod(obj, preSolveID, (jlong)contact, (jlong)oldManifold);
-		}
-	
-		/// This lets you inspect a contact after the solver is finished.
-		virtual void PostSolve(b2Contact* contact, const b2ContactImpulse* impulse)
-		{
-			if( postSolveID != 0 )
-				env->CallVoidMethod(obj, postSolveID, (jlong)contact, (jlong)impulse);
-		}
-};
-
-class CustomQueryCallback: public b2QueryCallback
-{
-private:
-	JNIEnv* env;
-	jobject obj;
-
-public:
-	CustomQueryCallback( JNIEnv* env, jobject obj )
-	{
-		this->env = env;
-		this->obj = obj;
-	}
-
-	virtual bool ReportFixture( b2Fixture* fixture )
-	{
-		return env->CallBooleanMethod(obj, reportFixtureID, (jlong)fixture );
-	}
-};
-
-/*
- * Class:     com_badlogic_gdx_physics_box2d_World
- * Method:    newWorld
- * Signature: (FFZ)J
- */
-JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_newWorld
-(JNIEnv * env, jobject obj, jfloat gravityX, jfloat gravityY, jboolean doSleep)
-{
-	worldClass = env->GetObjectClass(obj);
-	beginContactID = env->GetMethodID(worldClass, "beginContact", "(J)V" );
-	endContactID = env->GetMethodID( worldClass, "endContact", "(J)V" );
-	preSolveID = env->GetMethodID( worldClass, "preSolve", "(JJ)V" );
-	postSolveID = env->GetMethodID( worldClass, "postSolve", "(JJ)V" );
-	reportFixtureID = env->GetMethodID(worldClass, "reportFixture", "(J)Z" );
-	reportRayFixtureID = env->GetMethodID(worldClass, "reportRayFixture", "(JFFFFF)F" );
-	shouldCollideID = env->GetMethodID( worldClass, "contactFilter", "(JJ)Z");
-
-	b2World* world = new b2World( b2Vec2( gravityX, gravityY ), doSleep );
-	return (jlong)world;
-}
-
-inline b2BodyType getBodyType( int type )
-{
-	switch( type )
-	{
-	case 0: return b2_staticBody;
-	case 1: return b2_kinematicBody;
-	case 2: return b2_dynamicBody;
-	default:
-		return b2_staticBody;
-	}
-}
-
-/*
- * Class:     com_badlogic_gdx_physics_box2d_World
- * Method:    jniCreateBody
- * Signature: (JIFFFFFFFFZZZZZF)J
- */
-JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateBody
-(JNIEnv *, jobject, jlong addr, jint type, jfloat positionX, jfloat positionY, jfloat angle, jfloat linearVelocityX, jfloat linearVelocityY, jfloat angularVelocity, jfloat linearDamping, jfloat angularDamping, jboolean allowSleep, jboolean awake, jboolean fixedRotation, jboolean bullet, jboolean active, jfloat inertiaScale)
-{
-	b2BodyDef bodyDef;
-	bodyDef.type = getBodyType(type);
-	bodyDef.position.Set( positionX, positionY );
-	bodyDef.angle = angle;
-	bodyDef.linearVelocity.Set( linearVelocityX, linearVelocityY );
-	bodyDef.angularVelocity = angularVelocity;
-	bodyDef.linearDamping = linearDamping;
-	bodyDef.angularDamping = angularDamping;
-	bodyDef.allowSleep = allowSleep;
-	bodyDef.awake = awake;
-	bodyDef.fixedRotation = fixedRotation;
-	bodyDef.bullet = bullet;
-	bodyDef.active = active;
-	bodyDef.inertiaScale = inertiaScale;
-
-	b2World* world = (b2World*)addr;
-	b2Body* body = world->CreateBody( &bodyDef );
-//#ifdef ANDROID
-//	__android_log_write(ANDROID_LOG_ERROR,"Tag","HIIII");
-//#endif
-	return (jlong)body;
-}
-
-/*
- * Class:     com_badlogic_gdx_physics_box2d_World
- * Method:    jniDestroyBody
- * Signature: (J)V
- */
-JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniDestroyBody
-(JNIEnv *, jobject, jlong addr, jlong bodyAddr)
-{
-	b2World* world = (b2World*)addr;
-	b2Body* body = (b2Body*)bodyAddr;
-	world->DestroyBody(body);
-}
-
-inline b2JointType getJointType( int type )
-{
-	switch( type )
-	{
-	case 0: return e_revoluteJoint;
-	case 1: return e_prismaticJoint;
-	case 2: return e_distanceJoint;
-	case 3: return e_pulleyJoint;
-	case 4: return e_mouseJoint;
-	case 5: return e_gearJoint;
-	case 6: return e_lineJoint;
-	case 7: return e_weldJoint;
-	case 8: return e_frictionJoint;
-	default:
-		return e_unknownJoint;
-	}
-}
-
-/*
- * Class:     com_badlogic_gdx_physics_box2d_World
- * Method:    jniCreateJoint
- * Signature: (JIJJZ)J
- */
-/*JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateJoint
-(JNIEnv *, jobject, jlong addr, jint type, jlong bodyAAddr, jlong bodyBAddr, jboolean collideConnected )
-{
-	b2World* world = (b2World*)addr;
-	b2Body* bodyA = (b2Body*)bodyAAddr;
-	b2Body* bodyB = (b2Body*)bodyBAddr;
-
-	b2JointDef jointDef;
-	jointDef.bodyA = bodyA;
-	jointDef.bodyB = bodyB;
-	jointDef.collideConnected = collideConnected;
-	jointDef.type = getJointType( type );
-
-	b2Joint* joint = world->CreateJoint( &jointDef );
-	return (jlong)joint;
-}*/
-
-/*
- * Class:     com_badlogic_gdx_physics_box2d_World
- * Method:    jniCreateDistanceJoint
- * Signature: (JJJZFFFFFFF)J
- */
-JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateDistanceJoint
-  (JNIEnv *, jobject, jlong addr, jlong bodyA, jlong bodyB, jboolean collideConnected, jfloat localAnchorAX, jfloat localAnchorAY, jfloat localAnchorBX, jfloat localAnchorBY,
-					  jfloat length, jfloat frequencyHz, jfloat dampingRatio)
-{
-	b2World* world = (b2World*)addr;
-	b2DistanceJointDef def;
-	def.bodyA = (b2Body*)bodyA;
-	def.bodyB = (b2Body*)bodyB;
-	def.collideConnected = collideConnected;
-	def.localAnchorA = b2Vec2(localAnchorAX, localAnchorAY);
-	def.localAnchorB = b2Vec2(localAnchorBX, localAnchorBY);
-	def.length = length;
-	def.frequencyHz = frequencyHz;
-	def.dampingRatio = dampingRatio;
-
-	return (jlong)world->CreateJoint(&def);
-}
-
-/*
- * Class:     com_badlogic_gdx_physics_box2d_World
- * Method:    jniCreateFrictionJoint
- * Signature: (JJJZFFFFFF)J
- */
-JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateFrictionJoint
-  (JNIEnv *, jobject, jlong addr, jlong bodyA, jlong bodyB, jboolean collideConnected, jfloat localAnchorAX, jfloat localAnchorAY, jfloat localAnchorBX, jfloat localAnchorBY,
-					  jfloat maxForce, jfloat maxTorque)
-{
-	b2World* world = (b2World*)addr;
-	b2FrictionJointDef def;
-	def.bodyA = (b2Body*)bodyA;
-	def.bodyB = (b2Body*)bodyB;
-	def.collideConnected = collideConnected;
-	def.localAnchorA = b2Vec2(localAnchorAX, localAnchorAY);
-	def.localAnchorB = b2Vec2(localAnchorBX, localAnchorBY);
-	def.maxForce = maxForce;
-	def.maxTorque = maxTorque;
-	return (jlong)world->CreateJoint(&def);
-}
-
-/*
- * Class:     com_badlogic_gdx_physics_box2d_World
- * Method:    jniCreateGearJoint
- * Signature: (JJJZJJF)J
- */
-JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateGearJoint
-  (JNIEnv *, jobject, jlong addr, jlong bodyA, jlong bodyB, jboolean collideConnected, jlong joint1, jlong joint2, jfloat ratio)
-{
-	b2World* world = (b2World*)addr;
-	b2GearJointDef def;
-	def.bodyA = (b2Body*)bodyA;
-	def.bodyB = (b2Body*)bodyB;
-	def.collideConnected = collideConnected;
-	def.joint1 = (b2Joint*)joint1;
-	def.joint2 = (b2Joint*)joint2;
-	def.ratio = ratio;
-
-	return (jlong)world->CreateJoint(&def);
-}
-
-/*
- * Class:     com_badlogic_gdx_physics_box2d_World
- * Method:    jniCreateLineJoint
- * Signature: (JJJZFFFFFFZFFZFF)J
- */
-JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateLineJoint
-  (JNIEnv *, jobject, jlong addr, jlong bodyA, jlong bodyB, jboolean collideConnected, jfloat localAnchorAX, jfloat localAnchorAY, jfloat localAnchorBX, jfloat localAnchorBY,
-					  jfloat localAxisAX, jfloat localAxisAY, jboolean enableLimit, jfloat lowerTranslation, jfloat upperTranslation,
-					  jboolean enableMotor, jfloat maxMotorForce, jfloat motorSpeed)
-{
-	b2World* world = (b2World*)addr;
-	b2LineJointDef def;
-	def.bodyA = (b2Body*)bodyA;
-	def.bodyB = (b2Body*)bodyB;
-	def.collideConnected = collideConnected;
-	def.localAnchorA = b2Vec2(localAnchorAX, localAnchorAY);
-	def.localAnchorB = b2Vec2(localAnchorBX, localAnchorBY);
-	def.localAxisA = b2Vec2(localAxisAX, localAxisAY);
-	def.enableLimit = enableLimit;
-	def.lowerTranslation = lowerTranslation;
-	def.upperTranslation = upperTranslation;
-	def.enableMotor = enableMotor;
-	def.maxMotorForce = maxMotorForce;
-	def.motorSpeed = motorSpeed;
-
-	return (jlong)world->CreateJoint(&def);
-}
-
-/*
- * Class:     com_badlogic_gdx_physics_box2d_World
- * Method:    jniCreateMouseJoint
- * Signature: (JJJZFFFFF)J
- */
-JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateMouseJoint
-  (JNIEnv *, jobject, jlong addr, jlong bodyA, jlong bodyB, jboolean collideConnected, jfloat targetX, jfloat targetY, jfloat maxForce, jfloat frequencyHz, jfloat dampingRatio)
-{
-	b2World* world = (b2World*)addr;
-	b2MouseJointDef def;
-	def.bodyA = (b2Body*)bodyA;
-	def.bodyB = (b2Body*)bodyB;
-	def.collideConnected = collideConnected;
-	def.target = b2Vec2( targetX, targetY );
-	def.maxForce = maxForce;
-	def.frequencyHz = frequencyHz;
-	def.dampingRatio = dampingRatio;
-
-	return (jlong)world->CreateJoint(&def);
-}
-
-/*
- * Class:     com_badlogic_gdx_physics_box2d_World
- * Method:    jniCreatePrismaticJoint
- * Signature: (JJJZFFFFFFFZFFZFF)J
- */
-JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreatePrismaticJoint
-  (JNIEnv *, jobject, jlong addr, jlong bodyA, jlong bodyB, jboolean collideConnected, jfloat localAnchorAX, jfloat localAnchorAY, jfloat localAnchorBX, jfloat localAnchorBY,
-					  jfloat localAxisAX, jfloat localAxisAY, jfloat referenceAngle, jboolean enableLimit, jfloat lowerTranslation, jfloat upperTranslation,
-					  jboolean enableMotor, jfloat maxMotorForce, jfloat motorSpeed)
-{
-	b2World* world = (b2World*)addr;
-	b2PrismaticJointDef def;
-	def.bodyA = (b2Body*)bodyA;
-	def.bodyB = (b2Body*)bodyB;
-	def.collideConnected = collideConnected;
-	def.localAnchorA = b2Vec2(localAnchorAX, localAnchorAY);
-	def.localAnchorB = b2Vec2(localAnchorBX, localAnchorBY);
-	def.localAxis1 = b2Vec2( localAxisAX, localAxisAY );
-	def.referenceAngle = referenceAngle;
-	def.enableLimit = enableLimit;
-	def.lowerTranslation = lowerTranslation;
-	def.upperTranslation = upperTranslation;
-	def.enableMotor = enableMotor;
-	def.maxMotorForce = maxMotorForce;
-	def.motorSpeed = motorSpeed;
-
-	return (jlong)world->CreateJoint(&def);
-}
-
-/*
- * Class:     com_badlogic_gdx_physics_box2d_World
- * Method:    jniCreatePulleyJoint
- * Signature: (JJJZFFFFFFFFFFFFF)J
- */
-JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreatePulleyJoint
-  (JNIEnv *, jobject, jlong addr, jlong bodyA, jlong bodyB, jboolean collideConnected, jfloat groundAnchorAX, jfloat groundAnchorAY, jfloat groundAnchorBX, jfloat groundAnchorBY,
-					  jfloat localAnchorAX, jfloat localAnchorAY, jfloat localAnchorBX, jfloat localAnchorBY, jfloat lengthA, jfloat maxLengthA,
-					  jfloat lengthB, jfloat maxLengthB, jfloat ratio)
-{
-	b2World* world = (b2World*)addr;
-	b2PulleyJointDef def;
-	def.bodyA = (b2Body*)bodyA;
-	def.bodyB = (b2Body*)bodyB;
-	def.collideConnected = collideConnected;
-	def.groundAnchorA = b2Vec2( groundAnchorAX, groundAnchorAY );
-	def.groundAnchorB = b2Vec2( groundAnchorBX, groundAnchorBY );
-	def.localAnchorA = b2Vec2(localAnchorAX, localAnchorAY);
-	def.localAnchorB = b2Vec2(localAnchorBX, localAnchorBY);
-	def.lengthA = lengthA;
-	def.maxLengthA = maxLengthA;
-	def.lengthB = lengthB;
-	def.maxLengthB = maxLengthB;
-	def.ratio = ratio;
-
-	return (jlong)world->CreateJoint(&def);
-}
-
-/*
- * Class:     com_badlogic_gdx_physics_box2d_World
- * Method:    jniCreateRevoluteJoint
- * Signature: (JJJZFFFFFZFFZFF)J
- */
-JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateRevoluteJoint
-  (JNIEnv *, jobject, jlong addr, jlong bodyA, jlong bodyB, jboolean collideConnected, jfloat localAnchorAX, jfloat localAnchorAY, jfloat localAnchorBX, jfloat localAnchorBY,
-					  jfloat referenceAngle, jboolean enableLimit, jfloat lowerAngle, jfloat upperAngle, jboolean enableMotor, jfloat motorSpeed, jfloat maxMotorTorque)
-{
-	b2World* world = (b2World*)addr;
-	b2RevoluteJointDef def;
-	def.bodyA = (b2Body*)bodyA;
-	def.bodyB = (b2Body*)bodyB;
-	def.collideConnected = collideConnected;
-	def.localAnchorA = b2Vec2(localAnchorAX, localAnchorAY);
-	def.localAnchorB = b2Vec2(localAnchorBX, localAnchorBY);
-	def.referenceAngle = referenceAngle;
-	def.enableLimit = enableLimit;
-	def.lowerAngle = lowerAngle;
-	def.upperAngle = upperAngle;
-	def.enableMotor = enableMotor;
-	def.motorSpeed = motorSpeed;
-	def.maxMotorTorque = maxMotorTorque;
-
-	return (jlong)world->CreateJoint(&def);
-}
-
-/*
- * Class:     com_badlogic_gdx_physics_box2d_World
- * Method:    jniCreateWeldJoint
- * Signature: (JJJZFFFFF)J
- */
-JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateWeldJoint
-  (JNIEnv *, jobject, jlong addr, jlong bodyA, jlong bodyB, jboolean collideConnected, jfloat localAnchorAX, jfloat localAnchorAY, jfloat localAnchorBX, jfloat localAnchorBY,
-					  jfloat referenceAngle)
-{
-	b2World* world = (b2World*)addr;
-	b2WeldJointDef def;
-	def.bodyA = (b2Body*)bodyA;
-	def.bodyB = (b2Body*)bodyB;
-	def.collideConnected = collideConnected;
-	def.localAnchorA = b2Vec2(localAnchorAX, localAnchorAY);
-	def.localAnchorB = b2Vec2(localAnchorBX, localAnchorBY);
-	def.referenceAngle = referenceAngle;
-
-	return (jlong)world->CreateJoint(&def);
-}
-
-
-/*
- * Class:     com_badlogic_gdx_physics_box2d_World
- * Method:    jniDestroyJoint
- * Signature: (J)V
- */
-JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniDestroyJoint
-(JNIEnv *, jobject, jlong addr, jlong jointAddr)
-{
-	b2World* world = (b2World*)addr;
-	b2Joint* joint = (b2Joint*)jointAddr;
-
-	world->DestroyJoint( joint );
-}
-
-/*
- * Class:     com_badlogic_gdx_physics_box2d_World
- * Method:    jniStep
- * Signature: (JFII)V
- */
-b2ContactFilter defaultFilter;
-
-JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniStep
- (JNIEnv *env, jobject obj, jlong addr, jfloat timeStep, jint velocityIterations, jint positionIterations)
-{
-	b2World* world = (b2World*)addr;
-	CustomContactFilter contactFilter(env, obj);
-	CustomContactListener contactListener(env,obj);
-	world->SetContactFilter(&contactFilter);
-	world->SetContactListener(&contactListener);
-	world->Step( timeStep, velocityIterations, positionIterations );
-	world->SetContactFilter(&defaultFilter);
-	world->SetContactListener(0);
-}
-
-/*
- * Class:     com_badlogic_gdx_physics_box2d_World
- * Method:    jniQueryAABB
- * Signature: (JFFFF)V
- */
-JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniQueryAABB
-  (JNIEnv *env, jobject obj, jlong addr, jfloat lowX, jfloat lowY, jfloat upX, jfloat upY)
-{
-	b2World* world = (b2World*)addr;
-	b2AABB aabb;
-	aabb.lowerBound = b2Vec2( lowX, lowY );
-	aabb.upperBound = b2Vec2( upX, upY );
-
-	CustomQueryCallback callback( env, obj );
-	world->QueryAABB( &callback, aabb );
-}
-
-/*
- * Class:     com_badlogic_gdx_physics_box2d_World
- * Method:    jniClearForces
- * Signature: (J)V
- */
-JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniClearForces
-(JNIEnv *, jobject, jlong addr)
-{
-	b2World* world = (b2World*)addr;
-	world->ClearForces();
-}
-
-/*
- * Class:     com_badlogic_gdx_physics_box2d_World
- * Method:    jniSetWarmStarting
- * Signature: (JZ)V
- */
-JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniSetWarmStarting
-(JNIEnv *, jobject, jlong addr, jboolean flag)
-{
-	b2World* world = (b2World*)addr;
-	world->SetWarmStarting(flag);
-}
-
-/*
- * Class:     com_badlogic_gdx_physics_box2d_World
- * Method:    jniSetContiousPhysics
- * Signature: (JZ)V
- */
-JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniSetContiousPhysics
-(JNIEnv *, jobject, jlong addr, jboolean flag)
-{
-	b2World* world = (b2World*)addr;
-	world->SetContinuousPhysics(flag);
-}
-
-/*
- * Class:     com_badlogic_gdx_physics_box2d_World
- * Method:    jniGetProxyCount
- * Signature: (J)I
- */
-JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetProxyCount
-(JNIEnv *, jobject, jlong addr)
-{
-	b2World* world = (b2World*)addr;
-	return world->GetProxyCount();
-}
-
-/*
- * Class:     com_badlogic_gdx_physics_box2d_World
- * Method:    jniGetBodyCount
- * Signature: (J)I
- */
-JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetBodyCount
-(JNIEnv *, jobject, jlong addr)
-{
-	b2World* world = (b2World*)addr;
-	return world->GetBodyCount();
-}
-
-/*
- * Class:     com_badlogic_gdx_physics_box2d_World
- * Method:    jniGetJointcount
- * Signature: (J)I
- */
-JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetJointcount
-(JNIEnv *, jobject, jlong addr)
-{
-	b2World* world = (b2World*)addr;
-	return world->GetJointCount();
-}
-
-/*
- * Class:     com_badlogic_gdx_physics_box2d_World
- * Method:    jniGetContactCount
- * Signature: (J)I
- */
-JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetContactCount
-(JNIEnv *, jobject, jlong addr)
-{
-	b2World* world = (b2World*)addr;
-	return world->GetContactCount();
-}
-
-/*
- * Class:     com_badlogic_gdx_physics_box2d_World
- * Method:    jniSetGravity
- * Signature: (JFF)V
- */
-JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniSetGravity
-(JNIEnv *, jobject, jlong addr, jfloat gravityX, jfloat gravityY)
-{
-	b2World* world = (b2World*)addr;
-	world->SetGravity( b2Vec2( gravityX, gravityY ) );
-}
-
-/*
- * Class:     com_badlogic_gdx_physics_box2d_World
- * Method:    jniGetGravity
- * Signature: (J[F)V
- */
-JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetGravity
-(JNIEnv *env, jobject, jlong addr, jfloatArray gravity)
-{
-	b2World* world = (b2World*)addr;
-	float* tmp = (float*)env->GetPrimitiveArrayCritical(gravity, 0);
-	b2Vec2 g = world->GetGravity();
-	tmp[0] = g.x;
-	tmp[1] = g.y;
-	env->ReleasePrimitiveArrayCritical( gravity, tmp, 0);
-}
-
-/*
- * Class:     com_badlogic_gdx_physics_box2d_World
- * Method:    jniIsLocked
- * Signature: (J)Z
- */
-JNIEXPORT jboolean JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniIsLocked
-(JNIEnv *, jobject, jlong addr)
-{
-	b2World* world = (b2World*)addr;
-	return world->IsLocked();
-}
-
-/*
- * Class:     com_badlogic_gdx_physics_box2d_World
- * Method:    jniSetAutoClearForces
- * Signature: (JZ)V
- */
-JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniSetAutoClearForces
-(JNIEnv *, jobject, jlong addr, jboolean flag)
-{
-	b2World* world = (b2World*)addr;
-	world->SetAutoClearForces(flag);
-}
-
-/*
- * Class:     com_badlogic_gdx_physics_box2d_World
- * Method:    jniGetAutoClearForces
- * Signature: (J)Z
- */
-JNIEXPORT jboolean JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetAutoClearForces
-(JNIEnv *, jobject, jlong addr)
-{
-	b2World* world = (b2World*)addr;
-	return world->GetAutoClearForces();
-}
-
-/*
- * Class:     com_badlogic_gdx_physics_box2d_World
- * Method:    jniGetContactList
- * Signature: (J[J)V
- */
-JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetContactList
-  (JNIEnv *env, jobject, jlong addr, jlongArray contacts)
-{
-	b2World* world = (b2World*)addr;
-	jlong* tmp = (jlong*)env->GetPrimitiveArrayCritical( contacts, 0 );
-
-	b2Contact* contact = world->GetContactList();
-	int i = 0;
-	while( contact != 0 )
-	{
-		tmp[i++] = (jlong)contact;
-		contact = contact->GetNext();
-	}
-
-	env->ReleasePrimitiveArrayCritical( contacts, tmp, 0 );
-}
-
-/*
- * Class:     com_badlogic_gdx_physics_box2d_World
- * Method:    jniDispose
- * Signature: (J)V
- */
-JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniDispose
-(JNIEnv *, jobject, jlong addr)
-{
-	b2World* world = (b2World*)(addr);
-	delete world;
-}
-
-/*
- * Class:			com_badlogic_gdx_physics_box2d_World
- * Method:		jniRayCast
- * Signature:	(JFFFF)V
- */
-JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniRayCast
-	(JNIEnv *env, jobject obj, jlong addr, jfloat aX, jfloat aY, jfloat bX, jfloat bY)
-{
-	b2World *world = (b2World*)addr;
-
-	CustomRayCastCallback callback( env, obj );	
-	world->RayCast( &callback, b2Vec2(aX,aY), b2Vec2(bX,bY) );
-}
\ No newline at end of file
+/*
+ * Copyright 2010 Mario Zechner (contact@badlogicgames.com), Nathan Sweet (admin@esotericsoftware.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+#include "Box2D.h"
+#include "World.h"
+#include "NativeWorld.h"
+#include <string.h>
+#ifdef ANDROID
+#include <android/log.h>
+#endif
+
+static jclass worldClass = 0;
+static jmethodID shouldCollideID = 0;
+static jmethodID beginContactID = 0;
+static jmethodID endContactID = 0;
+static jmethodID preSolveID = 0;
+static jmethodID postSolveID = 0;
+static jmethodID reportFixtureID = 0;
+static jmethodID reportRayFixtureID = 0;
+
+class CustomRayCastCallback: public b2RayCastCallback
+{
+private:
+	JNIEnv* env;
+	jobject obj;
+
+public:
+	CustomRayCastCallback( JNIEnv *env, jobject obj )
+	{
+		this->env = env;
+		this->obj = obj;
+	}
+
+	virtual float32 ReportFixture( b2Fixture* fixture, const b2Vec2& point, const b2Vec2& normal, float32 fraction)
+	{
+		return env->CallFloatMethod(obj, reportRayFixtureID, (jlong)fixture, (jfloat)point.x, (jfloat)point.y,
+																(jfloat)normal.x, (jfloat)normal.y, (jfloat)fraction );
+	}
+};
+
+/// Modes of jniRayCastBatch, must match World.RayCastMode.
+static const int RAYCAST_CLOSEST = 0;
+static const int RAYCAST_ANY = 1;
+static const int RAYCAST_ALL = 2;
+
+/// Number of floats per hit written by jniRayCastBatch, must match World.RAYCAST_HIT_STRIDE.
+static const int RAYCAST_HIT_STRIDE = 6;
+
+class BatchRayCastCallback: public b2RayCastCallback
+{
+private:
+	int mode;
+	int rayIndex;
+	jlong* hitFixtures;
+	float* hits;
+	int capacity;
+
+	void WriteHit( b2Fixture* fixture, const b2Vec2& point, const b2Vec2& normal, float32 fraction )
+	{
+		hitFixtures[hitCount] = (jlong)fixture;
+		float* hit = hits + hitCount * RAYCAST_HIT_STRIDE;
+		hit[0] = (float)rayIndex;
+		hit[1] = point.x;
+		hit[2] = point.y;
+		hit[3] = normal.x;
+		hit[4] = normal.y;
+		hit[5] = fraction;
+		hitCount++;
+	}
+
+public:
+	int hitCount;
+
+	b2Fixture* closestFixture;
+	b2Vec2 closestPoint;
+	b2Vec2 closestNormal;
+	float32 closestFraction;
+
+	BatchRayCastCallback( int mode, jlong* hitFixtures, float* hits, int capacity )
+	{
+		this->mode = mode;
+		this->hitFixtures = hitFixtures;
+		this->hits = hits;
+		this->capacity = capacity;
+		this->hitCount = 0;
+	}
+
+	bool IsFull() const
+	{
+		return hitCount >= capacity;
+	}
+
+	void BeginRay( int rayIndex )
+	{
+		this->rayIndex = rayIndex;
+		closestFixture = 0;
+	}
+
+	void EndRay()
+	{
+		if( closestFixture != 0 && !IsFull() )
+			WriteHit(closestFixture, closestPoint, closestNormal, closestFraction);
+	}
+
+	virtual float32 ReportFixture( b2Fixture* fixture, const b2Vec2& point, const b2Vec2& normal, float32 fraction)
+	{
+		if( mode == RAYCAST_ALL )
+		{
+			if( IsFull() )
+				return 0;
+			WriteHit(fixture, point, normal, fraction);
+			return 1;
+		}
+
+		closestFixture = fixture;
+		closestPoint = point;
+		closestNormal = normal;
+		closestFraction = fraction;
+		return mode == RAYCAST_ANY ? 0 : fraction;
+	}
+};
+
+class CustomContactFilter: public b2ContactFilter
+{
+private:
+	JNIEnv* env;
+	jobject obj;
+
+public:
+	CustomContactFilter( JNIEnv* env, jobject obj )
+	{
+		this->env = env;
+		this->obj = obj;
+	}
+
+	virtual bool ShouldCollide(b2Fixture* fixtureA, b2Fixture* fixtureB)
+	{
+		if( shouldCollideID != 0 )
+			return env->CallBooleanMethod( obj, shouldCollideID, (jlong)fixtureA, (jlong)fixtureB );
+		else
+			return true;
+	}
+};
+
+/// Flags passed to jniStep, must match World.java.
+static const int STEP_CONTACT_CALLBACKS = 1;
+static const int STEP_PRESOLVE_CALLBACKS = 2;
+static const int STEP_CONTACT_FILTER_CALLBACKS = 4;
+
+/// Layout of the contact event buffer, must match ContactEventBuffer.java.
+static const int CONTACT_EVENT_HEADER_SIZE = 16;
+static const int CONTACT_EVENT_BEGIN = 1;
+static const int CONTACT_EVENT_END = 2;
+static const int CONTACT_EVENT_POST_SOLVE = 3;
+
+struct ContactEventHeader
+{
+	jint writeOffset;
+	jint droppedCount;
+	jint reserved[2];
+};
+
+struct ContactEvent
+{
+	jint type;
+	jint pointCount;
+	jlong fixtureA;
+	jlong fixtureB;
+	float32 normal[2];
+	float32 points[b2_maxManifoldPoints][2];
+	float32 normalImpulses[b2_maxManifoldPoints];
+	float32 tangentImpulses[b2_maxManifoldPoints];
+};
+
+class CustomContactListener: public b2ContactListener
+{
+private:
+	JNIEnv* env;
+	jobject obj;
+	int flags;
+	char* events;
+	jlong eventsCapacity;
+
+	void WriteEvent(int type, b2Contact* contact, const b2ContactImpulse* impulse)
+	{
+		ContactEventHeader* header = (ContactEventHeader*)events;
+		if( header->writeOffset + (jlong)sizeof(ContactEvent) > eventsCapacity )
+		{
+			header->droppedCount++;
+			return;
+		}
+
+		ContactEvent* event = (ContactEvent*)(events + header->writeOffset);
+		header->writeOffset += sizeof(ContactEvent);
+
+		const int pointCount = contact->GetManifold()->pointCount;
+		event->type = type;
+		event->pointCount = pointCount;
+		event->fixtureA = (jlong)contact->GetFixtureA();
+		event->fixtureB = (jlong)contact->GetFixtureB();
+
+		b2WorldManifold worldManifold;
+		worldManifold.normal.SetZero();
+		contact->GetWorldManifold(&worldManifold);
+		event->normal[0] = worldManifold.normal.x;
+		event->normal[1] = worldManifold.normal.y;
+
+		for( int i = 0; i < b2_maxManifoldPoints; i++ )
+		{
+			const bool valid = i < pointCount;
+			event->points[i][0] = valid ? worldManifold.points[i].x : 0;
+			event->points[i][1] = valid ? worldManifold.points[i].y : 0;
+			event->normalImpulses[i] = valid && impulse != 0 ? impulse->normalImpulses[i] : 0;
+			event->tangentImpulses[i] = valid && impulse != 0 ? impulse->tangentImpulses[i] : 0;
+		}
+	}
+
+public:
+		CustomContactListener( JNIEnv* env, jobject obj, int flags, jobject contactEvents )
+		{
+			this->env = env;
+			this->obj = obj;
+			this->flags = flags;
+			this->events = contactEvents != 0 ? (char*)env->GetDirectBufferAddress(contactEvents) : 0;
+			this->eventsCapacity = contactEvents != 0 ? env->GetDirectBufferCapacity(contactEvents) : 0;
+		}
+
+		/// Whether this listener has anything to do at all.
+		bool IsActive() const
+		{
+			return (flags & (STEP_CONTACT_CALLBACKS | STEP_PRESOLVE_CALLBACKS)) != 0 || events != 0;
+		}
+
+		/// Called when two fixtures begin to touch.
+		virtual void BeginContact(b2Contact* contact)
+		{
+			if( events != 0 )
+				WriteEvent(CONTACT_EVENT_BEGIN, contact, 0);
+			else if( (flags & STEP_CONTACT_CALLBACKS) && beginContactID != 0 )
+				env->CallVoidMethod(obj, beginContactID, (jlong)contact );
+		}
+
+		/// Called when two fixtures cease to touch.
+		virtual void EndContact(b2Contact* contact)
+		{
+			if( events != 0 )
+				WriteEvent(CONTACT_EVENT_END, contact, 0);
+			else if( (flags & STEP_CONTACT_CALLBACKS) && endContactID != 0 )
+				env->CallVoidMethod(obj, endContactID, (jlong)contact);
+		}
+		
+		/// This is called after a contact is updated.
+		virtual void PreSolve(b2Contact* contact, const b2Manifold* oldManifold)
+		{
+			if( (flags & STEP_PRESOLVE_CALLBACKS) && preSolveID != 0 )
+				env->CallVoidMethod(obj, preSolveID, (jlong)contact, (jlong)oldManifold);
+		}
+	
+		/// This lets you inspect a contact after the solver is finished.
+		virtual void PostSolve(b2Contact* contact, const b2ContactImpulse* impulse)
+		{
+			if( events != 0 )
+				WriteEvent(CONTACT_EVENT_POST_SOLVE, contact, impulse);
+			else if( (flags & STEP_CONTACT_CALLBACKS) && postSolveID != 0 )
+				env->CallVoidMethod(obj, postSolveID, (jlong)contact, (jlong)impulse);
+		}
+};
+
+class CustomQueryCallback: public b2QueryCallback
+{
+private:
+	JNIEnv* env;
+	jobject obj;
+
+public:
+	CustomQueryCallback( JNIEnv* env, jobject obj )
+	{
+		this->env = env;
+		this->obj = obj;
+	}
+
+	virtual bool ReportFixture( b2Fixture* fixture )
+	{
+		return env->CallBooleanMethod(obj, reportFixtureID, (jlong)fixture );
+	}
+};
+
+class AddressQueryCallback: public b2QueryCallback
+{
+private:
+	jlong* fixtureAddrs;
+	jlong* bodyAddrs;
+	int capacity;
+
+public:
+	int count;
+
+	AddressQueryCallback( jlong* fixtureAddrs, jlong* bodyAddrs, int capacity )
+	{
+		Reset( fixtureAddrs, bodyAddrs, capacity );
+	}
+
+	void Reset( jlong* fixtureAddrs, jlong* bodyAddrs, int capacity )
+	{
+		this->fixtureAddrs = fixtureAddrs;
+		this->bodyAddrs = bodyAddrs;
+		this->capacity = capacity;
+		this->count = 0;
+	}
+
+	virtual bool ReportFixture( b2Fixture* fixture )
+	{
+		if( count >= capacity )
+			return false;
+
+		fixtureAddrs[count] = (jlong)fixture;
+		if( bodyAddrs != 0 )
+			bodyAddrs[count] = (jlong)fixture->GetBody();
+		count++;
+		return count < capacity;
+	}
+};
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    newWorld
+ * Signature: (FFZ)J
+ */
+JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_newWorld
+(JNIEnv * env, jobject obj, jfloat gravityX, jfloat gravityY, jboolean doSleep)
+{
+	worldClass = env->GetObjectClass(obj);
+	beginContactID = env->GetMethodID(worldClass, "beginContact", "(J)V" );
+	endContactID = env->GetMethodID( worldClass, "endContact", "(J)V" );
+	preSolveID = env->GetMethodID( worldClass, "preSolve", "(JJ)V" );
+	postSolveID = env->GetMethodID( worldClass, "postSolve", "(JJ)V" );
+	reportFixtureID = env->GetMethodID(worldClass, "reportFixture", "(J)Z" );
+	reportRayFixtureID = env->GetMethodID(worldClass, "reportRayFixture", "(JFFFFF)F" );
+	shouldCollideID = env->GetMethodID( worldClass, "contactFilter", "(JJ)Z");
+
+	NativeWorld* world = new NativeWorld( b2Vec2( gravityX, gravityY ), doSleep );
+	return (jlong)world;
+}
+
+inline b2BodyType getBodyType( int type )
+{
+	switch( type )
+	{
+	case 0: return b2_staticBody;
+	case 1: return b2_kinematicBody;
+	case 2: return b2_dynamicBody;
+	default:
+		return b2_staticBody;
+	}
+}
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniCreateBody
+ * Signature: (JIFFFFFFFFZZZZZF)J
+ */
+JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateBody
+(JNIEnv *, jobject, jlong addr, jint type, jfloat positionX, jfloat positionY, jfloat angle, jfloat linearVelocityX, jfloat linearVelocityY, jfloat angularVelocity, jfloat linearDamping, jfloat angularDamping, jboolean allowSleep, jboolean awake, jboolean fixedRotation, jboolean bullet, jboolean active, jfloat inertiaScale)
+{
+	b2BodyDef bodyDef;
+	bodyDef.type = getBodyType(type);
+	bodyDef.position.Set( positionX, positionY );
+	bodyDef.angle = angle;
+	bodyDef.linearVelocity.Set( linearVelocityX, linearVelocityY );
+	bodyDef.angularVelocity = angularVelocity;
+	bodyDef.linearDamping = linearDamping;
+	bodyDef.angularDamping = angularDamping;
+	bodyDef.allowSleep = allowSleep;
+	bodyDef.awake = awake;
+	bodyDef.fixedRotation = fixedRotation;
+	bodyDef.bullet = bullet;
+	bodyDef.active = active;
+	bodyDef.inertiaScale = inertiaScale;
+
+	b2World* world = (b2World*)addr;
+	b2Body* body = world->CreateBody( &bodyDef );
+//#ifdef ANDROID
+//	__android_log_write(ANDROID_LOG_ERROR,"Tag","HIIII");
+//#endif
+	return (jlong)body;
+}
+
+/// Shape types and body flags of packed body definitions, must match PackedBodyDefs.java.
+static const int PACKED_SHAPE_CIRCLE = 0;
+static const int PACKED_SHAPE_BOX = 1;
+static const int PACKED_SHAPE_POLYGON = 2;
+
+static const int PACKED_FLAG_ALLOW_SLEEP = 1;
+static const int PACKED_FLAG_AWAKE = 2;
+static const int PACKED_FLAG_FIXED_ROTATION = 4;
+static const int PACKED_FLAG_BULLET = 8;
+static const int PACKED_FLAG_ACTIVE = 16;
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniCreateBodies
+ * Signature: (JLjava/nio/FloatBuffer;II[J[J)V
+ */
+JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateBodies
+  (JNIEnv *env, jobject, jlong addr, jobject defs, jint defsLength, jint bodyCount, jlongArray bodyAddrs, jlongArray fixtureAddrs)
+{
+	b2World* world = (b2World*)addr;
+	const float* in = (float*)env->GetDirectBufferAddress(defs);
+	const float* end = in + defsLength;
+	// collect the addresses natively, holding a critical region across CreateBody/CreateFixture would block the GC for the whole batch
+	const jsize fixtureCapacity = env->GetArrayLength( fixtureAddrs );
+	jlong* bodyAddrsArray = (jlong*)b2Alloc( (bodyCount + fixtureCapacity) * sizeof(jlong) );
+	jlong* fixtureAddrsArray = bodyAddrsArray + bodyCount;
+	jlong* bodyAddrsOut = bodyAddrsArray;
+	jlong* fixtureAddrsOut = fixtureAddrsArray;
+
+	b2CircleShape circle;
+	b2PolygonShape polygon;
+	b2Vec2 vertices[b2_maxPolygonVertices];
+
+	for( int i = 0; i < bodyCount && in < end; i++ )
+	{
+		const int flags = (int)in[9];
+		b2BodyDef bodyDef;
+		bodyDef.type = getBodyType( (int)in[0] );
+		bodyDef.position.Set( in[1], in[2] );
+		bodyDef.angle = in[3];
+		bodyDef.linearVelocity.Set( in[4], in[5] );
+		bodyDef.angularVelocity = in[6];
+		bodyDef.linearDamping = in[7];
+		bodyDef.angularDamping = in[8];
+		bodyDef.allowSleep = (flags & PACKED_FLAG_ALLOW_SLEEP) != 0;
+		bodyDef.awake = (flags & PACKED_FLAG_AWAKE) != 0;
+		bodyDef.fixedRotation = (flags & PACKED_FLAG_FIXED_ROTATION) != 0;
+		bodyDef.bullet = (flags & PACKED_FLAG_BULLET) != 0;
+		bodyDef.active = (flags & PACKED_FLAG_ACTIVE) != 0;
+		bodyDef.inertiaScale = in[10];
+		const int fixtureCount = (int)in[11];
+		in += 12;
+
+		b2Body* body = world->CreateBody( &bodyDef );
+		*bodyAddrsOut++ = (jlong)body;
+
+		for( int j = 0; j < fixtureCount; j++ )
+		{
+			b2FixtureDef fixtureDef;
+			const int shapeType = (int)in[0];
+			fixtureDef.friction = in[1];
+			fixtureDef.restitution = in[2];
+			fixtureDef.density = in[3];
+			fixtureDef.isSensor = in[4] != 0;
+			fixtureDef.filter.categoryBits = (uint16)in[5];
+			fixtureDef.filter.maskBits = (uint16)in[6];
+			fixtureDef.filter.groupIndex = (int16)in[7];
+			in += 8;
+
+			switch( shapeType )
+			{
+			case PACKED_SHAPE_CIRCLE:
+				circle.m_radius = in[0];
+				circle.m_p.Set( in[1], in[2] );
+				fixtureDef.shape = &circle;
+				in += 3;
+				break;
+			case PACKED_SHAPE_BOX:
+				polygon.SetAsBox( in[0], in[1], b2Vec2( in[2], in[3] ), in[4] );
+				fixtureDef.shape = &polygon;
+				in += 5;
+				break;
+			default:
+			{
+				const int vertexCount = (int)in[0];
+				for( int k = 0; k < vertexCount; k++ )
+					vertices[k].Set( in[1 + k * 2], in[2 + k * 2] );
+				if( vertexCount == 2 )
+					polygon.SetAsEdge( vertices[0], vertices[1] );
+				else
+					polygon.Set( vertices, vertexCount );
+				fixtureDef.shape = &polygon;
+				in += 1 + vertexCount * 2;
+				break;
+			}
+			}
+
+			*fixtureAddrsOut++ = (jlong)body->CreateFixture( &fixtureDef );
+		}
+	}
+
+	env->SetLongArrayRegion( bodyAddrs, 0, (jsize)(bodyAddrsOut - bodyAddrsArray), bodyAddrsArray );
+	env->SetLongArrayRegion( fixtureAddrs, 0, (jsize)(fixtureAddrsOut - fixtureAddrsArray), fixtureAddrsArray );
+	b2Free( bodyAddrsArray );
+}
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniDestroyBody
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniDestroyBody
+(JNIEnv *, jobject, jlong addr, jlong bodyAddr)
+{
+	b2World* world = (b2World*)addr;
+	b2Body* body = (b2Body*)bodyAddr;
+	world->DestroyBody(body);
+}
+
+inline b2JointType getJointType( int type )
+{
+	switch( type )
+	{
+	case 0: return e_revoluteJoint;
+	case 1: return e_prismaticJoint;
+	case 2: return e_distanceJoint;
+	case 3: return e_pulleyJoint;
+	case 4: return e_mouseJoint;
+	case 5: return e_gearJoint;
+	case 6: return e_lineJoint;
+	case 7: return e_weldJoint;
+	case 8: return e_frictionJoint;
+	default:
+		return e_unknownJoint;
+	}
+}
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniCreateJoint
+ * Signature: (JIJJZ)J
+ */
+/*JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateJoint
+(JNIEnv *, jobject, jlong addr, jint type, jlong bodyAAddr, jlong bodyBAddr, jboolean collideConnected )
+{
+	b2World* world = (b2World*)addr;
+	b2Body* bodyA = (b2Body*)bodyAAddr;
+	b2Body* bodyB = (b2Body*)bodyBAddr;
+
+	b2JointDef jointDef;
+	jointDef.bodyA = bodyA;
+	jointDef.bodyB = bodyB;
+	jointDef.collideConnected = collideConnected;
+	jointDef.type = getJointType( type );
+
+	b2Joint* joint = world->CreateJoint( &jointDef );
+	return (jlong)joint;
+}*/
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniCreateDistanceJoint
+ * Signature: (JJJZFFFFFFF)J
+ */
+JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateDistanceJoint
+  (JNIEnv *, jobject, jlong addr, jlong bodyA, jlong bodyB, jboolean collideConnected, jfloat localAnchorAX, jfloat localAnchorAY, jfloat localAnchorBX, jfloat localAnchorBY,
+					  jfloat length, jfloat frequencyHz, jfloat dampingRatio)
+{
+	b2World* world = (b2World*)addr;
+	b2DistanceJointDef def;
+	def.bodyA = (b2Body*)bodyA;
+	def.bodyB = (b2Body*)bodyB;
+	def.collideConnected = collideConnected;
+	def.localAnchorA = b2Vec2(localAnchorAX, localAnchorAY);
+	def.localAnchorB = b2Vec2(localAnchorBX, localAnchorBY);
+	def.length = length;
+	def.frequencyHz = frequencyHz;
+	def.dampingRatio = dampingRatio;
+
+	return (jlong)world->CreateJoint(&def);
+}
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniCreateFrictionJoint
+ * Signature: (JJJZFFFFFF)J
+ */
+JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateFrictionJoint
+  (JNIEnv *, jobject, jlong addr, jlong bodyA, jlong bodyB, jboolean collideConnected, jfloat localAnchorAX, jfloat localAnchorAY, jfloat localAnchorBX, jfloat localAnchorBY,
+					  jfloat maxForce, jfloat maxTorque)
+{
+	b2World* world = (b2World*)addr;
+	b2FrictionJointDef def;
+	def.bodyA = (b2Body*)bodyA;
+	def.bodyB = (b2Body*)bodyB;
+	def.collideConnected = collideConnected;
+	def.localAnchorA = b2Vec2(localAnchorAX, localAnchorAY);
+	def.localAnchorB = b2Vec2(localAnchorBX, localAnchorBY);
+	def.maxForce = maxForce;
+	def.maxTorque = maxTorque;
+	return (jlong)world->CreateJoint(&def);
+}
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniCreateGearJoint
+ * Signature: (JJJZJJF)J
+ */
+JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateGearJoint
+  (JNIEnv *, jobject, jlong addr, jlong bodyA, jlong bodyB, jboolean collideConnected, jlong joint1, jlong joint2, jfloat ratio)
+{
+	b2World* world = (b2World*)addr;
+	b2GearJointDef def;
+	def.bodyA = (b2Body*)bodyA;
+	def.bodyB = (b2Body*)bodyB;
+	def.collideConnected = collideConnected;
+	def.joint1 = (b2Joint*)joint1;
+	def.joint2 = (b2Joint*)joint2;
+	def.ratio = ratio;
+
+	return (jlong)world->CreateJoint(&def);
+}
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniCreateLineJoint
+ * Signature: (JJJZFFFFFFZFFZFF)J
+ */
+JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateLineJoint
+  (JNIEnv *, jobject, jlong addr, jlong bodyA, jlong bodyB, jboolean collideConnected, jfloat localAnchorAX, jfloat localAnchorAY, jfloat localAnchorBX, jfloat localAnchorBY,
+					  jfloat localAxisAX, jfloat localAxisAY, jboolean enableLimit, jfloat lowerTranslation, jfloat upperTranslation,
+					  jboolean enableMotor, jfloat maxMotorForce, jfloat motorSpeed)
+{
+	b2World* world = (b2World*)addr;
+	b2LineJointDef def;
+	def.bodyA = (b2Body*)bodyA;
+	def.bodyB = (b2Body*)bodyB;
+	def.collideConnected = collideConnected;
+	def.localAnchorA = b2Vec2(localAnchorAX, localAnchorAY);
+	def.localAnchorB = b2Vec2(localAnchorBX, localAnchorBY);
+	def.localAxisA = b2Vec2(localAxisAX, localAxisAY);
+	def.enableLimit = enableLimit;
+	def.lowerTranslation = lowerTranslation;
+	def.upperTranslation = upperTranslation;
+	def.enableMotor = enableMotor;
+	def.maxMotorForce = maxMotorForce;
+	def.motorSpeed = motorSpeed;
+
+	return (jlong)world->CreateJoint(&def);
+}
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniCreateMouseJoint
+ * Signature: (JJJZFFFFF)J
+ */
+JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateMouseJoint
+  (JNIEnv *, jobject, jlong addr, jlong bodyA, jlong bodyB, jboolean collideConnected, jfloat targetX, jfloat targetY, jfloat maxForce, jfloat frequencyHz, jfloat dampingRatio)
+{
+	b2World* world = (b2World*)addr;
+	b2MouseJointDef def;
+	def.bodyA = (b2Body*)bodyA;
+	def.bodyB = (b2Body*)bodyB;
+	def.collideConnected = collideConnected;
+	def.target = b2Vec2( targetX, targetY );
+	def.maxForce = maxForce;
+	def.frequencyHz = frequencyHz;
+	def.dampingRatio = dampingRatio;
+
+	return (jlong)world->CreateJoint(&def);
+}
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniCreatePrismaticJoint
+ * Signature: (JJJZFFFFFFFZFFZFF)J
+ */
+JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreatePrismaticJoint
+  (JNIEnv *, jobject, jlong addr, jlong bodyA, jlong bodyB, jboolean collideConnected, jfloat localAnchorAX, jfloat localAnchorAY, jfloat localAnchorBX, jfloat localAnchorBY,
+					  jfloat localAxisAX, jfloat localAxisAY, jfloat referenceAngle, jboolean enableLimit, jfloat lowerTranslation, jfloat upperTranslation,
+					  jboolean enableMotor, jfloat maxMotorForce, jfloat motorSpeed)
+{
+	b2World* world = (b2World*)addr;
+	b2PrismaticJointDef def;
+	def.bodyA = (b2Body*)bodyA;
+	def.bodyB = (b2Body*)bodyB;
+	def.collideConnected = collideConnected;
+	def.localAnchorA = b2Vec2(localAnchorAX, localAnchorAY);
+	def.localAnchorB = b2Vec2(localAnchorBX, localAnchorBY);
+	def.localAxis1 = b2Vec2( localAxisAX, localAxisAY );
+	def.referenceAngle = referenceAngle;
+	def.enableLimit = enableLimit;
+	def.lowerTranslation = lowerTranslation;
+	def.upperTranslation = upperTranslation;
+	def.enableMotor = enableMotor;
+	def.maxMotorForce = maxMotorForce;
+	def.motorSpeed = motorSpeed;
+
+	return (jlong)world->CreateJoint(&def);
+}
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniCreatePulleyJoint
+ * Signature: (JJJZFFFFFFFFFFFFF)J
+ */
+JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreatePulleyJoint
+  (JNIEnv *, jobject, jlong addr, jlong bodyA, jlong bodyB, jboolean collideConnected, jfloat groundAnchorAX, jfloat groundAnchorAY, jfloat groundAnchorBX, jfloat groundAnchorBY,
+					  jfloat localAnchorAX, jfloat localAnchorAY, jfloat localAnchorBX, jfloat localAnchorBY, jfloat lengthA, jfloat maxLengthA,
+					  jfloat lengthB, jfloat maxLengthB, jfloat ratio)
+{
+	b2World* world = (b2World*)addr;
+	b2PulleyJointDef def;
+	def.bodyA = (b2Body*)bodyA;
+	def.bodyB = (b2Body*)bodyB;
+	def.collideConnected = collideConnected;
+	def.groundAnchorA = b2Vec2( groundAnchorAX, groundAnchorAY );
+	def.groundAnchorB = b2Vec2( groundAnchorBX, groundAnchorBY );
+	def.localAnchorA = b2Vec2(localAnchorAX, localAnchorAY);
+	def.localAnchorB = b2Vec2(localAnchorBX, localAnchorBY);
+	def.lengthA = lengthA;
+	def.maxLengthA = maxLengthA;
+	def.lengthB = lengthB;
+	def.maxLengthB = maxLengthB;
+	def.ratio = ratio;
+
+	return (jlong)world->CreateJoint(&def);
+}
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniCreateRevoluteJoint
+ * Signature: (JJJZFFFFFZFFZFF)J
+ */
+JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateRevoluteJoint
+  (JNIEnv *, jobject, jlong addr, jlong bodyA, jlong bodyB, jboolean collideConnected, jfloat localAnchorAX, jfloat localAnchorAY, jfloat localAnchorBX, jfloat localAnchorBY,
+					  jfloat referenceAngle, jboolean enableLimit, jfloat lowerAngle, jfloat upperAngle, jboolean enableMotor, jfloat motorSpeed, jfloat maxMotorTorque)
+{
+	b2World* world = (b2World*)addr;
+	b2RevoluteJointDef def;
+	def.bodyA = (b2Body*)bodyA;
+	def.bodyB = (b2Body*)bodyB;
+	def.collideConnected = collideConnected;
+	def.localAnchorA = b2Vec2(localAnchorAX, localAnchorAY);
+	def.localAnchorB = b2Vec2(localAnchorBX, localAnchorBY);
+	def.referenceAngle = referenceAngle;
+	def.enableLimit = enableLimit;
+	def.lowerAngle = lowerAngle;
+	def.upperAngle = upperAngle;
+	def.enableMotor = enableMotor;
+	def.motorSpeed = motorSpeed;
+	def.maxMotorTorque = maxMotorTorque;
+
+	return (jlong)world->CreateJoint(&def);
+}
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniCreateWeldJoint
+ * Signature: (JJJZFFFFF)J
+ */
+JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateWeldJoint
+  (JNIEnv *, jobject, jlong addr, jlong bodyA, jlong bodyB, jboolean collideConnected, jfloat localAnchorAX, jfloat localAnchorAY, jfloat localAnchorBX, jfloat localAnchorBY,
+					  jfloat referenceAngle)
+{
+	b2World* world = (b2World*)addr;
+	b2WeldJointDef def;
+	def.bodyA = (b2Body*)bodyA;
+	def.bodyB = (b2Body*)bodyB;
+	def.collideConnected = collideConnected;
+	def.localAnchorA = b2Vec2(localAnchorAX, localAnchorAY);
+	def.localAnchorB = b2Vec2(localAnchorBX, localAnchorBY);
+	def.referenceAngle = referenceAngle;
+
+	return (jlong)world->CreateJoint(&def);
+}
+
+/// Joint types of packed joint definitions, must match JointDef.JointType.getValue().
+static const int PACKED_JOINT_REVOLUTE = 1;
+static const int PACKED_JOINT_PRISMATIC = 2;
+static const int PACKED_JOINT_DISTANCE = 3;
+static const int PACKED_JOINT_PULLEY = 4;
+static const int PACKED_JOINT_LINE = 7;
+static const int PACKED_JOINT_WELD = 8;
+static const int PACKED_JOINT_FRICTION = 9;
+
+static b2Joint* createPackedJoint( b2World* world, b2JointDef* def, const float* in, b2Body* bodyA, b2Body* bodyB )
+{
+	def->bodyA = bodyA;
+	def->bodyB = bodyB;
+	def->collideConnected = in[3] != 0;
+	return world->CreateJoint( def );
+}
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniCreateJoints
+ * Signature: (JLjava/nio/FloatBuffer;II[J[J[I)V
+ */
+JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateJoints
+  (JNIEnv *env, jobject, jlong addr, jobject defs, jint defsLength, jint jointCount, jlongArray bodyAddrs, jlongArray jointAddrs, jintArray bodyIndices)
+{
+	b2World* world = (b2World*)addr;
+	const float* in = (float*)env->GetDirectBufferAddress(defs);
+	const float* end = in + defsLength;
+	// copy the arrays in and out, holding a critical region across CreateJoint would block the GC for the whole batch
+	const jsize bodyCount = env->GetArrayLength( bodyAddrs );
+	jlong* bodyAddrsArray = (jlong*)b2Alloc( (bodyCount + jointCount) * sizeof(jlong) + jointCount * 2 * sizeof(jint) );
+	jlong* jointAddrsArray = bodyAddrsArray + bodyCount;
+	jint* bodyIndicesArray = (jint*)(jointAddrsArray + jointCount);
+	env->GetLongArrayRegion( bodyAddrs, 0, bodyCount, bodyAddrsArray );
+
+	int i = 0;
+	for( ; i < jointCount && in < end; i++ )
+	{
+		const int type = (int)in[0];
+		const int bodyIndexA = (int)in[1];
+		const int bodyIndexB = (int)in[2];
+		b2Body* bodyA = (b2Body*)bodyAddrsArray[bodyIndexA];
+		b2Body* bodyB = (b2Body*)bodyAddrsArray[bodyIndexB];
+		const b2Vec2 localAnchorA( in[4], in[5] );
+		const b2Vec2 localAnchorB( in[6], in[7] );
+		const float* data = in + 8;
+		b2Joint* joint = NULL;
+
+		switch( type )
+		{
+		case PACKED_JOINT_DISTANCE:
+		{
+			b2DistanceJointDef def;
+			def.localAnchorA = localAnchorA;
+			def.localAnchorB = localAnchorB;
+			def.length = data[0];
+			def.frequencyHz = data[1];
+			def.dampingRatio = data[2];
+			joint = createPackedJoint( world, &def, in, bodyA, bodyB );
+			in = data + 3;
+			break;
+		}
+		case PACKED_JOINT_FRICTION:
+		{
+			b2FrictionJointDef def;
+			def.localAnchorA = localAnchorA;
+			def.localAnchorB = localAnchorB;
+			def.maxForce = data[0];
+			def.maxTorque = data[1];
+			joint = createPackedJoint( world, &def, in, bodyA, bodyB );
+			in = data + 2;
+			break;
+		}
+		case PACKED_JOINT_LINE:
+		{
+			b2LineJointDef def;
+			def.localAnchorA = localAnchorA;
+			def.localAnchorB = localAnchorB;
+			def.localAxisA.Set( data[0], data[1] );
+			def.enableLimit = data[2] != 0;
+			def.lowerTranslation = data[3];
+			def.upperTranslation = data[4];
+			def.enableMotor = data[5] != 0;
+			def.maxMotorForce = data[6];
+			def.motorSpeed = data[7];
+			joint = createPackedJoint( world, &def, in, bodyA, bodyB );
+			in = data + 8;
+			break;
+		}
+		case PACKED_JOINT_PRISMATIC:
+		{
+			b2PrismaticJointDef def;
+			def.localAnchorA = localAnchorA;
+			def.localAnchorB = localAnchorB;
+			def.localAxis1.Set( data[0], data[1] );
+			def.referenceAngle = data[2];
+			def.enableLimit = data[3] != 0;
+			def.lowerTranslation = data[4];
+			def.upperTranslation = data[5];
+			def.enableMotor = data[6] != 0;
+			def.maxMotorForce = data[7];
+			def.motorSpeed = data[8];
+			joint = createPackedJoint( world, &def, in, bodyA, bodyB );
+			in = data + 9;
+			break;
+		}
+		case PACKED_JOINT_PULLEY:
+		{
+			b2PulleyJointDef def;
+			def.localAnchorA = localAnchorA;
+			def.localAnchorB = localAnchorB;
+			def.groundAnchorA.Set( data[0], data[1] );
+			def.groundAnchorB.Set( data[2], data[3] );
+			def.lengthA = data[4];
+			def.maxLengthA = data[5];
+			def.lengthB = data[6];
+			def.maxLengthB = data[7];
+			def.ratio = data[8];
+			joint = createPackedJoint( world, &def, in, bodyA, bodyB );
+			in = data + 9;
+			break;
+		}
+		case PACKED_JOINT_REVOLUTE:
+		{
+			b2RevoluteJointDef def;
+			def.localAnchorA = localAnchorA;
+			def.localAnchorB = localAnchorB;
+			def.referenceAngle = data[0];
+			def.enableLimit = data[1] != 0;
+			def.lowerAngle = data[2];
+			def.upperAngle = data[3];
+			def.enableMotor = data[4] != 0;
+			def.motorSpeed = data[5];
+			def.maxMotorTorque = data[6];
+			joint = createPackedJoint( world, &def, in, bodyA, bodyB );
+			in = data + 7;
+			break;
+		}
+		case PACKED_JOINT_WELD:
+		{
+			b2WeldJointDef def;
+			def.localAnchorA = localAnchorA;
+			def.localAnchorB = localAnchorB;
+			def.referenceAngle = data[0];
+			joint = createPackedJoint( world, &def, in, bodyA, bodyB );
+			in = data + 1;
+			break;
+		}
+		default:
+			in = end;
+			break;
+		}
+
+		jointAddrsArray[i] = (jlong)joint;
+		bodyIndicesArray[i * 2] = bodyIndexA;
+		bodyIndicesArray[i * 2 + 1] = bodyIndexB;
+	}
+
+	env->SetLongArrayRegion( jointAddrs, 0, i, jointAddrsArray );
+	env->SetIntArrayRegion( bodyIndices, 0, i * 2, bodyIndicesArray );
+	b2Free( bodyAddrsArray );
+}
+
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniDestroyJoint
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniDestroyJoint
+(JNIEnv *, jobject, jlong addr, jlong jointAddr)
+{
+	b2World* world = (b2World*)addr;
+	b2Joint* joint = (b2Joint*)jointAddr;
+
+	world->DestroyJoint( joint );
+}
+
+/// Layout of the awake body set, must match AwakeBodySet.java.
+struct AwakeBodyHeader
+{
+	jint awakeCount;
+	jint wokenCount;
+	jint sleptCount;
+	jint reserved;
+};
+
+/// Writes the awake bodies, and the bodies whose awake state changed since the last call, into the
+/// given AwakeBodySet buffer. The buffer holds three lists of equal capacity after the header.
+static void UpdateAwakeBodies(JNIEnv* env, b2World* world, jobject awakeBodies)
+{
+	AwakeBodyHeader* header = (AwakeBodyHeader*)env->GetDirectBufferAddress(awakeBodies);
+	const jlong capacity = (env->GetDirectBufferCapacity(awakeBodies) - (jlong)sizeof(AwakeBodyHeader)) / (3 * (jlong)sizeof(jlong));
+	jlong* awake = (jlong*)(header + 1);
+	jlong* woken = awake + capacity;
+	jlong* slept = woken + capacity;
+
+	int awakeCount = 0;
+	int wokenCount = 0;
+	int sleptCount = 0;
+	for( b2Body* body = world->GetBodyList(); body != 0; body = body->GetNext() )
+	{
+		const bool isAwake = body->GetType() != b2_staticBody && body->IsAwake();
+		const bool wasAwake = body->IsAwakeTracked();
+		if( isAwake && awakeCount < capacity )
+			awake[awakeCount++] = (jlong)body;
+
+		if( isAwake != wasAwake )
+		{
+			body->SetAwakeTracked(isAwake);
+			if( isAwake && wokenCount < capacity )
+				woken[wokenCount++] = (jlong)body;
+			else if( !isAwake && sleptCount < capacity )
+				slept[sleptCount++] = (jlong)body;
+		}
+	}
+
+	header->awakeCount = awakeCount;
+	header->wokenCount = wokenCount;
+	header->sleptCount = sleptCount;
+}
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniResetAwakeTracking
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniResetAwakeTracking
+  (JNIEnv *, jobject, jlong addr)
+{
+	b2World* world = (b2World*)addr;
+	for( b2Body* body = world->GetBodyList(); body != 0; body = body->GetNext() )
+		body->SetAwakeTracked(false);
+}
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniStep
+ * Signature: (JFIILjava/nio/ByteBuffer;Ljava/nio/ByteBuffer;I)V
+ */
+JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniStep
+ (JNIEnv *env, jobject obj, jlong addr, jfloat timeStep, jint velocityIterations, jint positionIterations, jobject contactEvents, jobject awakeBodies, jint flags)
+{
+	NativeWorld* world = (NativeWorld*)addr;
+	CustomContactFilter contactFilter(env, obj);
+	CustomContactListener contactListener(env, obj, flags, contactEvents);
+	if( flags & STEP_CONTACT_FILTER_CALLBACKS )
+		world->SetContactFilter(&contactFilter);
+	world->SetContactListener(contactListener.IsActive() ? &contactListener : 0);
+	world->Step( timeStep, velocityIterations, positionIterations );
+	world->profileHistory.Add(world->GetProfile());
+	world->SetContactFilter(&world->contactFilter);
+	world->SetContactListener(0);
+
+	if( awakeBodies != 0 )
+		UpdateAwakeBodies(env, world, awakeBodies);
+}
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniSetCollisionMatrix
+ * Signature: (J[S)V
+ */
+JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniSetCollisionMatrix
+  (JNIEnv *env, jobject, jlong addr, jshortArray collisionMatrix)
+{
+	NativeWorld* world = (NativeWorld*)addr;
+	if( collisionMatrix == 0 )
+	{
+		world->contactFilter.hasCollisionMatrix = false;
+		return;
+	}
+
+	env->GetShortArrayRegion(collisionMatrix, 0, COLLISION_MATRIX_SIZE, (jshort*)world->contactFilter.collisionMatrix);
+	world->contactFilter.hasCollisionMatrix = true;
+}
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniQueryAABB
+ * Signature: (JFFFF)V
+ */
+JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniQueryAABB
+  (JNIEnv *env, jobject obj, jlong addr, jfloat lowX, jfloat lowY, jfloat upX, jfloat upY)
+{
+	b2World* world = (b2World*)addr;
+	b2AABB aabb;
+	aabb.lowerBound = b2Vec2( lowX, lowY );
+	aabb.upperBound = b2Vec2( upX, upY );
+
+	CustomQueryCallback callback( env, obj );
+	world->QueryAABB( &callback, aabb );
+}
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniQueryAABBAddrs
+ * Signature: (JFFFF[J[J)I
+ */
+JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniQueryAABBAddrs
+  (JNIEnv *env, jobject, jlong addr, jfloat lowX, jfloat lowY, jfloat upX, jfloat upY, jlongArray fixtureAddrs, jlongArray bodyAddrs)
+{
+	b2World* world = (b2World*)addr;
+	b2AABB aabb;
+	aabb.lowerBound = b2Vec2( lowX, lowY );
+	aabb.upperBound = b2Vec2( upX, upY );
+
+	int capacity = env->GetArrayLength(fixtureAddrs);
+	if( bodyAddrs != 0 )
+		capacity = b2Min( capacity, (int)env->GetArrayLength(bodyAddrs) );
+	if( capacity == 0 )
+		return 0;
+
+	jlong* fixtureAddrsOut = (jlong*)env->GetPrimitiveArrayCritical( fixtureAddrs, 0 );
+	jlong* bodyAddrsOut = bodyAddrs != 0 ? (jlong*)env->GetPrimitiveArrayCritical( bodyAddrs, 0 ) : 0;
+
+	AddressQueryCallback callback( fixtureAddrsOut, bodyAddrsOut, capacity );
+	world->QueryAABB( &callback, aabb );
+
+	if( bodyAddrsOut != 0 )
+		env->ReleasePrimitiveArrayCritical( bodyAddrs, bodyAddrsOut, 0 );
+	env->ReleasePrimitiveArrayCritical( fixtureAddrs, fixtureAddrsOut, 0 );
+	return callback.count;
+}
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniQueryAABBBatch
+ * Signature: (JLjava/nio/FloatBuffer;ILjava/nio/LongBuffer;Ljava/nio/LongBuffer;Ljava/nio/IntBuffer;)I
+ */
+JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniQueryAABBBatch
+  (JNIEnv *env, jobject, jlong addr, jobject boxes, jint boxCount, jobject fixtureAddrs, jobject bodyAddrs, jobject resultCounts)
+{
+	b2World* world = (b2World*)addr;
+	const float* boxesIn = (float*)env->GetDirectBufferAddress(boxes);
+	jlong* fixtureAddrsOut = (jlong*)env->GetDirectBufferAddress(fixtureAddrs);
+	jlong* bodyAddrsOut = bodyAddrs != 0 ? (jlong*)env->GetDirectBufferAddress(bodyAddrs) : 0;
+	jint* resultCountsOut = (jint*)env->GetDirectBufferAddress(resultCounts);
+
+	jlong capacity = env->GetDirectBufferCapacity(fixtureAddrs);
+	if( bodyAddrs != 0 )
+		capacity = b2Min( capacity, env->GetDirectBufferCapacity(bodyAddrs) );
+
+	int total = 0;
+	AddressQueryCallback callback( 0, 0, 0 );
+	for( int i = 0; i < boxCount; i++ )
+	{
+		const int remaining = (int)(capacity - total);
+		if( remaining <= 0 )
+		{
+			resultCountsOut[i] = 0;
+			continue;
+		}
+
+		const float* box = boxesIn + i * 4;
+		b2AABB aabb;
+		aabb.lowerBound = b2Vec2( box[0], box[1] );
+		aabb.upperBound = b2Vec2( box[2], box[3] );
+
+		callback.Reset( fixtureAddrsOut + total, bodyAddrsOut != 0 ? bodyAddrsOut + total : 0, remaining );
+		world->QueryAABB( &callback, aabb );
+		resultCountsOut[i] = callback.count;
+		total += callback.count;
+	}
+
+	return total;
+}
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniClearForces
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniClearForces
+(JNIEnv *, jobject, jlong addr)
+{
+	b2World* world = (b2World*)addr;
+	world->ClearForces();
+}
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniSetWarmStarting
+ * Signature: (JZ)V
+ */
+JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniSetWarmStarting
+(JNIEnv *, jobject, jlong addr, jboolean flag)
+{
+	b2World* world = (b2World*)addr;
+	world->SetWarmStarting(flag);
+}
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniSetContiousPhysics
+ * Signature: (JZ)V
+ */
+JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniSetContiousPhysics
+(JNIEnv *, jobject, jlong addr, jboolean flag)
+{
+	b2World* world = (b2World*)addr;
+	world->SetContinuousPhysics(flag);
+}
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniGetProxyCount
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetProxyCount
+(JNIEnv *, jobject, jlong addr)
+{
+	b2World* world = (b2World*)addr;
+	return world->GetProxyCount();
+}
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniGetBodyCount
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetBodyCount
+(JNIEnv *, jobject, jlong addr)
+{
+	b2World* world = (b2World*)addr;
+	return world->GetBodyCount();
+}
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniGetJointcount
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetJointcount
+(JNIEnv *, jobject, jlong addr)
+{
+	b2World* world = (b2World*)addr;
+	return world->GetJointCount();
+}
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniGetContactCount
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetContactCount
+(JNIEnv *, jobject, jlong addr)
+{
+	b2World* world = (b2World*)addr;
+	return world->GetContactCount();
+}
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniSetGravity
+ * Signature: (JFF)V
+ */
+JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniSetGravity
+(JNIEnv *, jobject, jlong addr, jfloat gravityX, jfloat gravityY)
+{
+	b2World* world = (b2World*)addr;
+	world->SetGravity( b2Vec2( gravityX, gravityY ) );
+}
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniGetGravity
+ * Signature: (J[F)V
+ */
+JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetGravity
+(JNIEnv *env, jobject, jlong addr, jfloatArray gravity)
+{
+	b2World* world = (b2World*)addr;
+	float* tmp = (float*)env->GetPrimitiveArrayCritical(gravity, 0);
+	b2Vec2 g = world->GetGravity();
+	tmp[0] = g.x;
+	tmp[1] = g.y;
+	env->ReleasePrimitiveArrayCritical( gravity, tmp, 0);
+}
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniIsLocked
+ * Signature: (J)Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniIsLocked
+(JNIEnv *, jobject, jlong addr)
+{
+	b2World* world = (b2World*)addr;
+	return world->IsLocked();
+}
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniSetAutoClearForces
+ * Signature: (JZ)V
+ */
+JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniSetAutoClearForces
+(JNIEnv *, jobject, jlong addr, jboolean flag)
+{
+	b2World* world = (b2World*)addr;
+	world->SetAutoClearForces(flag);
+}
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniGetAutoClearForces
+ * Signature: (J)Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetAutoClearForces
+(JNIEnv *, jobject, jlong addr)
+{
+	b2World* world = (b2World*)addr;
+	return world->GetAutoClearForces();
+}
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniSetIslandThreadCount
+ * Signature: (JI)V
+ */
+JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniSetIslandThreadCount
+(JNIEnv *, jobject, jlong addr, jint threadCount)
+{
+	b2World* world = (b2World*)addr;
+	world->SetIslandThreadCount(threadCount);
+}
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniGetIslandThreadCount
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetIslandThreadCount
+(JNIEnv *, jobject, jlong addr)
+{
+	b2World* world = (b2World*)addr;
+	return world->GetIslandThreadCount();
+}
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniGetProfile
+ * Signature: (J[F)I
+ */
+JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetProfile
+(JNIEnv *env, jobject, jlong addr, jfloatArray profile)
+{
+	NativeWorld* world = (NativeWorld*)addr;
+	float stats[PROFILE_PHASE_COUNT * PROFILE_STAT_COUNT];
+	int count = world->profileHistory.Get(stats);
+	env->SetFloatArrayRegion(profile, 0, PROFILE_PHASE_COUNT * PROFILE_STAT_COUNT, stats);
+	return count;
+}
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniResetProfile
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniResetProfile
+(JNIEnv *, jobject, jlong addr)
+{
+	NativeWorld* world = (NativeWorld*)addr;
+	world->profileHistory.Clear();
+}
+
+static inline void HashFloat(unsigned long long& hash, float32 value)
+{
+	uint32 bits;
+	memcpy(&bits, &value, sizeof(bits));
+	for( int i = 0; i < 4; i++ )
+	{
+		hash ^= (bits >> (i * 8)) & 0xff;
+		hash *= 0x100000001b3ULL;
+	}
+}
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniComputeStateHash
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniComputeStateHash
+(JNIEnv *, jobject, jlong addr)
+{
+	b2World* world = (b2World*)addr;
+
+	// 64 bit FNV-1a over the bits of the position, angle and velocities of each body, in body list order.
+	unsigned long long hash = 0xcbf29ce484222325ULL;
+	for( b2Body* body = world->GetBodyList(); body != 0; body = body->GetNext() )
+	{
+		const b2Vec2& position = body->GetPosition();
+		const b2Vec2& linearVelocity = body->GetLinearVelocity();
+		HashFloat(hash, position.x);
+		HashFloat(hash, position.y);
+		HashFloat(hash, body->GetAngle());
+		HashFloat(hash, linearVelocity.x);
+		HashFloat(hash, linearVelocity.y);
+		HashFloat(hash, body->GetAngularVelocity());
+	}
+	return (jlong)hash;
+}
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniGetBodyAddresses
+ * Signature: (J[J)I
+ */
+JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetBodyAddresses
+(JNIEnv *env, jobject, jlong addr, jlongArray bodyAddrs)
+{
+	b2World* world = (b2World*)addr;
+	jsize capacity = env->GetArrayLength(bodyAddrs);
+	jlong* addrs = (jlong*)env->GetPrimitiveArrayCritical(bodyAddrs, 0);
+
+	int count = 0;
+	for( b2Body* body = world->GetBodyList(); body != 0 && count < capacity; body = body->GetNext() )
+		addrs[count++] = (jlong)body;
+
+	env->ReleasePrimitiveArrayCritical(bodyAddrs, addrs, 0);
+	return count;
+}
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniGetStateSize
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetStateSize
+(JNIEnv *, jobject, jlong addr)
+{
+	b2World* world = (b2World*)addr;
+	return world->GetStateSize();
+}
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniSaveState
+ * Signature: (JLjava/nio/ByteBuffer;)I
+ */
+JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniSaveState
+(JNIEnv *env, jobject, jlong addr, jobject state)
+{
+	b2World* world = (b2World*)addr;
+	if( env->GetDirectBufferCapacity(state) < world->GetStateSize() )
+		return -1;
+
+	return world->SaveState(env->GetDirectBufferAddress(state));
+}
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniRestoreState
+ * Signature: (JLjava/nio/ByteBuffer;)Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniRestoreState
+(JNIEnv *env, jobject, jlong addr, jobject state)
+{
+	b2World* world = (b2World*)addr;
+	return world->RestoreState(env->GetDirectBufferAddress(state), (int32)env->GetDirectBufferCapacity(state));
+}
+
+/// Number of ints per body of quantized body states, must match World.BODY_STATE_STRIDE.
+static const int BODY_STATE_STRIDE = 6;
+
+/// Size of the header of encoded body states: body count and changed body count, little endian.
+static const int BODY_STATE_HEADER_SIZE = 8;
+
+/// Worst case size of a changed body: index gap, mask and a zigzag varint per component.
+static const int BODY_STATE_MAX_ENTRY_SIZE = 5 + 1 + BODY_STATE_STRIDE * 5;
+
+static inline int quantize( float32 value, float32 inverseQuantum )
+{
+	return (int)floorf( value * inverseQuantum + 0.5f );
+}
+
+static inline void writeInt32( unsigned char* out, unsigned int value )
+{
+	out[0] = (unsigned char)value;
+	out[1] = (unsigned char)(value >> 8);
+	out[2] = (unsigned char)(value >> 16);
+	out[3] = (unsigned char)(value >> 24);
+}
+
+static inline unsigned int readInt32( const unsigned char* in )
+{
+	return in[0] | (in[1] << 8) | (in[2] << 16) | ((unsigned int)in[3] << 24);
+}
+
+static inline unsigned char* writeVarint( unsigned char* out, unsigned int value )
+{
+	while( value >= 0x80 )
+	{
+		*out++ = (unsigned char)(value | 0x80);
+		value >>= 7;
+	}
+	*out++ = (unsigned char)value;
+	return out;
+}
+
+/// Returns NULL if the varint runs past end.
+static inline const unsigned char* readVarint( const unsigned char* in, const unsigned char* end, unsigned int& value )
+{
+	value = 0;
+	for( int shift = 0; shift < 35; shift += 7 )
+	{
+		if( in == end )
+			return NULL;
+		const unsigned char byte = *in++;
+		value |= (unsigned int)(byte & 0x7f) << shift;
+		if( (byte & 0x80) == 0 )
+			return in;
+	}
+	return NULL;
+}
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniEncodeBodyStates
+ * Signature: (JLjava/nio/IntBuffer;Ljava/nio/IntBuffer;Ljava/nio/ByteBuffer;FFF)I
+ */
+JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniEncodeBodyStates
+(JNIEnv *env, jobject, jlong addr, jobject baseline, jobject current, jobject out, jfloat positionQuantum, jfloat angleQuantum, jfloat velocityQuantum)
+{
+	b2World* world = (b2World*)addr;
+	const int bodyCount = world->GetBodyCount();
+	if( env->GetDirectBufferCapacity(current) < bodyCount * BODY_STATE_STRIDE )
+		return -2;
+	if( baseline != NULL && env->GetDirectBufferCapacity(baseline) < bodyCount * BODY_STATE_STRIDE )
+		return -2;
+
+	const int* base = baseline != NULL ? (const int*)env->GetDirectBufferAddress(baseline) : NULL;
+	int* cur = (int*)env->GetDirectBufferAddress(current);
+	unsigned char* start = (unsigned char*)env->GetDirectBufferAddress(out);
+	unsigned char* end = start + env->GetDirectBufferCapacity(out);
+	if( end - start < BODY_STATE_HEADER_SIZE )
+		return -1;
+
+	const float32 inversePositionQuantum = 1.0f / positionQuantum;
+	const float32 inverseAngleQuantum = 1.0f / angleQuantum;
+	const float32 inverseVelocityQuantum = 1.0f / velocityQuantum;
+
+	unsigned char* o = start + BODY_STATE_HEADER_SIZE;
+	int changedCount = 0;
+	int lastIndex = -1;
+	int index = 0;
+	for( b2Body* body = world->GetBodyList(); body != 0; body = body->GetNext(), index++, cur += BODY_STATE_STRIDE )
+	{
+		const b2Vec2& position = body->GetPosition();
+		const b2Vec2& linearVelocity = body->GetLinearVelocity();
+		cur[0] = quantize( position.x, inversePositionQuantum );
+		cur[1] = quantize( position.y, inversePositionQuantum );
+		cur[2] = quantize( body->GetAngle(), inverseAngleQuantum );
+		cur[3] = quantize( linearVelocity.x, inverseVelocityQuantum );
+		cur[4] = quantize( linearVelocity.y, inverseVelocityQuantum );
+		cur[5] = quantize( body->GetAngularVelocity(), inverseVelocityQuantum );
+
+		unsigned int deltas[BODY_STATE_STRIDE];
+		int mask = 0;
+		for( int i = 0; i < BODY_STATE_STRIDE; i++ )
+		{
+			deltas[i] = (unsigned int)cur[i] - (base != NULL ? (unsigned int)base[i] : 0);
+			if( deltas[i] != 0 )
+				mask |= 1 << i;
+		}
+		if( base != NULL )
+			base += BODY_STATE_STRIDE;
+		if( mask == 0 )
+			continue;
+
+		if( end - o < BODY_STATE_MAX_ENTRY_SIZE )
+			return -1;
+
+		o = writeVarint( o, (unsigned int)(index - lastIndex - 1) );
+		*o++ = (unsigned char)mask;
+		for( int i = 0; i < BODY_STATE_STRIDE; i++ )
+		{
+			if( mask & (1 << i) )
+			{
+				// zigzag, so that small negative deltas stay small
+				const int delta = (int)deltas[i];
+				o = writeVarint( o, ((unsigned int)delta << 1) ^ (unsigned int)(delta >> 31) );
+			}
+		}
+		lastIndex = index;
+		changedCount++;
+	}
+
+	writeInt32( start, (unsigned int)bodyCount );
+	writeInt32( start + 4, (unsigned int)changedCount );
+	return (jint)(o - start);
+}
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniDecodeBodyStates
+ * Signature: (JLjava/nio/IntBuffer;Ljava/nio/IntBuffer;Ljava/nio/ByteBuffer;IFFF)I
+ */
+JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniDecodeBodyStates
+(JNIEnv *env, jobject, jlong addr, jobject baseline, jobject current, jobject in, jint length, jfloat positionQuantum, jfloat angleQuantum, jfloat velocityQuantum)
+{
+	b2World* world = (b2World*)addr;
+	const int bodyCount = world->GetBodyCount();
+	if( env->GetDirectBufferCapacity(current) < bodyCount * BODY_STATE_STRIDE )
+		return -2;
+	if( baseline != NULL && env->GetDirectBufferCapacity(baseline) < bodyCount * BODY_STATE_STRIDE )
+		return -2;
+
+	const unsigned char* i = (const unsigned char*)env->GetDirectBufferAddress(in);
+	const unsigned char* end = i + length;
+	if( length < BODY_STATE_HEADER_SIZE || (int)readInt32( i ) != bodyCount )
+		return -1;
+	const int changedCount = (int)readInt32( i + 4 );
+	i += BODY_STATE_HEADER_SIZE;
+
+	int* cur = (int*)env->GetDirectBufferAddress(current);
+	if( baseline != NULL )
+		memcpy( cur, env->GetDirectBufferAddress(baseline), bodyCount * BODY_STATE_STRIDE * sizeof(int) );
+	else
+		memset( cur, 0, bodyCount * BODY_STATE_STRIDE * sizeof(int) );
+
+	// Contacts are found once for all moved bodies, instead of once per body.
+	b2Body* body = world->GetBodyList();
+	int index = -1;
+	bool moved = false;
+	int result = changedCount;
+	for( int n = 0; n < changedCount; n++ )
+	{
+		unsigned int gap;
+		if( (i = readVarint( i, end, gap )) == NULL || i == end )
+		{
+			result = -1;
+			break;
+		}
+		const int mask = *i++;
+		for( unsigned int skip = 0; skip <= gap && body != 0; skip++ )
+		{
+			if( index >= 0 )
+				body = body->GetNext();
+			index++;
+		}
+		if( body == 0 || index >= bodyCount )
+		{
+			result = -1;
+			break;
+		}
+
+		int* state = cur + index * BODY_STATE_STRIDE;
+		for( int c = 0; c < BODY_STATE_STRIDE; c++ )
+		{
+			if( mask & (1 << c) )
+			{
+				unsigned int zigzag;
+				if( (i = readVarint( i, end, zigzag )) == NULL )
+				{
+					result = -1;
+					break;
+				}
+				const unsigned int delta = (zigzag >> 1) ^ (0u - (zigzag & 1));
+				state[c] = (int)((unsigned int)state[c] + delta);
+			}
+		}
+
+		if( result < 0 )
+			break;
+
+		if( mask & 7 )
+		{
+			body->SetTransform( b2Vec2( state[0] * positionQuantum, state[1] * positionQuantum ), state[2] * angleQuantum, false );
+			moved = true;
+		}
+		if( body->GetType() != b2_staticBody )
+		{
+			body->SetLinearVelocity( b2Vec2( state[3] * velocityQuantum, state[4] * velocityQuantum ) );
+			body->SetAngularVelocity( state[5] * velocityQuantum );
+			body->SetAwake( true );
+		}
+	}
+
+	if( moved )
+		world->FindNewContacts();
+	return result;
+}
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniIsDeterministic
+ * Signature: ()Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniIsDeterministic
+(JNIEnv *, jclass)
+{
+#ifdef B2_DETERMINISTIC
+	return true;
+#else
+	return false;
+#endif
+}
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniGetContactList
+ * Signature: (J[J)V
+ */
+JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetContactList
+  (JNIEnv *env, jobject, jlong addr, jlongArray contacts)
+{
+	b2World* world = (b2World*)addr;
+	jlong* tmp = (jlong*)env->GetPrimitiveArrayCritical( contacts, 0 );
+
+	b2Contact* contact = world->GetContactList();
+	int i = 0;
+	while( contact != 0 )
+	{
+		tmp[i++] = (jlong)contact;
+		contact = contact->GetNext();
+	}
+
+	env->ReleasePrimitiveArrayCritical( contacts, tmp, 0 );
+}
+
+/// Layout of a contact snapshot record, must match ContactSnapshot.java.
+static const int CONTACT_SNAPSHOT_TOUCHING = 1;
+static const int CONTACT_SNAPSHOT_ENABLED = 2;
+
+struct ContactSnapshotRecord
+{
+	jlong contact;
+	jlong fixtureA;
+	jlong fixtureB;
+	jint flags;
+	jint pointCount;
+	float32 normal[2];
+	float32 points[b2_maxManifoldPoints][2];
+};
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniGetContactSnapshot
+ * Signature: (JLjava/nio/ByteBuffer;Z)I
+ */
+JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetContactSnapshot
+  (JNIEnv *env, jobject, jlong addr, jobject snapshot, jboolean touchingOnly)
+{
+	b2World* world = (b2World*)addr;
+	ContactSnapshotRecord* records = (ContactSnapshotRecord*)env->GetDirectBufferAddress(snapshot);
+	const jlong capacity = env->GetDirectBufferCapacity(snapshot) / (jlong)sizeof(ContactSnapshotRecord);
+
+	int count = 0;
+	for( b2Contact* contact = world->GetContactList(); contact != 0; contact = contact->GetNext() )
+	{
+		const bool touching = contact->IsTouching();
+		if( touchingOnly && !touching )
+			continue;
+
+		if( count < capacity )
+		{
+			ContactSnapshotRecord& record = records[count];
+			record.contact = (jlong)contact;
+			record.fixtureA = (jlong)contact->GetFixtureA();
+			record.fixtureB = (jlong)contact->GetFixtureB();
+			record.flags = (touching ? CONTACT_SNAPSHOT_TOUCHING : 0) | (contact->IsEnabled() ? CONTACT_SNAPSHOT_ENABLED : 0);
+
+			const int pointCount = contact->GetManifold()->pointCount;
+			record.pointCount = pointCount;
+			if( pointCount > 0 )
+			{
+				b2WorldManifold manifold;
+				contact->GetWorldManifold(&manifold);
+				record.normal[0] = manifold.normal.x;
+				record.normal[1] = manifold.normal.y;
+				for( int i = 0; i < pointCount; i++ )
+				{
+					record.points[i][0] = manifold.points[i].x;
+					record.points[i][1] = manifold.points[i].y;
+				}
+			}
+			else
+			{
+				record.normal[0] = 0;
+				record.normal[1] = 0;
+			}
+		}
+		count++;
+	}
+
+	return count;
+}
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniDispose
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniDispose
+(JNIEnv *, jobject, jlong addr)
+{
+	NativeWorld* world = (NativeWorld*)(addr);
+	delete world;
+}
+
+/*
+ * Class:			com_badlogic_gdx_physics_box2d_World
+ * Method:		jniRayCast
+ * Signature:	(JFFFF)V
+ */
+JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniRayCast
+	(JNIEnv *env, jobject obj, jlong addr, jfloat aX, jfloat aY, jfloat bX, jfloat bY)
+{
+	b2World *world = (b2World*)addr;
+
+	CustomRayCastCallback callback( env, obj );	
+	world->RayCast( &callback, b2Vec2(aX,aY), b2Vec2(bX,bY) );
+}
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniGetBodyTransforms
+ * Signature: (JLjava/nio/FloatBuffer;Ljava/nio/LongBuffer;ZZ)I
+ */
+JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetBodyTransforms
+  (JNIEnv *env, jobject, jlong addr, jobject transforms, jobject bodyAddrs, jboolean includeVelocities, jboolean awakeOnly)
+{
+	b2World* world = (b2World*)addr;
+	const int stride = includeVelocities ? 6 : 3;
+
+	float* transformsOut = (float*)env->GetDirectBufferAddress(transforms);
+	jlong capacity = env->GetDirectBufferCapacity(transforms) / stride;
+
+	jlong* bodyAddrsOut = 0;
+	if( bodyAddrs != 0 )
+	{
+		bodyAddrsOut = (jlong*)env->GetDirectBufferAddress(bodyAddrs);
+		capacity = b2Min( capacity, env->GetDirectBufferCapacity(bodyAddrs) );
+	}
+
+	int count = 0;
+	for( b2Body* body = world->GetBodyList(); body != 0 && count < capacity; body = body->GetNext() )
+	{
+		if( awakeOnly && !body->IsAwake() )
+			continue;
+
+		float* row = transformsOut + count * stride;
+		const b2Vec2& position = body->GetPosition();
+		row[0] = position.x;
+		row[1] = position.y;
+		row[2] = body->GetAngle();
+		if( includeVelocities )
+		{
+			const b2Vec2& velocity = body->GetLinearVelocity();
+			row[3] = velocity.x;
+			row[4] = velocity.y;
+			row[5] = body->GetAngularVelocity();
+		}
+
+		if( bodyAddrsOut != 0 )
+			bodyAddrsOut[count] = (jlong)body;
+		count++;
+	}
+
+	return count;
+}
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniGatherBodyTransforms
+ * Signature: (Ljava/nio/LongBuffer;ILjava/nio/FloatBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGatherBodyTransforms
+  (JNIEnv *env, jobject, jobject bodyAddrs, jint count, jobject transforms)
+{
+	const jlong* bodyAddrsIn = (jlong*)env->GetDirectBufferAddress(bodyAddrs);
+	float* transformsOut = (float*)env->GetDirectBufferAddress(transforms);
+
+	for( int i = 0; i < count; i++ )
+	{
+		const b2Body* body = (b2Body*)bodyAddrsIn[i];
+		const b2Vec2& position = body->GetPosition();
+		transformsOut[0] = position.x;
+		transformsOut[1] = position.y;
+		transformsOut[2] = body->GetAngle();
+		transformsOut += 3;
+	}
+}
+
+/// Operations of jniApplyBatch, must match World.BATCH_*.
+static const int BATCH_APPLY_FORCE = 0;
+static const int BATCH_APPLY_LINEAR_IMPULSE = 1;
+static const int BATCH_SET_LINEAR_VELOCITY = 2;
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniApplyBatch
+ * Signature: (Ljava/nio/LongBuffer;Ljava/nio/FloatBuffer;II)V
+ */
+JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniApplyBatch
+  (JNIEnv *env, jobject, jobject bodyAddrs, jobject vectors, jint count, jint operation)
+{
+	const jlong* bodyAddrsIn = (jlong*)env->GetDirectBufferAddress(bodyAddrs);
+	const float* vectorsIn = (float*)env->GetDirectBufferAddress(vectors);
+
+	for( int i = 0; i < count; i++ )
+	{
+		b2Body* body = (b2Body*)bodyAddrsIn[i];
+		const b2Vec2 vector( vectorsIn[0], vectorsIn[1] );
+		vectorsIn += 2;
+
+		switch( operation )
+		{
+		case BATCH_APPLY_FORCE:
+			body->ApplyForce( vector, body->GetWorldCenter() );
+			break;
+		case BATCH_APPLY_LINEAR_IMPULSE:
+			body->ApplyLinearImpulse( vector, body->GetWorldCenter() );
+			break;
+		case BATCH_SET_LINEAR_VELOCITY:
+			body->SetLinearVelocity( vector );
+			break;
+		}
+	}
+}
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniRayCastBatch
+ * Signature: (JLjava/nio/FloatBuffer;IILjava/nio/LongBuffer;Ljava/nio/FloatBuffer;)I
+ */
+JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniRayCastBatch
+  (JNIEnv *env, jobject, jlong addr, jobject rays, jint rayCount, jint mode, jobject hitFixtures, jobject hits)
+{
+	b2World* world = (b2World*)addr;
+	const float* raysIn = (float*)env->GetDirectBufferAddress(rays);
+	jlong* hitFixturesOut = (jlong*)env->GetDirectBufferAddress(hitFixtures);
+	float* hitsOut = (float*)env->GetDirectBufferAddress(hits);
+	const jlong capacity = b2Min( env->GetDirectBufferCapacity(hitFixtures), env->GetDirectBufferCapacity(hits) / RAYCAST_HIT_STRIDE );
+
+	BatchRayCastCallback callback( mode, hitFixturesOut, hitsOut, (int)capacity );
+	for( int i = 0; i < rayCount && !callback.IsFull(); i++ )
+	{
+		const float* ray = raysIn + i * 4;
+		const b2Vec2 point1( ray[0], ray[1] );
+		const b2Vec2 point2( ray[2], ray[3] );
+		if( b2DistanceSquared(point1, point2) <= 0 )
+			continue;
+
+		callback.BeginRay(i);
+		world->RayCast( &callback, point1, point2 );
+		callback.EndRay();
+	}
+
+	return callback.hitCount;
+}
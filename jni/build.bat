@@ -1,6 +1,6 @@
-set shdir=%~dp0
-set "shdir=%shdir:\=/%"
-c:
-cd C:\cygwin\bin 
-bash --login -i -c '%shdir%build.sh'
+set shdir=%~dp0
+set "shdir=%shdir:\=/%"
+c:
+cd C:\cygwin\bin 
+bash --login -i -c '%shdir%build.sh'
 pause
\ No newline at end of file
@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.physics.box2d;
+
+import java.nio.ByteBuffer;
+
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.LongMap;
+
+/**
+ * The set of awake, non-static bodies of a world, maintained by the native step. Register it with
+ * {@link World#setAwakeBodySet(AwakeBodySet)}. After each {@link World#step(float, int, int)} it holds the addresses of all awake bodies
+ * plus the bodies that woke up or fell asleep during that step, so that work can be restricted to the bodies that actually move.
+ * Bodies that are awake when the set is registered are reported as woken by the first step. Destroyed bodies are removed from the set
+ * without being reported as asleep.
+ */
+public class AwakeBodySet {
+	/** header: awake count, woken count, slept count, 4 reserved bytes. Must match World.cpp **/
+	static final int HEADER_SIZE = 16;
+
+	private static final int HEADER_AWAKE_COUNT = 0;
+	private static final int HEADER_WOKEN_COUNT = 4;
+	private static final int HEADER_SLEPT_COUNT = 8;
+
+	ByteBuffer buffer;
+	World world;
+
+	private int capacity;
+	private final LongMap<Body> awakeBodies = new LongMap<Body>();
+
+	/**
+	 * @param capacity the initial number of bodies, grows with the body count of the world.
+	 */
+	public AwakeBodySet (int capacity) {
+		allocate(Math.max(capacity, 16));
+	}
+
+	private void allocate (int capacity) {
+		this.capacity = capacity;
+		buffer = BufferUtils.newByteBuffer(HEADER_SIZE + capacity * 3 * 8);
+	}
+
+	void ensureCapacity (int bodyCount) {
+		if (bodyCount > capacity) allocate(Math.max(bodyCount, capacity * 2));
+	}
+
+	/** Applies the woken and slept bodies of the last step to the lookup set. **/
+	void update () {
+		for (int i = 0, n = getWokenCount(); i < n; i++) {
+			long bodyAddr = getWokenBodyAddress(i);
+			awakeBodies.put(bodyAddr, world.bodies.get(bodyAddr));
+		}
+		for (int i = 0, n = getSleptCount(); i < n; i++)
+			awakeBodies.remove(getSleptBodyAddress(i));
+	}
+
+	void remove (long bodyAddr) {
+		awakeBodies.remove(bodyAddr);
+	}
+
+	void clear () {
+		buffer.putInt(HEADER_AWAKE_COUNT, 0);
+		buffer.putInt(HEADER_WOKEN_COUNT, 0);
+		buffer.putInt(HEADER_SLEPT_COUNT, 0);
+		awakeBodies.clear();
+	}
+
+	/**
+	 * @return the number of awake bodies after the last step.
+	 */
+	public int getAwakeCount () {
+		return buffer.getInt(HEADER_AWAKE_COUNT);
+	}
+
+	public long getAwakeBodyAddress (int index) {
+		return buffer.getLong(HEADER_SIZE + index * 8);
+	}
+
+	public Body getAwakeBody (int index) {
+		return world.bodies.get(getAwakeBodyAddress(index));
+	}
+
+	/**
+	 * Copies the addresses of the awake bodies into the given array.
+	 * @return the number of addresses copied, at most the length of the array.
+	 */
+	public int getAwakeBodyAddresses (long[] bodyAddrs) {
+		int count = Math.min(getAwakeCount(), bodyAddrs.length);
+		for (int i = 0; i < count; i++)
+			bodyAddrs[i] = buffer.getLong(HEADER_SIZE + i * 8);
+		return count;
+	}
+
+	/**
+	 * @return the number of bodies that woke up during the last step.
+	 */
+	public int getWokenCount () {
+		return buffer.getInt(HEADER_WOKEN_COUNT);
+	}
+
+	public long getWokenBodyAddress (int index) {
+		return buffer.getLong(HEADER_SIZE + (capacity + index) * 8);
+	}
+
+	public Body getWokenBody (int index) {
+		return world.bodies.get(getWokenBodyAddress(index));
+	}
+
+	/**
+	 * @return the number of bodies that fell asleep during the last step.
+	 */
+	public int getSleptCount () {
+		return buffer.getInt(HEADER_SLEPT_COUNT);
+	}
+
+	public long getSleptBodyAddress (int index) {
+		return buffer.getLong(HEADER_SIZE + (capacity * 2 + index) * 8);
+	}
+
+	public Body getSleptBody (int index) {
+		return world.bodies.get(getSleptBodyAddress(index));
+	}
+
+	/**
+	 * @return whether the body was awake after the last step, without calling into native code.
+	 */
+	public boolean isAwake (long bodyAddr) {
+		return awakeBodies.containsKey(bodyAddr);
+	}
+
+	/**
+	 * @return whether the body was awake after the last step, without calling into native code.
+	 */
+	public boolean isAwake (Body body) {
+		return awakeBodies.containsKey(body.addr);
+	}
+}
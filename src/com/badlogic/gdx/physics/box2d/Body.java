@@ -36,7 +36,7 @@ public class Body {
 	private final World world;
 
 	/** Fixtures of this body **/
-	private ArrayList<Fixture> fixtures = new ArrayList<Fixture>(2);
+	protected ArrayList<Fixture> fixtures = new ArrayList<Fixture>(2);
 
 	/** Joints of this body **/
 	protected ArrayList<JointEdge> joints = new ArrayList<JointEdge>(2);
@@ -540,6 +540,28 @@ public class Body {
 
 	private native boolean jniIsBullet (long addr);
 
+	/**
+	 * Solve the island of this body in the given number of sub-steps per {@link World#step(float, int, int)}, updating its contacts
+	 * in between, so that a fast body does not tunnel through other dynamic bodies without the cost of a {@link #setBullet(boolean) bullet}
+	 * or of stepping the whole world at a higher rate. Only the islands of such bodies are sub-stepped, all of them by the largest
+	 * count among the awake ones. 1 disables sub-stepping.
+	 */
+	public void setSubStepCount (int count) {
+		if (count < 1) throw new IllegalArgumentException("count must be at least 1");
+		jniSetSubStepCount(addr, count);
+	}
+
+	private native void jniSetSubStepCount (long addr, int count);
+
+	/**
+	 * @return the number of sub-steps per {@link World#step(float, int, int)} of the island of this body.
+	 */
+	public int getSubStepCount () {
+		return jniGetSubStepCount(addr);
+	}
+
+	private native int jniGetSubStepCount (long addr);
+
 	/**
 	 * You can disable sleeping on this body. If you disable sleeping, the
 	 */
@@ -643,6 +665,13 @@ public class Body {
 // return contacts;
 // }
 
+	/**
+	 * Get the address of the native body, as used by the bulk methods of {@link World}.
+	 */
+	public long getAddress () {
+		return addr;
+	}
+
 	/**
 	 * Get the parent world of this body.
 	 */
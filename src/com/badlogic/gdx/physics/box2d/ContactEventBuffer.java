@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.physics.box2d;
+
+import java.nio.ByteBuffer;
+
+import com.badlogic.gdx.utils.BufferUtils;
+
+/**
+ * A direct buffer the native step appends contact events to, instead of calling back into Java for each of them. Register it with
+ * {@link World#setContactEventBuffer(ContactEventBuffer, boolean)}, then drain it after {@link World#step(float, int, int)}:
+ *
+ * <pre>
+ * while (events.next()) {
+ * 	switch (events.getType()) { ... }
+ * }
+ * events.clear();
+ * </pre>
+ *
+ * Events accumulate over several steps until {@link #clear()} is called. This is a linear buffer rather than a ring: the native step
+ * only appends and Java resets it, so there is no read/write race to guard and records never wrap across the end of the buffer. Once
+ * full, the newest events are dropped, never the oldest unread ones, and counted, see {@link #getDroppedEventCount()}. Size it for
+ * the events of all steps between two clears. Reading does not allocate.
+ */
+public class ContactEventBuffer {
+	public static final int BEGIN_CONTACT = 1;
+	public static final int END_CONTACT = 2;
+	public static final int POST_SOLVE = 3;
+
+	/** header: write offset, dropped event count, 8 reserved bytes. Must match World.cpp **/
+	static final int HEADER_SIZE = 16;
+	/** record: type, point count, fixture A, fixture B, normal, 2 points, 2 normal impulses, 2 tangent impulses **/
+	static final int RECORD_SIZE = 64;
+
+	private static final int HEADER_WRITE_OFFSET = 0;
+	private static final int HEADER_DROPPED = 4;
+
+	private static final int RECORD_TYPE = 0;
+	private static final int RECORD_POINT_COUNT = 4;
+	private static final int RECORD_FIXTURE_A = 8;
+	private static final int RECORD_FIXTURE_B = 16;
+	private static final int RECORD_NORMAL = 24;
+	private static final int RECORD_POINTS = 32;
+	private static final int RECORD_NORMAL_IMPULSES = 48;
+	private static final int RECORD_TANGENT_IMPULSES = 56;
+
+	final ByteBuffer buffer;
+	World world;
+
+	private int readOffset = -1;
+
+	/**
+	 * @param capacity the maximum number of events held until {@link #clear()} is called.
+	 */
+	public ContactEventBuffer (int capacity) {
+		buffer = BufferUtils.newByteBuffer(HEADER_SIZE + capacity * RECORD_SIZE);
+		clear();
+	}
+
+	/**
+	 * @return the maximum number of events held until {@link #clear()} is called.
+	 */
+	public int getCapacity () {
+		return (buffer.capacity() - HEADER_SIZE) / RECORD_SIZE;
+	}
+
+	/**
+	 * @return the number of events written since the last {@link #clear()}.
+	 */
+	public int getEventCount () {
+		return (buffer.getInt(HEADER_WRITE_OFFSET) - HEADER_SIZE) / RECORD_SIZE;
+	}
+
+	/**
+	 * @return the number of events that did not fit into the buffer since the last {@link #clear()}.
+	 */
+	public int getDroppedEventCount () {
+		return buffer.getInt(HEADER_DROPPED);
+	}
+
+	/**
+	 * Discards all events and resets the cursor.
+	 */
+	public void clear () {
+		buffer.putInt(HEADER_WRITE_OFFSET, HEADER_SIZE);
+		buffer.putInt(HEADER_DROPPED, 0);
+		readOffset = -1;
+	}
+
+	/**
+	 * Moves the cursor back in front of the first event.
+	 */
+	public void rewind () {
+		readOffset = -1;
+	}
+
+	/**
+	 * Advances the cursor to the next event.
+	 * @return false if there are no more events.
+	 */
+	public boolean next () {
+		int nextOffset = readOffset < 0 ? HEADER_SIZE : readOffset + RECORD_SIZE;
+		if (nextOffset >= buffer.getInt(HEADER_WRITE_OFFSET)) return false;
+		readOffset = nextOffset;
+		return true;
+	}
+
+	/**
+	 * @return {@link #BEGIN_CONTACT}, {@link #END_CONTACT} or {@link #POST_SOLVE}
+	 */
+	public int getType () {
+		return buffer.getInt(readOffset + RECORD_TYPE);
+	}
+
+	/**
+	 * @return the number of valid points, normal and tangent impulses (0, 1 or 2)
+	 */
+	public int getPointCount () {
+		return buffer.getInt(readOffset + RECORD_POINT_COUNT);
+	}
+
+	public long getFixtureAddressA () {
+		return buffer.getLong(readOffset + RECORD_FIXTURE_A);
+	}
+
+	public long getFixtureAddressB () {
+		return buffer.getLong(readOffset + RECORD_FIXTURE_B);
+	}
+
+	/**
+	 * @return the first fixture of the contact. Fixtures destroyed after the event was recorded are reported as null.
+	 */
+	public Fixture getFixtureA () {
+		return world.fixtures.get(getFixtureAddressA());
+	}
+
+	/**
+	 * @return the second fixture of the contact. Fixtures destroyed after the event was recorded are reported as null.
+	 */
+	public Fixture getFixtureB () {
+		return world.fixtures.get(getFixtureAddressB());
+	}
+
+	/**
+	 * @return the x component of the world normal pointing from A to B
+	 */
+	public float getNormalX () {
+		return buffer.getFloat(readOffset + RECORD_NORMAL);
+	}
+
+	/**
+	 * @return the y component of the world normal pointing from A to B
+	 */
+	public float getNormalY () {
+		return buffer.getFloat(readOffset + RECORD_NORMAL + 4);
+	}
+
+	public float getPointX (int index) {
+		return buffer.getFloat(readOffset + RECORD_POINTS + index * 8);
+	}
+
+	public float getPointY (int index) {
+		return buffer.getFloat(readOffset + RECORD_POINTS + index * 8 + 4);
+	}
+
+	/**
+	 * @return the normal impulse of the given point, only set for {@link #POST_SOLVE} events.
+	 */
+	public float getNormalImpulse (int index) {
+		return buffer.getFloat(readOffset + RECORD_NORMAL_IMPULSES + index * 4);
+	}
+
+	/**
+	 * @return the tangent impulse of the given point, only set for {@link #POST_SOLVE} events.
+	 */
+	public float getTangentImpulse (int index) {
+		return buffer.getFloat(readOffset + RECORD_TANGENT_IMPULSES + index * 4);
+	}
+}
@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.physics.box2d;
+
+import java.nio.ByteBuffer;
+
+import com.badlogic.gdx.utils.BufferUtils;
+
+/**
+ * The contacts of a world, copied into a direct buffer by {@link World#getContactSnapshot(ContactSnapshot, boolean)} with a single
+ * native call, and read through a flyweight cursor:
+ *
+ * <pre>
+ * world.getContactSnapshot(snapshot, true);
+ * while (snapshot.next()) {
+ * 	Fixture a = snapshot.getFixtureA();
+ * 	...
+ * }
+ * </pre>
+ *
+ * Unlike {@link World#getContactList()}, reading a contact does not call into native code. The snapshot grows when a world has more
+ * contacts than it can hold, otherwise taking and reading it does not allocate.
+ */
+public class ContactSnapshot {
+	/** flags, must match World.cpp **/
+	static final int FLAG_TOUCHING = 1;
+	static final int FLAG_ENABLED = 2;
+
+	/** record: contact, fixture A, fixture B, flags, point count, normal, 2 points. Must match World.cpp **/
+	static final int RECORD_SIZE = 56;
+
+	private static final int RECORD_CONTACT = 0;
+	private static final int RECORD_FIXTURE_A = 8;
+	private static final int RECORD_FIXTURE_B = 16;
+	private static final int RECORD_FLAGS = 24;
+	private static final int RECORD_POINT_COUNT = 28;
+	private static final int RECORD_NORMAL = 32;
+	private static final int RECORD_POINTS = 40;
+
+	ByteBuffer buffer;
+	World world;
+	int contactCount;
+
+	private int readOffset = -1;
+
+	/**
+	 * @param capacity the initial number of contacts, grows as needed.
+	 */
+	public ContactSnapshot (int capacity) {
+		buffer = BufferUtils.newByteBuffer(Math.max(capacity, 1) * RECORD_SIZE);
+	}
+
+	/**
+	 * @return the number of contacts the snapshot can hold without growing.
+	 */
+	public int getCapacity () {
+		return buffer.capacity() / RECORD_SIZE;
+	}
+
+	void ensureCapacity (int capacity) {
+		if (capacity > getCapacity()) buffer = BufferUtils.newByteBuffer(Math.max(capacity, getCapacity() * 2) * RECORD_SIZE);
+	}
+
+	/**
+	 * @return the number of contacts in the snapshot.
+	 */
+	public int getContactCount () {
+		return contactCount;
+	}
+
+	/**
+	 * Moves the cursor back in front of the first contact.
+	 */
+	public void rewind () {
+		readOffset = -1;
+	}
+
+	/**
+	 * Advances the cursor to the next contact.
+	 * @return false if there are no more contacts.
+	 */
+	public boolean next () {
+		int nextOffset = readOffset < 0 ? 0 : readOffset + RECORD_SIZE;
+		if (nextOffset >= contactCount * RECORD_SIZE) return false;
+		readOffset = nextOffset;
+		return true;
+	}
+
+	/**
+	 * Moves the cursor to the given contact.
+	 */
+	public void seek (int index) {
+		if (index < 0 || index >= contactCount) throw new IndexOutOfBoundsException("index: " + index + ", count: " + contactCount);
+		readOffset = index * RECORD_SIZE;
+	}
+
+	/**
+	 * @return the address of the native contact, only valid until the next {@link World#step(float, int, int)}.
+	 */
+	public long getContactAddress () {
+		return buffer.getLong(readOffset + RECORD_CONTACT);
+	}
+
+	public long getFixtureAddressA () {
+		return buffer.getLong(readOffset + RECORD_FIXTURE_A);
+	}
+
+	public long getFixtureAddressB () {
+		return buffer.getLong(readOffset + RECORD_FIXTURE_B);
+	}
+
+	public Fixture getFixtureA () {
+		return world.fixtures.get(getFixtureAddressA());
+	}
+
+	public Fixture getFixtureB () {
+		return world.fixtures.get(getFixtureAddressB());
+	}
+
+	/**
+	 * @see Contact#isTouching()
+	 */
+	public boolean isTouching () {
+		return (buffer.getInt(readOffset + RECORD_FLAGS) & FLAG_TOUCHING) != 0;
+	}
+
+	/**
+	 * @see Contact#isEnabled()
+	 */
+	public boolean isEnabled () {
+		return (buffer.getInt(readOffset + RECORD_FLAGS) & FLAG_ENABLED) != 0;
+	}
+
+	/**
+	 * @return the number of valid world points (0, 1 or 2)
+	 */
+	public int getPointCount () {
+		return buffer.getInt(readOffset + RECORD_POINT_COUNT);
+	}
+
+	/**
+	 * @return the x component of the world normal pointing from A to B, 0 if there are no points.
+	 */
+	public float getNormalX () {
+		return buffer.getFloat(readOffset + RECORD_NORMAL);
+	}
+
+	/**
+	 * @return the y component of the world normal pointing from A to B, 0 if there are no points.
+	 */
+	public float getNormalY () {
+		return buffer.getFloat(readOffset + RECORD_NORMAL + 4);
+	}
+
+	public float getPointX (int index) {
+		return buffer.getFloat(readOffset + RECORD_POINTS + index * 8);
+	}
+
+	public float getPointY (int index) {
+		return buffer.getFloat(readOffset + RECORD_POINTS + index * 8 + 4);
+	}
+}
@@ -0,0 +1,247 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.physics.box2d;
+
+import java.nio.FloatBuffer;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.BufferUtils;
+
+/**
+ * Body, fixture and shape definitions packed into a direct buffer, so that {@link World#createBodies(PackedBodyDefs)} can create all
+ * of them with a single native call. Add a body with {@link #addBody(BodyDef)}, followed by its fixtures. The shapes are described by
+ * their geometry, no native {@link Shape} is allocated. Can be cleared and reused.
+ */
+public class PackedBodyDefs {
+	/** shape types, must match World.cpp **/
+	static final int SHAPE_CIRCLE = 0;
+	static final int SHAPE_BOX = 1;
+	static final int SHAPE_POLYGON = 2;
+
+	/** body flags, must match World.cpp **/
+	static final int FLAG_ALLOW_SLEEP = 1;
+	static final int FLAG_AWAKE = 2;
+	static final int FLAG_FIXED_ROTATION = 4;
+	static final int FLAG_BULLET = 8;
+	static final int FLAG_ACTIVE = 16;
+
+	/** number of floats of a body record, the last one is the fixture count **/
+	private static final int BODY_SIZE = 12;
+	/** number of floats of a fixture record before its shape **/
+	private static final int FIXTURE_SIZE = 8;
+
+	/** index of the fixture count in a body record **/
+	private static final int BODY_FIXTURE_COUNT = 11;
+
+	/** the maximum number of vertices of a polygon, b2_maxPolygonVertices **/
+	public static final int MAX_POLYGON_VERTICES = 8;
+
+	FloatBuffer buffer;
+	int bodyCount;
+	int fixtureCount;
+	int[] fixtureCounts = new int[16];
+
+	private int bodyOffset = -1;
+
+	/**
+	 * @param initialCapacity the initial number of floats, the buffer grows as needed.
+	 */
+	public PackedBodyDefs (int initialCapacity) {
+		buffer = BufferUtils.newFloatBuffer(Math.max(initialCapacity, 32));
+	}
+
+	/**
+	 * Wraps definitions written by another instance, e.g. read from a file, see {@link #getBuffer()}.
+	 * @param buffer a direct float buffer in native order, holding the definitions up to its position.
+	 * @param fixtureCounts the number of fixtures of each body, in order.
+	 * @throws IllegalArgumentException if the definitions are inconsistent, see {@link #validate()}.
+	 */
+	public PackedBodyDefs (FloatBuffer buffer, int[] fixtureCounts) {
+		BufferUtils.checkDirect(buffer);
+		this.buffer = buffer;
+		this.fixtureCounts = fixtureCounts;
+		this.bodyCount = fixtureCounts.length;
+		for (int i = 0; i < bodyCount; i++) {
+			// every fixture takes more than one float, which also keeps the sum from overflowing
+			if (fixtureCounts[i] < 0 || fixtureCounts[i] > buffer.position() - fixtureCount)
+				throw new IllegalArgumentException("Body " + i + " has an invalid fixture count: " + fixtureCounts[i]);
+			fixtureCount += fixtureCounts[i];
+		}
+		validate();
+	}
+
+	public int getBodyCount () {
+		return bodyCount;
+	}
+
+	public int getFixtureCount () {
+		return fixtureCount;
+	}
+
+	/**
+	 * @return the number of fixtures of the body with the given index.
+	 */
+	public int getFixtureCount (int bodyIndex) {
+		if (bodyIndex < 0 || bodyIndex >= bodyCount) throw new IndexOutOfBoundsException("index: " + bodyIndex + ", count: " + bodyCount);
+		return fixtureCounts[bodyIndex];
+	}
+
+	/**
+	 * @return the buffer holding the definitions up to its position.
+	 */
+	public FloatBuffer getBuffer () {
+		return buffer;
+	}
+
+	/**
+	 * Checks that the buffer holds exactly the bodies and fixtures of the fixture counts, with known body and shape types and 2 to
+	 * {@link #MAX_POLYGON_VERTICES} vertices per polygon. Definitions built with the add methods are always valid, wrapped ones are
+	 * validated when wrapped and again by {@link World#createBodies(PackedBodyDefs)}, before they reach the native side.
+	 * @throws IllegalArgumentException if the definitions are inconsistent.
+	 */
+	public void validate () {
+		final int length = buffer.position();
+		int offset = 0;
+		for (int i = 0; i < bodyCount; i++) {
+			if (length - offset < BODY_SIZE) throw new IllegalArgumentException("Body " + i + " exceeds the definitions.");
+			final float type = buffer.get(offset);
+			if (type != 0 && type != 1 && type != 2) throw new IllegalArgumentException("Body " + i + " has an unknown type: " + type);
+			if (buffer.get(offset + BODY_FIXTURE_COUNT) != fixtureCounts[i])
+				throw new IllegalArgumentException("Body " + i + " does not have " + fixtureCounts[i] + " fixtures.");
+			offset += BODY_SIZE;
+
+			for (int j = 0; j < fixtureCounts[i]; j++) {
+				if (length - offset < FIXTURE_SIZE + 1)
+					throw new IllegalArgumentException("Fixture " + j + " of body " + i + " exceeds the definitions.");
+				final float shapeType = buffer.get(offset);
+				final int shapeSize;
+				if (shapeType == SHAPE_CIRCLE)
+					shapeSize = 3;
+				else if (shapeType == SHAPE_BOX)
+					shapeSize = 5;
+				else if (shapeType == SHAPE_POLYGON) {
+					final float vertexCount = buffer.get(offset + FIXTURE_SIZE);
+					if (vertexCount != (int)vertexCount || vertexCount < 2 || vertexCount > MAX_POLYGON_VERTICES)
+						throw new IllegalArgumentException("Fixture " + j + " of body " + i + " has an invalid vertex count: " + vertexCount);
+					shapeSize = 1 + (int)vertexCount * 2;
+				} else
+					throw new IllegalArgumentException("Fixture " + j + " of body " + i + " has an unknown shape type: " + shapeType);
+
+				if (length - offset < FIXTURE_SIZE + shapeSize)
+					throw new IllegalArgumentException("Fixture " + j + " of body " + i + " exceeds the definitions.");
+				offset += FIXTURE_SIZE + shapeSize;
+			}
+		}
+		if (offset != length) throw new IllegalArgumentException("The definitions hold " + (length - offset) + " floats after the last body.");
+	}
+
+	public void clear () {
+		buffer.clear();
+		bodyCount = 0;
+		fixtureCount = 0;
+		bodyOffset = -1;
+	}
+
+	/**
+	 * Starts a new body. The fixtures added afterwards are attached to it.
+	 */
+	public PackedBodyDefs addBody (BodyDef def) {
+		ensureCapacity(BODY_SIZE);
+		int flags = 0;
+		if (def.allowSleep) flags |= FLAG_ALLOW_SLEEP;
+		if (def.awake) flags |= FLAG_AWAKE;
+		if (def.fixedRotation) flags |= FLAG_FIXED_ROTATION;
+		if (def.bullet) flags |= FLAG_BULLET;
+		if (def.active) flags |= FLAG_ACTIVE;
+
+		bodyOffset = buffer.position();
+		buffer.put(def.type.getValue()).put(def.position.x).put(def.position.y).put(def.angle);
+		buffer.put(def.linearVelocity.x).put(def.linearVelocity.y).put(def.angularVelocity);
+		buffer.put(def.linearDamping).put(def.angularDamping).put(flags).put(def.inertiaScale);
+		buffer.put(0); // fixture count
+		if (bodyCount == fixtureCounts.length) {
+			int[] newFixtureCounts = new int[Math.max(16, fixtureCounts.length * 2)];
+			System.arraycopy(fixtureCounts, 0, newFixtureCounts, 0, bodyCount);
+			fixtureCounts = newFixtureCounts;
+		}
+		fixtureCounts[bodyCount] = 0;
+		bodyCount++;
+		return this;
+	}
+
+	/**
+	 * Adds a circle fixture to the current body. The shape of the fixture definition is ignored.
+	 */
+	public PackedBodyDefs addCircle (FixtureDef def, float radius, float centerX, float centerY) {
+		putFixture(def, SHAPE_CIRCLE, 3);
+		buffer.put(radius).put(centerX).put(centerY);
+		return this;
+	}
+
+	/**
+	 * Adds a box fixture to the current body. The shape of the fixture definition is ignored.
+	 * @param angle the rotation of the box relative to the body in radians.
+	 */
+	public PackedBodyDefs addBox (FixtureDef def, float halfWidth, float halfHeight, float centerX, float centerY, float angle) {
+		putFixture(def, SHAPE_BOX, 5);
+		buffer.put(halfWidth).put(halfHeight).put(centerX).put(centerY).put(angle);
+		return this;
+	}
+
+	/**
+	 * Adds a box fixture centered on the current body. The shape of the fixture definition is ignored.
+	 */
+	public PackedBodyDefs addBox (FixtureDef def, float halfWidth, float halfHeight) {
+		return addBox(def, halfWidth, halfHeight, 0, 0, 0);
+	}
+
+	/**
+	 * Adds a convex polygon fixture to the current body. The shape of the fixture definition is ignored.
+	 * @param vertices in counter clockwise order, at most {@link #MAX_POLYGON_VERTICES}.
+	 */
+	public PackedBodyDefs addPolygon (FixtureDef def, Vector2[] vertices) {
+		if (vertices.length < 2 || vertices.length > MAX_POLYGON_VERTICES)
+			throw new IllegalArgumentException("A polygon needs 2 to " + MAX_POLYGON_VERTICES + " vertices.");
+
+		putFixture(def, SHAPE_POLYGON, 1 + vertices.length * 2);
+		buffer.put(vertices.length);
+		for (int i = 0; i < vertices.length; i++)
+			buffer.put(vertices[i].x).put(vertices[i].y);
+		return this;
+	}
+
+	private void putFixture (FixtureDef def, int shapeType, int shapeFloats) {
+		if (bodyOffset < 0) throw new IllegalStateException("addBody must be called before adding fixtures.");
+		ensureCapacity(FIXTURE_SIZE + shapeFloats);
+
+		buffer.put(shapeType).put(def.friction).put(def.restitution).put(def.density).put(def.isSensor ? 1 : 0);
+		buffer.put(def.filter.categoryBits & 0xFFFF).put(def.filter.maskBits & 0xFFFF).put(def.filter.groupIndex);
+
+		final int fixtureCountIndex = bodyOffset + BODY_FIXTURE_COUNT;
+		buffer.put(fixtureCountIndex, buffer.get(fixtureCountIndex) + 1);
+		fixtureCounts[bodyCount - 1]++;
+		fixtureCount++;
+	}
+
+	private void ensureCapacity (int floats) {
+		if (buffer.remaining() >= floats) return;
+
+		FloatBuffer newBuffer = BufferUtils.newFloatBuffer(Math.max(buffer.capacity() * 2, buffer.position() + floats));
+		buffer.flip();
+		newBuffer.put(buffer);
+		buffer = newBuffer;
+	}
+}
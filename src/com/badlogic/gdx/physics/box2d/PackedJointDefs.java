@@ -0,0 +1,200 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.physics.box2d;
+
+import java.nio.FloatBuffer;
+
+import com.badlogic.gdx.physics.box2d.JointDef.JointType;
+import com.badlogic.gdx.physics.box2d.joints.DistanceJointDef;
+import com.badlogic.gdx.physics.box2d.joints.FrictionJointDef;
+import com.badlogic.gdx.physics.box2d.joints.LineJointDef;
+import com.badlogic.gdx.physics.box2d.joints.PrismaticJointDef;
+import com.badlogic.gdx.physics.box2d.joints.PulleyJointDef;
+import com.badlogic.gdx.physics.box2d.joints.RevoluteJointDef;
+import com.badlogic.gdx.physics.box2d.joints.WeldJointDef;
+import com.badlogic.gdx.utils.BufferUtils;
+
+/**
+ * Joint definitions packed into a direct buffer, so that {@link World#createJoints(PackedJointDefs, Body[])} can create all of them
+ * with a single native call. The bodies are referenced by their index in the array passed to createJoints, e.g. the result of
+ * {@link World#createBodies(PackedBodyDefs)}, so the definitions can be built before the bodies exist. Gear and mouse joints are not
+ * supported. Can be cleared and reused.
+ */
+public class PackedJointDefs {
+	/** number of floats shared by all records: type, body index A, body index B, collide connected, local anchor A, local anchor B **/
+	private static final int HEADER_SIZE = 8;
+	/** number of floats following the header, by joint type value, -1 for joints that cannot be packed **/
+	private static final int[] DATA_SIZES = {-1, 7, 9, 3, 9, -1, -1, 8, 1, 2};
+
+	FloatBuffer buffer;
+	int jointCount;
+	JointType[] jointTypes = new JointType[16];
+
+	/**
+	 * @param initialCapacity the initial number of floats, the buffer grows as needed.
+	 */
+	public PackedJointDefs (int initialCapacity) {
+		buffer = BufferUtils.newFloatBuffer(Math.max(initialCapacity, 32));
+	}
+
+	/**
+	 * Wraps definitions written by another instance, e.g. read from a file, see {@link #getBuffer()}.
+	 * @param buffer a direct float buffer in native order, holding the definitions up to its position.
+	 * @param jointTypes the type of each joint, in order.
+	 * @throws IllegalArgumentException if the definitions are inconsistent, see {@link #validate(int)}. The body indices are only
+	 *            checked against the bodies by {@link World#createJoints(PackedJointDefs, Body[])}.
+	 */
+	public PackedJointDefs (FloatBuffer buffer, JointType[] jointTypes) {
+		BufferUtils.checkDirect(buffer);
+		this.buffer = buffer;
+		this.jointTypes = jointTypes;
+		this.jointCount = jointTypes.length;
+		validate(Integer.MAX_VALUE);
+	}
+
+	public int getJointCount () {
+		return jointCount;
+	}
+
+	public JointType getJointType (int index) {
+		if (index < 0 || index >= jointCount) throw new IndexOutOfBoundsException("index: " + index + ", count: " + jointCount);
+		return jointTypes[index];
+	}
+
+	/**
+	 * @return the buffer holding the definitions up to its position.
+	 */
+	public FloatBuffer getBuffer () {
+		return buffer;
+	}
+
+	/**
+	 * Checks that the buffer holds exactly one record of the right length per joint type, that the type of each record matches
+	 * {@link #getJointType(int)} and that each joint connects two different bodies with indices below bodyCount.
+	 * {@link World#createJoints(PackedJointDefs, Body[])} validates the definitions before they reach the native side.
+	 * @throws IllegalArgumentException if the definitions are inconsistent.
+	 */
+	public void validate (int bodyCount) {
+		final int length = buffer.position();
+		int offset = 0;
+		for (int i = 0; i < jointCount; i++) {
+			final JointType type = jointTypes[i];
+			final int dataSize = type == null ? -1 : DATA_SIZES[type.getValue()];
+			if (dataSize < 0) throw new IllegalArgumentException("Joint " + i + " cannot be packed: " + type);
+			if (length - offset < HEADER_SIZE + dataSize) throw new IllegalArgumentException("Joint " + i + " exceeds the definitions.");
+			if (buffer.get(offset) != type.getValue()) throw new IllegalArgumentException("Joint " + i + " is not a " + type + ".");
+
+			final float bodyIndexA = buffer.get(offset + 1);
+			final float bodyIndexB = buffer.get(offset + 2);
+			if (!isBodyIndex(bodyIndexA, bodyCount) || !isBodyIndex(bodyIndexB, bodyCount) || bodyIndexA == bodyIndexB)
+				throw new IllegalArgumentException("Joint " + i + " has invalid body indices: " + bodyIndexA + ", " + bodyIndexB);
+			offset += HEADER_SIZE + dataSize;
+		}
+		if (offset != length) throw new IllegalArgumentException("The definitions hold " + (length - offset) + " floats after the last joint.");
+	}
+
+	private static boolean isBodyIndex (float index, int bodyCount) {
+		return index == (int)index && index >= 0 && index < bodyCount;
+	}
+
+	public void clear () {
+		buffer.clear();
+		jointCount = 0;
+	}
+
+	/**
+	 * Adds a joint between the bodies with the given indices. The bodies of the definition are ignored.
+	 * @throws IllegalArgumentException for gear and mouse joints.
+	 */
+	public PackedJointDefs add (JointDef def, int bodyIndexA, int bodyIndexB) {
+		switch (def.type) {
+		case DistanceJoint: {
+			DistanceJointDef d = (DistanceJointDef)def;
+			putHeader(d, bodyIndexA, bodyIndexB, d.localAnchorA.x, d.localAnchorA.y, d.localAnchorB.x, d.localAnchorB.y);
+			buffer.put(d.length).put(d.frequencyHz).put(d.dampingRatio);
+			break;
+		}
+		case FrictionJoint: {
+			FrictionJointDef d = (FrictionJointDef)def;
+			putHeader(d, bodyIndexA, bodyIndexB, d.localAnchorA.x, d.localAnchorA.y, d.localAnchorB.x, d.localAnchorB.y);
+			buffer.put(d.maxForce).put(d.maxTorque);
+			break;
+		}
+		case LineJoint: {
+			LineJointDef d = (LineJointDef)def;
+			putHeader(d, bodyIndexA, bodyIndexB, d.localAnchorA.x, d.localAnchorA.y, d.localAnchorB.x, d.localAnchorB.y);
+			buffer.put(d.localAxisA.x).put(d.localAxisA.y).put(d.enableLimit ? 1 : 0).put(d.lowerTranslation).put(d.upperTranslation);
+			buffer.put(d.enableMotor ? 1 : 0).put(d.maxMotorForce).put(d.motorSpeed);
+			break;
+		}
+		case PrismaticJoint: {
+			PrismaticJointDef d = (PrismaticJointDef)def;
+			putHeader(d, bodyIndexA, bodyIndexB, d.localAnchorA.x, d.localAnchorA.y, d.localAnchorB.x, d.localAnchorB.y);
+			buffer.put(d.localAxis1.x).put(d.localAxis1.y).put(d.referenceAngle).put(d.enableLimit ? 1 : 0).put(d.lowerTranslation)
+				.put(d.upperTranslation);
+			buffer.put(d.enableMotor ? 1 : 0).put(d.maxMotorForce).put(d.motorSpeed);
+			break;
+		}
+		case PulleyJoint: {
+			PulleyJointDef d = (PulleyJointDef)def;
+			putHeader(d, bodyIndexA, bodyIndexB, d.localAnchorA.x, d.localAnchorA.y, d.localAnchorB.x, d.localAnchorB.y);
+			buffer.put(d.groundAnchorA.x).put(d.groundAnchorA.y).put(d.groundAnchorB.x).put(d.groundAnchorB.y);
+			buffer.put(d.lengthA).put(d.maxLengthA).put(d.lengthB).put(d.maxLengthB).put(d.ratio);
+			break;
+		}
+		case RevoluteJoint: {
+			RevoluteJointDef d = (RevoluteJointDef)def;
+			putHeader(d, bodyIndexA, bodyIndexB, d.localAnchorA.x, d.localAnchorA.y, d.localAnchorB.x, d.localAnchorB.y);
+			buffer.put(d.referenceAngle).put(d.enableLimit ? 1 : 0).put(d.lowerAngle).put(d.upperAngle);
+			buffer.put(d.enableMotor ? 1 : 0).put(d.motorSpeed).put(d.maxMotorTorque);
+			break;
+		}
+		case WeldJoint: {
+			WeldJointDef d = (WeldJointDef)def;
+			putHeader(d, bodyIndexA, bodyIndexB, d.localAnchorA.x, d.localAnchorA.y, d.localAnchorB.x, d.localAnchorB.y);
+			buffer.put(d.referenceAngle);
+			break;
+		}
+		default:
+			throw new IllegalArgumentException(def.type + " cannot be packed.");
+		}
+		return this;
+	}
+
+	private void putHeader (JointDef def, int bodyIndexA, int bodyIndexB, float localAnchorAX, float localAnchorAY, float localAnchorBX,
+		float localAnchorBY) {
+		ensureCapacity(HEADER_SIZE + DATA_SIZES[def.type.getValue()]);
+
+		buffer.put(def.type.getValue()).put(bodyIndexA).put(bodyIndexB).put(def.collideConnected ? 1 : 0);
+		buffer.put(localAnchorAX).put(localAnchorAY).put(localAnchorBX).put(localAnchorBY);
+
+		if (jointCount == jointTypes.length) {
+			JointType[] newJointTypes = new JointType[Math.max(16, jointTypes.length * 2)];
+			System.arraycopy(jointTypes, 0, newJointTypes, 0, jointCount);
+			jointTypes = newJointTypes;
+		}
+		jointTypes[jointCount++] = def.type;
+	}
+
+	private void ensureCapacity (int floats) {
+		if (buffer.remaining() >= floats) return;
+
+		FloatBuffer newBuffer = BufferUtils.newFloatBuffer(Math.max(buffer.capacity() * 2, buffer.position() + floats));
+		buffer.flip();
+		newBuffer.put(buffer);
+		buffer = newBuffer;
+	}
+}
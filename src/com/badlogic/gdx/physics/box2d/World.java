@@ -15,6 +15,10 @@
  ******************************************************************************/
 package com.badlogic.gdx.physics.box2d;
 
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -39,6 +43,7 @@ import com.badlogic.gdx.physics.box2d.joints.RevoluteJoint;
 import com.badlogic.gdx.physics.box2d.joints.RevoluteJointDef;
 import com.badlogic.gdx.physics.box2d.joints.WeldJoint;
 import com.badlogic.gdx.physics.box2d.joints.WeldJointDef;
+import com.badlogic.gdx.utils.BufferUtils;
 import com.badlogic.gdx.utils.LongMap;
 
 /**
@@ -65,6 +70,23 @@ public class World {
         /** Contact listener **/
         protected ContactListener contactListener = null;
 
+        /** Contact event buffer, replaces the contact listener callbacks if set **/
+        protected ContactEventBuffer contactEventBuffer = null;
+
+        /** Whether preSolve is still called back mid-step while a contact event buffer is set **/
+        protected boolean contactEventBufferPreSolve = false;
+
+        /** Awake body set, updated by each step if set **/
+        protected AwakeBodySet awakeBodySet = null;
+
+        /** step flags, must match World.cpp **/
+        private static final int STEP_CONTACT_CALLBACKS = 1;
+        private static final int STEP_PRESOLVE_CALLBACKS = 2;
+        private static final int STEP_CONTACT_FILTER_CALLBACKS = 4;
+
+        /** number of category bits of a {@link Filter}, i.e. entries of a collision matrix **/
+        public static final int COLLISION_MATRIX_SIZE = 16;
+
         /**
          * Ray-cast the world for all fixtures in the path of the ray.
          * The ray-cast ignores shapes that contain the starting point.
@@ -78,6 +100,59 @@ public class World {
                 jniRayCast(addr, point1.x, point1.y, point2.x, point2.y);
         }
        
+        /**
+         * Which hits {@link World#rayCast(FloatBuffer, int, RayCastMode, LongBuffer, FloatBuffer)} reports per ray.
+         */
+        public enum RayCastMode {
+                /** the hit closest to the starting point of the ray **/
+                Closest(0),
+                /** the first hit found, cheapest for line of sight checks **/
+                Any(1),
+                /** every hit, in no particular order **/
+                All(2);
+
+                private int value;
+
+                private RayCastMode (int value) {
+                        this.value = value;
+                }
+
+                public int getValue () {
+                        return value;
+                }
+        }
+
+        /** number of floats per ray read by {@link #rayCast(FloatBuffer, int, RayCastMode, LongBuffer, FloatBuffer)}: start x, start y, end x, end y **/
+        public static final int RAYCAST_RAY_STRIDE = 4;
+
+        /** number of floats per hit written by {@link #rayCast(FloatBuffer, int, RayCastMode, LongBuffer, FloatBuffer)}: ray index, point x, point y, normal x, normal y, fraction **/
+        public static final int RAYCAST_HIT_STRIDE = 6;
+
+        /**
+         * Ray-cast the world for many rays with a single native call, resolving the hits natively instead of calling back into Java
+         * for every fixture in the path of a ray. The ray-cast ignores shapes that contain the starting point. All buffers are accessed
+         * starting at index 0, their position is ignored. Writing stops when either result buffer is full.
+         * @param rays a direct float buffer in native order holding {@link #RAYCAST_RAY_STRIDE} floats per ray.
+         * @param rayCount the number of rays to cast.
+         * @param mode which hits to report per ray.
+         * @param hitFixtures a direct long buffer in native order receiving the fixture address of each hit, see
+         *           {@link #getFixture(long)}.
+         * @param hits a direct float buffer in native order receiving {@link #RAYCAST_HIT_STRIDE} floats per hit. The ray index is
+         *           stored as a float and is exact for up to 2^24 rays.
+         * @return the number of hits written. Rays without a hit write nothing.
+         */
+        public int rayCast (FloatBuffer rays, int rayCount, RayCastMode mode, LongBuffer hitFixtures, FloatBuffer hits) {
+                BufferUtils.checkDirect(rays);
+                BufferUtils.checkDirect(hitFixtures);
+                BufferUtils.checkDirect(hits);
+                if (rayCount * RAYCAST_RAY_STRIDE > rays.capacity())
+                        throw new IndexOutOfBoundsException("rayCount exceeds the capacity of the rays buffer");
+                return jniRayCastBatch(addr, rays, rayCount, mode.getValue(), hitFixtures, hits);
+        }
+
+        private native int jniRayCastBatch (long addr, FloatBuffer rays, int rayCount, int mode, LongBuffer hitFixtures,
+                FloatBuffer hits);
+
         private RayCastCallback rayCastCallback = null;
        
         private native void jniRayCast (long addr, float aX, float aY, float bX, float bY);
@@ -116,11 +191,27 @@ public class World {
         /**
          * Register a contact filter to provide specific control over collision. Otherwise the default filter is used
          * (b2_defaultFilter). The listener is owned by you and must remain in scope.
+         * @warning Do not remove the filter during callbacks, the native filter is chosen once per step.
          */
         public void setContactFilter (ContactFilter filter) {
                 this.contactFilter = filter;
         }
 
+        /**
+         * Set a collision matrix evaluated natively on top of the default filter, i.e. whenever no {@link ContactFilter} is set.
+         * Two fixtures that pass the group, category and mask rules of {@link Filter} only collide if the categories of each are
+         * contained in the matrix rows of the categories of the other. This avoids calling into Java for every new proxy pair.
+         * @param collisionMatrix {@link #COLLISION_MATRIX_SIZE} entries, entry i holding the category bits colliding with category
+         *           bit i. The array is copied. Pass null to remove the matrix.
+         */
+        public void setCollisionMatrix (short[] collisionMatrix) {
+                if (collisionMatrix != null && collisionMatrix.length < COLLISION_MATRIX_SIZE)
+                        throw new IllegalArgumentException("collisionMatrix must have " + COLLISION_MATRIX_SIZE + " entries");
+                jniSetCollisionMatrix(addr, collisionMatrix);
+        }
+
+        private native void jniSetCollisionMatrix (long addr, short[] collisionMatrix);
+
         /**
          * Register a contact event listener. The listener is owned by you and must remain in scope.
          */
@@ -128,6 +219,43 @@ public class World {
                 this.contactListener = listener;
         }
 
+        /**
+         * Register a buffer the native step appends begin contact, end contact and post solve events to, instead of calling the
+         * {@link ContactListener} for each of them mid-step. Drain it after {@link #step(float, int, int)}. Pass null to go back to
+         * callbacks.
+         * @param preSolveCallbacks whether {@link ContactListener#preSolve(Contact, Manifold)} is still called mid-step, e.g. to
+         *           disable contacts. Only needed if such a listener is set.
+         */
+        public void setContactEventBuffer (ContactEventBuffer buffer, boolean preSolveCallbacks) {
+                if (buffer != null) buffer.world = this;
+                this.contactEventBuffer = buffer;
+                this.contactEventBufferPreSolve = preSolveCallbacks;
+        }
+
+        public ContactEventBuffer getContactEventBuffer () {
+                return contactEventBuffer;
+        }
+
+        /**
+         * Register a set the native step writes the awake bodies to, plus the bodies that woke up or fell asleep during the step. Pass
+         * null to stop tracking.
+         */
+        public void setAwakeBodySet (AwakeBodySet awakeBodySet) {
+                if (this.awakeBodySet != null) this.awakeBodySet.clear();
+                if (awakeBodySet != null) {
+                        awakeBodySet.clear();
+                        awakeBodySet.world = this;
+                        jniResetAwakeTracking(addr);
+                }
+                this.awakeBodySet = awakeBodySet;
+        }
+
+        private native void jniResetAwakeTracking (long addr);
+
+        public AwakeBodySet getAwakeBodySet () {
+                return awakeBodySet;
+        }
+
         /**
          * Create a rigid body given a definition. No reference to the definition is retained.
          * @warning This function is locked during callbacks.
@@ -144,6 +272,39 @@ public class World {
                 float linearVelocityY, float angularVelocity, float linearDamping, float angularDamping, boolean allowSleep, boolean awake,
                 boolean fixedRotation, boolean bullet, boolean active, float intertiaScale);
 
+        /**
+         * Create all bodies and fixtures of the given definitions with a single native call, without allocating a native
+         * {@link Shape} per fixture. The Java wrappers are registered just like with {@link #createBody(BodyDef)} and
+         * {@link Body#createFixture(FixtureDef)}.
+         * @return the created bodies, in the order they were added to the definitions.
+         * @throws IllegalArgumentException if the definitions are inconsistent, see {@link PackedBodyDefs#validate()}.
+         * @warning This function is locked during callbacks.
+         */
+        public Body[] createBodies (PackedBodyDefs defs) {
+                defs.validate();
+                final int bodyCount = defs.bodyCount;
+                final long[] bodyAddrs = new long[bodyCount];
+                final long[] fixtureAddrs = new long[defs.fixtureCount];
+                jniCreateBodies(addr, defs.buffer, defs.buffer.position(), bodyCount, bodyAddrs, fixtureAddrs);
+
+                final Body[] result = new Body[bodyCount];
+                int fixtureIndex = 0;
+                for (int i = 0; i < bodyCount; i++) {
+                        final Body body = new Body(this, bodyAddrs[i]);
+                        this.bodies.put(body.addr, body);
+                        for (int j = defs.fixtureCounts[i]; j > 0; j--) {
+                                final Fixture fixture = new Fixture(body, fixtureAddrs[fixtureIndex++]);
+                                this.fixtures.put(fixture.addr, fixture);
+                                body.fixtures.add(fixture);
+                        }
+                        result[i] = body;
+                }
+                return result;
+        }
+
+        private native void jniCreateBodies (long addr, FloatBuffer defs, int defsLength, int bodyCount, long[] bodyAddrs,
+                long[] fixtureAddrs);
+
         /**
          * Destroy a rigid body given a definition. No reference to the definition is retained. This function is locked during
          * callbacks.
@@ -152,6 +313,7 @@ public class World {
          */
         public void destroyBody (Body body) {
                 this.bodies.remove(body.addr);
+                if (awakeBodySet != null) awakeBodySet.remove(body.addr);
                 for (int i = 0; i < body.getFixtureList().size(); i++)
                         this.fixtures.remove(body.getFixtureList().get(i).addr);
                 for (int i = 0; i < body.getJointList().size(); i++)
@@ -168,26 +330,61 @@ public class World {
          */
         public Joint createJoint (JointDef def) {
                 long jointAddr = createProperJoint(def);
+                return registerJoint(def.type, jointAddr, def.bodyA, def.bodyB);
+        }
+
+        private Joint registerJoint (JointType type, long jointAddr, Body bodyA, Body bodyB) {
                 Joint joint = null;
-                if (def.type == JointType.DistanceJoint) joint = new DistanceJoint(this, jointAddr);
-                if (def.type == JointType.FrictionJoint) joint = new FrictionJoint(this, jointAddr);
-                if (def.type == JointType.GearJoint) joint = new GearJoint(this, jointAddr);
-                if (def.type == JointType.LineJoint) joint = new LineJoint(this, jointAddr);
-                if (def.type == JointType.MouseJoint) joint = new MouseJoint(this, jointAddr);
-                if (def.type == JointType.PrismaticJoint) joint = new PrismaticJoint(this, jointAddr);
-                if (def.type == JointType.PulleyJoint) joint = new PulleyJoint(this, jointAddr);
-                if (def.type == JointType.RevoluteJoint) joint = new RevoluteJoint(this, jointAddr);
-                if (def.type == JointType.WeldJoint) joint = new WeldJoint(this, jointAddr);
+                if (type == JointType.DistanceJoint) joint = new DistanceJoint(this, jointAddr);
+                if (type == JointType.FrictionJoint) joint = new FrictionJoint(this, jointAddr);
+                if (type == JointType.GearJoint) joint = new GearJoint(this, jointAddr);
+                if (type == JointType.LineJoint) joint = new LineJoint(this, jointAddr);
+                if (type == JointType.MouseJoint) joint = new MouseJoint(this, jointAddr);
+                if (type == JointType.PrismaticJoint) joint = new PrismaticJoint(this, jointAddr);
+                if (type == JointType.PulleyJoint) joint = new PulleyJoint(this, jointAddr);
+                if (type == JointType.RevoluteJoint) joint = new RevoluteJoint(this, jointAddr);
+                if (type == JointType.WeldJoint) joint = new WeldJoint(this, jointAddr);
                 if (joint != null) joints.put(joint.addr, joint);
-                JointEdge jointEdgeA = new JointEdge(def.bodyB, joint);
-                JointEdge jointEdgeB = new JointEdge(def.bodyA, joint);
+                JointEdge jointEdgeA = new JointEdge(bodyB, joint);
+                JointEdge jointEdgeB = new JointEdge(bodyA, joint);
                 joint.jointEdgeA = jointEdgeA;
                 joint.jointEdgeB = jointEdgeB;
-                def.bodyA.joints.add(jointEdgeA);
-                def.bodyB.joints.add(jointEdgeB);
+                bodyA.joints.add(jointEdgeA);
+                bodyB.joints.add(jointEdgeB);
                 return joint;
         }
 
+        /**
+         * Create all joints of the given definitions with a single native call. The Java wrappers are registered just like with
+         * {@link #createJoint(JointDef)}.
+         * @param bodies the bodies referenced by the body indices of the definitions.
+         * @return the created joints, in the order they were added to the definitions.
+         * @throws IllegalArgumentException if the definitions are inconsistent or reference bodies outside of the array, see
+         *            {@link PackedJointDefs#validate(int)}.
+         * @warning This function is locked during callbacks.
+         */
+        public Joint[] createJoints (PackedJointDefs defs, Body[] bodies) {
+                defs.validate(bodies.length);
+                final int jointCount = defs.jointCount;
+                final long[] bodyAddrs = new long[bodies.length];
+                for (int i = 0; i < bodies.length; i++)
+                        bodyAddrs[i] = bodies[i].addr;
+                final long[] jointAddrs = new long[jointCount];
+                final int[] bodyIndices = new int[jointCount * 2];
+                jniCreateJoints(addr, defs.buffer, defs.buffer.position(), jointCount, bodyAddrs, jointAddrs, bodyIndices);
+
+                final Joint[] result = new Joint[jointCount];
+                for (int i = 0; i < jointCount; i++)
+                        result[i] = registerJoint(defs.jointTypes[i], jointAddrs[i], bodies[bodyIndices[i * 2]], bodies[bodyIndices[i * 2 + 1]]);
+                return result;
+        }
+
+        /**
+         * @param bodyIndices receives the indices of body A and body B of each joint.
+         */
+        private native void jniCreateJoints (long addr, FloatBuffer defs, int defsLength, int jointCount, long[] bodyAddrs,
+                long[] jointAddrs, int[] bodyIndices);
+
         private long createProperJoint (JointDef def) {
                 if (def.type == JointType.DistanceJoint) {
                         DistanceJointDef d = (DistanceJointDef)def;
@@ -295,10 +492,22 @@ public class World {
          * @param positionIterations for the position constraint solver.
          */
         public void step (float timeStep, int velocityIterations, int positionIterations) {
-                jniStep(addr, timeStep, velocityIterations, positionIterations);
+                int flags = 0;
+                if (contactFilter != null) flags |= STEP_CONTACT_FILTER_CALLBACKS;
+                if (contactListener != null) {
+                        if (contactEventBuffer == null)
+                                flags |= STEP_CONTACT_CALLBACKS | STEP_PRESOLVE_CALLBACKS;
+                        else if (contactEventBufferPreSolve)
+                                flags |= STEP_PRESOLVE_CALLBACKS;
+                }
+                if (awakeBodySet != null) awakeBodySet.ensureCapacity(bodies.size);
+                jniStep(addr, timeStep, velocityIterations, positionIterations, contactEventBuffer != null ? contactEventBuffer.buffer
+                        : null, awakeBodySet != null ? awakeBodySet.buffer : null, flags);
+                if (awakeBodySet != null) awakeBodySet.update();
         }
 
-        private native void jniStep (long addr, float timeStep, int velocityIterations, int positionIterations);
+        private native void jniStep (long addr, float timeStep, int velocityIterations, int positionIterations,
+                ByteBuffer contactEvents, ByteBuffer awakeBodies, int flags);
 
         /**
          * Call this after you are done with time steps to clear the forces. You normally call this after each call to Step, unless you
@@ -347,6 +556,13 @@ public class World {
 
         private native int jniGetBodyCount (long addr);
 
+        /**
+         * Get the number of fixtures, of all bodies.
+         */
+        public int getFixtureCount () {
+                return fixtures.size;
+        }
+
         /**
          * Get the number of joints.
          */
@@ -416,6 +632,211 @@ public class World {
 
         private native boolean jniGetAutoClearForces (long addr);
 
+        /**
+         * Solve the islands of each step concurrently on the given number of native threads, in addition to the thread calling
+         * {@link #step(float, int, int)}. Islands are groups of bodies connected by touching contacts or joints, so this only pays off
+         * for worlds with many separate groups of bodies. The results are identical to solving the islands one after another, whatever
+         * the number of threads. {@link ContactListener#postSolve(Contact, ContactImpulse)} is called on the stepping thread after all
+         * islands were solved, in the same order as before. 0 solves the islands one after another, which is the default.
+         */
+        public void setIslandThreadCount (int threadCount) {
+                if (threadCount < 0) throw new IllegalArgumentException("threadCount must not be negative");
+                jniSetIslandThreadCount(addr, threadCount);
+        }
+
+        private native void jniSetIslandThreadCount (long addr, int threadCount);
+
+        /**
+         * @return the number of threads solving islands, in addition to the thread calling {@link #step(float, int, int)}.
+         */
+        public int getIslandThreadCount () {
+                return jniGetIslandThreadCount(addr);
+        }
+
+        private native int jniGetIslandThreadCount (long addr);
+
+        /** phases of {@link #getProfile(float[])}, must match NativeWorld.h **/
+        public static final int PROFILE_STEP = 0;
+        public static final int PROFILE_COLLIDE = 1;
+        public static final int PROFILE_SOLVE = 2;
+        public static final int PROFILE_BROADPHASE = 3;
+        public static final int PROFILE_SOLVE_TOI = 4;
+
+        /** number of phases, must match PROFILE_PHASE_COUNT in NativeWorld.h **/
+        public static final int PROFILE_PHASE_COUNT = 5;
+
+        /** statistics per phase of {@link #getProfile(float[])}, at phase * {@link #PROFILE_STAT_COUNT} + statistic **/
+        public static final int PROFILE_LAST = 0;
+        public static final int PROFILE_MIN = 1;
+        public static final int PROFILE_AVG = 2;
+        public static final int PROFILE_MAX = 3;
+
+        /** number of statistics per phase, must match PROFILE_STAT_COUNT in NativeWorld.h **/
+        public static final int PROFILE_STAT_COUNT = 4;
+        public static final int PROFILE_SIZE = PROFILE_PHASE_COUNT * PROFILE_STAT_COUNT;
+
+        /**
+         * Gets the time spent in each phase of the native step, in milliseconds: the whole step, narrow-phase collision, island
+         * solving, broad-phase and time of impact solving. The broad-phase time is not part of the solve time. Each phase holds the
+         * value of the last step plus the minimum, average and maximum of the last 60 steps, e.g.
+         * profile[PROFILE_SOLVE * PROFILE_STAT_COUNT + PROFILE_MAX] is the slowest island solve of the last 60 steps.
+         * The timers are always running, their cost is a few clock reads per step.
+         * @param profile an array of at least {@link #PROFILE_SIZE} floats.
+         * @return the number of steps the minimum, average and maximum were taken over.
+         */
+        public int getProfile (float[] profile) {
+                if (profile.length < PROFILE_SIZE) throw new IllegalArgumentException("profile must hold " + PROFILE_SIZE + " floats");
+                return jniGetProfile(addr, profile);
+        }
+
+        private native int jniGetProfile (long addr, float[] profile);
+
+        /**
+         * Discards the steps the minimum, average and maximum of {@link #getProfile(float[])} were taken over.
+         */
+        public void resetProfile () {
+                jniResetProfile(addr);
+        }
+
+        private native void jniResetProfile (long addr);
+
+        /**
+         * Hashes the position, angle and linear and angular velocity of all bodies with a single native call, e.g. to detect
+         * desynchronisation in lockstep multiplayer by comparing the hashes of the peers after each step. Equal states give equal
+         * hashes on all platforms, but equal steps only give equal states if the native library was built with BOX2D_DETERMINISTIC,
+         * see {@link #isDeterministic()}, and the worlds were built and stepped with the same calls in the same order.
+         */
+        public long computeStateHash () {
+                return jniComputeStateHash(addr);
+        }
+
+        private native long jniComputeStateHash (long addr);
+
+        /**
+         * Copies the addresses of all bodies into the given array, in the order of the native body list, see {@link #getBody(long)}.
+         * Unlike {@link #getBodies()}, this order only depends on the order the bodies were created in, so it is the same for all peers
+         * of a lockstep simulation.
+         * @return the number of addresses copied, at most the length of the array.
+         */
+        public int getBodyAddresses (long[] bodyAddrs) {
+                return jniGetBodyAddresses(addr, bodyAddrs);
+        }
+
+        private native int jniGetBodyAddresses (long addr, long[] bodyAddrs);
+
+        /**
+         * @return the number of bytes {@link #saveState(ByteBuffer)} writes for the current state of the world. Changes with the number
+         *         of bodies, joints, contacts and broad-phase proxies.
+         */
+        public int getStateSize () {
+                return jniGetStateSize(addr);
+        }
+
+        private native int jniGetStateSize (long addr);
+
+        /**
+         * Writes the dynamic state of the world into a direct buffer with a single native call: the transforms, velocities, forces
+         * and sleep state of all bodies, the warm starting impulses of all joints, all contacts and the broad-phase, e.g. to roll
+         * back or retry a level with {@link #restoreState(ByteBuffer)}. The state is written starting at index 0, the position of the
+         * buffer is ignored. It references bodies, fixtures and joints by their order of creation and holds native floats, so it can
+         * be restored into any world built the same way on the same ABI.
+         * @param state a direct byte buffer in native order with room for {@link #getStateSize()} bytes.
+         * @return the number of bytes written.
+         */
+        public int saveState (ByteBuffer state) {
+                BufferUtils.checkDirect(state);
+                int size = jniSaveState(addr, state);
+                if (size < 0) throw new IndexOutOfBoundsException("state must hold " + getStateSize() + " bytes");
+                return size;
+        }
+
+        private native int jniSaveState (long addr, ByteBuffer state);
+
+        /**
+         * Restores a state written by {@link #saveState(ByteBuffer)}, read starting at index 0. The world must have the same bodies,
+         * fixtures and joints as when the state was saved, created in the same order. Contacts are created and destroyed without
+         * calling the {@link ContactListener}. Must not be called during {@link #step(float, int, int)}. The state is validated
+         * before anything is changed, so a rejected state leaves the world as it was.
+         * @throws IllegalArgumentException if the state does not belong to a world with the same bodies, fixtures and joints, or is
+         *         corrupt.
+         */
+        public void restoreState (ByteBuffer state) {
+                BufferUtils.checkDirect(state);
+                if (!jniRestoreState(addr, state))
+                        throw new IllegalArgumentException("state does not match the bodies, fixtures and joints of this world or is corrupt");
+        }
+
+        private native boolean jniRestoreState (long addr, ByteBuffer state);
+
+        /** number of ints per body of the quantized states used by {@link #encodeBodyStates(IntBuffer, IntBuffer, ByteBuffer, float, float, float)}:
+         * x, y, angle, linear velocity x, linear velocity y, angular velocity **/
+        public static final int BODY_STATE_STRIDE = 6;
+
+        /**
+         * Quantizes the position, angle and velocities of every body and encodes those that differ from a baseline into a compact
+         * stream with a single native call, e.g. to replicate the world to clients each step. Only changed components of changed bodies
+         * are written, as variable length differences to the baseline, so bodies at rest cost nothing. Bodies are identified by their
+         * index in the body list, so the receiving world must have the same bodies, created in the same order. The stream is written
+         * starting at index 0, the positions of the buffers are ignored.
+         * @param baseline the quantized states of the step the receiver already has, as written to current by an earlier call, or null to
+         *           encode all bodies against zero.
+         * @param current a direct int buffer in native order with room for {@link #getBodyCount()} * {@link #BODY_STATE_STRIDE} ints,
+         *           receiving the quantized states of this step, to be kept as the baseline of later calls.
+         * @param out a direct byte buffer receiving the stream.
+         * @param positionQuantum the precision of positions in meters, e.g. 1/512f.
+         * @param angleQuantum the precision of angles in radians.
+         * @param velocityQuantum the precision of linear and angular velocities.
+         * @return the number of bytes written.
+         * @throws IndexOutOfBoundsException if out is too small.
+         */
+        public int encodeBodyStates (IntBuffer baseline, IntBuffer current, ByteBuffer out, float positionQuantum, float angleQuantum,
+                float velocityQuantum) {
+                if (baseline != null) BufferUtils.checkDirect(baseline);
+                BufferUtils.checkDirect(current);
+                BufferUtils.checkDirect(out);
+                int size = jniEncodeBodyStates(addr, baseline, current, out, positionQuantum, angleQuantum, velocityQuantum);
+                if (size == -2) throw new IllegalArgumentException("state buffers must hold " + getBodyCount() * BODY_STATE_STRIDE + " ints");
+                if (size < 0) throw new IndexOutOfBoundsException("out is too small for the encoded body states");
+                return size;
+        }
+
+        private native int jniEncodeBodyStates (long addr, IntBuffer baseline, IntBuffer current, ByteBuffer out, float positionQuantum,
+                float angleQuantum, float velocityQuantum);
+
+        /**
+         * Applies a stream written by {@link #encodeBodyStates(IntBuffer, IntBuffer, ByteBuffer, float, float, float)} with a single native
+         * call. The transform and velocities of each changed body are set to the dequantized states and the body is woken up; the other
+         * bodies are not touched. The stream is read from index 0 up to the limit of in.
+         * @param baseline the same quantized states the stream was encoded against, or null.
+         * @param current receives the quantized states of the encoded step, to be kept as the baseline of later streams.
+         * @return the number of bodies changed.
+         * @throws IllegalArgumentException if the stream is malformed or was encoded for a different number of bodies. Bodies decoded
+         *            before the error have already been changed.
+         */
+        public int decodeBodyStates (IntBuffer baseline, IntBuffer current, ByteBuffer in, float positionQuantum, float angleQuantum,
+                float velocityQuantum) {
+                if (baseline != null) BufferUtils.checkDirect(baseline);
+                BufferUtils.checkDirect(current);
+                BufferUtils.checkDirect(in);
+                int count = jniDecodeBodyStates(addr, baseline, current, in, in.limit(), positionQuantum, angleQuantum, velocityQuantum);
+                if (count == -2) throw new IllegalArgumentException("state buffers must hold " + getBodyCount() * BODY_STATE_STRIDE + " ints");
+                if (count < 0) throw new IllegalArgumentException("malformed body states or different number of bodies");
+                return count;
+        }
+
+        private native int jniDecodeBodyStates (long addr, IntBuffer baseline, IntBuffer current, ByteBuffer in, int length,
+                float positionQuantum, float angleQuantum, float velocityQuantum);
+
+        /**
+         * @return whether the native library was built with BOX2D_DETERMINISTIC, i.e. with strict floating point and its own sine, cosine
+         *         and arc tangent, so that the same build steps bit-identically on all devices of an ABI, whatever their Android release.
+         */
+        public static boolean isDeterministic () {
+                return jniIsDeterministic();
+        }
+
+        private static native boolean jniIsDeterministic ();
+
         /**
          * Query the world for all fixtures that potentially overlap the provided AABB.
          * @param callback a user implemented callback class.
@@ -433,6 +854,47 @@ public class World {
 
         private native void jniQueryAABB (long addr, float lowX, float lowY, float upX, float upY);
 
+        /**
+         * Query the world for all fixtures that potentially overlap the provided AABB, writing their addresses into the given arrays
+         * instead of calling back into Java for each of them. Writing stops when an array is full.
+         * @param fixtureAddrs receives the address of each fixture, see {@link #getFixture(long)}.
+         * @param bodyAddrs receives the address of the body of each fixture, see {@link #getBody(long)}. May be null.
+         * @return the number of fixtures written.
+         */
+        public int QueryAABB (float lowerX, float lowerY, float upperX, float upperY, long[] fixtureAddrs, long[] bodyAddrs) {
+                return jniQueryAABBAddrs(addr, lowerX, lowerY, upperX, upperY, fixtureAddrs, bodyAddrs);
+        }
+
+        private native int jniQueryAABBAddrs (long addr, float lowX, float lowY, float upX, float upY, long[] fixtureAddrs,
+                long[] bodyAddrs);
+
+        /** number of floats per box read by {@link #QueryAABB(FloatBuffer, int, LongBuffer, LongBuffer, IntBuffer)}: lower x, lower y, upper x, upper y **/
+        public static final int AABB_STRIDE = 4;
+
+        /**
+         * Runs many AABB queries with a single native call, e.g. for area of effect checks. The addresses of the fixtures found for
+         * each box are written one box after the other, the number found per box is written to resultCounts. All buffers are accessed
+         * starting at index 0, their position is ignored. Writing stops when an address buffer is full, the remaining boxes report 0.
+         * @param boxes a direct float buffer in native order holding {@link #AABB_STRIDE} floats per box.
+         * @param boxCount the number of boxes to query.
+         * @param fixtureAddrs a direct long buffer in native order receiving the fixture addresses.
+         * @param bodyAddrs a direct long buffer in native order receiving the body addresses. May be null.
+         * @param resultCounts a direct int buffer in native order receiving the number of fixtures found per box.
+         * @return the total number of fixtures written.
+         */
+        public int QueryAABB (FloatBuffer boxes, int boxCount, LongBuffer fixtureAddrs, LongBuffer bodyAddrs, IntBuffer resultCounts) {
+                BufferUtils.checkDirect(boxes);
+                BufferUtils.checkDirect(fixtureAddrs);
+                if (bodyAddrs != null) BufferUtils.checkDirect(bodyAddrs);
+                BufferUtils.checkDirect(resultCounts);
+                if (boxCount * AABB_STRIDE > boxes.capacity() || boxCount > resultCounts.capacity())
+                        throw new IndexOutOfBoundsException("boxCount exceeds the capacity of the given buffers");
+                return jniQueryAABBBatch(addr, boxes, boxCount, fixtureAddrs, bodyAddrs, resultCounts);
+        }
+
+        private native int jniQueryAABBBatch (long addr, FloatBuffer boxes, int boxCount, LongBuffer fixtureAddrs, LongBuffer bodyAddrs,
+                IntBuffer resultCounts);
+
 //
 // /// Ray-cast the world for all fixtures in the path of the ray. Your callback
 // /// controls whether you get the closest point, any point, or n-points.
@@ -472,6 +934,29 @@ public class World {
                 return contacts;
         }
 
+        /**
+         * Copies the fixtures, flags, normal and world points of every contact into the given snapshot with a single native call. Use
+         * this instead of {@link #getContactList()} if the contacts are only read.
+         * @param touchingOnly whether to skip contacts whose fixtures do not touch.
+         * @return the number of contacts in the snapshot.
+         */
+        public int getContactSnapshot (ContactSnapshot snapshot, boolean touchingOnly) {
+                snapshot.world = this;
+                snapshot.rewind();
+                int count = jniGetContactSnapshot(addr, snapshot.buffer, touchingOnly);
+                if (count > snapshot.getCapacity()) {
+                        snapshot.ensureCapacity(count);
+                        count = jniGetContactSnapshot(addr, snapshot.buffer, touchingOnly);
+                }
+                snapshot.contactCount = count;
+                return count;
+        }
+
+        /**
+         * @return the number of matching contacts, records are only written as long as they fit.
+         */
+        private native int jniGetContactSnapshot (long addr, ByteBuffer snapshot, boolean touchingOnly);
+
         /**
          * @return all bodies currently in the simulation
          */
@@ -486,8 +971,116 @@ public class World {
                 return joints.values();
         }
 
+        /**
+         * @return the body with the given address, as written by the bulk methods of this class, or null if unknown.
+         */
+        public Body getBody (long bodyAddr) {
+                return bodies.get(bodyAddr);
+        }
+
+        /**
+         * @return the fixture with the given address, as written by the bulk methods of this class, or null if unknown.
+         */
+        public Fixture getFixture (long fixtureAddr) {
+                return fixtures.get(fixtureAddr);
+        }
+
         private native void jniGetContactList (long addr, long[] contacts);
 
+        /** number of floats per row written by {@link #getBodyTransforms(FloatBuffer, LongBuffer, boolean, boolean)}: x, y, angle **/
+        public static final int TRANSFORM_STRIDE = 3;
+
+        /** number of floats per row if velocities are requested: x, y, angle, linear velocity x, linear velocity y, angular velocity **/
+        public static final int TRANSFORM_VELOCITY_STRIDE = 6;
+
+        /**
+         * Writes the transform of every body into a direct buffer with a single native call. Call this after {@link #step(float, int, int)}
+         * instead of calling {@link Body#getPosition()} and {@link Body#getAngle()} on each body. Rows are written starting at index 0,
+         * the position of the buffers is ignored. Writing stops when either buffer is full.
+         * @param transforms a direct float buffer in native order, receiving {@link #TRANSFORM_STRIDE} or
+         *           {@link #TRANSFORM_VELOCITY_STRIDE} floats per body.
+         * @param bodyAddrs a direct long buffer in native order receiving the address of the body of each row, which can be mapped
+         *           back with {@link #getBody(long)}. May be null.
+         * @param includeVelocities whether to append the linear and angular velocity to each row.
+         * @param awakeOnly whether to skip sleeping (and static) bodies.
+         * @return the number of rows written.
+         */
+        public int getBodyTransforms (FloatBuffer transforms, LongBuffer bodyAddrs, boolean includeVelocities, boolean awakeOnly) {
+                BufferUtils.checkDirect(transforms);
+                if (bodyAddrs != null) BufferUtils.checkDirect(bodyAddrs);
+                return jniGetBodyTransforms(addr, transforms, bodyAddrs, includeVelocities, awakeOnly);
+        }
+
+        private native int jniGetBodyTransforms (long addr, FloatBuffer transforms, LongBuffer bodyAddrs, boolean includeVelocities,
+                boolean awakeOnly);
+
+        /**
+         * Writes x, y and angle of the given bodies into a direct buffer with a single native call, {@link #TRANSFORM_STRIDE} floats
+         * per body in the order of bodyAddrs. Both buffers are accessed starting at index 0, their position is ignored.
+         * @param bodyAddrs a direct long buffer in native order holding the {@link Body#getAddress()} of each body.
+         * @param count the number of bodies to read from bodyAddrs.
+         * @param transforms a direct float buffer in native order with room for count * {@link #TRANSFORM_STRIDE} floats.
+         */
+        public void getBodyTransforms (LongBuffer bodyAddrs, int count, FloatBuffer transforms) {
+                BufferUtils.checkDirect(bodyAddrs);
+                BufferUtils.checkDirect(transforms);
+                if (count > bodyAddrs.capacity() || count * TRANSFORM_STRIDE > transforms.capacity())
+                        throw new IndexOutOfBoundsException("count exceeds the capacity of the given buffers");
+                jniGatherBodyTransforms(bodyAddrs, count, transforms);
+        }
+
+        private native void jniGatherBodyTransforms (LongBuffer bodyAddrs, int count, FloatBuffer transforms);
+
+        /** batch operations, must match World.cpp **/
+        private static final int BATCH_APPLY_FORCE = 0;
+        private static final int BATCH_APPLY_LINEAR_IMPULSE = 1;
+        private static final int BATCH_SET_LINEAR_VELOCITY = 2;
+
+        /**
+         * Applies a force at the world center of each of the given bodies with a single native call, like
+         * {@link Body#applyForce(Vector2, Vector2)} with {@link Body#getWorldCenter()}. This wakes up the bodies. Both buffers are
+         * accessed starting at index 0, their position is ignored.
+         * @param bodyAddrs a direct long buffer in native order holding the {@link Body#getAddress()} of each body.
+         * @param forces a direct float buffer in native order holding x and y of each force, in N.
+         * @param count the number of bodies.
+         */
+        public void applyForces (LongBuffer bodyAddrs, FloatBuffer forces, int count) {
+                applyBatch(bodyAddrs, forces, count, BATCH_APPLY_FORCE);
+        }
+
+        /**
+         * Applies an impulse at the world center of each of the given bodies with a single native call, like
+         * {@link Body#applyLinearImpulse(Vector2, Vector2)} with {@link Body#getWorldCenter()}. This wakes up the bodies. Both buffers
+         * are accessed starting at index 0, their position is ignored.
+         * @param bodyAddrs a direct long buffer in native order holding the {@link Body#getAddress()} of each body.
+         * @param impulses a direct float buffer in native order holding x and y of each impulse, in N-seconds or kg-m/s.
+         * @param count the number of bodies.
+         */
+        public void applyLinearImpulses (LongBuffer bodyAddrs, FloatBuffer impulses, int count) {
+                applyBatch(bodyAddrs, impulses, count, BATCH_APPLY_LINEAR_IMPULSE);
+        }
+
+        /**
+         * Sets the linear velocity of the center of mass of each of the given bodies with a single native call, like
+         * {@link Body#setLinearVelocity(Vector2)}. Both buffers are accessed starting at index 0, their position is ignored.
+         * @param bodyAddrs a direct long buffer in native order holding the {@link Body#getAddress()} of each body.
+         * @param velocities a direct float buffer in native order holding x and y of each velocity.
+         * @param count the number of bodies.
+         */
+        public void setLinearVelocities (LongBuffer bodyAddrs, FloatBuffer velocities, int count) {
+                applyBatch(bodyAddrs, velocities, count, BATCH_SET_LINEAR_VELOCITY);
+        }
+
+        private void applyBatch (LongBuffer bodyAddrs, FloatBuffer vectors, int count, int operation) {
+                BufferUtils.checkDirect(bodyAddrs);
+                BufferUtils.checkDirect(vectors);
+                if (count > bodyAddrs.capacity() || count * 2 > vectors.capacity())
+                        throw new IndexOutOfBoundsException("count exceeds the capacity of the given buffers");
+                jniApplyBatch(bodyAddrs, vectors, count, operation);
+        }
+
+        private native void jniApplyBatch (LongBuffer bodyAddrs, FloatBuffer vectors, int count, int operation);
+
         public void dispose () {
                 jniDispose(addr);
         }
@@ -495,25 +1088,14 @@ public class World {
         private native void jniDispose (long addr);
 
         /**
-         * Internal method called from JNI in case a contact happens
+         * Internal method called from JNI in case a contact happens. Only called if a {@link ContactFilter} is set, the default
+         * filter is evaluated natively.
          * @param fixtureA
          * @param fixtureB
          * @return whether the things collided
          */
         private boolean contactFilter (long fixtureA, long fixtureB) {
-                if (contactFilter != null)
-                        return contactFilter.shouldCollide(fixtures.get(fixtureA), fixtures.get(fixtureB));
-                else {
-                        Filter filterA = fixtures.get(fixtureA).getFilterData();
-                        Filter filterB = fixtures.get(fixtureB).getFilterData();
-
-                        if (filterA.groupIndex == filterB.groupIndex && filterA.groupIndex != 0) {
-                                return filterA.groupIndex > 0;
-                        }
-
-                        boolean collide = (filterA.maskBits & filterB.categoryBits) != 0 && (filterA.categoryBits & filterB.maskBits) != 0;
-                        return collide;
-                }
+                return contactFilter.shouldCollide(fixtures.get(fixtureA), fixtures.get(fixtureB));
         }
 
         private final Contact contact = new Contact(this, 0);
@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.utils;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+
+/**
+ * Factory methods for the direct, native ordered buffers the bulk methods of the box2d wrappers read from and write to.
+ */
+public final class BufferUtils {
+	private BufferUtils () {
+	}
+
+	public static ByteBuffer newByteBuffer (int numBytes) {
+		return ByteBuffer.allocateDirect(numBytes).order(ByteOrder.nativeOrder());
+	}
+
+	public static FloatBuffer newFloatBuffer (int numFloats) {
+		return newByteBuffer(numFloats * 4).asFloatBuffer();
+	}
+
+	public static IntBuffer newIntBuffer (int numInts) {
+		return newByteBuffer(numInts * 4).asIntBuffer();
+	}
+
+	public static LongBuffer newLongBuffer (int numLongs) {
+		return newByteBuffer(numLongs * 8).asLongBuffer();
+	}
+
+	/**
+	 * @throws IllegalArgumentException if the buffer is not direct, as the native side can only access direct buffers.
+	 */
+	public static void checkDirect (Buffer buffer) {
+		if (!buffer.isDirect()) throw new IllegalArgumentException("Buffer must be direct, see BufferUtils.");
+	}
+}
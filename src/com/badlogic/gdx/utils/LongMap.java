@@ -285,6 +285,7 @@ public class LongMap<V> {
 		keyTable[index] = key;
 		valueTable[index] = value;
 		stashSize++;
+		size++;
 	}
 
 	public V get (long key) {
@@ -0,0 +1,243 @@
+package org.andengine.extension.physics.box2d;
+
+/**
+ * Adjusts the solver iterations of a {@link PhysicsWorld} to the measured wall time of its steps.
+ * Whenever a step takes longer than the budget, the iterations are lowered by one right away, so that the frame rate holds under load.
+ * They are only raised again by one after a number of consecutive steps below a fraction of the budget, so that they do not oscillate.
+ * The iterations always stay within the configured bounds.
+ *
+ * @see PhysicsWorld#setIterationController(AdaptiveIterationController)
+ */
+public class AdaptiveIterationController {
+	// ===========================================================
+	// Constants
+	// ===========================================================
+
+	public static final float RAISE_THRESHOLD_DEFAULT = 0.6f;
+	public static final int RAISE_DELAY_STEPS_DEFAULT = 30;
+	public static final int HISTORY_SIZE_DEFAULT = 120;
+
+	public static final int DECISION_KEPT = 0;
+	public static final int DECISION_LOWERED = -1;
+	public static final int DECISION_RAISED = 1;
+
+	// ===========================================================
+	// Fields
+	// ===========================================================
+
+	private final long mStepBudgetNanoseconds;
+	private final int mMinimumVelocityIterations;
+	private final int mMaximumVelocityIterations;
+	private final int mMinimumPositionIterations;
+	private final int mMaximumPositionIterations;
+
+	private float mRaiseThreshold = RAISE_THRESHOLD_DEFAULT;
+	private int mRaiseDelaySteps = RAISE_DELAY_STEPS_DEFAULT;
+	private int mStepsBelowThreshold;
+
+	private int mLoweredCount;
+	private int mRaisedCount;
+	private long mLastStepNanoseconds;
+
+	private final long[] mHistoryStepNanoseconds;
+	private final int[] mHistoryVelocityIterations;
+	private final int[] mHistoryPositionIterations;
+	private final int[] mHistoryDecisions;
+	private int mHistoryIndex;
+	private int mHistoryCount;
+
+	// ===========================================================
+	// Constructors
+	// ===========================================================
+
+	/**
+	 * @param pStepBudget the wall time a single step may take, in seconds. Note that a {@link FixedStepPhysicsWorld} may run several steps per frame.
+	 */
+	public AdaptiveIterationController(final float pStepBudget, final int pMinimumVelocityIterations, final int pMaximumVelocityIterations, final int pMinimumPositionIterations, final int pMaximumPositionIterations) {
+		this(pStepBudget, pMinimumVelocityIterations, pMaximumVelocityIterations, pMinimumPositionIterations, pMaximumPositionIterations, HISTORY_SIZE_DEFAULT);
+	}
+
+	public AdaptiveIterationController(final float pStepBudget, final int pMinimumVelocityIterations, final int pMaximumVelocityIterations, final int pMinimumPositionIterations, final int pMaximumPositionIterations, final int pHistorySize) {
+		if(pMinimumVelocityIterations < 1 || pMinimumVelocityIterations > pMaximumVelocityIterations || pMinimumPositionIterations < 1 || pMinimumPositionIterations > pMaximumPositionIterations) {
+			throw new IllegalArgumentException("Invalid iteration bounds.");
+		}
+
+		this.mStepBudgetNanoseconds = (long)(pStepBudget * 1000000000L);
+		this.mMinimumVelocityIterations = pMinimumVelocityIterations;
+		this.mMaximumVelocityIterations = pMaximumVelocityIterations;
+		this.mMinimumPositionIterations = pMinimumPositionIterations;
+		this.mMaximumPositionIterations = pMaximumPositionIterations;
+
+		this.mHistoryStepNanoseconds = new long[pHistorySize];
+		this.mHistoryVelocityIterations = new int[pHistorySize];
+		this.mHistoryPositionIterations = new int[pHistorySize];
+		this.mHistoryDecisions = new int[pHistorySize];
+	}
+
+	// ===========================================================
+	// Getter & Setter
+	// ===========================================================
+
+	public float getRaiseThreshold() {
+		return this.mRaiseThreshold;
+	}
+
+	public int getRaiseDelaySteps() {
+		return this.mRaiseDelaySteps;
+	}
+
+	/**
+	 * @param pRaiseThreshold the fraction of the budget a step must stay below to count towards raising the iterations.
+	 * @param pRaiseDelaySteps the number of consecutive steps below the threshold after which the iterations are raised.
+	 */
+	public void setHysteresis(final float pRaiseThreshold, final int pRaiseDelaySteps) {
+		this.mRaiseThreshold = pRaiseThreshold;
+		this.mRaiseDelaySteps = pRaiseDelaySteps;
+	}
+
+	public float getStepBudget() {
+		return this.mStepBudgetNanoseconds / 1000000000f;
+	}
+
+	/**
+	 * @return the wall time of the last step, in seconds.
+	 */
+	public float getLastStepTime() {
+		return this.mLastStepNanoseconds / 1000000000f;
+	}
+
+	public int getLoweredCount() {
+		return this.mLoweredCount;
+	}
+
+	public int getRaisedCount() {
+		return this.mRaisedCount;
+	}
+
+	/**
+	 * @return the number of steps in the history, at most its size.
+	 */
+	public int getHistoryCount() {
+		return this.mHistoryCount;
+	}
+
+	/**
+	 * @param pIndex 0 for the oldest step in the history, {@link #getHistoryCount()} - 1 for the last step.
+	 * @return the wall time of the step, in seconds.
+	 */
+	public float getHistoryStepTime(final int pIndex) {
+		return this.mHistoryStepNanoseconds[this.getHistorySlot(pIndex)] / 1000000000f;
+	}
+
+	/**
+	 * @return the velocity iterations the step was solved with.
+	 */
+	public int getHistoryVelocityIterations(final int pIndex) {
+		return this.mHistoryVelocityIterations[this.getHistorySlot(pIndex)];
+	}
+
+	/**
+	 * @return the position iterations the step was solved with.
+	 */
+	public int getHistoryPositionIterations(final int pIndex) {
+		return this.mHistoryPositionIterations[this.getHistorySlot(pIndex)];
+	}
+
+	/**
+	 * @return {@link #DECISION_LOWERED}, {@link #DECISION_KEPT} or {@link #DECISION_RAISED}, taken after the step.
+	 */
+	public int getHistoryDecision(final int pIndex) {
+		return this.mHistoryDecisions[this.getHistorySlot(pIndex)];
+	}
+
+	// ===========================================================
+	// Methods
+	// ===========================================================
+
+	/**
+	 * Called by the {@link PhysicsWorld} after each step.
+	 */
+	void onStep(final PhysicsWorld pPhysicsWorld, final long pStepNanoseconds) {
+		final int velocityIterations = pPhysicsWorld.getVelocityIterations();
+		final int positionIterations = pPhysicsWorld.getPositionIterations();
+		this.mLastStepNanoseconds = pStepNanoseconds;
+
+		final int decision;
+		if(pStepNanoseconds > this.mStepBudgetNanoseconds) {
+			this.mStepsBelowThreshold = 0;
+			decision = this.lower(pPhysicsWorld, 1) ? DECISION_LOWERED : DECISION_KEPT;
+		} else if(pStepNanoseconds < this.mStepBudgetNanoseconds * this.mRaiseThreshold) {
+			this.mStepsBelowThreshold++;
+			if(this.mStepsBelowThreshold >= this.mRaiseDelaySteps) {
+				this.mStepsBelowThreshold = 0;
+				decision = this.raise(pPhysicsWorld) ? DECISION_RAISED : DECISION_KEPT;
+			} else {
+				decision = DECISION_KEPT;
+			}
+		} else {
+			this.mStepsBelowThreshold = 0;
+			decision = DECISION_KEPT;
+		}
+
+		this.record(pStepNanoseconds, velocityIterations, positionIterations, decision);
+	}
+
+	/**
+	 * Lowers the iterations of the given world by the given amount, within the bounds, e.g. as an emergency measure under overload.
+	 *
+	 * @return whether the iterations were lowered.
+	 */
+	public boolean lower(final PhysicsWorld pPhysicsWorld, final int pAmount) {
+		final int velocityIterations = pPhysicsWorld.getVelocityIterations();
+		final int positionIterations = pPhysicsWorld.getPositionIterations();
+		final int loweredVelocityIterations = Math.max(this.mMinimumVelocityIterations, Math.min(this.mMaximumVelocityIterations, velocityIterations - pAmount));
+		final int loweredPositionIterations = Math.max(this.mMinimumPositionIterations, Math.min(this.mMaximumPositionIterations, positionIterations - pAmount));
+		if(loweredVelocityIterations >= velocityIterations && loweredPositionIterations >= positionIterations) {
+			return false;
+		}
+
+		pPhysicsWorld.setVelocityIterations(Math.min(velocityIterations, loweredVelocityIterations));
+		pPhysicsWorld.setPositionIterations(Math.min(positionIterations, loweredPositionIterations));
+		this.mLoweredCount++;
+		return true;
+	}
+
+	private boolean raise(final PhysicsWorld pPhysicsWorld) {
+		final int velocityIterations = pPhysicsWorld.getVelocityIterations();
+		final int positionIterations = pPhysicsWorld.getPositionIterations();
+		if(velocityIterations >= this.mMaximumVelocityIterations && positionIterations >= this.mMaximumPositionIterations) {
+			return false;
+		}
+
+		pPhysicsWorld.setVelocityIterations(Math.min(this.mMaximumVelocityIterations, velocityIterations + 1));
+		pPhysicsWorld.setPositionIterations(Math.min(this.mMaximumPositionIterations, positionIterations + 1));
+		this.mRaisedCount++;
+		return true;
+	}
+
+	private void record(final long pStepNanoseconds, final int pVelocityIterations, final int pPositionIterations, final int pDecision) {
+		final int historySize = this.mHistoryDecisions.length;
+		if(historySize == 0) {
+			return;
+		}
+
+		final int slot = this.mHistoryIndex;
+		this.mHistoryStepNanoseconds[slot] = pStepNanoseconds;
+		this.mHistoryVelocityIterations[slot] = pVelocityIterations;
+		this.mHistoryPositionIterations[slot] = pPositionIterations;
+		this.mHistoryDecisions[slot] = pDecision;
+
+		this.mHistoryIndex = (slot + 1) % historySize;
+		if(this.mHistoryCount < historySize) {
+			this.mHistoryCount++;
+		}
+	}
+
+	private int getHistorySlot(final int pIndex) {
+		if(pIndex < 0 || pIndex >= this.mHistoryCount) {
+			throw new IndexOutOfBoundsException("Index: " + pIndex + ", Count: " + this.mHistoryCount);
+		}
+		final int historySize = this.mHistoryDecisions.length;
+		return (this.mHistoryIndex - this.mHistoryCount + pIndex + historySize) % historySize;
+	}
+}
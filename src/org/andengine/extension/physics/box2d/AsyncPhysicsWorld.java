@@ -0,0 +1,503 @@
+package org.andengine.extension.physics.box2d;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.Contact;
+import com.badlogic.gdx.physics.box2d.ContactEventBuffer;
+import com.badlogic.gdx.physics.box2d.ContactFilter;
+import com.badlogic.gdx.physics.box2d.ContactListener;
+import com.badlogic.gdx.physics.box2d.ContactSnapshot;
+import com.badlogic.gdx.physics.box2d.DestructionListener;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.Joint;
+import com.badlogic.gdx.physics.box2d.JointDef;
+import com.badlogic.gdx.physics.box2d.PackedBodyDefs;
+import com.badlogic.gdx.physics.box2d.PackedJointDefs;
+import com.badlogic.gdx.physics.box2d.QueryCallback;
+import com.badlogic.gdx.physics.box2d.RayCastCallback;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.physics.box2d.World.RayCastMode;
+import com.badlogic.gdx.utils.BufferUtils;
+
+/**
+ * A subclass of {@link PhysicsWorld} that runs {@link World#step(float, int, int)} on a dedicated thread, one frame ahead of the update thread.
+ * Each {@link #onUpdate(float)} waits for the step started by the previous update, runs the posted {@link Runnable}s, starts the next step
+ * and then places the shapes of the {@link PhysicsConnector}s from the transforms published by the finished step. On devices with more than one core
+ * the step then overlaps with the rest of the frame, at the cost of showing the bodies one step late.
+ *
+ * The native world must not be touched while a step is running. The methods of this world that create, destroy, modify or query bodies, joints
+ * and the world itself first wait for the pending step, so calling them from the update thread, e.g. through {@link PhysicsFactory}, is safe,
+ * but the step then no longer overlaps with the rest of the frame. The methods of {@link Body}, {@link Fixture} and {@link Joint} do not wait,
+ * so call them in {@link Runnable}s passed to {@link #postRunnable(Runnable)}, which act as the command queue applied between steps,
+ * or after {@link #waitForStep()} or any of the waiting methods, until the next {@link #onUpdate(float)}.
+ * Contact listeners and filters are called on the physics thread. Awake body tracking does not skip connectors in this world.
+ */
+public class AsyncPhysicsWorld extends PhysicsWorld {
+	// ===========================================================
+	// Constants
+	// ===========================================================
+
+	private static final int TRANSFORM_STRIDE = World.TRANSFORM_STRIDE;
+
+	// ===========================================================
+	// Fields
+	// ===========================================================
+
+	private final Semaphore mStepRequested = new Semaphore(0);
+	private final Semaphore mStepCompleted = new Semaphore(0);
+
+	private Thread mPhysicsThread;
+	private volatile boolean mRunning;
+	private boolean mStepPending;
+	private float mStepSecondsElapsed;
+	private Throwable mStepFailure;
+
+	private TransformSnapshot mFrontSnapshot = new TransformSnapshot();
+	private TransformSnapshot mBackSnapshot = new TransformSnapshot();
+
+	// ===========================================================
+	// Constructors
+	// ===========================================================
+
+	public AsyncPhysicsWorld(final Vector2 pGravity, final boolean pAllowSleep) {
+		super(pGravity, pAllowSleep);
+	}
+
+	public AsyncPhysicsWorld(final Vector2 pGravity, final boolean pAllowSleep, final int pVelocityIterations, final int pPositionIterations) {
+		super(pGravity, pAllowSleep, pVelocityIterations, pPositionIterations);
+	}
+
+	// ===========================================================
+	// Getter & Setter
+	// ===========================================================
+
+	public boolean isStepPending() {
+		return this.mStepPending;
+	}
+
+	// ===========================================================
+	// Methods for/from SuperClass/Interfaces
+	// ===========================================================
+
+	@Override
+	public void onUpdate(final float pSecondsElapsed) {
+		this.waitForStep();
+
+		this.mRunnableHandler.onUpdate(pSecondsElapsed);
+
+		this.mBackSnapshot.prepare(this.mPhysicsConnectorManager);
+		this.startStep(pSecondsElapsed);
+
+		this.mFrontSnapshot.apply();
+	}
+
+	@Override
+	public void reset() {
+		this.waitForStep();
+		super.reset();
+		this.mFrontSnapshot.clear();
+		this.mBackSnapshot.clear();
+	}
+
+	@Override
+	public void dispose() {
+		this.waitForStep();
+		if(this.mPhysicsThread != null) {
+			this.mRunning = false;
+			this.mStepRequested.release();
+			try {
+				this.mPhysicsThread.join();
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			this.mPhysicsThread = null;
+		}
+		super.dispose();
+	}
+
+	@Override
+	public void setAwakeBodyTracking(final boolean pAwakeBodyTracking) {
+		this.waitForStepIfPending();
+		super.setAwakeBodyTracking(pAwakeBodyTracking);
+	}
+
+	@Override
+	public void clearForces() {
+		this.waitForStepIfPending();
+		super.clearForces();
+	}
+
+	@Override
+	public Body createBody(final BodyDef pDef) {
+		this.waitForStepIfPending();
+		return super.createBody(pDef);
+	}
+
+	@Override
+	public Body[] createBodies(final PackedBodyDefs pPackedBodyDefs) {
+		this.waitForStepIfPending();
+		return super.createBodies(pPackedBodyDefs);
+	}
+
+	@Override
+	public Joint createJoint(final JointDef pDef) {
+		this.waitForStepIfPending();
+		return super.createJoint(pDef);
+	}
+
+	@Override
+	public Joint[] createJoints(final PackedJointDefs pPackedJointDefs, final Body[] pBodies) {
+		this.waitForStepIfPending();
+		return super.createJoints(pPackedJointDefs, pBodies);
+	}
+
+	@Override
+	public void destroyBody(final Body pBody) {
+		this.waitForStepIfPending();
+		super.destroyBody(pBody);
+	}
+
+	@Override
+	public void destroyJoint(final Joint pJoint) {
+		this.waitForStepIfPending();
+		super.destroyJoint(pJoint);
+	}
+
+	@Override
+	public int getBodyTransforms(final FloatBuffer pTransforms, final LongBuffer pBodyAddresses, final boolean pIncludeVelocities, final boolean pAwakeOnly) {
+		this.waitForStepIfPending();
+		return super.getBodyTransforms(pTransforms, pBodyAddresses, pIncludeVelocities, pAwakeOnly);
+	}
+
+	@Override
+	public void applyForces(final LongBuffer pBodyAddresses, final FloatBuffer pForces, final int pCount) {
+		this.waitForStepIfPending();
+		super.applyForces(pBodyAddresses, pForces, pCount);
+	}
+
+	@Override
+	public void applyLinearImpulses(final LongBuffer pBodyAddresses, final FloatBuffer pImpulses, final int pCount) {
+		this.waitForStepIfPending();
+		super.applyLinearImpulses(pBodyAddresses, pImpulses, pCount);
+	}
+
+	@Override
+	public void setLinearVelocities(final LongBuffer pBodyAddresses, final FloatBuffer pVelocities, final int pCount) {
+		this.waitForStepIfPending();
+		super.setLinearVelocities(pBodyAddresses, pVelocities, pCount);
+	}
+
+	@Override
+	public List<Contact> getContactList() {
+		this.waitForStepIfPending();
+		return super.getContactList();
+	}
+
+	@Override
+	public int getContactSnapshot(final ContactSnapshot pContactSnapshot, final boolean pTouchingOnly) {
+		this.waitForStepIfPending();
+		return super.getContactSnapshot(pContactSnapshot, pTouchingOnly);
+	}
+
+	@Override
+	public long computeStateHash() {
+		this.waitForStepIfPending();
+		return super.computeStateHash();
+	}
+
+	@Override
+	public int getBodyAddresses(final long[] pBodyAddresses) {
+		this.waitForStepIfPending();
+		return super.getBodyAddresses(pBodyAddresses);
+	}
+
+	@Override
+	public int getStateSize() {
+		this.waitForStepIfPending();
+		return super.getStateSize();
+	}
+
+	@Override
+	public int saveState(final ByteBuffer pState) {
+		this.waitForStepIfPending();
+		return super.saveState(pState);
+	}
+
+	@Override
+	public void restoreState(final ByteBuffer pState) {
+		this.waitForStepIfPending();
+		super.restoreState(pState);
+	}
+
+	@Override
+	public int encodeBodyStates(final IntBuffer pBaseline, final IntBuffer pCurrent, final ByteBuffer pOut, final float pPositionQuantum, final float pAngleQuantum, final float pVelocityQuantum) {
+		this.waitForStepIfPending();
+		return super.encodeBodyStates(pBaseline, pCurrent, pOut, pPositionQuantum, pAngleQuantum, pVelocityQuantum);
+	}
+
+	@Override
+	public int decodeBodyStates(final IntBuffer pBaseline, final IntBuffer pCurrent, final ByteBuffer pIn, final float pPositionQuantum, final float pAngleQuantum, final float pVelocityQuantum) {
+		this.waitForStepIfPending();
+		return super.decodeBodyStates(pBaseline, pCurrent, pIn, pPositionQuantum, pAngleQuantum, pVelocityQuantum);
+	}
+
+	@Override
+	public void QueryAABB(final QueryCallback pCallback, final float pLowerX, final float pLowerY, final float pUpperX, final float pUpperY) {
+		this.waitForStepIfPending();
+		super.QueryAABB(pCallback, pLowerX, pLowerY, pUpperX, pUpperY);
+	}
+
+	@Override
+	public int QueryAABB(final float pLowerX, final float pLowerY, final float pUpperX, final float pUpperY, final long[] pFixtureAddresses, final long[] pBodyAddresses) {
+		this.waitForStepIfPending();
+		return super.QueryAABB(pLowerX, pLowerY, pUpperX, pUpperY, pFixtureAddresses, pBodyAddresses);
+	}
+
+	@Override
+	public int QueryAABB(final FloatBuffer pBoxes, final int pBoxCount, final LongBuffer pFixtureAddresses, final LongBuffer pBodyAddresses, final IntBuffer pResultCounts) {
+		this.waitForStepIfPending();
+		return super.QueryAABB(pBoxes, pBoxCount, pFixtureAddresses, pBodyAddresses, pResultCounts);
+	}
+
+	@Override
+	public void setAutoClearForces(final boolean pFlag) {
+		this.waitForStepIfPending();
+		super.setAutoClearForces(pFlag);
+	}
+
+	@Override
+	public void setContactFilter(final ContactFilter pFilter) {
+		this.waitForStepIfPending();
+		super.setContactFilter(pFilter);
+	}
+
+	@Override
+	public void setCollisionMatrix(final short[] pCollisionMatrix) {
+		this.waitForStepIfPending();
+		super.setCollisionMatrix(pCollisionMatrix);
+	}
+
+	@Override
+	public void setContactListener(final ContactListener pListener) {
+		this.waitForStepIfPending();
+		super.setContactListener(pListener);
+	}
+
+	@Override
+	public void setContactEventBuffer(final ContactEventBuffer pContactEventBuffer, final boolean pPreSolveCallbacks) {
+		this.waitForStepIfPending();
+		super.setContactEventBuffer(pContactEventBuffer, pPreSolveCallbacks);
+	}
+
+	@Override
+	public void setContinuousPhysics(final boolean pFlag) {
+		this.waitForStepIfPending();
+		super.setContinuousPhysics(pFlag);
+	}
+
+	@Override
+	public void setDestructionListener(final DestructionListener pListener) {
+		this.waitForStepIfPending();
+		super.setDestructionListener(pListener);
+	}
+
+	@Override
+	public void setGravity(final Vector2 pGravity) {
+		this.waitForStepIfPending();
+		super.setGravity(pGravity);
+	}
+
+	@Override
+	public void setIslandThreadCount(final int pIslandThreadCount) {
+		this.waitForStepIfPending();
+		super.setIslandThreadCount(pIslandThreadCount);
+	}
+
+	@Override
+	public void setWarmStarting(final boolean pFlag) {
+		this.waitForStepIfPending();
+		super.setWarmStarting(pFlag);
+	}
+
+	@Override
+	public void rayCast(final RayCastCallback pRayCastCallback, final Vector2 pPoint1, final Vector2 pPoint2) {
+		this.waitForStepIfPending();
+		super.rayCast(pRayCastCallback, pPoint1, pPoint2);
+	}
+
+	@Override
+	public int rayCast(final FloatBuffer pRays, final int pRayCount, final RayCastMode pRayCastMode, final LongBuffer pHitFixtures, final FloatBuffer pHits) {
+		this.waitForStepIfPending();
+		return super.rayCast(pRays, pRayCount, pRayCastMode, pHitFixtures, pHits);
+	}
+
+	// ===========================================================
+	// Methods
+	// ===========================================================
+
+	/**
+	 * Blocks until the step started by the last {@link #onUpdate(float)} has finished, after which the native world can be accessed safely
+	 * until the next {@link #onUpdate(float)}.
+	 */
+	public void waitForStep() {
+		if(!this.mStepPending) {
+			return;
+		}
+
+		this.mStepCompleted.acquireUninterruptibly();
+		this.mStepPending = false;
+
+		final TransformSnapshot snapshot = this.mBackSnapshot;
+		this.mBackSnapshot = this.mFrontSnapshot;
+		this.mFrontSnapshot = snapshot;
+
+		final Throwable stepFailure = this.mStepFailure;
+		if(stepFailure != null) {
+			this.mStepFailure = null;
+			throw new RuntimeException("Physics step failed.", stepFailure);
+		}
+
+		this.onStepped();
+	}
+
+	/**
+	 * Waits for the pending step before the native world is accessed, unless called from the physics thread itself, e.g. from a contact listener.
+	 */
+	private void waitForStepIfPending() {
+		if(Thread.currentThread() != this.mPhysicsThread) {
+			this.waitForStep();
+		}
+	}
+
+	private void startStep(final float pSecondsElapsed) {
+		if(this.mPhysicsThread == null) {
+			this.mRunning = true;
+			this.mPhysicsThread = new Thread(new Runnable() {
+				@Override
+				public void run() {
+					AsyncPhysicsWorld.this.runSteps();
+				}
+			}, AsyncPhysicsWorld.class.getSimpleName());
+			this.mPhysicsThread.setDaemon(true);
+			this.mPhysicsThread.start();
+		}
+
+		this.mStepSecondsElapsed = pSecondsElapsed;
+		this.mStepPending = true;
+		this.mStepRequested.release();
+	}
+
+	private void runSteps() {
+		while(true) {
+			this.mStepRequested.acquireUninterruptibly();
+			if(!this.mRunning) {
+				return;
+			}
+
+			try {
+				this.step(this.mStepSecondsElapsed);
+				this.mBackSnapshot.gather(this.mWorld);
+			} catch (final Throwable t) {
+				this.mStepFailure = t;
+			}
+
+			this.mStepCompleted.release();
+		}
+	}
+
+	// ===========================================================
+	// Inner and Anonymous Classes
+	// ===========================================================
+
+	/**
+	 * The transforms of the connected bodies after a step, along with the connectors they belong to.
+	 * Filled on the physics thread while the update thread reads the other snapshot.
+	 */
+	private static class TransformSnapshot {
+		// ===========================================================
+		// Fields
+		// ===========================================================
+
+		private PhysicsConnector[] mPhysicsConnectors = new PhysicsConnector[0];
+		private LongBuffer mBodyAddresses;
+		private FloatBuffer mTransforms;
+		private float[] mTransformValues;
+		private int mCount;
+		private boolean mGathered;
+
+		// ===========================================================
+		// Methods
+		// ===========================================================
+
+		/**
+		 * Records the connectors and body addresses to gather, on the update thread before the step is started.
+		 */
+		void prepare(final ArrayList<PhysicsConnector> pPhysicsConnectors) {
+			final int count = pPhysicsConnectors.size();
+			if(this.mPhysicsConnectors.length < count) {
+				final int capacity = Math.max(count, this.mPhysicsConnectors.length * 2);
+				this.mPhysicsConnectors = new PhysicsConnector[capacity];
+				this.mBodyAddresses = BufferUtils.newLongBuffer(capacity);
+				this.mTransforms = BufferUtils.newFloatBuffer(capacity * TRANSFORM_STRIDE);
+				this.mTransformValues = new float[capacity * TRANSFORM_STRIDE];
+			}
+
+			final PhysicsConnector[] physicsConnectors = this.mPhysicsConnectors;
+			for(int i = 0; i < count; i++) {
+				final PhysicsConnector physicsConnector = pPhysicsConnectors.get(i);
+				physicsConnectors[i] = physicsConnector;
+				this.mBodyAddresses.put(i, physicsConnector.mBody.getAddress());
+			}
+			for(int i = count; i < this.mCount; i++) {
+				physicsConnectors[i] = null;
+			}
+			this.mCount = count;
+			this.mGathered = false;
+		}
+
+		/**
+		 * Reads the transforms with a single native call, on the physics thread after the step.
+		 */
+		void gather(final World pWorld) {
+			final int count = this.mCount;
+			if(count > 0) {
+				pWorld.getBodyTransforms(this.mBodyAddresses, count, this.mTransforms);
+				this.mTransforms.position(0);
+				this.mTransforms.get(this.mTransformValues, 0, count * TRANSFORM_STRIDE);
+			}
+			this.mGathered = true;
+		}
+
+		/**
+		 * Places the shapes, on the update thread.
+		 */
+		void apply() {
+			if(!this.mGathered) {
+				return;
+			}
+
+			final PhysicsConnector[] physicsConnectors = this.mPhysicsConnectors;
+			final float[] transformValues = this.mTransformValues;
+			for(int i = 0, j = 0; i < this.mCount; i++, j += TRANSFORM_STRIDE) {
+				physicsConnectors[i].onUpdateTransform(transformValues[j], transformValues[j + 1], transformValues[j + 2]);
+			}
+		}
+
+		void clear() {
+			for(int i = 0; i < this.mCount; i++) {
+				this.mPhysicsConnectors[i] = null;
+			}
+			this.mCount = 0;
+			this.mGathered = false;
+		}
+	}
+}
@@ -1,7 +1,6 @@
 package org.andengine.extension.physics.box2d;
 
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.physics.box2d.World;
 
 /**
  * A subclass of {@link PhysicsWorld} that tries to achieve a specific amount of steps per second.
@@ -20,6 +19,15 @@ public class FixedStepPhysicsWorld extends PhysicsWorld {
 
 	public static final int STEPSPERSECOND_DEFAULT = 60;
 
+	public static final int MAXIMUM_ACCUMULATED_STEPS_DEFAULT = 5;
+	public static final float MINIMUM_TIME_DILATION_DEFAULT = 0.25f;
+	public static final int EMERGENCY_ITERATION_REDUCTION_DEFAULT = 2;
+
+	private static final float TIME_DILATION_DECREASE_FACTOR = 0.8f;
+	private static final float TIME_DILATION_RECOVERY = 0.02f;
+
+	private static final int ROLLBACK_SLOT_SIZE_FACTOR = 2;
+
 	// ===========================================================
 	// Fields
 	// ===========================================================
@@ -28,6 +36,23 @@ public class FixedStepPhysicsWorld extends PhysicsWorld {
 	private final int mMaximumStepsPerUpdate;
 	private float mSecondsElapsedAccumulator;
 
+	private boolean mInterpolation;
+
+	private OverloadPolicy mOverloadPolicy = OverloadPolicy.NONE;
+	private int mMaximumAccumulatedSteps = MAXIMUM_ACCUMULATED_STEPS_DEFAULT;
+	private float mMinimumTimeDilation = MINIMUM_TIME_DILATION_DEFAULT;
+	private int mEmergencyIterationReduction = EMERGENCY_ITERATION_REDUCTION_DEFAULT;
+	private float mTimeDilation = 1;
+
+	private int mOverloadCount;
+	private float mDroppedTime;
+	private float mDilatedTime;
+
+	private long mStepCount;
+	private IStepHashListener mStepHashListener;
+
+	private PhysicsStateRing mStateRing;
+
 	// ===========================================================
 	// Constructors
 	// ===========================================================
@@ -56,37 +81,303 @@ public class FixedStepPhysicsWorld extends PhysicsWorld {
 	// Getter & Setter
 	// ===========================================================
 
+	public boolean isInterpolation() {
+		return this.mInterpolation;
+	}
+
+	/**
+	 * When enabled, the shapes of the {@link PhysicsConnector}s are placed between the transforms of the last two steps, according to the time left over in the accumulator.
+	 * This renders smoothly when the display rate is not a multiple of the step rate, at the cost of showing the bodies up to one step in the past.
+	 * Sleeping bodies are not skipped in this mode.
+	 * Note that the shapes are set through {@link PhysicsConnector#onUpdateTransform(float, float, float)} in this mode, so overrides of {@link PhysicsConnector#onUpdate(float)} are bypassed.
+	 */
+	public void setInterpolation(final boolean pInterpolation) {
+		this.mInterpolation = pInterpolation;
+	}
+
+	/**
+	 * @return the fraction of a step left over in the accumulator after the last update, from 0 to 1.
+	 */
+	public float getInterpolationAlpha() {
+		return Math.min(this.mSecondsElapsedAccumulator / this.mTimeStep, 1);
+	}
+
+	public OverloadPolicy getOverloadPolicy() {
+		return this.mOverloadPolicy;
+	}
+
+	/**
+	 * @param pOverloadPolicy what to do when the steps cannot keep up with the elapsed time. {@link OverloadPolicy#NONE} by default.
+	 */
+	public void setOverloadPolicy(final OverloadPolicy pOverloadPolicy) {
+		this.mOverloadPolicy = pOverloadPolicy;
+		this.mTimeDilation = 1;
+	}
+
+	public int getMaximumAccumulatedSteps() {
+		return this.mMaximumAccumulatedSteps;
+	}
+
+	/**
+	 * @param pMaximumAccumulatedSteps the time the accumulator is clamped to, in steps, unless the {@link OverloadPolicy} is {@link OverloadPolicy#NONE}.
+	 */
+	public void setMaximumAccumulatedSteps(final int pMaximumAccumulatedSteps) {
+		this.mMaximumAccumulatedSteps = pMaximumAccumulatedSteps;
+	}
+
+	public float getMinimumTimeDilation() {
+		return this.mMinimumTimeDilation;
+	}
+
+	/**
+	 * @param pMinimumTimeDilation the slowest {@link OverloadPolicy#DILATE} may run the simulation at, as a fraction of real time.
+	 */
+	public void setMinimumTimeDilation(final float pMinimumTimeDilation) {
+		this.mMinimumTimeDilation = pMinimumTimeDilation;
+	}
+
+	public int getEmergencyIterationReduction() {
+		return this.mEmergencyIterationReduction;
+	}
+
+	/**
+	 * @param pEmergencyIterationReduction the amount the {@link AdaptiveIterationController} lowers the iterations by on each overloaded update, 0 to disable.
+	 * Only applies if an iteration controller is set, see {@link #setIterationController(AdaptiveIterationController)}.
+	 */
+	public void setEmergencyIterationReduction(final int pEmergencyIterationReduction) {
+		this.mEmergencyIterationReduction = pEmergencyIterationReduction;
+	}
+
+	/**
+	 * @return the current rate of the simulation relative to real time, below 1 while {@link OverloadPolicy#DILATE} is slowing it down.
+	 */
+	public float getTimeDilation() {
+		return this.mTimeDilation;
+	}
+
+	/**
+	 * @return the number of updates in which the steps could not keep up with the elapsed time.
+	 */
+	public int getOverloadCount() {
+		return this.mOverloadCount;
+	}
+
+	/**
+	 * @return the total time discarded from the accumulator, in seconds.
+	 */
+	public float getDroppedTime() {
+		return this.mDroppedTime;
+	}
+
+	/**
+	 * @return the total time removed from the elapsed time by {@link OverloadPolicy#DILATE}, in seconds.
+	 */
+	public float getDilatedTime() {
+		return this.mDilatedTime;
+	}
+
+	public void resetOverloadCounters() {
+		this.mOverloadCount = 0;
+		this.mDroppedTime = 0;
+		this.mDilatedTime = 0;
+	}
+
+	/**
+	 * @return the number of steps run since the world was created.
+	 */
+	public long getStepCount() {
+		return this.mStepCount;
+	}
+
+	public IStepHashListener getStepHashListener() {
+		return this.mStepHashListener;
+	}
+
+	/**
+	 * When set, the state of the world is hashed after each step, see {@link #computeStateHash()}.
+	 * A lockstep simulation must keep the {@link OverloadPolicy} at {@link OverloadPolicy#NONE}, so that all peers run the same steps,
+	 * and apply each input before the same step on every peer, see {@link #getStepCount()}.
+	 */
+	public void setStepHashListener(final IStepHashListener pStepHashListener) {
+		this.mStepHashListener = pStepHashListener;
+	}
+
+	/**
+	 * @return the states kept for {@link #rewindTo(long)}, or null if rollback is disabled.
+	 */
+	public PhysicsStateRing getStateRing() {
+		return this.mStateRing;
+	}
+
+	/**
+	 * Keeps the state of the world after each of the last pRollbackSteps steps and the current one, so that the world can be rewound to any of them
+	 * with {@link #rewindTo(long)}, e.g. when a late input arrives. Each step then saves the state with a single native call into preallocated memory,
+	 * see {@link PhysicsStateRing#getMemorySize()}. Bodies, fixtures and joints must not be created or destroyed within the kept steps.
+	 * @param pRollbackSteps 0 to disable rollback.
+	 */
+	public void setRollbackSteps(final int pRollbackSteps) {
+		if(pRollbackSteps <= 0) {
+			this.mStateRing = null;
+		} else {
+			this.mStateRing = new PhysicsStateRing(pRollbackSteps + 1, this.getStateSize() * ROLLBACK_SLOT_SIZE_FACTOR);
+			this.mStateRing.save(this, this.mStepCount);
+		}
+	}
+
 	// ===========================================================
 	// Methods for/from SuperClass/Interfaces
 	// ===========================================================
 
 	@Override
-	public void onUpdate(final float pSecondsElapsed) {
-		this.mRunnableHandler.onUpdate(pSecondsElapsed);
-		this.mSecondsElapsedAccumulator += pSecondsElapsed;
+	protected void onUpdateWorld(final float pSecondsElapsed) {
+		final float stepLength = this.mTimeStep;
+		final OverloadPolicy overloadPolicy = this.mOverloadPolicy;
 
-		final int velocityIterations = this.mVelocityIterations;
-		final int positionIterations = this.mPositionIterations;
+		boolean overloaded = false;
+		if(overloadPolicy == OverloadPolicy.NONE) {
+			this.mSecondsElapsedAccumulator += pSecondsElapsed;
+		} else {
+			if(overloadPolicy == OverloadPolicy.DILATE) {
+				this.mDilatedTime += pSecondsElapsed * (1 - this.mTimeDilation);
+				this.mSecondsElapsedAccumulator += pSecondsElapsed * this.mTimeDilation;
+			} else {
+				this.mSecondsElapsedAccumulator += pSecondsElapsed;
+			}
 
-		final World world = this.mWorld;
-		final float stepLength = this.mTimeStep;
+			final float maximumAccumulator = this.mMaximumAccumulatedSteps * stepLength;
+			if(this.mSecondsElapsedAccumulator > maximumAccumulator) {
+				this.mDroppedTime += this.mSecondsElapsedAccumulator - maximumAccumulator;
+				this.mSecondsElapsedAccumulator = maximumAccumulator;
+				overloaded = true;
+			}
+		}
 		
+		final boolean interpolation = this.mInterpolation;
+		final PhysicsConnectorManager physicsConnectorManager = this.mPhysicsConnectorManager;
+
 		int stepsAllowed = this.mMaximumStepsPerUpdate;
+		boolean stepped = false;
 		
 		while(this.mSecondsElapsedAccumulator >= stepLength && stepsAllowed > 0) {
-			world.step(stepLength, velocityIterations, positionIterations);
+			if(interpolation && (this.mSecondsElapsedAccumulator - stepLength < stepLength || stepsAllowed == 1)) {
+				physicsConnectorManager.capturePreviousTransforms();
+			}
+			this.fixedStep();
 			this.mSecondsElapsedAccumulator -= stepLength;
 			stepsAllowed--;
+			stepped = true;
+		}
+
+		if(overloadPolicy != OverloadPolicy.NONE) {
+			this.onStepsCompleted(overloaded || this.mSecondsElapsedAccumulator >= stepLength);
 		}
 		
-		this.mPhysicsConnectorManager.onUpdate(pSecondsElapsed);
+		if(interpolation && stepped) {
+			physicsConnectorManager.captureCurrentTransforms();
+		}
+	}
+
+	@Override
+	protected void onUpdateConnectors(final float pSecondsElapsed) {
+		if(this.mInterpolation) {
+			this.mPhysicsConnectorManager.onUpdateInterpolated(this.getInterpolationAlpha());
+		} else {
+			this.mPhysicsConnectorManager.onUpdate(pSecondsElapsed);
+		}
 	}
 
 	// ===========================================================
 	// Methods
 	// ===========================================================
 
+	/**
+	 * Restores the state the world had after step pStep, which becomes the current step. The states of the later steps are discarded,
+	 * re-simulate them with {@link #runSteps(int)} after applying the corrected inputs. The time in the accumulator is kept.
+	 * @throws IllegalStateException if rollback is disabled, see {@link #setRollbackSteps(int)}, or while a {@link PhysicsJournalRecorder} records this world.
+	 * @throws IllegalArgumentException if the state of pStep is no longer kept.
+	 */
+	public void rewindTo(final long pStep) {
+		if(this.mStateRing == null) {
+			throw new IllegalStateException("Rollback is disabled, see setRollbackSteps.");
+		}
+		this.checkNotRecording("rewindTo");
+
+		this.mStateRing.restore(this, pStep);
+		this.mStepCount = pStep;
+
+		if(this.mInterpolation) {
+			this.mPhysicsConnectorManager.capturePreviousTransforms();
+			this.mPhysicsConnectorManager.captureCurrentTransforms();
+		}
+	}
+
+	/**
+	 * Runs pStepCount steps right away, independent of the elapsed time, e.g. to re-simulate after {@link #rewindTo(long)}.
+	 * Each step is hashed and saved like the steps run by {@link #onUpdate(float)}.
+	 */
+	public void runSteps(final int pStepCount) {
+		for(int i = 0; i < pStepCount; i++) {
+			this.fixedStep();
+		}
+
+		if(this.mInterpolation && pStepCount > 0) {
+			this.mPhysicsConnectorManager.captureCurrentTransforms();
+		}
+	}
+
+	private void fixedStep() {
+		this.step(this.mTimeStep);
+		this.onStepped();
+		this.mStepCount++;
+		if(this.mStepHashListener != null) {
+			this.mStepHashListener.onStepHashed(this.mStepCount, this.computeStateHash());
+		}
+		if(this.mStateRing != null) {
+			this.mStateRing.save(this, this.mStepCount);
+		}
+	}
+
+	private void onStepsCompleted(final boolean pOverloaded) {
+		final float stepLength = this.mTimeStep;
+
+		if(pOverloaded) {
+			this.mOverloadCount++;
+
+			if(this.mOverloadPolicy == OverloadPolicy.DROP && this.mSecondsElapsedAccumulator >= stepLength) {
+				final float remainder = this.mSecondsElapsedAccumulator % stepLength;
+				this.mDroppedTime += this.mSecondsElapsedAccumulator - remainder;
+				this.mSecondsElapsedAccumulator = remainder;
+			}
+
+			final AdaptiveIterationController iterationController = this.mIterationController;
+			if(iterationController != null && this.mEmergencyIterationReduction > 0) {
+				iterationController.lower(this, this.mEmergencyIterationReduction);
+			}
+		}
+
+		if(this.mOverloadPolicy == OverloadPolicy.DILATE) {
+			if(pOverloaded) {
+				this.mTimeDilation = Math.max(this.mMinimumTimeDilation, this.mTimeDilation * TIME_DILATION_DECREASE_FACTOR);
+			} else {
+				this.mTimeDilation = Math.min(1, this.mTimeDilation + TIME_DILATION_RECOVERY);
+			}
+		}
+	}
+
 	// ===========================================================
 	// Inner and Anonymous Classes
 	// ===========================================================
+
+	/**
+	 * What a {@link FixedStepPhysicsWorld} does when the steps cannot keep up with the elapsed time, e.g. because each step takes longer than the time it simulates.
+	 * Without a policy, the accumulated time grows without bound and every update runs more steps than the last.
+	 */
+	public enum OverloadPolicy {
+		/** Accumulate all elapsed time, only bounded by the maximum steps per update. */
+		NONE,
+		/** Clamp the accumulator and discard the time the steps could not catch up with, so that each update runs a bounded number of steps. */
+		DROP,
+		/** Clamp the accumulator and slow the simulation down to a fraction of real time while overloaded, recovering gradually afterwards. */
+		DILATE;
+	}
 }
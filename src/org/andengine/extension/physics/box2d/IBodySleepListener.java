@@ -0,0 +1,21 @@
+package org.andengine.extension.physics.box2d;
+
+import com.badlogic.gdx.physics.box2d.Body;
+
+/**
+ * Notified by a {@link PhysicsWorld} with awake body tracking enabled, after each step in which a {@link Body} woke up or fell asleep.
+ * 
+ * @see PhysicsWorld#setAwakeBodyTracking(boolean)
+ */
+public interface IBodySleepListener {
+	// ===========================================================
+	// Constants
+	// ===========================================================
+
+	// ===========================================================
+	// Methods
+	// ===========================================================
+
+	public void onBodyAwake(final Body pBody);
+	public void onBodyAsleep(final Body pBody);
+}
@@ -0,0 +1,23 @@
+package org.andengine.extension.physics.box2d;
+
+/**
+ * Notified by a {@link FixedStepPhysicsWorld} after each step with the hash of the resulting state, e.g. to exchange and compare the hashes
+ * of the peers of a lockstep simulation and detect when they desynchronise.
+ *
+ * @see FixedStepPhysicsWorld#setStepHashListener(IStepHashListener)
+ */
+public interface IStepHashListener {
+	// ===========================================================
+	// Constants
+	// ===========================================================
+
+	// ===========================================================
+	// Methods
+	// ===========================================================
+
+	/**
+	 * @param pStep the number of the step, starting at 1 for the first step of the world.
+	 * @param pStateHash see {@link PhysicsWorld#computeStateHash()}.
+	 */
+	public void onStepHashed(final long pStep, final long pStateHash);
+}
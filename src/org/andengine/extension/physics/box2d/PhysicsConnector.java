@@ -35,6 +35,20 @@ public class PhysicsConnector implements IUpdateHandler, PhysicsConstants {
 	protected boolean mUpdateRotation;
 	protected final float mPixelToMeterRatio;
 
+	/** The next connector of the same body and whether the shape still has to be synchronised once, see {@link PhysicsWorld#setAwakeBodyTracking(boolean)}. */
+	PhysicsConnector mNextBodyPhysicsConnector;
+	boolean mSynchronisationPending;
+
+	/** The transforms of the body captured for interpolation and the captures they belong to, see {@link FixedStepPhysicsWorld#setInterpolation(boolean)}. */
+	float mPreviousX;
+	float mPreviousY;
+	float mPreviousAngle;
+	int mPreviousCapture;
+	float mCurrentX;
+	float mCurrentY;
+	float mCurrentAngle;
+	int mCurrentCapture;
+
 	// ===========================================================
 	// Constructors
 	// ===========================================================
@@ -121,6 +135,26 @@ public class PhysicsConnector implements IUpdateHandler, PhysicsConstants {
 	// Methods
 	// ===========================================================
 
+	/**
+	 * Applies a transform of the {@link Body} read in bulk, instead of reading it from the {@link Body} as {@link #onUpdate(float)} does.
+	 * 
+	 * @param pX in meters.
+	 * @param pY in meters.
+	 * @param pAngle in radians.
+	 */
+	protected void onUpdateTransform(final float pX, final float pY, final float pAngle) {
+		final IShape shape = this.mShape;
+
+		if(this.mUpdatePosition) {
+			final float pixelToMeterRatio = this.mPixelToMeterRatio;
+			shape.setPosition(pX * pixelToMeterRatio - this.mShapeHalfBaseWidth, pY * pixelToMeterRatio - this.mShapeHalfBaseHeight);
+		}
+
+		if(this.mUpdateRotation) {
+			shape.setRotation(MathUtils.radToDeg(pAngle));
+		}
+	}
+
 	// ===========================================================
 	// Inner and Anonymous Classes
 	// ===========================================================
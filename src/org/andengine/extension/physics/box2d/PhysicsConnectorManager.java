@@ -1,11 +1,17 @@
 package org.andengine.extension.physics.box2d;
 
+import java.nio.FloatBuffer;
+import java.nio.LongBuffer;
 import java.util.ArrayList;
 
 import org.andengine.engine.handler.IUpdateHandler;
 import org.andengine.entity.shape.IShape;
 
+import com.badlogic.gdx.physics.box2d.AwakeBodySet;
 import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.LongMap;
 
 /**
  * (c) 2010 Nicolas Gramlich 
@@ -21,31 +27,86 @@ public class PhysicsConnectorManager extends ArrayList<PhysicsConnector> impleme
 	
 	private static final long serialVersionUID = 412969510084261799L;
 
+	private static final int TRANSFORM_STRIDE = World.TRANSFORM_STRIDE;
+
 	// ===========================================================
 	// Fields
 	// ===========================================================
 
+	private final World mWorld;
+
+	private boolean mBatchedSynchronisation;
+	private AwakeBodySet mAwakeBodySet;
+
+	/** While awake body tracking is enabled: the connectors by the address of their body, chained by {@link PhysicsConnector#mNextBodyPhysicsConnector}, and the connectors to synchronise once more. */
+	private final LongMap<PhysicsConnector> mBodyPhysicsConnectors = new LongMap<PhysicsConnector>();
+	private final ArrayList<PhysicsConnector> mPendingPhysicsConnectors = new ArrayList<PhysicsConnector>();
+	/** The modCount the lookup was last updated for. The lookup is rebuilt when the list was changed by other means than the methods overridden here. */
+	private int mIndexedModCount;
+
+	private LongBuffer mBodyAddresses;
+	private FloatBuffer mTransforms;
+	private float[] mTransformValues;
+	private PhysicsConnector[] mBatchedPhysicsConnectors;
+
+	/** The captures of the interpolation, each connector records the capture its transforms belong to. -1 before the first capture. */
+	private int mCaptureCount;
+	private int mPreviousCapture = -1;
+	private int mCurrentCapture = -1;
+
 	// ===========================================================
 	// Constructors
 	// ===========================================================
 	
-	PhysicsConnectorManager() {
-		
+	PhysicsConnectorManager(final World pWorld) {
+		this.mWorld = pWorld;
 	}
 
 	// ===========================================================
 	// Getter & Setter
 	// ===========================================================
 
+	public boolean isBatchedSynchronisation() {
+		return this.mBatchedSynchronisation;
+	}
+
+	/**
+	 * When enabled, the transforms of all connected bodies are fetched with a single native call per update and applied to the shapes in one loop,
+	 * instead of each {@link PhysicsConnector} reading its {@link Body} on its own.
+	 * Note that {@link PhysicsConnector#onUpdate(float)} is not called in this mode, but {@link PhysicsConnector#onUpdateTransform(float, float, float)}.
+	 */
+	public void setBatchedSynchronisation(final boolean pBatchedSynchronisation) {
+		this.mBatchedSynchronisation = pBatchedSynchronisation;
+	}
+
+	/**
+	 * When set, only the connectors of the awake bodies are synchronised, found through the awake bodies of the last step rather than by visiting every connector.
+	 * The connectors of bodies that fell asleep, and new connectors, are synchronised once more.
+	 */
+	void setAwakeBodySet(final AwakeBodySet pAwakeBodySet) {
+		this.mAwakeBodySet = pAwakeBodySet;
+		this.indexPhysicsConnectors();
+	}
+
 	// ===========================================================
 	// Methods for/from SuperClass/Interfaces
 	// ===========================================================
 
 	@Override
 	public void onUpdate(final float pSecondsElapsed) {
-		final ArrayList<PhysicsConnector> physicsConnectors = this;
-		for(int i = physicsConnectors.size() - 1; i >= 0; i--) {
-			physicsConnectors.get(i).onUpdate(pSecondsElapsed);
+		if(this.mBatchedSynchronisation) {
+			this.onUpdateBatched();
+		} else if(this.mAwakeBodySet != null) {
+			final int physicsConnectorCount = this.collectAwakePhysicsConnectors();
+			final PhysicsConnector[] physicsConnectors = this.mBatchedPhysicsConnectors;
+			for(int i = physicsConnectorCount - 1; i >= 0; i--) {
+				physicsConnectors[i].onUpdate(pSecondsElapsed);
+			}
+		} else {
+			final ArrayList<PhysicsConnector> physicsConnectors = this;
+			for(int i = physicsConnectors.size() - 1; i >= 0; i--) {
+				physicsConnectors.get(i).onUpdate(pSecondsElapsed);
+			}
 		}
 	}
 	
@@ -55,11 +116,358 @@ public class PhysicsConnectorManager extends ArrayList<PhysicsConnector> impleme
 		for(int i = physicsConnectors.size() - 1; i >= 0; i--) {
 			physicsConnectors.get(i).reset();
 		}
+		this.indexPhysicsConnectors();
+	}
+
+	@Override
+	public boolean add(final PhysicsConnector pPhysicsConnector) {
+		final int modCount = this.modCount;
+		final boolean added = super.add(pPhysicsConnector);
+		this.onAdded(modCount, pPhysicsConnector);
+		return added;
+	}
+
+	@Override
+	public void add(final int pIndex, final PhysicsConnector pPhysicsConnector) {
+		final int modCount = this.modCount;
+		super.add(pIndex, pPhysicsConnector);
+		this.onAdded(modCount, pPhysicsConnector);
+	}
+
+	@Override
+	public PhysicsConnector set(final int pIndex, final PhysicsConnector pPhysicsConnector) {
+		final int modCount = this.modCount;
+		final PhysicsConnector removed = super.set(pIndex, pPhysicsConnector);
+		this.onRemoved(modCount, removed);
+		this.onAdded(modCount, pPhysicsConnector);
+		return removed;
+	}
+
+	@Override
+	public PhysicsConnector remove(final int pIndex) {
+		final int modCount = this.modCount;
+		final PhysicsConnector removed = super.remove(pIndex);
+		this.onRemoved(modCount, removed);
+		return removed;
+	}
+
+	@Override
+	public boolean remove(final Object pObject) {
+		final int modCount = this.modCount;
+		if(super.remove(pObject)) {
+			this.onRemoved(modCount, (PhysicsConnector) pObject);
+			return true;
+		}
+		return false;
+	}
+
+	@Override
+	public void clear() {
+		super.clear();
+		this.indexPhysicsConnectors();
 	}
 
 	// ===========================================================
 	// Methods
 	// ===========================================================
+
+	/**
+	 * Rebuilds the lookup of the connectors by body and marks all of them to be synchronised once more.
+	 */
+	private void indexPhysicsConnectors() {
+		final ArrayList<PhysicsConnector> pendingPhysicsConnectors = this.mPendingPhysicsConnectors;
+		for(int i = pendingPhysicsConnectors.size() - 1; i >= 0; i--) {
+			pendingPhysicsConnectors.get(i).mSynchronisationPending = false;
+		}
+		pendingPhysicsConnectors.clear();
+		this.mBodyPhysicsConnectors.clear();
+
+		final ArrayList<PhysicsConnector> physicsConnectors = this;
+		for(int i = physicsConnectors.size() - 1; i >= 0; i--) {
+			physicsConnectors.get(i).mNextBodyPhysicsConnector = null;
+		}
+		if(this.mAwakeBodySet != null) {
+			for(int i = 0; i < physicsConnectors.size(); i++) {
+				this.indexPhysicsConnector(physicsConnectors.get(i));
+			}
+		}
+		this.mIndexedModCount = this.modCount;
+	}
+
+	private void indexPhysicsConnector(final PhysicsConnector pPhysicsConnector) {
+		final long bodyAddress = pPhysicsConnector.mBody.getAddress();
+		final PhysicsConnector firstPhysicsConnector = this.mBodyPhysicsConnectors.get(bodyAddress);
+		for(PhysicsConnector physicsConnector = firstPhysicsConnector; physicsConnector != null; physicsConnector = physicsConnector.mNextBodyPhysicsConnector) {
+			if(physicsConnector == pPhysicsConnector) {
+				return;
+			}
+		}
+		pPhysicsConnector.mNextBodyPhysicsConnector = firstPhysicsConnector;
+		this.mBodyPhysicsConnectors.put(bodyAddress, pPhysicsConnector);
+		this.addPendingPhysicsConnector(pPhysicsConnector);
+	}
+
+	private void unindexPhysicsConnector(final PhysicsConnector pPhysicsConnector) {
+		final long bodyAddress = pPhysicsConnector.mBody.getAddress();
+		final PhysicsConnector firstPhysicsConnector = this.mBodyPhysicsConnectors.get(bodyAddress);
+		if(firstPhysicsConnector == pPhysicsConnector) {
+			if(pPhysicsConnector.mNextBodyPhysicsConnector == null) {
+				this.mBodyPhysicsConnectors.remove(bodyAddress);
+			} else {
+				this.mBodyPhysicsConnectors.put(bodyAddress, pPhysicsConnector.mNextBodyPhysicsConnector);
+			}
+		} else {
+			for(PhysicsConnector physicsConnector = firstPhysicsConnector; physicsConnector != null; physicsConnector = physicsConnector.mNextBodyPhysicsConnector) {
+				if(physicsConnector.mNextBodyPhysicsConnector == pPhysicsConnector) {
+					physicsConnector.mNextBodyPhysicsConnector = pPhysicsConnector.mNextBodyPhysicsConnector;
+					break;
+				}
+			}
+		}
+		pPhysicsConnector.mNextBodyPhysicsConnector = null;
+
+		if(pPhysicsConnector.mSynchronisationPending) {
+			pPhysicsConnector.mSynchronisationPending = false;
+			this.mPendingPhysicsConnectors.remove(pPhysicsConnector);
+		}
+	}
+
+	/**
+	 * @param pModCount the modCount before the connector was added. The lookup is only updated if it was current, otherwise it is rebuilt before the next synchronisation anyway.
+	 */
+	private void onAdded(final int pModCount, final PhysicsConnector pPhysicsConnector) {
+		if(pModCount == this.mIndexedModCount) {
+			if(this.mAwakeBodySet != null) {
+				this.indexPhysicsConnector(pPhysicsConnector);
+			}
+			this.mIndexedModCount = this.modCount;
+		}
+	}
+
+	private void onRemoved(final int pModCount, final PhysicsConnector pPhysicsConnector) {
+		if(pModCount == this.mIndexedModCount) {
+			if(this.mAwakeBodySet != null) {
+				this.unindexPhysicsConnector(pPhysicsConnector);
+			}
+			this.mIndexedModCount = this.modCount;
+		}
+	}
+
+	private void addPendingPhysicsConnector(final PhysicsConnector pPhysicsConnector) {
+		if(!pPhysicsConnector.mSynchronisationPending) {
+			pPhysicsConnector.mSynchronisationPending = true;
+			this.mPendingPhysicsConnectors.add(pPhysicsConnector);
+		}
+	}
+
+	/**
+	 * Marks the connectors of the bodies that fell asleep during the last step to be synchronised once more, i.e. call it after each step while awake body tracking is enabled.
+	 */
+	void onStepped() {
+		final AwakeBodySet awakeBodySet = this.mAwakeBodySet;
+		if(awakeBodySet == null || this.modCount != this.mIndexedModCount) {
+			return;
+		}
+
+		final LongMap<PhysicsConnector> bodyPhysicsConnectors = this.mBodyPhysicsConnectors;
+		for(int i = 0, n = awakeBodySet.getSleptCount(); i < n; i++) {
+			for(PhysicsConnector physicsConnector = bodyPhysicsConnectors.get(awakeBodySet.getSleptBodyAddress(i)); physicsConnector != null; physicsConnector = physicsConnector.mNextBodyPhysicsConnector) {
+				this.addPendingPhysicsConnector(physicsConnector);
+			}
+		}
+	}
+
+	/**
+	 * Gathers the connectors of the bodies awake after the last step, and the pending ones, into {@link #mBatchedPhysicsConnectors}.
+	 * Visits only the awake bodies and the pending connectors, not the whole list.
+	 * @return the number of connectors gathered.
+	 */
+	private int collectAwakePhysicsConnectors() {
+		if(this.modCount != this.mIndexedModCount) {
+			this.indexPhysicsConnectors();
+		}
+		this.ensureBatchCapacity(this.size());
+
+		final AwakeBodySet awakeBodySet = this.mAwakeBodySet;
+		final LongMap<PhysicsConnector> bodyPhysicsConnectors = this.mBodyPhysicsConnectors;
+		final PhysicsConnector[] batchedPhysicsConnectors = this.mBatchedPhysicsConnectors;
+		int physicsConnectorCount = 0;
+		for(int i = 0, n = awakeBodySet.getAwakeCount(); i < n; i++) {
+			final long bodyAddress = awakeBodySet.getAwakeBodyAddress(i);
+			/* Skips the bodies destroyed since the last step. */
+			if(awakeBodySet.isAwake(bodyAddress)) {
+				for(PhysicsConnector physicsConnector = bodyPhysicsConnectors.get(bodyAddress); physicsConnector != null; physicsConnector = physicsConnector.mNextBodyPhysicsConnector) {
+					batchedPhysicsConnectors[physicsConnectorCount++] = physicsConnector;
+				}
+			}
+		}
+
+		final ArrayList<PhysicsConnector> pendingPhysicsConnectors = this.mPendingPhysicsConnectors;
+		for(int i = pendingPhysicsConnectors.size() - 1; i >= 0; i--) {
+			final PhysicsConnector physicsConnector = pendingPhysicsConnectors.get(i);
+			physicsConnector.mSynchronisationPending = false;
+			if(!awakeBodySet.isAwake(physicsConnector.mBody)) {
+				batchedPhysicsConnectors[physicsConnectorCount++] = physicsConnector;
+			}
+		}
+		pendingPhysicsConnectors.clear();
+
+		return physicsConnectorCount;
+	}
+
+	private void onUpdateBatched() {
+		final ArrayList<PhysicsConnector> physicsConnectors = this;
+		final int connectorCount = physicsConnectors.size();
+		if(connectorCount == 0) {
+			return;
+		}
+
+		this.ensureBatchCapacity(connectorCount);
+
+		final PhysicsConnector[] batchedPhysicsConnectors = this.mBatchedPhysicsConnectors;
+		final int physicsConnectorCount;
+		if(this.mAwakeBodySet != null) {
+			physicsConnectorCount = this.collectAwakePhysicsConnectors();
+			if(physicsConnectorCount == 0) {
+				return;
+			}
+		} else {
+			for(int i = 0; i < connectorCount; i++) {
+				batchedPhysicsConnectors[i] = physicsConnectors.get(i);
+			}
+			physicsConnectorCount = connectorCount;
+		}
+
+		final LongBuffer bodyAddresses = this.mBodyAddresses;
+		for(int i = 0; i < physicsConnectorCount; i++) {
+			bodyAddresses.put(i, batchedPhysicsConnectors[i].mBody.getAddress());
+		}
+
+		final FloatBuffer transforms = this.mTransforms;
+		this.mWorld.getBodyTransforms(bodyAddresses, physicsConnectorCount, transforms);
+
+		final float[] transformValues = this.mTransformValues;
+		transforms.position(0);
+		transforms.get(transformValues, 0, physicsConnectorCount * TRANSFORM_STRIDE);
+
+		for(int i = 0, j = 0; i < physicsConnectorCount; i++, j += TRANSFORM_STRIDE) {
+			batchedPhysicsConnectors[i].onUpdateTransform(transformValues[j], transformValues[j + 1], transformValues[j + 2]);
+		}
+	}
+
+	/**
+	 * Records the transforms of all connected bodies as the start of the interpolation, i.e. call it before the last step of an update.
+	 */
+	void capturePreviousTransforms() {
+		this.mPreviousCapture = ++this.mCaptureCount;
+		this.gatherTransforms(true, false);
+	}
+
+	/**
+	 * Records the transforms of all connected bodies as the end of the interpolation, i.e. call it after the last step of an update.
+	 */
+	void captureCurrentTransforms() {
+		this.mCurrentCapture = ++this.mCaptureCount;
+		this.gatherTransforms(false, false);
+	}
+
+	/**
+	 * Sets every shape to the transform of its body interpolated between the captured previous and current transforms.
+	 * Only the connectors registered since the last capture are snapped to the current transform of their body, the others keep interpolating.
+	 * 
+	 * @param pAlpha from 0 (previous transform) to 1 (current transform).
+	 */
+	void onUpdateInterpolated(final float pAlpha) {
+		final ArrayList<PhysicsConnector> physicsConnectors = this;
+		final int physicsConnectorCount = physicsConnectors.size();
+		if(physicsConnectorCount == 0) {
+			return;
+		}
+
+		if(this.mCurrentCapture < 0) {
+			this.captureCurrentTransforms();
+		} else {
+			this.gatherTransforms(false, true);
+		}
+
+		final int previousCapture = this.mPreviousCapture;
+		for(int i = 0; i < physicsConnectorCount; i++) {
+			final PhysicsConnector physicsConnector = physicsConnectors.get(i);
+			if(physicsConnector.mPreviousCapture != previousCapture) {
+				physicsConnector.mPreviousX = physicsConnector.mCurrentX;
+				physicsConnector.mPreviousY = physicsConnector.mCurrentY;
+				physicsConnector.mPreviousAngle = physicsConnector.mCurrentAngle;
+				physicsConnector.mPreviousCapture = previousCapture;
+			}
+
+			final float x = physicsConnector.mPreviousX + (physicsConnector.mCurrentX - physicsConnector.mPreviousX) * pAlpha;
+			final float y = physicsConnector.mPreviousY + (physicsConnector.mCurrentY - physicsConnector.mPreviousY) * pAlpha;
+			final float angle = physicsConnector.mPreviousAngle + (physicsConnector.mCurrentAngle - physicsConnector.mPreviousAngle) * pAlpha;
+			physicsConnector.onUpdateTransform(x, y, angle);
+		}
+	}
+
+	/**
+	 * @param pPrevious whether to record the transforms as the previous or the current capture.
+	 * @param pMissingOnly whether to skip the connectors that already hold that capture.
+	 */
+	private void gatherTransforms(final boolean pPrevious, final boolean pMissingOnly) {
+		final ArrayList<PhysicsConnector> physicsConnectors = this;
+		final int connectorCount = physicsConnectors.size();
+		if(connectorCount == 0) {
+			return;
+		}
+
+		this.ensureBatchCapacity(connectorCount);
+
+		final int capture = (pPrevious) ? this.mPreviousCapture : this.mCurrentCapture;
+		final PhysicsConnector[] batchedPhysicsConnectors = this.mBatchedPhysicsConnectors;
+		final LongBuffer bodyAddresses = this.mBodyAddresses;
+		int physicsConnectorCount = 0;
+		for(int i = 0; i < connectorCount; i++) {
+			final PhysicsConnector physicsConnector = physicsConnectors.get(i);
+			if(!pMissingOnly || ((pPrevious) ? physicsConnector.mPreviousCapture : physicsConnector.mCurrentCapture) != capture) {
+				batchedPhysicsConnectors[physicsConnectorCount] = physicsConnector;
+				bodyAddresses.put(physicsConnectorCount, physicsConnector.mBody.getAddress());
+				physicsConnectorCount++;
+			}
+		}
+		if(physicsConnectorCount == 0) {
+			return;
+		}
+
+		final FloatBuffer transforms = this.mTransforms;
+		this.mWorld.getBodyTransforms(bodyAddresses, physicsConnectorCount, transforms);
+
+		final float[] transformValues = this.mTransformValues;
+		transforms.position(0);
+		transforms.get(transformValues, 0, physicsConnectorCount * TRANSFORM_STRIDE);
+
+		for(int i = 0, j = 0; i < physicsConnectorCount; i++, j += TRANSFORM_STRIDE) {
+			final PhysicsConnector physicsConnector = batchedPhysicsConnectors[i];
+			if(pPrevious) {
+				physicsConnector.mPreviousX = transformValues[j];
+				physicsConnector.mPreviousY = transformValues[j + 1];
+				physicsConnector.mPreviousAngle = transformValues[j + 2];
+				physicsConnector.mPreviousCapture = capture;
+			} else {
+				physicsConnector.mCurrentX = transformValues[j];
+				physicsConnector.mCurrentY = transformValues[j + 1];
+				physicsConnector.mCurrentAngle = transformValues[j + 2];
+				physicsConnector.mCurrentCapture = capture;
+			}
+		}
+	}
+
+	private void ensureBatchCapacity(final int pPhysicsConnectorCount) {
+		if(this.mBodyAddresses == null || this.mBodyAddresses.capacity() < pPhysicsConnectorCount) {
+			final int capacity = Math.max(pPhysicsConnectorCount, (this.mBodyAddresses == null) ? 0 : this.mBodyAddresses.capacity() * 2);
+			this.mBodyAddresses = BufferUtils.newLongBuffer(capacity);
+			this.mTransforms = BufferUtils.newFloatBuffer(capacity * TRANSFORM_STRIDE);
+			this.mTransformValues = new float[capacity * TRANSFORM_STRIDE];
+			this.mBatchedPhysicsConnectors = new PhysicsConnector[capacity];
+		}
+	}
 	
 	public Body findBodyByShape(final IShape pShape) {
 		final ArrayList<PhysicsConnector> physicsConnectors = this;
@@ -20,7 +20,9 @@ import com.badlogic.gdx.physics.box2d.CircleShape;
 import com.badlogic.gdx.physics.box2d.Filter;
 import com.badlogic.gdx.physics.box2d.Fixture;
 import com.badlogic.gdx.physics.box2d.FixtureDef;
+import com.badlogic.gdx.physics.box2d.PackedBodyDefs;
 import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.physics.box2d.Shape;
 
 /**
  * (c) 2010 Nicolas Gramlich 
@@ -87,6 +89,20 @@ public class PhysicsFactory {
 		return PhysicsFactory.createBoxBody(pPhysicsWorld, centerX, centerY, pAreaShape.getWidthScaled(), pAreaShape.getHeightScaled(), pAreaShape.getRotation(), pBodyType, pFixtureDef, pPixelToMeterRatio);
 	}
 
+	public static Body createBoxBody(final PhysicsWorld pPhysicsWorld, final IAreaShape pAreaShape, final BodyType pBodyType, final FixtureDef pFixtureDef, final ShapeCache pShapeCache) {
+		return PhysicsFactory.createBoxBody(pPhysicsWorld, pAreaShape, pBodyType, pFixtureDef, PIXEL_TO_METER_RATIO_DEFAULT, pShapeCache);
+	}
+
+	/**
+	 * @param pShapeCache shares the box shape with the other bodies of the same size.
+	 */
+	public static Body createBoxBody(final PhysicsWorld pPhysicsWorld, final IAreaShape pAreaShape, final BodyType pBodyType, final FixtureDef pFixtureDef, final float pPixelToMeterRatio, final ShapeCache pShapeCache) {
+		final float[] sceneCenterCoordinates = pAreaShape.getSceneCenterCoordinates();
+		final float centerX = sceneCenterCoordinates[Constants.VERTEX_INDEX_X];
+		final float centerY = sceneCenterCoordinates[Constants.VERTEX_INDEX_Y];
+		return PhysicsFactory.createBoxBody(pPhysicsWorld, centerX, centerY, pAreaShape.getWidthScaled(), pAreaShape.getHeightScaled(), pAreaShape.getRotation(), pBodyType, pFixtureDef, pPixelToMeterRatio, pShapeCache);
+	}
+
 	public static Body createBoxBody(final PhysicsWorld pPhysicsWorld, final float pCenterX, final float pCenterY, final float pWidth, final float pHeight, final BodyType pBodyType, final FixtureDef pFixtureDef) {
 		return PhysicsFactory.createBoxBody(pPhysicsWorld, pCenterX, pCenterY, pWidth, pHeight, 0, pBodyType, pFixtureDef, PIXEL_TO_METER_RATIO_DEFAULT);
 	}
@@ -100,6 +116,17 @@ public class PhysicsFactory {
 	}
 
 	public static Body createBoxBody(final PhysicsWorld pPhysicsWorld, final float pCenterX, final float pCenterY, final float pWidth, final float pHeight, final float pRotation, final BodyType pBodyType, final FixtureDef pFixtureDef, final float pPixelToMeterRatio) {
+		return PhysicsFactory.createBoxBody(pPhysicsWorld, pCenterX, pCenterY, pWidth, pHeight, pRotation, pBodyType, pFixtureDef, pPixelToMeterRatio, null);
+	}
+
+	public static Body createBoxBody(final PhysicsWorld pPhysicsWorld, final float pCenterX, final float pCenterY, final float pWidth, final float pHeight, final float pRotation, final BodyType pBodyType, final FixtureDef pFixtureDef, final ShapeCache pShapeCache) {
+		return PhysicsFactory.createBoxBody(pPhysicsWorld, pCenterX, pCenterY, pWidth, pHeight, pRotation, pBodyType, pFixtureDef, PIXEL_TO_METER_RATIO_DEFAULT, pShapeCache);
+	}
+
+	/**
+	 * @param pShapeCache shares the box shape with the other bodies of the same size, or null to allocate and dispose a shape for this body only.
+	 */
+	public static Body createBoxBody(final PhysicsWorld pPhysicsWorld, final float pCenterX, final float pCenterY, final float pWidth, final float pHeight, final float pRotation, final BodyType pBodyType, final FixtureDef pFixtureDef, final float pPixelToMeterRatio, final ShapeCache pShapeCache) {
 		final BodyDef boxBodyDef = new BodyDef();
 		boxBodyDef.type = pBodyType;
 
@@ -108,23 +135,66 @@ public class PhysicsFactory {
 
 		final Body boxBody = pPhysicsWorld.createBody(boxBodyDef);
 
-		final PolygonShape boxPoly = new PolygonShape();
-
 		final float halfWidth = pWidth * 0.5f / pPixelToMeterRatio;
 		final float halfHeight = pHeight * 0.5f / pPixelToMeterRatio;
 
-		boxPoly.setAsBox(halfWidth, halfHeight);
+		final PolygonShape boxPoly;
+		if(pShapeCache == null) {
+			boxPoly = new PolygonShape();
+			boxPoly.setAsBox(halfWidth, halfHeight);
+		} else {
+			boxPoly = pShapeCache.getBox(halfWidth, halfHeight);
+		}
 		pFixtureDef.shape = boxPoly;
 
 		boxBody.createFixture(pFixtureDef);
 
-		boxPoly.dispose();
+		PhysicsFactory.recycleShape(boxPoly, pShapeCache);
 
-		boxBody.setTransform(boxBody.getWorldCenter(), MathUtils.degToRad(pRotation));
+		PhysicsFactory.setTransform(pPhysicsWorld, boxBody, boxBody.getWorldCenter(), MathUtils.degToRad(pRotation));
 
 		return boxBody;
 	}
 
+	/**
+	 * Adds a box body to pPackedBodyDefs, for creating many bodies at once through {@link PhysicsWorld#createBodies(PackedBodyDefs)}.
+	 * The result is the same as {@link #createBoxBody(PhysicsWorld, float, float, float, float, float, BodyType, FixtureDef)}.
+	 */
+	public static void addBoxBody(final PackedBodyDefs pPackedBodyDefs, final float pCenterX, final float pCenterY, final float pWidth, final float pHeight, final float pRotation, final BodyType pBodyType, final FixtureDef pFixtureDef) {
+		PhysicsFactory.addBoxBody(pPackedBodyDefs, pCenterX, pCenterY, pWidth, pHeight, pRotation, pBodyType, pFixtureDef, PIXEL_TO_METER_RATIO_DEFAULT);
+	}
+
+	public static void addBoxBody(final PackedBodyDefs pPackedBodyDefs, final float pCenterX, final float pCenterY, final float pWidth, final float pHeight, final float pRotation, final BodyType pBodyType, final FixtureDef pFixtureDef, final float pPixelToMeterRatio) {
+		final BodyDef boxBodyDef = new BodyDef();
+		boxBodyDef.type = pBodyType;
+		boxBodyDef.position.x = pCenterX / pPixelToMeterRatio;
+		boxBodyDef.position.y = pCenterY / pPixelToMeterRatio;
+		boxBodyDef.angle = MathUtils.degToRad(pRotation);
+
+		final float halfWidth = pWidth * 0.5f / pPixelToMeterRatio;
+		final float halfHeight = pHeight * 0.5f / pPixelToMeterRatio;
+
+		pPackedBodyDefs.addBody(boxBodyDef).addBox(pFixtureDef, halfWidth, halfHeight);
+	}
+
+	/**
+	 * Adds a circle body to pPackedBodyDefs, for creating many bodies at once through {@link PhysicsWorld#createBodies(PackedBodyDefs)}.
+	 * The result is the same as {@link #createCircleBody(PhysicsWorld, float, float, float, float, BodyType, FixtureDef)}.
+	 */
+	public static void addCircleBody(final PackedBodyDefs pPackedBodyDefs, final float pCenterX, final float pCenterY, final float pRadius, final float pRotation, final BodyType pBodyType, final FixtureDef pFixtureDef) {
+		PhysicsFactory.addCircleBody(pPackedBodyDefs, pCenterX, pCenterY, pRadius, pRotation, pBodyType, pFixtureDef, PIXEL_TO_METER_RATIO_DEFAULT);
+	}
+
+	public static void addCircleBody(final PackedBodyDefs pPackedBodyDefs, final float pCenterX, final float pCenterY, final float pRadius, final float pRotation, final BodyType pBodyType, final FixtureDef pFixtureDef, final float pPixelToMeterRatio) {
+		final BodyDef circleBodyDef = new BodyDef();
+		circleBodyDef.type = pBodyType;
+		circleBodyDef.position.x = pCenterX / pPixelToMeterRatio;
+		circleBodyDef.position.y = pCenterY / pPixelToMeterRatio;
+		circleBodyDef.angle = MathUtils.degToRad(pRotation);
+
+		pPackedBodyDefs.addBody(circleBodyDef).addCircle(pFixtureDef, pRadius / pPixelToMeterRatio, 0, 0);
+	}
+
 	public static Body createCircleBody(final PhysicsWorld pPhysicsWorld, final IAreaShape pAreaShape, final BodyType pBodyType, final FixtureDef pFixtureDef) {
 		return PhysicsFactory.createCircleBody(pPhysicsWorld, pAreaShape, pBodyType, pFixtureDef, PIXEL_TO_METER_RATIO_DEFAULT);
 	}
@@ -136,6 +206,20 @@ public class PhysicsFactory {
 		return PhysicsFactory.createCircleBody(pPhysicsWorld, centerX, centerY, pAreaShape.getWidthScaled() * 0.5f, pAreaShape.getRotation(), pBodyType, pFixtureDef, pPixelToMeterRatio);
 	}
 
+	public static Body createCircleBody(final PhysicsWorld pPhysicsWorld, final IAreaShape pAreaShape, final BodyType pBodyType, final FixtureDef pFixtureDef, final ShapeCache pShapeCache) {
+		return PhysicsFactory.createCircleBody(pPhysicsWorld, pAreaShape, pBodyType, pFixtureDef, PIXEL_TO_METER_RATIO_DEFAULT, pShapeCache);
+	}
+
+	/**
+	 * @param pShapeCache shares the circle shape with the other bodies of the same radius.
+	 */
+	public static Body createCircleBody(final PhysicsWorld pPhysicsWorld, final IAreaShape pAreaShape, final BodyType pBodyType, final FixtureDef pFixtureDef, final float pPixelToMeterRatio, final ShapeCache pShapeCache) {
+		final float[] sceneCenterCoordinates = pAreaShape.getSceneCenterCoordinates();
+		final float centerX = sceneCenterCoordinates[Constants.VERTEX_INDEX_X];
+		final float centerY = sceneCenterCoordinates[Constants.VERTEX_INDEX_Y];
+		return PhysicsFactory.createCircleBody(pPhysicsWorld, centerX, centerY, pAreaShape.getWidthScaled() * 0.5f, pAreaShape.getRotation(), pBodyType, pFixtureDef, pPixelToMeterRatio, pShapeCache);
+	}
+
 	public static Body createCircleBody(final PhysicsWorld pPhysicsWorld, final float pCenterX, final float pCenterY, final float pRadius, final BodyType pBodyType, final FixtureDef pFixtureDef) {
 		return createCircleBody(pPhysicsWorld, pCenterX, pCenterY, pRadius, 0, pBodyType, pFixtureDef, PIXEL_TO_METER_RATIO_DEFAULT);
 	}
@@ -149,6 +233,17 @@ public class PhysicsFactory {
 	}
 
 	public static Body createCircleBody(final PhysicsWorld pPhysicsWorld, final float pCenterX, final float pCenterY, final float pRadius, final float pRotation, final BodyType pBodyType, final FixtureDef pFixtureDef, final float pPixelToMeterRatio) {
+		return PhysicsFactory.createCircleBody(pPhysicsWorld, pCenterX, pCenterY, pRadius, pRotation, pBodyType, pFixtureDef, pPixelToMeterRatio, null);
+	}
+
+	public static Body createCircleBody(final PhysicsWorld pPhysicsWorld, final float pCenterX, final float pCenterY, final float pRadius, final float pRotation, final BodyType pBodyType, final FixtureDef pFixtureDef, final ShapeCache pShapeCache) {
+		return PhysicsFactory.createCircleBody(pPhysicsWorld, pCenterX, pCenterY, pRadius, pRotation, pBodyType, pFixtureDef, PIXEL_TO_METER_RATIO_DEFAULT, pShapeCache);
+	}
+
+	/**
+	 * @param pShapeCache shares the circle shape with the other bodies of the same radius, or null to allocate and dispose a shape for this body only.
+	 */
+	public static Body createCircleBody(final PhysicsWorld pPhysicsWorld, final float pCenterX, final float pCenterY, final float pRadius, final float pRotation, final BodyType pBodyType, final FixtureDef pFixtureDef, final float pPixelToMeterRatio, final ShapeCache pShapeCache) {
 		final BodyDef circleBodyDef = new BodyDef();
 		circleBodyDef.type = pBodyType;
 
@@ -159,15 +254,20 @@ public class PhysicsFactory {
 
 		final Body circleBody = pPhysicsWorld.createBody(circleBodyDef);
 
-		final CircleShape circlePoly = new CircleShape();
-		pFixtureDef.shape = circlePoly;
-
 		final float radius = pRadius / pPixelToMeterRatio;
-		circlePoly.setRadius(radius);
+
+		final CircleShape circlePoly;
+		if(pShapeCache == null) {
+			circlePoly = new CircleShape();
+			circlePoly.setRadius(radius);
+		} else {
+			circlePoly = pShapeCache.getCircle(radius);
+		}
+		pFixtureDef.shape = circlePoly;
 
 		circleBody.createFixture(pFixtureDef);
 
-		circlePoly.dispose();
+		PhysicsFactory.recycleShape(circlePoly, pShapeCache);
 
 		return circleBody;
 	}
@@ -231,6 +331,22 @@ public class PhysicsFactory {
 	 * @return
 	 */
 	public static Body createPolygonBody(final PhysicsWorld pPhysicsWorld, final IShape pShape, final Vector2[] pVertices, final BodyType pBodyType, final FixtureDef pFixtureDef, final float pPixelToMeterRatio) {
+		return PhysicsFactory.createPolygonBody(pPhysicsWorld, pShape, pVertices, pBodyType, pFixtureDef, pPixelToMeterRatio, null);
+	}
+
+	/**
+	 * @param pVertices are to be defined relative to the center of the pShape and have the {@link PhysicsConstants#PIXEL_TO_METER_RATIO_DEFAULT} applied.
+	 * @param pShapeCache shares the polygon shape with the other bodies with the same vertices.
+	 */
+	public static Body createPolygonBody(final PhysicsWorld pPhysicsWorld, final IShape pShape, final Vector2[] pVertices, final BodyType pBodyType, final FixtureDef pFixtureDef, final ShapeCache pShapeCache) {
+		return PhysicsFactory.createPolygonBody(pPhysicsWorld, pShape, pVertices, pBodyType, pFixtureDef, PIXEL_TO_METER_RATIO_DEFAULT, pShapeCache);
+	}
+
+	/**
+	 * @param pVertices are to be defined relative to the center of the pShape.
+	 * @param pShapeCache shares the polygon shape with the other bodies with the same vertices, or null to allocate and dispose a shape for this body only.
+	 */
+	public static Body createPolygonBody(final PhysicsWorld pPhysicsWorld, final IShape pShape, final Vector2[] pVertices, final BodyType pBodyType, final FixtureDef pFixtureDef, final float pPixelToMeterRatio, final ShapeCache pShapeCache) {
 		final BodyDef boxBodyDef = new BodyDef();
 		boxBodyDef.type = pBodyType;
 
@@ -240,14 +356,12 @@ public class PhysicsFactory {
 
 		final Body boxBody = pPhysicsWorld.createBody(boxBodyDef);
 
-		final PolygonShape boxPoly = new PolygonShape();
-
-		boxPoly.set(pVertices);
+		final PolygonShape boxPoly = PhysicsFactory.obtainPolygonShape(pVertices, pShapeCache);
 		pFixtureDef.shape = boxPoly;
 
 		boxBody.createFixture(pFixtureDef);
 
-		boxPoly.dispose();
+		PhysicsFactory.recycleShape(boxPoly, pShapeCache);
 
 		return boxBody;
 	}
@@ -275,6 +389,23 @@ public class PhysicsFactory {
 	 * @return
 	 */
 	public static Body createTrianglulatedBody(final PhysicsWorld pPhysicsWorld, final IShape pShape, final List<Vector2> pTriangleVertices, final BodyType pBodyType, final FixtureDef pFixtureDef, final float pPixelToMeterRatio) {
+		return PhysicsFactory.createTrianglulatedBody(pPhysicsWorld, pShape, pTriangleVertices, pBodyType, pFixtureDef, pPixelToMeterRatio, null);
+	}
+
+	/**
+	 * @param pTriangleVertices are to be defined relative to the center of the pShape and have the {@link PhysicsConstants#PIXEL_TO_METER_RATIO_DEFAULT} applied.
+	 * @param pShapeCache shares the triangle shapes with the other bodies with the same triangles.
+	 */
+	public static Body createTrianglulatedBody(final PhysicsWorld pPhysicsWorld, final IShape pShape, final List<Vector2> pTriangleVertices, final BodyType pBodyType, final FixtureDef pFixtureDef, final ShapeCache pShapeCache) {
+		return PhysicsFactory.createTrianglulatedBody(pPhysicsWorld, pShape, pTriangleVertices, pBodyType, pFixtureDef, PIXEL_TO_METER_RATIO_DEFAULT, pShapeCache);
+	}
+
+	/**
+	 * @param pTriangleVertices are to be defined relative to the center of the pShape.
+	 * 					The vertices will be triangulated and for each triangle a {@link Fixture} will be created.
+	 * @param pShapeCache shares the triangle shapes with the other bodies with the same triangles, or null to allocate and dispose a shape for each triangle.
+	 */
+	public static Body createTrianglulatedBody(final PhysicsWorld pPhysicsWorld, final IShape pShape, final List<Vector2> pTriangleVertices, final BodyType pBodyType, final FixtureDef pFixtureDef, final float pPixelToMeterRatio, final ShapeCache pShapeCache) {
 		final Vector2[] TMP_TRIANGLE = new Vector2[3];
 
 		final BodyDef boxBodyDef = new BodyDef();
@@ -288,27 +419,123 @@ public class PhysicsFactory {
 
 		final int vertexCount = pTriangleVertices.size();
 		for(int i = 0; i < vertexCount; /* */) {
-			final PolygonShape boxPoly = new PolygonShape();
-
 			TMP_TRIANGLE[2] = pTriangleVertices.get(i++);
 			TMP_TRIANGLE[1] = pTriangleVertices.get(i++);
 			TMP_TRIANGLE[0] = pTriangleVertices.get(i++);
 
-			boxPoly.set(TMP_TRIANGLE);
+			final PolygonShape boxPoly = PhysicsFactory.obtainPolygonShape(TMP_TRIANGLE, pShapeCache);
 			pFixtureDef.shape = boxPoly;
 
 			boxBody.createFixture(pFixtureDef);
 
-			boxPoly.dispose();
+			PhysicsFactory.recycleShape(boxPoly, pShapeCache);
 		}
 
 		return boxBody;
 	}
 
+	/**
+	 * Adds a line body to pPackedBodyDefs, for creating many bodies at once through {@link PhysicsWorld#createBodies(PackedBodyDefs)}.
+	 * The result is the same as {@link #createLineBody(PhysicsWorld, float, float, float, float, FixtureDef)}.
+	 */
+	public static void addLineBody(final PackedBodyDefs pPackedBodyDefs, final float pX1, final float pY1, final float pX2, final float pY2, final FixtureDef pFixtureDef) {
+		PhysicsFactory.addLineBody(pPackedBodyDefs, pX1, pY1, pX2, pY2, pFixtureDef, PIXEL_TO_METER_RATIO_DEFAULT);
+	}
+
+	public static void addLineBody(final PackedBodyDefs pPackedBodyDefs, final float pX1, final float pY1, final float pX2, final float pY2, final FixtureDef pFixtureDef, final float pPixelToMeterRatio) {
+		final BodyDef lineBodyDef = new BodyDef();
+		lineBodyDef.type = BodyType.StaticBody;
+
+		final Vector2[] lineVertices = new Vector2[] {
+				new Vector2(pX1 / pPixelToMeterRatio, pY1 / pPixelToMeterRatio),
+				new Vector2(pX2 / pPixelToMeterRatio, pY2 / pPixelToMeterRatio)
+		};
+
+		pPackedBodyDefs.addBody(lineBodyDef).addPolygon(pFixtureDef, lineVertices);
+	}
+
+	/**
+	 * Adds a polygon body to pPackedBodyDefs, for creating many bodies at once through {@link PhysicsWorld#createBodies(PackedBodyDefs)}.
+	 * The result is the same as {@link #createPolygonBody(PhysicsWorld, IShape, Vector2[], BodyType, FixtureDef)} for a shape centered at pCenterX/pCenterY.
+	 * @param pVertices are to be defined relative to pCenterX/pCenterY and have the {@link PhysicsConstants#PIXEL_TO_METER_RATIO_DEFAULT} applied.
+	 */
+	public static void addPolygonBody(final PackedBodyDefs pPackedBodyDefs, final float pCenterX, final float pCenterY, final Vector2[] pVertices, final BodyType pBodyType, final FixtureDef pFixtureDef) {
+		PhysicsFactory.addPolygonBody(pPackedBodyDefs, pCenterX, pCenterY, pVertices, pBodyType, pFixtureDef, PIXEL_TO_METER_RATIO_DEFAULT);
+	}
+
+	public static void addPolygonBody(final PackedBodyDefs pPackedBodyDefs, final float pCenterX, final float pCenterY, final Vector2[] pVertices, final BodyType pBodyType, final FixtureDef pFixtureDef, final float pPixelToMeterRatio) {
+		final BodyDef polygonBodyDef = new BodyDef();
+		polygonBodyDef.type = pBodyType;
+		polygonBodyDef.position.x = pCenterX / pPixelToMeterRatio;
+		polygonBodyDef.position.y = pCenterY / pPixelToMeterRatio;
+
+		pPackedBodyDefs.addBody(polygonBodyDef).addPolygon(pFixtureDef, pVertices);
+	}
+
+	/**
+	 * Adds a triangulated body to pPackedBodyDefs, for creating many bodies at once through {@link PhysicsWorld#createBodies(PackedBodyDefs)}.
+	 * The result is the same as {@link #createTrianglulatedBody(PhysicsWorld, IShape, List, BodyType, FixtureDef)} for a shape centered at pCenterX/pCenterY.
+	 * @param pTriangleVertices are to be defined relative to pCenterX/pCenterY and have the {@link PhysicsConstants#PIXEL_TO_METER_RATIO_DEFAULT} applied.
+	 */
+	public static void addTrianglulatedBody(final PackedBodyDefs pPackedBodyDefs, final float pCenterX, final float pCenterY, final List<Vector2> pTriangleVertices, final BodyType pBodyType, final FixtureDef pFixtureDef) {
+		PhysicsFactory.addTrianglulatedBody(pPackedBodyDefs, pCenterX, pCenterY, pTriangleVertices, pBodyType, pFixtureDef, PIXEL_TO_METER_RATIO_DEFAULT);
+	}
+
+	public static void addTrianglulatedBody(final PackedBodyDefs pPackedBodyDefs, final float pCenterX, final float pCenterY, final List<Vector2> pTriangleVertices, final BodyType pBodyType, final FixtureDef pFixtureDef, final float pPixelToMeterRatio) {
+		final Vector2[] TMP_TRIANGLE = new Vector2[3];
+
+		final BodyDef triangulatedBodyDef = new BodyDef();
+		triangulatedBodyDef.type = pBodyType;
+		triangulatedBodyDef.position.x = pCenterX / pPixelToMeterRatio;
+		triangulatedBodyDef.position.y = pCenterY / pPixelToMeterRatio;
+
+		pPackedBodyDefs.addBody(triangulatedBodyDef);
+
+		final int vertexCount = pTriangleVertices.size();
+		for(int i = 0; i < vertexCount; /* */) {
+			TMP_TRIANGLE[2] = pTriangleVertices.get(i++);
+			TMP_TRIANGLE[1] = pTriangleVertices.get(i++);
+			TMP_TRIANGLE[0] = pTriangleVertices.get(i++);
+
+			pPackedBodyDefs.addPolygon(pFixtureDef, TMP_TRIANGLE);
+		}
+	}
+
 	// ===========================================================
 	// Methods
 	// ===========================================================
 
+	private static PolygonShape obtainPolygonShape(final Vector2[] pVertices, final ShapeCache pShapeCache) {
+		if(pShapeCache == null) {
+			final PolygonShape polygonShape = new PolygonShape();
+			polygonShape.set(pVertices);
+			return polygonShape;
+		} else {
+			return pShapeCache.getPolygon(pVertices);
+		}
+	}
+
+	/**
+	 * Disposes the shape, unless it is held by pShapeCache.
+	 */
+	private static void recycleShape(final Shape pShape, final ShapeCache pShapeCache) {
+		if(pShapeCache == null) {
+			pShape.dispose();
+		}
+	}
+
+	/**
+	 * Moves the body through the {@link PhysicsJournalRecorder} of the world, if it is being recorded, so that the replay moves it at the same point.
+	 */
+	private static void setTransform(final PhysicsWorld pPhysicsWorld, final Body pBody, final Vector2 pPosition, final float pAngle) {
+		final PhysicsJournalRecorder journalRecorder = pPhysicsWorld.getJournalRecorder();
+		if(journalRecorder == null) {
+			pBody.setTransform(pPosition, pAngle);
+		} else {
+			journalRecorder.setTransform(pBody, pPosition.x, pPosition.y, pAngle);
+		}
+	}
+
 	// ===========================================================
 	// Inner and Anonymous Classes
 	// ===========================================================
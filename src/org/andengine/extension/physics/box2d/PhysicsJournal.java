@@ -0,0 +1,200 @@
+package org.andengine.extension.physics.box2d;
+
+import com.badlogic.gdx.physics.box2d.Joint;
+import com.badlogic.gdx.physics.box2d.joints.LineJoint;
+import com.badlogic.gdx.physics.box2d.joints.PrismaticJoint;
+import com.badlogic.gdx.physics.box2d.joints.RevoluteJoint;
+
+/**
+ * The binary format shared by {@link PhysicsJournalRecorder} and {@link PhysicsJournalPlayer}.
+ *
+ * A journal starts with a header of little endian ints, magic and version, followed by a sequence of operations, each a byte code and its little endian arguments.
+ * Bodies and joints are referenced by their id, the order in which they were created since recording started. Each step is an operation of its own,
+ * holding the time step and the iterations it was run with and, every {@link PhysicsJournalRecorder#setHashInterval(int)} steps, the hash of the resulting state,
+ * so all operations between two steps were applied before the second one.
+ */
+public class PhysicsJournal {
+	// ===========================================================
+	// Constants
+	// ===========================================================
+
+	public static final int MAGIC = 0x524A3242; // "B2JR"
+	public static final int VERSION = 1;
+
+	static final int HEADER_SIZE = 2 * 4;
+
+	/** time step, velocity iterations, position iterations. */
+	static final byte OP_STEP = 1;
+	/** time step, velocity iterations, position iterations, state hash. */
+	static final byte OP_STEP_HASHED = 2;
+	/** x, y. */
+	static final byte OP_SET_GRAVITY = 3;
+	/** body count, float count, fixture count of each body, the floats of the {@link com.badlogic.gdx.physics.box2d.PackedBodyDefs}. */
+	static final byte OP_CREATE_BODIES = 4;
+	/** joint count, type of each joint, body count, id of each body, float count, the floats of the {@link com.badlogic.gdx.physics.box2d.PackedJointDefs}. */
+	static final byte OP_CREATE_JOINTS = 5;
+	/** body A, body B, collide connected, target x, target y, max force, frequency, damping ratio. */
+	static final byte OP_CREATE_MOUSE_JOINT = 6;
+	/** body A, body B, collide connected, joint 1, joint 2, ratio. */
+	static final byte OP_CREATE_GEAR_JOINT = 7;
+	/** body. */
+	static final byte OP_DESTROY_BODY = 8;
+	/** joint. */
+	static final byte OP_DESTROY_JOINT = 9;
+	/** body, x, y, point x, point y. */
+	static final byte OP_APPLY_FORCE = 10;
+	/** body, x, y, point x, point y. */
+	static final byte OP_APPLY_LINEAR_IMPULSE = 11;
+	/** body, torque. */
+	static final byte OP_APPLY_TORQUE = 12;
+	/** body, impulse. */
+	static final byte OP_APPLY_ANGULAR_IMPULSE = 13;
+	/** body, x, y, angle. */
+	static final byte OP_SET_TRANSFORM = 14;
+	/** body, x, y. */
+	static final byte OP_SET_LINEAR_VELOCITY = 15;
+	/** body, angular velocity. */
+	static final byte OP_SET_ANGULAR_VELOCITY = 16;
+	/** body, flag. */
+	static final byte OP_SET_AWAKE = 17;
+	/** body, flag. */
+	static final byte OP_SET_ACTIVE = 18;
+	/** joint, flag. */
+	static final byte OP_ENABLE_MOTOR = 19;
+	/** joint, speed. */
+	static final byte OP_SET_MOTOR_SPEED = 20;
+	/** joint, maximum motor torque or force. */
+	static final byte OP_SET_MAX_MOTOR_FORCE = 21;
+	/** joint, flag. */
+	static final byte OP_ENABLE_LIMIT = 22;
+	/** joint, lower, upper. */
+	static final byte OP_SET_LIMITS = 23;
+	/** joint, x, y. */
+	static final byte OP_SET_TARGET = 24;
+
+	// ===========================================================
+	// Fields
+	// ===========================================================
+
+	// ===========================================================
+	// Constructors
+	// ===========================================================
+
+	// ===========================================================
+	// Getter & Setter
+	// ===========================================================
+
+	// ===========================================================
+	// Methods for/from SuperClass/Interfaces
+	// ===========================================================
+
+	// ===========================================================
+	// Methods
+	// ===========================================================
+
+	/**
+	 * The motor and limit operations below apply to revolute, prismatic and line joints.
+	 * @throws IllegalArgumentException for other joints.
+	 */
+	static void checkMotorJoint(final Joint pJoint) {
+		switch(pJoint.getType()) {
+			case RevoluteJoint:
+			case PrismaticJoint:
+			case LineJoint:
+				break;
+			default:
+				throw PhysicsJournal.unsupported(pJoint);
+		}
+	}
+
+	static void enableMotor(final Joint pJoint, final boolean pFlag) {
+		switch(pJoint.getType()) {
+			case RevoluteJoint:
+				((RevoluteJoint)pJoint).enableMotor(pFlag);
+				break;
+			case PrismaticJoint:
+				((PrismaticJoint)pJoint).enableMotor(pFlag);
+				break;
+			case LineJoint:
+				((LineJoint)pJoint).enableMotor(pFlag);
+				break;
+			default:
+				throw PhysicsJournal.unsupported(pJoint);
+		}
+	}
+
+	static void setMotorSpeed(final Joint pJoint, final float pSpeed) {
+		switch(pJoint.getType()) {
+			case RevoluteJoint:
+				((RevoluteJoint)pJoint).setMotorSpeed(pSpeed);
+				break;
+			case PrismaticJoint:
+				((PrismaticJoint)pJoint).setMotorSpeed(pSpeed);
+				break;
+			case LineJoint:
+				((LineJoint)pJoint).setMotorSpeed(pSpeed);
+				break;
+			default:
+				throw PhysicsJournal.unsupported(pJoint);
+		}
+	}
+
+	/**
+	 * @param pMaxMotorForce the maximum torque of a revolute joint or the maximum force of a prismatic or line joint.
+	 */
+	static void setMaxMotorForce(final Joint pJoint, final float pMaxMotorForce) {
+		switch(pJoint.getType()) {
+			case RevoluteJoint:
+				((RevoluteJoint)pJoint).setMaxMotorTorque(pMaxMotorForce);
+				break;
+			case PrismaticJoint:
+				((PrismaticJoint)pJoint).setMaxMotorForce(pMaxMotorForce);
+				break;
+			case LineJoint:
+				((LineJoint)pJoint).setMaxMotorForce(pMaxMotorForce);
+				break;
+			default:
+				throw PhysicsJournal.unsupported(pJoint);
+		}
+	}
+
+	static void enableLimit(final Joint pJoint, final boolean pFlag) {
+		switch(pJoint.getType()) {
+			case RevoluteJoint:
+				((RevoluteJoint)pJoint).enableLimit(pFlag);
+				break;
+			case PrismaticJoint:
+				((PrismaticJoint)pJoint).enableLimit(pFlag);
+				break;
+			case LineJoint:
+				((LineJoint)pJoint).enableLimit(pFlag);
+				break;
+			default:
+				throw PhysicsJournal.unsupported(pJoint);
+		}
+	}
+
+	static void setLimits(final Joint pJoint, final float pLower, final float pUpper) {
+		switch(pJoint.getType()) {
+			case RevoluteJoint:
+				((RevoluteJoint)pJoint).setLimits(pLower, pUpper);
+				break;
+			case PrismaticJoint:
+				((PrismaticJoint)pJoint).setLimits(pLower, pUpper);
+				break;
+			case LineJoint:
+				((LineJoint)pJoint).setLimits(pLower, pUpper);
+				break;
+			default:
+				throw PhysicsJournal.unsupported(pJoint);
+		}
+	}
+
+	private static IllegalArgumentException unsupported(final Joint pJoint) {
+		return new IllegalArgumentException(pJoint.getType() + " has no motor or limit.");
+	}
+
+	// ===========================================================
+	// Inner and Anonymous Classes
+	// ===========================================================
+}
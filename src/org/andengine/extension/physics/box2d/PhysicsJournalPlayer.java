@@ -0,0 +1,446 @@
+package org.andengine.extension.physics.box2d;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+
+import org.andengine.extension.physics.box2d.util.Vector2Pool;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.Joint;
+import com.badlogic.gdx.physics.box2d.JointDef;
+import com.badlogic.gdx.physics.box2d.JointDef.JointType;
+import com.badlogic.gdx.physics.box2d.JointEdge;
+import com.badlogic.gdx.physics.box2d.PackedBodyDefs;
+import com.badlogic.gdx.physics.box2d.PackedJointDefs;
+import com.badlogic.gdx.physics.box2d.joints.GearJointDef;
+import com.badlogic.gdx.physics.box2d.joints.MouseJoint;
+import com.badlogic.gdx.physics.box2d.joints.MouseJointDef;
+import com.badlogic.gdx.utils.BufferUtils;
+
+/**
+ * Replays a journal written by a {@link PhysicsJournalRecorder} on a fresh {@link PhysicsWorld}, without an engine or any rendering,
+ * and compares the state after each hashed step with the recorded hash, e.g. to reproduce a bug report or to check that a change keeps the simulation deterministic.
+ *
+ * The world has to be set up like the recorded one, apart from the gravity: the same contact filter, collision matrix and contact listeners that enable or disable contacts,
+ * warm starting and continuous physics. Its iteration controller is bypassed, the iterations of each step are taken from the journal.
+ * Bodies and joints created by listeners of the world during the replay are not known to the journal, so listeners must not create or destroy any.
+ */
+public class PhysicsJournalPlayer {
+	// ===========================================================
+	// Constants
+	// ===========================================================
+
+	/** Iteration counts above this are treated as corrupt, since a single step would practically never return. */
+	private static final int ITERATIONS_MAX = 1024;
+
+	// ===========================================================
+	// Fields
+	// ===========================================================
+
+	private final ByteBuffer mJournal;
+
+	private final ArrayList<Body> mBodies = new ArrayList<Body>();
+	private final ArrayList<Joint> mJoints = new ArrayList<Joint>();
+	/** the joints of each gear joint, which must not be destroyed before it. */
+	private final IdentityHashMap<Joint, Joint[]> mGearJoints = new IdentityHashMap<Joint, Joint[]>();
+
+	private long mStepCount;
+	private long mHashedStepCount;
+	private long mMismatchCount;
+	private long mFirstMismatchStep = -1;
+
+	// ===========================================================
+	// Constructors
+	// ===========================================================
+
+	/**
+	 * @param pJournal holding a journal from its position to its limit, e.g. {@link PhysicsJournalRecorder#getJournal()}.
+	 */
+	public PhysicsJournalPlayer(final ByteBuffer pJournal) {
+		final ByteBuffer journal = pJournal.slice().order(ByteOrder.LITTLE_ENDIAN);
+		if(journal.remaining() < PhysicsJournal.HEADER_SIZE || journal.getInt(0) != PhysicsJournal.MAGIC) {
+			throw new IllegalArgumentException("Not a physics journal.");
+		}
+		final int version = journal.getInt(4);
+		if(version != PhysicsJournal.VERSION) {
+			throw new IllegalArgumentException("Unsupported physics journal version: " + version);
+		}
+
+		this.mJournal = journal;
+	}
+
+	// ===========================================================
+	// Getter & Setter
+	// ===========================================================
+
+	/**
+	 * @return the number of steps run by the last replay.
+	 */
+	public long getStepCount() {
+		return this.mStepCount;
+	}
+
+	/**
+	 * @return the number of steps of the last replay that had a recorded hash.
+	 */
+	public long getHashedStepCount() {
+		return this.mHashedStepCount;
+	}
+
+	/**
+	 * @return the number of hashed steps of the last replay whose state differed from the recorded one.
+	 */
+	public long getMismatchCount() {
+		return this.mMismatchCount;
+	}
+
+	/**
+	 * @return the first step of the last replay whose state differed from the recorded one, counting from 1, or -1 if there was none.
+	 */
+	public long getFirstMismatchStep() {
+		return this.mFirstMismatchStep;
+	}
+
+	/**
+	 * @return the body with the given id during the last replay, in the order the bodies were created, or null if it was destroyed.
+	 */
+	public Body getBody(final int pBodyId) {
+		return this.mBodies.get(pBodyId);
+	}
+
+	public Joint getJoint(final int pJointId) {
+		return this.mJoints.get(pJointId);
+	}
+
+	// ===========================================================
+	// Methods for/from SuperClass/Interfaces
+	// ===========================================================
+
+	// ===========================================================
+	// Methods
+	// ===========================================================
+
+	public static PhysicsJournalPlayer read(final File pFile) throws IOException {
+		final FileInputStream fileInputStream = new FileInputStream(pFile);
+		try {
+			final FileChannel fileChannel = fileInputStream.getChannel();
+			return new PhysicsJournalPlayer(fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileChannel.size()));
+		} finally {
+			fileInputStream.close();
+		}
+	}
+
+	public static PhysicsJournalPlayer read(final InputStream pInputStream) throws IOException {
+		final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+		final byte[] buffer = new byte[8192];
+		int read;
+		while((read = pInputStream.read(buffer)) != -1) {
+			byteArrayOutputStream.write(buffer, 0, read);
+		}
+		return new PhysicsJournalPlayer(ByteBuffer.wrap(byteArrayOutputStream.toByteArray()));
+	}
+
+	/**
+	 * Replays the whole journal on pPhysicsWorld, which must not have any bodies yet.
+	 * @param pStopAtMismatch whether to stop after the first step whose state differs from the recorded one.
+	 * @return the first step whose state differed from the recorded one, counting from 1, or -1 if the replay matched the recording.
+	 * @throws IllegalArgumentException if the journal is malformed.
+	 */
+	public long replay(final PhysicsWorld pPhysicsWorld, final boolean pStopAtMismatch) {
+		if(pPhysicsWorld.getBodyCount() > 0) {
+			throw new IllegalStateException("Replaying has to start on a world without bodies.");
+		}
+
+		this.mBodies.clear();
+		this.mJoints.clear();
+		this.mGearJoints.clear();
+		this.mStepCount = 0;
+		this.mHashedStepCount = 0;
+		this.mMismatchCount = 0;
+		this.mFirstMismatchStep = -1;
+
+		final ByteBuffer journal = this.mJournal;
+		journal.position(PhysicsJournal.HEADER_SIZE);
+		try {
+			while(journal.hasRemaining()) {
+				final byte operation = journal.get();
+				if(operation == PhysicsJournal.OP_STEP || operation == PhysicsJournal.OP_STEP_HASHED) {
+					final float timeStep = journal.getFloat();
+					final int velocityIterations = journal.getInt();
+					final int positionIterations = journal.getInt();
+					if(!(timeStep >= 0) || Float.isInfinite(timeStep) || velocityIterations < 0 || velocityIterations > PhysicsJournalPlayer.ITERATIONS_MAX || positionIterations < 0 || positionIterations > PhysicsJournalPlayer.ITERATIONS_MAX) {
+						throw new IllegalArgumentException("Invalid step in physics journal.");
+					}
+					pPhysicsWorld.mWorld.step(timeStep, velocityIterations, positionIterations);
+					this.mStepCount++;
+
+					if(operation == PhysicsJournal.OP_STEP_HASHED) {
+						this.mHashedStepCount++;
+						if(pPhysicsWorld.computeStateHash() != journal.getLong()) {
+							this.mMismatchCount++;
+							if(this.mFirstMismatchStep < 0) {
+								this.mFirstMismatchStep = this.mStepCount;
+							}
+							if(pStopAtMismatch) {
+								break;
+							}
+						}
+					}
+				} else {
+					this.apply(pPhysicsWorld, operation, journal);
+				}
+			}
+		} catch (final BufferUnderflowException e) {
+			throw new IllegalArgumentException("Physics journal is truncated.", e);
+		}
+
+		return this.mFirstMismatchStep;
+	}
+
+	private void apply(final PhysicsWorld pPhysicsWorld, final byte pOperation, final ByteBuffer pJournal) {
+		switch(pOperation) {
+			case PhysicsJournal.OP_SET_GRAVITY: {
+				final Vector2 gravity = Vector2Pool.obtain(pJournal.getFloat(), pJournal.getFloat());
+				pPhysicsWorld.mWorld.setGravity(gravity);
+				Vector2Pool.recycle(gravity);
+				break;
+			}
+			case PhysicsJournal.OP_CREATE_BODIES:
+				this.createBodies(pPhysicsWorld, pJournal);
+				break;
+			case PhysicsJournal.OP_CREATE_JOINTS:
+				this.createJoints(pPhysicsWorld, pJournal);
+				break;
+			case PhysicsJournal.OP_CREATE_MOUSE_JOINT: {
+				final MouseJointDef mouseJointDef = new MouseJointDef();
+				mouseJointDef.bodyA = this.getBodyById(pJournal.getInt());
+				mouseJointDef.bodyB = this.getBodyById(pJournal.getInt());
+				PhysicsJournalPlayer.checkBodies(mouseJointDef);
+				mouseJointDef.collideConnected = pJournal.get() != 0;
+				mouseJointDef.target.set(pJournal.getFloat(), pJournal.getFloat());
+				mouseJointDef.maxForce = pJournal.getFloat();
+				mouseJointDef.frequencyHz = pJournal.getFloat();
+				mouseJointDef.dampingRatio = pJournal.getFloat();
+				this.mJoints.add(pPhysicsWorld.mWorld.createJoint(mouseJointDef));
+				break;
+			}
+			case PhysicsJournal.OP_CREATE_GEAR_JOINT: {
+				final GearJointDef gearJointDef = new GearJointDef();
+				gearJointDef.bodyA = this.getBodyById(pJournal.getInt());
+				gearJointDef.bodyB = this.getBodyById(pJournal.getInt());
+				gearJointDef.collideConnected = pJournal.get() != 0;
+				gearJointDef.joint1 = this.getGearedJointById(pJournal.getInt());
+				gearJointDef.joint2 = this.getGearedJointById(pJournal.getInt());
+				gearJointDef.ratio = pJournal.getFloat();
+				PhysicsJournalPlayer.checkBodies(gearJointDef);
+				final Joint gearJoint = pPhysicsWorld.mWorld.createJoint(gearJointDef);
+				this.mJoints.add(gearJoint);
+				this.mGearJoints.put(gearJoint, new Joint[] { gearJointDef.joint1, gearJointDef.joint2 });
+				break;
+			}
+			case PhysicsJournal.OP_DESTROY_BODY: {
+				final int bodyId = pJournal.getInt();
+				final Body body = this.getBodyById(bodyId);
+				/* The gear joints of the body go along with the joints they use. */
+				final ArrayList<JointEdge> jointEdges = body.getJointList();
+				for(int i = jointEdges.size() - 1; i >= 0; i--) {
+					this.mGearJoints.remove(jointEdges.get(i).joint);
+				}
+				for(int i = jointEdges.size() - 1; i >= 0; i--) {
+					this.removeJoint(jointEdges.get(i).joint);
+				}
+				pPhysicsWorld.mWorld.destroyBody(body);
+				this.mBodies.set(bodyId, null);
+				break;
+			}
+			case PhysicsJournal.OP_DESTROY_JOINT: {
+				final Joint joint = this.getJointById(pJournal.getInt());
+				this.removeJoint(joint);
+				pPhysicsWorld.mWorld.destroyJoint(joint);
+				break;
+			}
+			case PhysicsJournal.OP_APPLY_FORCE:
+				this.getBodyById(pJournal.getInt()).applyForce(pJournal.getFloat(), pJournal.getFloat(), pJournal.getFloat(), pJournal.getFloat());
+				break;
+			case PhysicsJournal.OP_APPLY_LINEAR_IMPULSE:
+				this.getBodyById(pJournal.getInt()).applyLinearImpulse(pJournal.getFloat(), pJournal.getFloat(), pJournal.getFloat(), pJournal.getFloat());
+				break;
+			case PhysicsJournal.OP_APPLY_TORQUE:
+				this.getBodyById(pJournal.getInt()).applyTorque(pJournal.getFloat());
+				break;
+			case PhysicsJournal.OP_APPLY_ANGULAR_IMPULSE:
+				this.getBodyById(pJournal.getInt()).applyAngularImpulse(pJournal.getFloat());
+				break;
+			case PhysicsJournal.OP_SET_TRANSFORM:
+				this.getBodyById(pJournal.getInt()).setTransform(pJournal.getFloat(), pJournal.getFloat(), pJournal.getFloat());
+				break;
+			case PhysicsJournal.OP_SET_LINEAR_VELOCITY:
+				this.getBodyById(pJournal.getInt()).setLinearVelocity(pJournal.getFloat(), pJournal.getFloat());
+				break;
+			case PhysicsJournal.OP_SET_ANGULAR_VELOCITY:
+				this.getBodyById(pJournal.getInt()).setAngularVelocity(pJournal.getFloat());
+				break;
+			case PhysicsJournal.OP_SET_AWAKE:
+				this.getBodyById(pJournal.getInt()).setAwake(pJournal.get() != 0);
+				break;
+			case PhysicsJournal.OP_SET_ACTIVE:
+				this.getBodyById(pJournal.getInt()).setActive(pJournal.get() != 0);
+				break;
+			case PhysicsJournal.OP_ENABLE_MOTOR:
+				PhysicsJournal.enableMotor(this.getJointById(pJournal.getInt()), pJournal.get() != 0);
+				break;
+			case PhysicsJournal.OP_SET_MOTOR_SPEED:
+				PhysicsJournal.setMotorSpeed(this.getJointById(pJournal.getInt()), pJournal.getFloat());
+				break;
+			case PhysicsJournal.OP_SET_MAX_MOTOR_FORCE:
+				PhysicsJournal.setMaxMotorForce(this.getJointById(pJournal.getInt()), pJournal.getFloat());
+				break;
+			case PhysicsJournal.OP_ENABLE_LIMIT:
+				PhysicsJournal.enableLimit(this.getJointById(pJournal.getInt()), pJournal.get() != 0);
+				break;
+			case PhysicsJournal.OP_SET_LIMITS:
+				PhysicsJournal.setLimits(this.getJointById(pJournal.getInt()), pJournal.getFloat(), pJournal.getFloat());
+				break;
+			case PhysicsJournal.OP_SET_TARGET: {
+				final Joint joint = this.getJointById(pJournal.getInt());
+				if(!(joint instanceof MouseJoint)) {
+					throw new IllegalArgumentException("Not a mouse joint in physics journal: " + joint.getType());
+				}
+				final Vector2 target = Vector2Pool.obtain(pJournal.getFloat(), pJournal.getFloat());
+				((MouseJoint)joint).setTarget(target);
+				Vector2Pool.recycle(target);
+				break;
+			}
+			default:
+				throw new IllegalArgumentException("Unknown physics journal operation: " + pOperation + " at " + (pJournal.position() - 1));
+		}
+	}
+
+	private void createBodies(final PhysicsWorld pPhysicsWorld, final ByteBuffer pJournal) {
+		final int bodyCount = PhysicsJournalPlayer.getCount(pJournal);
+		final int floatCount = pJournal.getInt();
+		final int[] fixtureCounts = new int[bodyCount];
+		for(int i = 0; i < bodyCount; i++) {
+			fixtureCounts[i] = pJournal.getInt();
+		}
+		final FloatBuffer floats = PhysicsJournalPlayer.getFloats(pJournal, floatCount);
+
+		final Body[] bodies = pPhysicsWorld.mWorld.createBodies(new PackedBodyDefs(floats, fixtureCounts));
+		for(int i = 0; i < bodies.length; i++) {
+			this.mBodies.add(bodies[i]);
+		}
+	}
+
+	private void createJoints(final PhysicsWorld pPhysicsWorld, final ByteBuffer pJournal) {
+		final int jointCount = PhysicsJournalPlayer.getCount(pJournal);
+		final JointType[] jointTypes = new JointType[jointCount];
+		for(int i = 0; i < jointCount; i++) {
+			final int jointType = pJournal.getInt();
+			if(jointType <= 0 || jointType >= JointType.valueTypes.length) {
+				throw new IllegalArgumentException("Unknown joint type: " + jointType);
+			}
+			jointTypes[i] = JointType.valueTypes[jointType];
+		}
+		final Body[] bodies = new Body[PhysicsJournalPlayer.getCount(pJournal)];
+		for(int i = 0; i < bodies.length; i++) {
+			bodies[i] = this.getBodyById(pJournal.getInt());
+		}
+		final FloatBuffer floats = PhysicsJournalPlayer.getFloats(pJournal, pJournal.getInt());
+
+		final Joint[] joints = pPhysicsWorld.mWorld.createJoints(new PackedJointDefs(floats, jointTypes), bodies);
+		for(int i = 0; i < joints.length; i++) {
+			this.mJoints.add(joints[i]);
+		}
+	}
+
+	private Body getBodyById(final int pBodyId) {
+		final Body body = (pBodyId >= 0 && pBodyId < this.mBodies.size()) ? this.mBodies.get(pBodyId) : null;
+		if(body == null) {
+			throw new IllegalArgumentException("Unknown body in physics journal: " + pBodyId);
+		}
+		return body;
+	}
+
+	/**
+	 * @return a revolute or prismatic joint, as a gear joint needs.
+	 */
+	private Joint getGearedJointById(final int pJointId) {
+		final Joint joint = this.getJointById(pJointId);
+		if(joint.getType() != JointType.RevoluteJoint && joint.getType() != JointType.PrismaticJoint) {
+			throw new IllegalArgumentException("A gear joint cannot use a " + joint.getType() + " in physics journal: " + pJointId);
+		}
+		return joint;
+	}
+
+	/**
+	 * Forgets a joint that is about to be destroyed.
+	 * @throws IllegalArgumentException if a gear joint still uses it, the native gear joint would keep using the destroyed joint.
+	 */
+	private void removeJoint(final Joint pJoint) {
+		this.mGearJoints.remove(pJoint);
+		for(final Joint[] gearedJoints : this.mGearJoints.values()) {
+			if(gearedJoints[0] == pJoint || gearedJoints[1] == pJoint) {
+				throw new IllegalArgumentException("Physics journal destroys a joint used by a gear joint.");
+			}
+		}
+		final int jointId = this.mJoints.indexOf(pJoint);
+		if(jointId >= 0) {
+			this.mJoints.set(jointId, null);
+		}
+	}
+
+	private static void checkBodies(final JointDef pJointDef) {
+		if(pJointDef.bodyA == pJointDef.bodyB) {
+			throw new IllegalArgumentException("Physics journal joins a body to itself.");
+		}
+	}
+
+	private Joint getJointById(final int pJointId) {
+		final Joint joint = (pJointId >= 0 && pJointId < this.mJoints.size()) ? this.mJoints.get(pJointId) : null;
+		if(joint == null) {
+			throw new IllegalArgumentException("Unknown joint in physics journal: " + pJointId);
+		}
+		return joint;
+	}
+
+	/**
+	 * @return the next count of pJournal, each counted item taking at least 4 more bytes.
+	 */
+	private static int getCount(final ByteBuffer pJournal) {
+		final int count = pJournal.getInt();
+		if(count < 0 || count > pJournal.remaining() / 4) {
+			throw new IllegalArgumentException("Physics journal is truncated.");
+		}
+		return count;
+	}
+
+	/**
+	 * @return a direct buffer with the next pFloatCount floats of pJournal, positioned at its end as {@link PackedBodyDefs} and {@link PackedJointDefs} expect.
+	 */
+	private static FloatBuffer getFloats(final ByteBuffer pJournal, final int pFloatCount) {
+		if(pFloatCount < 0 || pFloatCount > pJournal.remaining() / 4) {
+			throw new IllegalArgumentException("Physics journal is truncated.");
+		}
+
+		final FloatBuffer floats = BufferUtils.newFloatBuffer(Math.max(pFloatCount, 1));
+		for(int i = 0; i < pFloatCount; i++) {
+			floats.put(pJournal.getFloat());
+		}
+		return floats;
+	}
+
+	// ===========================================================
+	// Inner and Anonymous Classes
+	// ===========================================================
+}
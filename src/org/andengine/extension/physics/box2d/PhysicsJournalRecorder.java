@@ -0,0 +1,634 @@
+package org.andengine.extension.physics.box2d;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.LongBuffer;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+
+import org.andengine.extension.physics.box2d.util.Vector2Pool;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.CircleShape;
+import com.badlogic.gdx.physics.box2d.Filter;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.FixtureDef;
+import com.badlogic.gdx.physics.box2d.Joint;
+import com.badlogic.gdx.physics.box2d.JointDef;
+import com.badlogic.gdx.physics.box2d.JointEdge;
+import com.badlogic.gdx.physics.box2d.PackedBodyDefs;
+import com.badlogic.gdx.physics.box2d.PackedJointDefs;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.physics.box2d.Shape;
+import com.badlogic.gdx.physics.box2d.joints.GearJointDef;
+import com.badlogic.gdx.physics.box2d.joints.MouseJoint;
+import com.badlogic.gdx.physics.box2d.joints.MouseJointDef;
+
+/**
+ * Records everything that changes a {@link PhysicsWorld} into a compact {@link PhysicsJournal}, step by step, so that a session can be replayed
+ * headless with a {@link PhysicsJournalPlayer}, e.g. to reproduce a bug report, and checked against the recorded state hashes.
+ *
+ * Creating and destroying bodies and joints and changing the gravity through the {@link PhysicsWorld} is recorded as is, including from {@link Runnable}s
+ * passed to {@link PhysicsWorld#postRunnable(Runnable)}. A new body is recorded with its fixtures right before the next recorded change or step,
+ * so fixtures have to be added right after creating it, as {@link PhysicsFactory} does. Fixtures added or destroyed later are not recorded,
+ * the next recorded change or step throws an {@link IllegalStateException} if the world does not hold as many fixtures as recorded.
+ * Changes to bodies and joints must be made through the methods of this recorder, which record them and then apply them,
+ * so that a body created just before is recorded as it was created. The batched forces, impulses and velocities of the {@link PhysicsWorld}
+ * are recorded body by body, like the methods of this recorder. The methods of the {@link PhysicsWorld} that cannot be recorded,
+ * like {@link PhysicsWorld#restoreState(ByteBuffer)} or the solver settings, throw an {@link IllegalStateException} while recording.
+ * Changes made from contact callbacks during a step are applied but not recorded,
+ * as the callbacks run again during the replay. Polygons set with {@link PolygonShape#setAsBox(float, float, Vector2, float)} are replayed as plain polygons
+ * and may differ in the last bits.
+ */
+public class PhysicsJournalRecorder {
+	// ===========================================================
+	// Constants
+	// ===========================================================
+
+	private static final int CAPACITY_DEFAULT = 64 * 1024;
+
+	// ===========================================================
+	// Fields
+	// ===========================================================
+
+	private final PhysicsWorld mPhysicsWorld;
+
+	private ByteBuffer mJournal = ByteBuffer.allocate(CAPACITY_DEFAULT).order(ByteOrder.LITTLE_ENDIAN);
+	private boolean mRecording = true;
+
+	private final IdentityHashMap<Body, Integer> mBodyIds = new IdentityHashMap<Body, Integer>();
+	private final IdentityHashMap<Joint, Integer> mJointIds = new IdentityHashMap<Joint, Integer>();
+	private int mBodyIdCount;
+	private int mJointIdCount;
+	/** The number of fixtures of the recorded bodies, as they were recorded. */
+	private int mFixtureCount;
+
+	private final ArrayList<Body> mPendingBodies = new ArrayList<Body>();
+	private final PackedBodyDefs mPackedBodyDefs = new PackedBodyDefs(1024);
+	private final PackedJointDefs mPackedJointDefs = new PackedJointDefs(64);
+	private final BodyDef mBodyDef = new BodyDef();
+	private final FixtureDef mFixtureDef = new FixtureDef();
+	private final Vector2[][] mVertices = new Vector2[PackedBodyDefs.MAX_POLYGON_VERTICES + 1][];
+
+	private int mHashInterval = 1;
+	private long mStepCount;
+	private float mTimeStep;
+	private int mVelocityIterations;
+	private int mPositionIterations;
+
+	// ===========================================================
+	// Constructors
+	// ===========================================================
+
+	/**
+	 * Starts recording pPhysicsWorld, which must not have any bodies yet. Its current gravity is recorded,
+	 * all other settings have to be the same on the world the journal is replayed on.
+	 */
+	public PhysicsJournalRecorder(final PhysicsWorld pPhysicsWorld) {
+		if(pPhysicsWorld.getBodyCount() > 0) {
+			throw new IllegalStateException("Recording has to start on a world without bodies.");
+		}
+		if(pPhysicsWorld.getJournalRecorder() != null) {
+			throw new IllegalStateException("The world is already being recorded.");
+		}
+
+		for(int i = 2; i < this.mVertices.length; i++) {
+			this.mVertices[i] = new Vector2[i];
+			for(int j = 0; j < i; j++) {
+				this.mVertices[i][j] = new Vector2();
+			}
+		}
+
+		this.mPhysicsWorld = pPhysicsWorld;
+		this.mJournal.putInt(PhysicsJournal.MAGIC).putInt(PhysicsJournal.VERSION);
+		final Vector2 gravity = pPhysicsWorld.getGravity();
+		this.onGravityChanged(gravity.x, gravity.y);
+
+		pPhysicsWorld.setJournalRecorder(this);
+	}
+
+	// ===========================================================
+	// Getter & Setter
+	// ===========================================================
+
+	public boolean isRecording() {
+		return this.mRecording;
+	}
+
+	public long getStepCount() {
+		return this.mStepCount;
+	}
+
+	/**
+	 * @return the size of the journal in bytes.
+	 */
+	public int getSize() {
+		this.flushPendingBodies();
+		return this.mJournal.position();
+	}
+
+	public int getHashInterval() {
+		return this.mHashInterval;
+	}
+
+	/**
+	 * @param pHashInterval how often the state is hashed and recorded, in steps, see {@link PhysicsWorld#computeStateHash()}. 1 by default, 0 to never hash.
+	 */
+	public void setHashInterval(final int pHashInterval) {
+		this.mHashInterval = pHashInterval;
+	}
+
+	/**
+	 * @return a read only view of the journal recorded so far.
+	 */
+	public ByteBuffer getJournal() {
+		this.flushPendingBodies();
+		final ByteBuffer journal = this.mJournal.asReadOnlyBuffer();
+		journal.flip();
+		return journal.order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	// ===========================================================
+	// Methods for/from SuperClass/Interfaces
+	// ===========================================================
+
+	// ===========================================================
+	// Methods
+	// ===========================================================
+
+	/**
+	 * Stops recording, the journal stays available.
+	 * @throws IllegalStateException if fixtures were added or destroyed after their bodies were recorded. Recording is stopped anyway.
+	 */
+	public void stop() {
+		if(this.mRecording) {
+			try {
+				this.flushPendingBodies();
+			} finally {
+				this.mRecording = false;
+				this.mPhysicsWorld.setJournalRecorder(null);
+			}
+		}
+	}
+
+	public void write(final OutputStream pOutputStream) throws IOException {
+		this.flushPendingBodies();
+		pOutputStream.write(this.mJournal.array(), 0, this.mJournal.position());
+		pOutputStream.flush();
+	}
+
+	public void applyForce(final Body pBody, final float pForceX, final float pForceY, final float pPointX, final float pPointY) {
+		if(this.isRecordingChanges()) {
+			this.putBodyOperation(PhysicsJournal.OP_APPLY_FORCE, pBody, 4 * 4).putFloat(pForceX).putFloat(pForceY).putFloat(pPointX).putFloat(pPointY);
+		}
+		pBody.applyForce(pForceX, pForceY, pPointX, pPointY);
+	}
+
+	public void applyLinearImpulse(final Body pBody, final float pImpulseX, final float pImpulseY, final float pPointX, final float pPointY) {
+		if(this.isRecordingChanges()) {
+			this.putBodyOperation(PhysicsJournal.OP_APPLY_LINEAR_IMPULSE, pBody, 4 * 4).putFloat(pImpulseX).putFloat(pImpulseY).putFloat(pPointX).putFloat(pPointY);
+		}
+		pBody.applyLinearImpulse(pImpulseX, pImpulseY, pPointX, pPointY);
+	}
+
+	public void applyTorque(final Body pBody, final float pTorque) {
+		if(this.isRecordingChanges()) {
+			this.putBodyOperation(PhysicsJournal.OP_APPLY_TORQUE, pBody, 4).putFloat(pTorque);
+		}
+		pBody.applyTorque(pTorque);
+	}
+
+	public void applyAngularImpulse(final Body pBody, final float pImpulse) {
+		if(this.isRecordingChanges()) {
+			this.putBodyOperation(PhysicsJournal.OP_APPLY_ANGULAR_IMPULSE, pBody, 4).putFloat(pImpulse);
+		}
+		pBody.applyAngularImpulse(pImpulse);
+	}
+
+	public void setTransform(final Body pBody, final float pX, final float pY, final float pAngle) {
+		if(this.isRecordingChanges()) {
+			this.putBodyOperation(PhysicsJournal.OP_SET_TRANSFORM, pBody, 3 * 4).putFloat(pX).putFloat(pY).putFloat(pAngle);
+		}
+		pBody.setTransform(pX, pY, pAngle);
+	}
+
+	public void setLinearVelocity(final Body pBody, final float pVelocityX, final float pVelocityY) {
+		if(this.isRecordingChanges()) {
+			this.putBodyOperation(PhysicsJournal.OP_SET_LINEAR_VELOCITY, pBody, 2 * 4).putFloat(pVelocityX).putFloat(pVelocityY);
+		}
+		pBody.setLinearVelocity(pVelocityX, pVelocityY);
+	}
+
+	public void setAngularVelocity(final Body pBody, final float pAngularVelocity) {
+		if(this.isRecordingChanges()) {
+			this.putBodyOperation(PhysicsJournal.OP_SET_ANGULAR_VELOCITY, pBody, 4).putFloat(pAngularVelocity);
+		}
+		pBody.setAngularVelocity(pAngularVelocity);
+	}
+
+	public void setAwake(final Body pBody, final boolean pAwake) {
+		if(this.isRecordingChanges()) {
+			this.putBodyOperation(PhysicsJournal.OP_SET_AWAKE, pBody, 1).put((byte)(pAwake ? 1 : 0));
+		}
+		pBody.setAwake(pAwake);
+	}
+
+	public void setActive(final Body pBody, final boolean pActive) {
+		if(this.isRecordingChanges()) {
+			this.putBodyOperation(PhysicsJournal.OP_SET_ACTIVE, pBody, 1).put((byte)(pActive ? 1 : 0));
+		}
+		pBody.setActive(pActive);
+	}
+
+	/**
+	 * For revolute, prismatic and line joints, as are the other motor and limit methods.
+	 * @throws IllegalArgumentException for other joints.
+	 */
+	public void enableMotor(final Joint pJoint, final boolean pFlag) {
+		PhysicsJournal.checkMotorJoint(pJoint);
+		if(this.isRecordingChanges()) {
+			this.putJointOperation(PhysicsJournal.OP_ENABLE_MOTOR, pJoint, 1).put((byte)(pFlag ? 1 : 0));
+		}
+		PhysicsJournal.enableMotor(pJoint, pFlag);
+	}
+
+	public void setMotorSpeed(final Joint pJoint, final float pSpeed) {
+		PhysicsJournal.checkMotorJoint(pJoint);
+		if(this.isRecordingChanges()) {
+			this.putJointOperation(PhysicsJournal.OP_SET_MOTOR_SPEED, pJoint, 4).putFloat(pSpeed);
+		}
+		PhysicsJournal.setMotorSpeed(pJoint, pSpeed);
+	}
+
+	/**
+	 * @param pMaxMotorForce the maximum torque of a revolute joint or the maximum force of a prismatic or line joint.
+	 */
+	public void setMaxMotorForce(final Joint pJoint, final float pMaxMotorForce) {
+		PhysicsJournal.checkMotorJoint(pJoint);
+		if(this.isRecordingChanges()) {
+			this.putJointOperation(PhysicsJournal.OP_SET_MAX_MOTOR_FORCE, pJoint, 4).putFloat(pMaxMotorForce);
+		}
+		PhysicsJournal.setMaxMotorForce(pJoint, pMaxMotorForce);
+	}
+
+	public void enableLimit(final Joint pJoint, final boolean pFlag) {
+		PhysicsJournal.checkMotorJoint(pJoint);
+		if(this.isRecordingChanges()) {
+			this.putJointOperation(PhysicsJournal.OP_ENABLE_LIMIT, pJoint, 1).put((byte)(pFlag ? 1 : 0));
+		}
+		PhysicsJournal.enableLimit(pJoint, pFlag);
+	}
+
+	public void setLimits(final Joint pJoint, final float pLower, final float pUpper) {
+		PhysicsJournal.checkMotorJoint(pJoint);
+		if(this.isRecordingChanges()) {
+			this.putJointOperation(PhysicsJournal.OP_SET_LIMITS, pJoint, 2 * 4).putFloat(pLower).putFloat(pUpper);
+		}
+		PhysicsJournal.setLimits(pJoint, pLower, pUpper);
+	}
+
+	public void setTarget(final MouseJoint pMouseJoint, final float pX, final float pY) {
+		if(this.isRecordingChanges()) {
+			this.putJointOperation(PhysicsJournal.OP_SET_TARGET, pMouseJoint, 2 * 4).putFloat(pX).putFloat(pY);
+		}
+		final Vector2 target = Vector2Pool.obtain(pX, pY);
+		pMouseJoint.setTarget(target);
+		Vector2Pool.recycle(target);
+	}
+
+	void onStepBegin(final float pTimeStep, final int pVelocityIterations, final int pPositionIterations) {
+		this.flushPendingBodies();
+		this.mTimeStep = pTimeStep;
+		this.mVelocityIterations = pVelocityIterations;
+		this.mPositionIterations = pPositionIterations;
+	}
+
+	void onStepEnd() {
+		this.mStepCount++;
+		if(this.mHashInterval > 0 && this.mStepCount % this.mHashInterval == 0) {
+			this.putOperation(PhysicsJournal.OP_STEP_HASHED, 3 * 4 + 8).putFloat(this.mTimeStep).putInt(this.mVelocityIterations).putInt(this.mPositionIterations).putLong(this.mPhysicsWorld.computeStateHash());
+		} else {
+			this.putOperation(PhysicsJournal.OP_STEP, 3 * 4).putFloat(this.mTimeStep).putInt(this.mVelocityIterations).putInt(this.mPositionIterations);
+		}
+	}
+
+	/**
+	 * Called before the forces are applied, see {@link PhysicsWorld#applyForces(LongBuffer, FloatBuffer, int)}.
+	 */
+	void onForcesApplied(final LongBuffer pBodyAddresses, final FloatBuffer pForces, final int pCount) {
+		this.putBatchOperations(PhysicsJournal.OP_APPLY_FORCE, pBodyAddresses, pForces, pCount);
+	}
+
+	/**
+	 * Called before the impulses are applied, see {@link PhysicsWorld#applyLinearImpulses(LongBuffer, FloatBuffer, int)}.
+	 */
+	void onLinearImpulsesApplied(final LongBuffer pBodyAddresses, final FloatBuffer pImpulses, final int pCount) {
+		this.putBatchOperations(PhysicsJournal.OP_APPLY_LINEAR_IMPULSE, pBodyAddresses, pImpulses, pCount);
+	}
+
+	/**
+	 * Called before the velocities are set, see {@link PhysicsWorld#setLinearVelocities(LongBuffer, FloatBuffer, int)}.
+	 */
+	void onLinearVelocitiesSet(final LongBuffer pBodyAddresses, final FloatBuffer pVelocities, final int pCount) {
+		this.putBatchOperations(PhysicsJournal.OP_SET_LINEAR_VELOCITY, pBodyAddresses, pVelocities, pCount);
+	}
+
+	void onGravityChanged(final float pX, final float pY) {
+		this.putOperation(PhysicsJournal.OP_SET_GRAVITY, 2 * 4).putFloat(pX).putFloat(pY);
+	}
+
+	void onBodyCreated(final Body pBody) {
+		this.mBodyIds.put(pBody, Integer.valueOf(this.mBodyIdCount++));
+		this.mPendingBodies.add(pBody);
+	}
+
+	void onBodiesCreated(final Body[] pBodies) {
+		for(int i = 0; i < pBodies.length; i++) {
+			this.onBodyCreated(pBodies[i]);
+		}
+	}
+
+	/**
+	 * Called before the body is destroyed, along with its joints.
+	 */
+	void onBodyDestroyed(final Body pBody) {
+		this.putBodyOperation(PhysicsJournal.OP_DESTROY_BODY, pBody, 0);
+		this.mBodyIds.remove(pBody);
+		this.mFixtureCount -= pBody.getFixtureList().size();
+
+		final ArrayList<JointEdge> jointEdges = pBody.getJointList();
+		for(int i = jointEdges.size() - 1; i >= 0; i--) {
+			this.mJointIds.remove(jointEdges.get(i).joint);
+		}
+	}
+
+	void onJointCreated(final Joint pJoint, final JointDef pJointDef) {
+		final int bodyIdA = this.getBodyId(pJointDef.bodyA);
+		final int bodyIdB = this.getBodyId(pJointDef.bodyB);
+
+		switch(pJointDef.type) {
+			case MouseJoint: {
+				final MouseJointDef mouseJointDef = (MouseJointDef)pJointDef;
+				this.putOperation(PhysicsJournal.OP_CREATE_MOUSE_JOINT, 2 * 4 + 1 + 5 * 4).putInt(bodyIdA).putInt(bodyIdB).put((byte)(mouseJointDef.collideConnected ? 1 : 0))
+					.putFloat(mouseJointDef.target.x).putFloat(mouseJointDef.target.y).putFloat(mouseJointDef.maxForce).putFloat(mouseJointDef.frequencyHz).putFloat(mouseJointDef.dampingRatio);
+				break;
+			}
+			case GearJoint: {
+				final GearJointDef gearJointDef = (GearJointDef)pJointDef;
+				final int jointId1 = this.getJointId(gearJointDef.joint1);
+				final int jointId2 = this.getJointId(gearJointDef.joint2);
+				this.putOperation(PhysicsJournal.OP_CREATE_GEAR_JOINT, 2 * 4 + 1 + 3 * 4).putInt(bodyIdA).putInt(bodyIdB).put((byte)(gearJointDef.collideConnected ? 1 : 0))
+					.putInt(jointId1).putInt(jointId2).putFloat(gearJointDef.ratio);
+				break;
+			}
+			default: {
+				final PackedJointDefs packedJointDefs = this.mPackedJointDefs;
+				packedJointDefs.clear();
+				packedJointDefs.add(pJointDef, 0, 1);
+				this.putJoints(packedJointDefs, bodyIdA, bodyIdB, null);
+			}
+		}
+
+		this.mJointIds.put(pJoint, Integer.valueOf(this.mJointIdCount++));
+	}
+
+	void onJointsCreated(final Joint[] pJoints, final PackedJointDefs pPackedJointDefs, final Body[] pBodies) {
+		this.putJoints(pPackedJointDefs, 0, 0, pBodies);
+		for(int i = 0; i < pJoints.length; i++) {
+			this.mJointIds.put(pJoints[i], Integer.valueOf(this.mJointIdCount++));
+		}
+	}
+
+	/**
+	 * Called before the joint is destroyed.
+	 */
+	void onJointDestroyed(final Joint pJoint) {
+		this.putJointOperation(PhysicsJournal.OP_DESTROY_JOINT, pJoint, 0);
+		this.mJointIds.remove(pJoint);
+	}
+
+	private boolean isRecordingChanges() {
+		return this.mRecording && !this.mPhysicsWorld.isLocked();
+	}
+
+	private int getBodyId(final Body pBody) {
+		final Integer bodyId = this.mBodyIds.get(pBody);
+		if(bodyId == null) {
+			throw new IllegalArgumentException("The body was not created through the recorded world, or has been destroyed.");
+		}
+		return bodyId.intValue();
+	}
+
+	private int getJointId(final Joint pJoint) {
+		final Integer jointId = this.mJointIds.get(pJoint);
+		if(jointId == null) {
+			throw new IllegalArgumentException("The joint was not created through the recorded world, or has been destroyed.");
+		}
+		return jointId.intValue();
+	}
+
+	private ByteBuffer putBodyOperation(final byte pOperation, final Body pBody, final int pArgumentSize) {
+		final int bodyId = this.getBodyId(pBody);
+		return this.putOperation(pOperation, 4 + pArgumentSize).putInt(bodyId);
+	}
+
+	private ByteBuffer putJointOperation(final byte pOperation, final Joint pJoint, final int pArgumentSize) {
+		final int jointId = this.getJointId(pJoint);
+		return this.putOperation(pOperation, 4 + pArgumentSize).putInt(jointId);
+	}
+
+	/**
+	 * Writes the pending bodies first, so that operations are replayed in order.
+	 * @return the journal, to put the pArgumentSize bytes of arguments into.
+	 */
+	private ByteBuffer putOperation(final byte pOperation, final int pArgumentSize) {
+		this.flushPendingBodies();
+		return this.ensureCapacity(1 + pArgumentSize).put(pOperation);
+	}
+
+	/**
+	 * Records a batch of {@link PhysicsWorld#applyForces(LongBuffer, FloatBuffer, int)}, {@link PhysicsWorld#applyLinearImpulses(LongBuffer, FloatBuffer, int)}
+	 * or {@link PhysicsWorld#setLinearVelocities(LongBuffer, FloatBuffer, int)} body by body, as the matching methods of this recorder do.
+	 * The forces and impulses are applied at the world center of each body.
+	 */
+	private void putBatchOperations(final byte pOperation, final LongBuffer pBodyAddresses, final FloatBuffer pVectors, final int pCount) {
+		if(!this.isRecordingChanges()) {
+			return;
+		}
+
+		/* Checks all entries before recording any, so that a batch that fails is not recorded in part. */
+		final PhysicsWorld physicsWorld = this.mPhysicsWorld;
+		for(int i = 0; i < pCount; i++) {
+			this.getBodyId(physicsWorld.getBody(pBodyAddresses.get(i)));
+			pVectors.get(i * 2 + 1);
+		}
+
+		for(int i = 0; i < pCount; i++) {
+			final Body body = physicsWorld.getBody(pBodyAddresses.get(i));
+			final float x = pVectors.get(i * 2);
+			final float y = pVectors.get(i * 2 + 1);
+			if(pOperation == PhysicsJournal.OP_SET_LINEAR_VELOCITY) {
+				this.putBodyOperation(pOperation, body, 2 * 4).putFloat(x).putFloat(y);
+			} else {
+				final Vector2 worldCenter = body.getWorldCenter();
+				this.putBodyOperation(pOperation, body, 4 * 4).putFloat(x).putFloat(y).putFloat(worldCenter.x).putFloat(worldCenter.y);
+			}
+		}
+	}
+
+	/**
+	 * @param pBodies the bodies the joints refer to by index, or null for a single joint between the bodies pBodyIdA and pBodyIdB.
+	 */
+	private void putJoints(final PackedJointDefs pPackedJointDefs, final int pBodyIdA, final int pBodyIdB, final Body[] pBodies) {
+		final int jointCount = pPackedJointDefs.getJointCount();
+		final FloatBuffer floats = pPackedJointDefs.getBuffer();
+		final int floatCount = floats.position();
+		final int bodyCount = (pBodies == null) ? 2 : pBodies.length;
+
+		final ByteBuffer journal = this.putOperation(PhysicsJournal.OP_CREATE_JOINTS, (3 + jointCount + bodyCount + floatCount) * 4);
+		journal.putInt(jointCount);
+		for(int i = 0; i < jointCount; i++) {
+			journal.putInt(pPackedJointDefs.getJointType(i).getValue());
+		}
+		journal.putInt(bodyCount);
+		if(pBodies == null) {
+			journal.putInt(pBodyIdA).putInt(pBodyIdB);
+		} else {
+			for(int i = 0; i < bodyCount; i++) {
+				journal.putInt(this.getBodyId(pBodies[i]));
+			}
+		}
+		journal.putInt(floatCount);
+		for(int i = 0; i < floatCount; i++) {
+			journal.putFloat(floats.get(i));
+		}
+	}
+
+	/**
+	 * Writes the bodies created since the last operation with their current state and fixtures, as a single batch.
+	 */
+	private void flushPendingBodies() {
+		final ArrayList<Body> pendingBodies = this.mPendingBodies;
+		final int bodyCount = pendingBodies.size();
+		if(bodyCount > 0) {
+			final PackedBodyDefs packedBodyDefs = this.mPackedBodyDefs;
+			packedBodyDefs.clear();
+			for(int i = 0; i < bodyCount; i++) {
+				this.packBody(pendingBodies.get(i));
+			}
+			pendingBodies.clear();
+
+			final FloatBuffer floats = packedBodyDefs.getBuffer();
+			final int floatCount = floats.position();
+			final ByteBuffer journal = this.ensureCapacity(1 + (2 + bodyCount + floatCount) * 4);
+			journal.put(PhysicsJournal.OP_CREATE_BODIES).putInt(bodyCount).putInt(floatCount);
+			for(int i = 0; i < bodyCount; i++) {
+				journal.putInt(packedBodyDefs.getFixtureCount(i));
+			}
+			for(int i = 0; i < floatCount; i++) {
+				journal.putFloat(floats.get(i));
+			}
+		}
+
+		this.checkFixtureCount();
+	}
+
+	/**
+	 * @throws IllegalStateException if fixtures were added or destroyed after their bodies were recorded, which the journal would miss.
+	 */
+	private void checkFixtureCount() {
+		if(this.mRecording) {
+			final int fixtureCount = this.mPhysicsWorld.getFixtureCount();
+			if(fixtureCount != this.mFixtureCount) {
+				throw new IllegalStateException("The world has " + fixtureCount + " fixtures, but " + this.mFixtureCount + " were recorded. Fixtures have to be added right after creating their body.");
+			}
+		}
+	}
+
+	private void packBody(final Body pBody) {
+		final BodyDef bodyDef = this.mBodyDef;
+		bodyDef.type = pBody.getType();
+		bodyDef.position.set(pBody.getPosition());
+		bodyDef.angle = pBody.getAngle();
+		bodyDef.linearVelocity.set(pBody.getLinearVelocity());
+		bodyDef.angularVelocity = pBody.getAngularVelocity();
+		bodyDef.linearDamping = pBody.getLinearDamping();
+		bodyDef.angularDamping = pBody.getAngularDamping();
+		bodyDef.allowSleep = pBody.isSleepingAllowed();
+		bodyDef.awake = pBody.isAwake();
+		bodyDef.fixedRotation = pBody.isFixedRotation();
+		bodyDef.bullet = pBody.isBullet();
+		bodyDef.active = pBody.isActive();
+
+		final PackedBodyDefs packedBodyDefs = this.mPackedBodyDefs;
+		packedBodyDefs.addBody(bodyDef);
+
+		final FixtureDef fixtureDef = this.mFixtureDef;
+		final ArrayList<Fixture> fixtures = pBody.getFixtureList();
+		this.mFixtureCount += fixtures.size();
+		for(int i = 0; i < fixtures.size(); i++) {
+			final Fixture fixture = fixtures.get(i);
+			fixtureDef.friction = fixture.getFriction();
+			fixtureDef.restitution = fixture.getRestitution();
+			fixtureDef.density = fixture.getDensity();
+			fixtureDef.isSensor = fixture.isSensor();
+			final Filter filter = fixture.getFilterData();
+			fixtureDef.filter.categoryBits = filter.categoryBits;
+			fixtureDef.filter.maskBits = filter.maskBits;
+			fixtureDef.filter.groupIndex = filter.groupIndex;
+
+			final Shape shape = fixture.getShape();
+			if(shape.getType() == Shape.Type.Circle) {
+				final Vector2 position = ((CircleShape)shape).getPosition();
+				packedBodyDefs.addCircle(fixtureDef, shape.getRadius(), position.x, position.y);
+			} else {
+				final PolygonShape polygonShape = (PolygonShape)shape;
+				final Vector2[] vertices = this.mVertices[polygonShape.getVertexCount()];
+				for(int j = 0; j < vertices.length; j++) {
+					polygonShape.getVertex(j, vertices[j]);
+				}
+
+				if(PhysicsJournalRecorder.isCenteredBox(vertices)) {
+					/* Replays setAsBox(hx, hy) exactly, unlike set, which computes the centroid and the normals itself. */
+					packedBodyDefs.addBox(fixtureDef, vertices[2].x, vertices[2].y);
+				} else {
+					packedBodyDefs.addPolygon(fixtureDef, vertices);
+				}
+			}
+		}
+	}
+
+	private static boolean isCenteredBox(final Vector2[] pVertices) {
+		if(pVertices.length != 4) {
+			return false;
+		}
+		final float halfWidth = pVertices[2].x;
+		final float halfHeight = pVertices[2].y;
+		return halfWidth > 0 && halfHeight > 0
+				&& pVertices[0].x == -halfWidth && pVertices[0].y == -halfHeight
+				&& pVertices[1].x == halfWidth && pVertices[1].y == -halfHeight
+				&& pVertices[3].x == -halfWidth && pVertices[3].y == halfHeight;
+	}
+
+	private ByteBuffer ensureCapacity(final int pSize) {
+		final ByteBuffer journal = this.mJournal;
+		if(journal.remaining() >= pSize) {
+			return journal;
+		}
+
+		final ByteBuffer newJournal = ByteBuffer.allocate(Math.max(journal.capacity() * 2, journal.position() + pSize)).order(ByteOrder.LITTLE_ENDIAN);
+		journal.flip();
+		newJournal.put(journal);
+		this.mJournal = newJournal;
+		return newJournal;
+	}
+
+	// ===========================================================
+	// Inner and Anonymous Classes
+	// ===========================================================
+}
@@ -0,0 +1,263 @@
+package org.andengine.extension.physics.box2d;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.JointDef.JointType;
+import com.badlogic.gdx.physics.box2d.PackedBodyDefs;
+import com.badlogic.gdx.physics.box2d.PackedJointDefs;
+import com.badlogic.gdx.utils.BufferUtils;
+
+/**
+ * A precompiled level: bodies, fixtures with their filters and final convex polygons, and joints, as produced by a {@link PhysicsLevelCompiler}.
+ * {@link #load(PhysicsWorld)} creates the bodies and the joints with one native call each, without any hull or triangulation work at runtime.
+ *
+ * The file starts with a header of little endian ints: magic, version, body count, body float count, joint count and joint float count,
+ * followed by the fixture count of each body, the type of each joint, the {@link PackedBodyDefs} floats and the {@link PackedJointDefs} floats.
+ * {@link #read(File)} maps the file, so the floats are passed to the native side without being copied on little endian devices.
+ */
+public class PhysicsLevel {
+	// ===========================================================
+	// Constants
+	// ===========================================================
+
+	public static final int MAGIC = 0x564C3242; // "B2LV"
+	public static final int VERSION = 1;
+
+	private static final int HEADER_SIZE = 6 * 4;
+	private static final int READ_BUFFER_SIZE = 8192;
+
+	// ===========================================================
+	// Fields
+	// ===========================================================
+
+	private final PackedBodyDefs mPackedBodyDefs;
+	private final PackedJointDefs mPackedJointDefs;
+
+	// ===========================================================
+	// Constructors
+	// ===========================================================
+
+	public PhysicsLevel(final PackedBodyDefs pPackedBodyDefs, final PackedJointDefs pPackedJointDefs) {
+		this.mPackedBodyDefs = pPackedBodyDefs;
+		this.mPackedJointDefs = pPackedJointDefs;
+	}
+
+	// ===========================================================
+	// Getter & Setter
+	// ===========================================================
+
+	public PackedBodyDefs getPackedBodyDefs() {
+		return this.mPackedBodyDefs;
+	}
+
+	public PackedJointDefs getPackedJointDefs() {
+		return this.mPackedJointDefs;
+	}
+
+	public int getBodyCount() {
+		return this.mPackedBodyDefs.getBodyCount();
+	}
+
+	public int getJointCount() {
+		return this.mPackedJointDefs.getJointCount();
+	}
+
+	// ===========================================================
+	// Methods for/from SuperClass/Interfaces
+	// ===========================================================
+
+	// ===========================================================
+	// Methods
+	// ===========================================================
+
+	/**
+	 * Creates the bodies and then the joints of this level. Can be called on several worlds.
+	 * @return the bodies, in the order they were added to the {@link PhysicsLevelCompiler}.
+	 */
+	public Body[] load(final PhysicsWorld pPhysicsWorld) {
+		final Body[] bodies = pPhysicsWorld.createBodies(this.mPackedBodyDefs);
+		if(this.mPackedJointDefs.getJointCount() > 0) {
+			pPhysicsWorld.createJoints(this.mPackedJointDefs, bodies);
+		}
+		return bodies;
+	}
+
+	public void write(final OutputStream pOutputStream) throws IOException {
+		final PackedBodyDefs packedBodyDefs = this.mPackedBodyDefs;
+		final PackedJointDefs packedJointDefs = this.mPackedJointDefs;
+		final int bodyCount = packedBodyDefs.getBodyCount();
+		final int jointCount = packedJointDefs.getJointCount();
+		final FloatBuffer bodyFloats = packedBodyDefs.getBuffer();
+		final FloatBuffer jointFloats = packedJointDefs.getBuffer();
+		final int bodyFloatCount = bodyFloats.position();
+		final int jointFloatCount = jointFloats.position();
+
+		final ByteBuffer out = ByteBuffer.allocate(HEADER_SIZE + (bodyCount + jointCount + bodyFloatCount + jointFloatCount) * 4).order(ByteOrder.LITTLE_ENDIAN);
+		out.putInt(MAGIC).putInt(VERSION).putInt(bodyCount).putInt(bodyFloatCount).putInt(jointCount).putInt(jointFloatCount);
+		for(int i = 0; i < bodyCount; i++) {
+			out.putInt(packedBodyDefs.getFixtureCount(i));
+		}
+		for(int i = 0; i < jointCount; i++) {
+			out.putInt(packedJointDefs.getJointType(i).getValue());
+		}
+		for(int i = 0; i < bodyFloatCount; i++) {
+			out.putFloat(bodyFloats.get(i));
+		}
+		for(int i = 0; i < jointFloatCount; i++) {
+			out.putFloat(jointFloats.get(i));
+		}
+
+		pOutputStream.write(out.array(), 0, out.position());
+		pOutputStream.flush();
+	}
+
+	/**
+	 * Maps the file into memory. The mapping stays valid after the file is closed, as long as the level is referenced.
+	 */
+	public static PhysicsLevel read(final File pFile) throws IOException {
+		final FileInputStream fileInputStream = new FileInputStream(pFile);
+		try {
+			final FileChannel fileChannel = fileInputStream.getChannel();
+			return PhysicsLevel.read(fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileChannel.size()));
+		} finally {
+			fileInputStream.close();
+		}
+	}
+
+	/**
+	 * Reads the whole stream into a direct buffer, e.g. for levels stored in the assets of an apk.
+	 * @throws IllegalArgumentException if the level is malformed.
+	 */
+	public static PhysicsLevel read(final InputStream pInputStream) throws IOException {
+		final DataInputStream dataInputStream = new DataInputStream(pInputStream);
+		final byte[] header = new byte[HEADER_SIZE];
+		dataInputStream.readFully(header);
+		final ByteBuffer headerBuffer = ByteBuffer.wrap(header).order(ByteOrder.LITTLE_ENDIAN);
+		PhysicsLevel.checkHeader(headerBuffer);
+		final long size = PhysicsLevel.getSize(headerBuffer);
+		if(size > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Physics level is too large: " + size + " bytes.");
+		}
+
+		/* Grow with the data actually read rather than trusting the header, so that a corrupt header cannot exhaust the heap. */
+		final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream((int)Math.min(size, READ_BUFFER_SIZE));
+		byteArrayOutputStream.write(header);
+		final byte[] readBuffer = new byte[READ_BUFFER_SIZE];
+		long remaining = size - HEADER_SIZE;
+		while(remaining > 0) {
+			final int read = dataInputStream.read(readBuffer, 0, (int)Math.min(remaining, READ_BUFFER_SIZE));
+			if(read < 0) {
+				throw new EOFException("Physics level is truncated.");
+			}
+			byteArrayOutputStream.write(readBuffer, 0, read);
+			remaining -= read;
+		}
+
+		final byte[] data = byteArrayOutputStream.toByteArray();
+		final ByteBuffer buffer = ByteBuffer.allocateDirect(data.length);
+		buffer.put(data);
+		buffer.flip();
+		return PhysicsLevel.read(buffer);
+	}
+
+	/**
+	 * @param pBuffer holding a level from its position on. If it is direct, the floats are used in place where the byte order allows.
+	 * @throws IllegalArgumentException if the level is malformed.
+	 */
+	public static PhysicsLevel read(final ByteBuffer pBuffer) {
+		final ByteBuffer buffer = pBuffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+		if(buffer.remaining() < HEADER_SIZE) {
+			throw new IllegalArgumentException("Not a physics level, too short.");
+		}
+		PhysicsLevel.checkHeader(buffer);
+		if(buffer.remaining() < PhysicsLevel.getSize(buffer)) {
+			throw new IllegalArgumentException("Physics level is truncated.");
+		}
+		final int bodyCount = buffer.getInt(2 * 4);
+		final int bodyFloatCount = buffer.getInt(3 * 4);
+		final int jointCount = buffer.getInt(4 * 4);
+		final int jointFloatCount = buffer.getInt(5 * 4);
+
+		buffer.position(HEADER_SIZE);
+		final int[] fixtureCounts = new int[bodyCount];
+		for(int i = 0; i < bodyCount; i++) {
+			fixtureCounts[i] = buffer.getInt();
+		}
+		final JointType[] jointTypes = new JointType[jointCount];
+		for(int i = 0; i < jointCount; i++) {
+			final int jointType = buffer.getInt();
+			if(jointType <= 0 || jointType >= JointType.valueTypes.length) {
+				throw new IllegalArgumentException("Unknown joint type: " + jointType);
+			}
+			jointTypes[i] = JointType.valueTypes[jointType];
+		}
+
+		final FloatBuffer bodyFloats = PhysicsLevel.getFloats(buffer, bodyFloatCount);
+		final FloatBuffer jointFloats = PhysicsLevel.getFloats(buffer, jointFloatCount);
+
+		/* The packed definitions validate their records when wrapped, the joints are also checked against the bodies of the level,
+		 * so a malformed level fails here rather than on the native side. */
+		final PackedJointDefs packedJointDefs = new PackedJointDefs(jointFloats, jointTypes);
+		packedJointDefs.validate(bodyCount);
+		return new PhysicsLevel(new PackedBodyDefs(bodyFloats, fixtureCounts), packedJointDefs);
+	}
+
+	private static void checkHeader(final ByteBuffer pHeader) {
+		if(pHeader.getInt(0) != MAGIC) {
+			throw new IllegalArgumentException("Not a physics level.");
+		}
+		final int version = pHeader.getInt(4);
+		if(version != VERSION) {
+			throw new IllegalArgumentException("Unsupported physics level version: " + version);
+		}
+	}
+
+	/**
+	 * @return the size of the level in bytes, including the header.
+	 */
+	private static long getSize(final ByteBuffer pHeader) {
+		final int bodyCount = pHeader.getInt(2 * 4);
+		final int bodyFloatCount = pHeader.getInt(3 * 4);
+		final int jointCount = pHeader.getInt(4 * 4);
+		final int jointFloatCount = pHeader.getInt(5 * 4);
+		if(bodyCount < 0 || bodyFloatCount < 0 || jointCount < 0 || jointFloatCount < 0) {
+			throw new IllegalArgumentException("Physics level has negative counts.");
+		}
+		return HEADER_SIZE + ((long)bodyCount + jointCount + bodyFloatCount + jointFloatCount) * 4;
+	}
+
+	/**
+	 * @return a direct buffer in native order with the next pFloatCount floats of pBuffer, positioned at its end as {@link PackedBodyDefs} and {@link PackedJointDefs} expect.
+	 */
+	private static FloatBuffer getFloats(final ByteBuffer pBuffer, final int pFloatCount) {
+		final ByteBuffer bytes = pBuffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+		bytes.limit(pFloatCount * 4);
+		pBuffer.position(pBuffer.position() + pFloatCount * 4);
+
+		final FloatBuffer floats;
+		if(bytes.isDirect() && ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN) {
+			floats = bytes.asFloatBuffer();
+		} else {
+			floats = BufferUtils.newFloatBuffer(Math.max(pFloatCount, 1));
+			floats.put(bytes.asFloatBuffer());
+		}
+		floats.position(pFloatCount);
+		return floats;
+	}
+
+	// ===========================================================
+	// Inner and Anonymous Classes
+	// ===========================================================
+}
@@ -0,0 +1,172 @@
+package org.andengine.extension.physics.box2d;
+
+import static org.andengine.extension.physics.box2d.util.constants.PhysicsConstants.PIXEL_TO_METER_RATIO_DEFAULT;
+
+import java.util.List;
+
+import org.andengine.extension.physics.box2d.util.hull.IHullAlgorithm;
+import org.andengine.extension.physics.box2d.util.triangulation.ITriangulationAlgoritm;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.badlogic.gdx.physics.box2d.FixtureDef;
+import com.badlogic.gdx.physics.box2d.JointDef;
+import com.badlogic.gdx.physics.box2d.PackedBodyDefs;
+import com.badlogic.gdx.physics.box2d.PackedJointDefs;
+
+/**
+ * Builds a {@link PhysicsLevel} offline from the same inputs as {@link PhysicsFactory}, running the hull and triangulation algorithms
+ * once at build time, so that only the final convex polygons are stored. Bodies are referenced by the index returned when adding them,
+ * e.g. to add joints between them.
+ */
+public class PhysicsLevelCompiler {
+	// ===========================================================
+	// Constants
+	// ===========================================================
+
+	private static final int CAPACITY_DEFAULT = 1024;
+
+	// ===========================================================
+	// Fields
+	// ===========================================================
+
+	private final float mPixelToMeterRatio;
+
+	private final PackedBodyDefs mPackedBodyDefs = new PackedBodyDefs(CAPACITY_DEFAULT);
+	private final PackedJointDefs mPackedJointDefs = new PackedJointDefs(CAPACITY_DEFAULT);
+
+	// ===========================================================
+	// Constructors
+	// ===========================================================
+
+	public PhysicsLevelCompiler() {
+		this(PIXEL_TO_METER_RATIO_DEFAULT);
+	}
+
+	public PhysicsLevelCompiler(final float pPixelToMeterRatio) {
+		this.mPixelToMeterRatio = pPixelToMeterRatio;
+	}
+
+	// ===========================================================
+	// Getter & Setter
+	// ===========================================================
+
+	public int getBodyCount() {
+		return this.mPackedBodyDefs.getBodyCount();
+	}
+
+	public int getJointCount() {
+		return this.mPackedJointDefs.getJointCount();
+	}
+
+	// ===========================================================
+	// Methods for/from SuperClass/Interfaces
+	// ===========================================================
+
+	// ===========================================================
+	// Methods
+	// ===========================================================
+
+	/**
+	 * @return the index of the body.
+	 * @see PhysicsFactory#createBoxBody(PhysicsWorld, float, float, float, float, float, BodyType, FixtureDef, float)
+	 */
+	public int addBoxBody(final float pCenterX, final float pCenterY, final float pWidth, final float pHeight, final float pRotation, final BodyType pBodyType, final FixtureDef pFixtureDef) {
+		PhysicsFactory.addBoxBody(this.mPackedBodyDefs, pCenterX, pCenterY, pWidth, pHeight, pRotation, pBodyType, pFixtureDef, this.mPixelToMeterRatio);
+		return this.mPackedBodyDefs.getBodyCount() - 1;
+	}
+
+	/**
+	 * @return the index of the body.
+	 * @see PhysicsFactory#createCircleBody(PhysicsWorld, float, float, float, float, BodyType, FixtureDef, float)
+	 */
+	public int addCircleBody(final float pCenterX, final float pCenterY, final float pRadius, final float pRotation, final BodyType pBodyType, final FixtureDef pFixtureDef) {
+		PhysicsFactory.addCircleBody(this.mPackedBodyDefs, pCenterX, pCenterY, pRadius, pRotation, pBodyType, pFixtureDef, this.mPixelToMeterRatio);
+		return this.mPackedBodyDefs.getBodyCount() - 1;
+	}
+
+	/**
+	 * @return the index of the body.
+	 * @see PhysicsFactory#createLineBody(PhysicsWorld, float, float, float, float, FixtureDef, float)
+	 */
+	public int addLineBody(final float pX1, final float pY1, final float pX2, final float pY2, final FixtureDef pFixtureDef) {
+		PhysicsFactory.addLineBody(this.mPackedBodyDefs, pX1, pY1, pX2, pY2, pFixtureDef, this.mPixelToMeterRatio);
+		return this.mPackedBodyDefs.getBodyCount() - 1;
+	}
+
+	/**
+	 * @param pVertices a convex polygon in counter clockwise order, relative to pCenterX/pCenterY and with the pixel to meter ratio applied.
+	 * @return the index of the body.
+	 */
+	public int addPolygonBody(final float pCenterX, final float pCenterY, final Vector2[] pVertices, final BodyType pBodyType, final FixtureDef pFixtureDef) {
+		PhysicsFactory.addPolygonBody(this.mPackedBodyDefs, pCenterX, pCenterY, pVertices, pBodyType, pFixtureDef, this.mPixelToMeterRatio);
+		return this.mPackedBodyDefs.getBodyCount() - 1;
+	}
+
+	/**
+	 * Adds a body with the convex hull of the given points, at most {@link PackedBodyDefs#MAX_POLYGON_VERTICES} vertices.
+	 * @param pPoints relative to pCenterX/pCenterY and with the pixel to meter ratio applied, not modified.
+	 * @return the index of the body.
+	 */
+	public int addHullBody(final float pCenterX, final float pCenterY, final Vector2[] pPoints, final IHullAlgorithm pHullAlgorithm, final BodyType pBodyType, final FixtureDef pFixtureDef) {
+		final Vector2[] points = pPoints.clone();
+		final int hullVertexCount = pHullAlgorithm.computeHull(points);
+
+		final Vector2[] hullVertices = new Vector2[hullVertexCount];
+		System.arraycopy(points, 0, hullVertices, 0, hullVertexCount);
+		if(PhysicsLevelCompiler.computeSignedArea(hullVertices) < 0) {
+			for(int i = 0, j = hullVertexCount - 1; i < j; i++, j--) {
+				final Vector2 vertex = hullVertices[i];
+				hullVertices[i] = hullVertices[j];
+				hullVertices[j] = vertex;
+			}
+		}
+
+		return this.addPolygonBody(pCenterX, pCenterY, hullVertices, pBodyType, pFixtureDef);
+	}
+
+	/**
+	 * Adds a body made of the triangles of the given outline, one fixture per triangle.
+	 * @param pVertices the outline, relative to pCenterX/pCenterY and with the pixel to meter ratio applied.
+	 * @return the index of the body.
+	 * @see PhysicsFactory#createTrianglulatedBody(PhysicsWorld, org.andengine.entity.shape.IShape, List, BodyType, FixtureDef, float)
+	 */
+	public int addTriangulatedBody(final float pCenterX, final float pCenterY, final List<Vector2> pVertices, final ITriangulationAlgoritm pTriangulationAlgoritm, final BodyType pBodyType, final FixtureDef pFixtureDef) {
+		final List<Vector2> triangleVertices = pTriangulationAlgoritm.computeTriangles(pVertices);
+		PhysicsFactory.addTrianglulatedBody(this.mPackedBodyDefs, pCenterX, pCenterY, triangleVertices, pBodyType, pFixtureDef, this.mPixelToMeterRatio);
+		return this.mPackedBodyDefs.getBodyCount() - 1;
+	}
+
+	/**
+	 * Adds a joint between two bodies added before. The bodies of pJointDef are ignored. Gear and mouse joints are not supported.
+	 * @return the index of the joint.
+	 */
+	public int addJoint(final JointDef pJointDef, final int pBodyIndexA, final int pBodyIndexB) {
+		final int bodyCount = this.mPackedBodyDefs.getBodyCount();
+		if(pBodyIndexA < 0 || pBodyIndexA >= bodyCount || pBodyIndexB < 0 || pBodyIndexB >= bodyCount) {
+			throw new IndexOutOfBoundsException("Body indices: " + pBodyIndexA + ", " + pBodyIndexB + ", count: " + bodyCount);
+		}
+
+		this.mPackedJointDefs.add(pJointDef, pBodyIndexA, pBodyIndexB);
+		return this.mPackedJointDefs.getJointCount() - 1;
+	}
+
+	/**
+	 * @return a level backed by this compiler, which must not be modified anymore if the level is still used. Write it with {@link PhysicsLevel#write(java.io.OutputStream)}.
+	 */
+	public PhysicsLevel compile() {
+		return new PhysicsLevel(this.mPackedBodyDefs, this.mPackedJointDefs);
+	}
+
+	private static float computeSignedArea(final Vector2[] pVertices) {
+		float area = 0;
+		for(int i = 0, j = pVertices.length - 1; i < pVertices.length; j = i++) {
+			area += pVertices[j].x * pVertices[i].y - pVertices[i].x * pVertices[j].y;
+		}
+		return area * 0.5f;
+	}
+
+	// ===========================================================
+	// Inner and Anonymous Classes
+	// ===========================================================
+}
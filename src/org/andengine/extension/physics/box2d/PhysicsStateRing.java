@@ -0,0 +1,219 @@
+package org.andengine.extension.physics.box2d;
+
+import java.nio.ByteBuffer;
+
+import com.badlogic.gdx.utils.BufferUtils;
+
+/**
+ * A fixed number of world states keyed by step number, kept in a single direct buffer so that {@link PhysicsWorld#saveState(ByteBuffer)}
+ * and {@link PhysicsWorld#restoreState(ByteBuffer)} copy straight between the native world and preallocated slots, e.g. for rollback netcode.
+ * The state of step n is stored in slot n % capacity, overwriting the oldest state.
+ *
+ * No memory is allocated in steady state. The slots only grow, all at once, when a state is larger than a slot,
+ * e.g. because more contacts were created, see {@link #getGrowCount()} and {@link #getMemorySize()}.
+ *
+ * @see FixedStepPhysicsWorld#setRollbackSteps(int)
+ */
+public class PhysicsStateRing {
+	// ===========================================================
+	// Constants
+	// ===========================================================
+
+	private static final int SLOT_ALIGNMENT = 64;
+
+	// ===========================================================
+	// Fields
+	// ===========================================================
+
+	private final int mCapacity;
+	private final long[] mSteps;
+	private final int[] mSizes;
+
+	private int mSlotSize;
+	private final ByteBuffer[] mSlots;
+
+	private int mGrowCount;
+	private int mLargestStateSize;
+
+	// ===========================================================
+	// Constructors
+	// ===========================================================
+
+	/**
+	 * @param pCapacity the number of states kept.
+	 * @param pSlotSize the initial size of each slot in bytes, e.g. a multiple of {@link PhysicsWorld#getStateSize()} to leave room for new contacts.
+	 */
+	public PhysicsStateRing(final int pCapacity, final int pSlotSize) {
+		if(pCapacity <= 0) {
+			throw new IllegalArgumentException("pCapacity must be positive.");
+		}
+
+		this.mCapacity = pCapacity;
+		this.mSteps = new long[pCapacity];
+		this.mSizes = new int[pCapacity];
+		this.mSlots = new ByteBuffer[pCapacity];
+		this.allocateSlots(pSlotSize);
+		this.clear();
+	}
+
+	// ===========================================================
+	// Getter & Setter
+	// ===========================================================
+
+	public int getCapacity() {
+		return this.mCapacity;
+	}
+
+	public int getSlotSize() {
+		return this.mSlotSize;
+	}
+
+	/**
+	 * @return the number of bytes held by the slots.
+	 */
+	public int getMemorySize() {
+		return this.mCapacity * this.mSlotSize;
+	}
+
+	/**
+	 * @return how often the slots had to grow to fit a state.
+	 */
+	public int getGrowCount() {
+		return this.mGrowCount;
+	}
+
+	/**
+	 * @return the size of the largest state saved so far, in bytes.
+	 */
+	public int getLargestStateSize() {
+		return this.mLargestStateSize;
+	}
+
+	/**
+	 * @return the size of the state of pStep in bytes, or -1 if it is not held.
+	 */
+	public int getStateSize(final long pStep) {
+		return this.contains(pStep) ? this.mSizes[this.getSlot(pStep)] : -1;
+	}
+
+	/**
+	 * @return the oldest step held, or -1 if empty.
+	 */
+	public long getOldestStep() {
+		long oldestStep = -1;
+		for(int i = 0; i < this.mCapacity; i++) {
+			final long step = this.mSteps[i];
+			if(step >= 0 && (oldestStep < 0 || step < oldestStep)) {
+				oldestStep = step;
+			}
+		}
+		return oldestStep;
+	}
+
+	/**
+	 * @return the newest step held, or -1 if empty.
+	 */
+	public long getNewestStep() {
+		long newestStep = -1;
+		for(int i = 0; i < this.mCapacity; i++) {
+			newestStep = Math.max(newestStep, this.mSteps[i]);
+		}
+		return newestStep;
+	}
+
+	public boolean contains(final long pStep) {
+		return pStep >= 0 && this.mSteps[this.getSlot(pStep)] == pStep;
+	}
+
+	// ===========================================================
+	// Methods for/from SuperClass/Interfaces
+	// ===========================================================
+
+	// ===========================================================
+	// Methods
+	// ===========================================================
+
+	/**
+	 * Saves the current state of pPhysicsWorld as the state of pStep, replacing the state held in its slot.
+	 */
+	public void save(final PhysicsWorld pPhysicsWorld, final long pStep) {
+		if(pStep < 0) {
+			throw new IllegalArgumentException("pStep must not be negative.");
+		}
+
+		final int stateSize = pPhysicsWorld.getStateSize();
+		if(stateSize > this.mSlotSize) {
+			this.grow(stateSize);
+		}
+
+		final int slot = this.getSlot(pStep);
+		this.mSizes[slot] = pPhysicsWorld.saveState(this.mSlots[slot]);
+		this.mSteps[slot] = pStep;
+		this.mLargestStateSize = Math.max(this.mLargestStateSize, stateSize);
+	}
+
+	/**
+	 * Restores the state of pStep into pPhysicsWorld and discards the states of all later steps, as they belong to a timeline that is about to be re-simulated.
+	 * @throws IllegalArgumentException if pStep is not held, or the world does not have the same bodies, fixtures and joints as when it was saved.
+	 */
+	public void restore(final PhysicsWorld pPhysicsWorld, final long pStep) {
+		if(!this.contains(pStep)) {
+			throw new IllegalArgumentException("Step " + pStep + " is not held, oldest: " + this.getOldestStep() + ", newest: " + this.getNewestStep());
+		}
+
+		pPhysicsWorld.restoreState(this.mSlots[this.getSlot(pStep)]);
+		this.discardAfter(pStep);
+	}
+
+	/**
+	 * Discards the states of all steps after pStep.
+	 */
+	public void discardAfter(final long pStep) {
+		for(int i = 0; i < this.mCapacity; i++) {
+			if(this.mSteps[i] > pStep) {
+				this.mSteps[i] = -1;
+			}
+		}
+	}
+
+	public void clear() {
+		for(int i = 0; i < this.mCapacity; i++) {
+			this.mSteps[i] = -1;
+		}
+	}
+
+	private int getSlot(final long pStep) {
+		return (int)(pStep % this.mCapacity);
+	}
+
+	private void grow(final int pStateSize) {
+		final ByteBuffer[] oldSlots = this.mSlots.clone();
+
+		this.allocateSlots(pStateSize + pStateSize / 2);
+		for(int i = 0; i < this.mCapacity; i++) {
+			if(this.mSteps[i] >= 0) {
+				final ByteBuffer oldSlot = oldSlots[i].duplicate();
+				oldSlot.clear().limit(this.mSizes[i]);
+				this.mSlots[i].put(oldSlot);
+				this.mSlots[i].clear();
+			}
+		}
+		this.mGrowCount++;
+	}
+
+	private void allocateSlots(final int pSlotSize) {
+		final int slotSize = (Math.max(pSlotSize, 1) + SLOT_ALIGNMENT - 1) / SLOT_ALIGNMENT * SLOT_ALIGNMENT;
+		final ByteBuffer buffer = BufferUtils.newByteBuffer(this.mCapacity * slotSize);
+		for(int i = 0; i < this.mCapacity; i++) {
+			buffer.limit((i + 1) * slotSize).position(i * slotSize);
+			this.mSlots[i] = buffer.slice().order(buffer.order());
+		}
+		buffer.clear();
+
+		this.mSlotSize = slotSize;
+	}
+
+	// ===========================================================
+	// Inner and Anonymous Classes
+	// ===========================================================
+}
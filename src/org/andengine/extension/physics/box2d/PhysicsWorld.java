@@ -1,5 +1,9 @@
 package org.andengine.extension.physics.box2d;
 
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
 import java.util.Iterator;
 import java.util.List;
 
@@ -7,17 +11,23 @@ import org.andengine.engine.handler.IUpdateHandler;
 import org.andengine.engine.handler.runnable.RunnableHandler;
 
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.AwakeBodySet;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.Contact;
+import com.badlogic.gdx.physics.box2d.ContactEventBuffer;
 import com.badlogic.gdx.physics.box2d.ContactFilter;
 import com.badlogic.gdx.physics.box2d.ContactListener;
+import com.badlogic.gdx.physics.box2d.ContactSnapshot;
 import com.badlogic.gdx.physics.box2d.DestructionListener;
 import com.badlogic.gdx.physics.box2d.Joint;
 import com.badlogic.gdx.physics.box2d.JointDef;
+import com.badlogic.gdx.physics.box2d.PackedBodyDefs;
+import com.badlogic.gdx.physics.box2d.PackedJointDefs;
 import com.badlogic.gdx.physics.box2d.QueryCallback;
 import com.badlogic.gdx.physics.box2d.RayCastCallback;
 import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.physics.box2d.World.RayCastMode;
 
 /**
  * (c) 2010 Nicolas Gramlich 
@@ -42,13 +52,20 @@ public class PhysicsWorld implements IUpdateHandler {
 	// Fields
 	// ===========================================================
 
-	protected final PhysicsConnectorManager mPhysicsConnectorManager = new PhysicsConnectorManager();
+	protected final PhysicsConnectorManager mPhysicsConnectorManager;
 	protected final RunnableHandler mRunnableHandler = new RunnableHandler();
 	protected final World mWorld;
 
 	protected int mVelocityIterations = VELOCITY_ITERATIONS_DEFAULT;
 	protected int mPositionIterations = POSITION_ITERATIONS_DEFAULT;
 
+	protected AwakeBodySet mAwakeBodySet;
+	protected IBodySleepListener mBodySleepListener;
+
+	protected AdaptiveIterationController mIterationController;
+
+	protected PhysicsJournalRecorder mJournalRecorder;
+
 	// ===========================================================
 	// Constructors
 	// ===========================================================
@@ -59,6 +76,7 @@ public class PhysicsWorld implements IUpdateHandler {
 
 	public PhysicsWorld(final Vector2 pGravity, final boolean pAllowSleep, final int pVelocityIterations, final int pPositionIterations) {
 		this.mWorld = new World(pGravity, pAllowSleep);
+		this.mPhysicsConnectorManager = new PhysicsConnectorManager(this.mWorld);
 		this.mVelocityIterations = pVelocityIterations;
 		this.mPositionIterations = pPositionIterations;
 	}
@@ -87,6 +105,28 @@ public class PhysicsWorld implements IUpdateHandler {
 		this.mVelocityIterations = pVelocityIterations;
 	}
 
+	public AdaptiveIterationController getIterationController() {
+		return this.mIterationController;
+	}
+
+	/**
+	 * @param pIterationController adjusts the velocity and position iterations after each step, or null to keep them fixed.
+	 */
+	public void setIterationController(final AdaptiveIterationController pIterationController) {
+		this.mIterationController = pIterationController;
+	}
+
+	/**
+	 * @return the recorder of this world, or null if it is not being recorded.
+	 */
+	public PhysicsJournalRecorder getJournalRecorder() {
+		return this.mJournalRecorder;
+	}
+
+	void setJournalRecorder(final PhysicsJournalRecorder pJournalRecorder) {
+		this.mJournalRecorder = pJournalRecorder;
+	}
+
 	public PhysicsConnectorManager getPhysicsConnectorManager() {
 		return this.mPhysicsConnectorManager;
 	}
@@ -103,6 +143,53 @@ public class PhysicsWorld implements IUpdateHandler {
 		this.mPhysicsConnectorManager.remove(pPhysicsConnector);
 	}
 
+	public boolean isAwakeBodyTracking() {
+		return this.mAwakeBodySet != null;
+	}
+
+	/**
+	 * When enabled, each step records which bodies are awake and which woke up or fell asleep, see {@link #getAwakeBodySet()} and {@link #setBodySleepListener(IBodySleepListener)}.
+	 * {@link PhysicsConnector}s of sleeping bodies are then skipped, so wake a body up with {@link Body#setAwake(boolean)} when moving it by hand while it is asleep.
+	 */
+	public void setAwakeBodyTracking(final boolean pAwakeBodyTracking) {
+		if(pAwakeBodyTracking == this.isAwakeBodyTracking()) {
+			return;
+		}
+
+		this.mAwakeBodySet = (pAwakeBodyTracking) ? new AwakeBodySet(this.mWorld.getBodyCount()) : null;
+		this.mWorld.setAwakeBodySet(this.mAwakeBodySet);
+		this.mPhysicsConnectorManager.setAwakeBodySet(this.mAwakeBodySet);
+	}
+
+	/**
+	 * @return the awake bodies after the last step, or null if awake body tracking is disabled.
+	 */
+	public AwakeBodySet getAwakeBodySet() {
+		return this.mAwakeBodySet;
+	}
+
+	/**
+	 * @param pBodyAddresses receives the addresses of the bodies awake after the last step, see {@link #getBody(long)}.
+	 * @return the number of addresses written, 0 if awake body tracking is disabled.
+	 */
+	public int getAwakeBodies(final long[] pBodyAddresses) {
+		if(this.mAwakeBodySet == null) {
+			return 0;
+		}
+		return this.mAwakeBodySet.getAwakeBodyAddresses(pBodyAddresses);
+	}
+
+	public IBodySleepListener getBodySleepListener() {
+		return this.mBodySleepListener;
+	}
+
+	/**
+	 * Only notified while awake body tracking is enabled, see {@link #setAwakeBodyTracking(boolean)}.
+	 */
+	public void setBodySleepListener(final IBodySleepListener pBodySleepListener) {
+		this.mBodySleepListener = pBodySleepListener;
+	}
+
 	// ===========================================================
 	// Methods for/from SuperClass/Interfaces
 	// ===========================================================
@@ -110,8 +197,8 @@ public class PhysicsWorld implements IUpdateHandler {
 	@Override
 	public void onUpdate(final float pSecondsElapsed) {
 		this.mRunnableHandler.onUpdate(pSecondsElapsed);
-		this.mWorld.step(pSecondsElapsed, this.mVelocityIterations, this.mPositionIterations);
-		this.mPhysicsConnectorManager.onUpdate(pSecondsElapsed);
+		this.onUpdateWorld(pSecondsElapsed);
+		this.onUpdateConnectors(pSecondsElapsed);
 	}
 
 	@Override
@@ -125,27 +212,137 @@ public class PhysicsWorld implements IUpdateHandler {
 	// Methods
 	// ===========================================================
 
+	/**
+	 * Advances the {@link World} by the elapsed time. Does not touch the shapes, so it may run off the update thread, see {@link PhysicsWorldGroup}.
+	 */
+	protected void onUpdateWorld(final float pSecondsElapsed) {
+		this.step(pSecondsElapsed);
+		this.onStepped();
+	}
+
+	/**
+	 * Places the shapes of the {@link PhysicsConnector}s after {@link #onUpdateWorld(float)}.
+	 */
+	protected void onUpdateConnectors(final float pSecondsElapsed) {
+		this.mPhysicsConnectorManager.onUpdate(pSecondsElapsed);
+	}
+
+	/**
+	 * Steps the {@link World} with the current iterations, timing the step if an {@link AdaptiveIterationController} is set.
+	 */
+	protected void step(final float pTimeStep) {
+		final PhysicsJournalRecorder journalRecorder = this.mJournalRecorder;
+		if(journalRecorder != null) {
+			journalRecorder.onStepBegin(pTimeStep, this.mVelocityIterations, this.mPositionIterations);
+		}
+
+		final AdaptiveIterationController iterationController = this.mIterationController;
+		if(iterationController == null) {
+			this.mWorld.step(pTimeStep, this.mVelocityIterations, this.mPositionIterations);
+		} else {
+			final long startNanoseconds = System.nanoTime();
+			this.mWorld.step(pTimeStep, this.mVelocityIterations, this.mPositionIterations);
+			iterationController.onStep(this, System.nanoTime() - startNanoseconds);
+		}
+
+		if(journalRecorder != null) {
+			journalRecorder.onStepEnd();
+		}
+	}
+
+	/**
+	 * Called after each step of the {@link World}.
+	 */
+	protected void onStepped() {
+		final AwakeBodySet awakeBodySet = this.mAwakeBodySet;
+		if(awakeBodySet == null) {
+			return;
+		}
+
+		this.mPhysicsConnectorManager.onStepped();
+
+		final IBodySleepListener bodySleepListener = this.mBodySleepListener;
+		if(bodySleepListener == null) {
+			return;
+		}
+
+		for(int i = 0, n = awakeBodySet.getWokenCount(); i < n; i++) {
+			bodySleepListener.onBodyAwake(awakeBodySet.getWokenBody(i));
+		}
+		for(int i = 0, n = awakeBodySet.getSleptCount(); i < n; i++) {
+			bodySleepListener.onBodyAsleep(awakeBodySet.getSleptBody(i));
+		}
+	}
+
+	/**
+	 * Rejects the changes a {@link PhysicsJournalRecorder} cannot record while it records this world, as the replay would silently diverge.
+	 * Changes made from contact callbacks during a step are allowed, as the callbacks run again during the replay.
+	 * @throws IllegalStateException while recording.
+	 */
+	protected void checkNotRecording(final String pMethodName) {
+		if(this.mJournalRecorder != null && !this.mWorld.isLocked()) {
+			throw new IllegalStateException(pMethodName + " cannot be recorded, stop the PhysicsJournalRecorder first.");
+		}
+	}
+
 	public void postRunnable(final Runnable pRunnable) {
 		this.mRunnableHandler.postRunnable(pRunnable);
 	}
 
 	public void clearForces() {
+		this.checkNotRecording("clearForces");
 		this.mWorld.clearForces();
 	}
 
 	public Body createBody(final BodyDef pDef) {
-		return this.mWorld.createBody(pDef);
+		final Body body = this.mWorld.createBody(pDef);
+		if(this.mJournalRecorder != null) {
+			this.mJournalRecorder.onBodyCreated(body);
+		}
+		return body;
+	}
+
+	/**
+	 * @see World#createBodies(PackedBodyDefs)
+	 */
+	public Body[] createBodies(final PackedBodyDefs pPackedBodyDefs) {
+		final Body[] bodies = this.mWorld.createBodies(pPackedBodyDefs);
+		if(this.mJournalRecorder != null) {
+			this.mJournalRecorder.onBodiesCreated(bodies);
+		}
+		return bodies;
 	}
 
 	public Joint createJoint(final JointDef pDef) {
-		return this.mWorld.createJoint(pDef);
+		final Joint joint = this.mWorld.createJoint(pDef);
+		if(this.mJournalRecorder != null) {
+			this.mJournalRecorder.onJointCreated(joint, pDef);
+		}
+		return joint;
+	}
+
+	/**
+	 * @see World#createJoints(PackedJointDefs, Body[])
+	 */
+	public Joint[] createJoints(final PackedJointDefs pPackedJointDefs, final Body[] pBodies) {
+		final Joint[] joints = this.mWorld.createJoints(pPackedJointDefs, pBodies);
+		if(this.mJournalRecorder != null) {
+			this.mJournalRecorder.onJointsCreated(joints, pPackedJointDefs, pBodies);
+		}
+		return joints;
 	}
 
 	public void destroyBody(final Body pBody) {
+		if(this.mJournalRecorder != null) {
+			this.mJournalRecorder.onBodyDestroyed(pBody);
+		}
 		this.mWorld.destroyBody(pBody);
 	}
 
 	public void destroyJoint(final Joint pJoint) {
+		if(this.mJournalRecorder != null) {
+			this.mJournalRecorder.onJointDestroyed(pJoint);
+		}
 		this.mWorld.destroyJoint(pJoint);
 	}
 
@@ -161,6 +358,47 @@ public class PhysicsWorld implements IUpdateHandler {
 		return this.mWorld.getBodies();
 	}
 
+	public Body getBody(final long pBodyAddress) {
+		return this.mWorld.getBody(pBodyAddress);
+	}
+
+	/**
+	 * @see World#getBodyTransforms(FloatBuffer, LongBuffer, boolean, boolean)
+	 */
+	public int getBodyTransforms(final FloatBuffer pTransforms, final LongBuffer pBodyAddresses, final boolean pIncludeVelocities, final boolean pAwakeOnly) {
+		return this.mWorld.getBodyTransforms(pTransforms, pBodyAddresses, pIncludeVelocities, pAwakeOnly);
+	}
+
+	/**
+	 * @see World#applyForces(LongBuffer, FloatBuffer, int)
+	 */
+	public void applyForces(final LongBuffer pBodyAddresses, final FloatBuffer pForces, final int pCount) {
+		if(this.mJournalRecorder != null) {
+			this.mJournalRecorder.onForcesApplied(pBodyAddresses, pForces, pCount);
+		}
+		this.mWorld.applyForces(pBodyAddresses, pForces, pCount);
+	}
+
+	/**
+	 * @see World#applyLinearImpulses(LongBuffer, FloatBuffer, int)
+	 */
+	public void applyLinearImpulses(final LongBuffer pBodyAddresses, final FloatBuffer pImpulses, final int pCount) {
+		if(this.mJournalRecorder != null) {
+			this.mJournalRecorder.onLinearImpulsesApplied(pBodyAddresses, pImpulses, pCount);
+		}
+		this.mWorld.applyLinearImpulses(pBodyAddresses, pImpulses, pCount);
+	}
+
+	/**
+	 * @see World#setLinearVelocities(LongBuffer, FloatBuffer, int)
+	 */
+	public void setLinearVelocities(final LongBuffer pBodyAddresses, final FloatBuffer pVelocities, final int pCount) {
+		if(this.mJournalRecorder != null) {
+			this.mJournalRecorder.onLinearVelocitiesSet(pBodyAddresses, pVelocities, pCount);
+		}
+		this.mWorld.setLinearVelocities(pBodyAddresses, pVelocities, pCount);
+	}
+
 	public int getBodyCount() {
 		return this.mWorld.getBodyCount();
 	}
@@ -169,14 +407,29 @@ public class PhysicsWorld implements IUpdateHandler {
 		return this.mWorld.getContactCount();
 	}
 
+	public int getFixtureCount() {
+		return this.mWorld.getFixtureCount();
+	}
+
 	public List<Contact> getContactList() {
 		return this.mWorld.getContactList();
 	}
 
+	/**
+	 * @see World#getContactSnapshot(ContactSnapshot, boolean)
+	 */
+	public int getContactSnapshot(final ContactSnapshot pContactSnapshot, final boolean pTouchingOnly) {
+		return this.mWorld.getContactSnapshot(pContactSnapshot, pTouchingOnly);
+	}
+
 	public Vector2 getGravity() {
 		return this.mWorld.getGravity();
 	}
 
+	public int getIslandThreadCount() {
+		return this.mWorld.getIslandThreadCount();
+	}
+
 	public Iterator<Joint> getJoints() {
 		return this.mWorld.getJoints();
 	}
@@ -185,6 +438,68 @@ public class PhysicsWorld implements IUpdateHandler {
 		return this.mWorld.getJointCount();
 	}
 
+	/**
+	 * @see World#getProfile(float[])
+	 */
+	public int getProfile(final float[] pProfile) {
+		return this.mWorld.getProfile(pProfile);
+	}
+
+	public void resetProfile() {
+		this.mWorld.resetProfile();
+	}
+
+	/**
+	 * @see World#computeStateHash()
+	 */
+	public long computeStateHash() {
+		return this.mWorld.computeStateHash();
+	}
+
+	/**
+	 * @see World#getBodyAddresses(long[])
+	 */
+	public int getBodyAddresses(final long[] pBodyAddresses) {
+		return this.mWorld.getBodyAddresses(pBodyAddresses);
+	}
+
+	/**
+	 * @see World#getStateSize()
+	 */
+	public int getStateSize() {
+		return this.mWorld.getStateSize();
+	}
+
+	/**
+	 * @see World#saveState(ByteBuffer)
+	 */
+	public int saveState(final ByteBuffer pState) {
+		return this.mWorld.saveState(pState);
+	}
+
+	/**
+	 * @see World#restoreState(ByteBuffer)
+	 */
+	public void restoreState(final ByteBuffer pState) {
+		this.checkNotRecording("restoreState");
+		this.mWorld.restoreState(pState);
+	}
+
+	/**
+	 * @see World#encodeBodyStates(IntBuffer, IntBuffer, ByteBuffer, float, float, float)
+	 */
+	public int encodeBodyStates(final IntBuffer pBaseline, final IntBuffer pCurrent, final ByteBuffer pOut, final float pPositionQuantum, final float pAngleQuantum, final float pVelocityQuantum) {
+		return this.mWorld.encodeBodyStates(pBaseline, pCurrent, pOut, pPositionQuantum, pAngleQuantum, pVelocityQuantum);
+	}
+
+	/**
+	 * @see World#decodeBodyStates(IntBuffer, IntBuffer, ByteBuffer, float, float, float)
+	 */
+	public int decodeBodyStates(final IntBuffer pBaseline, final IntBuffer pCurrent, final ByteBuffer pIn, final float pPositionQuantum, final float pAngleQuantum, final float pVelocityQuantum) {
+		this.checkNotRecording("decodeBodyStates");
+		return this.mWorld.decodeBodyStates(pBaseline, pCurrent, pIn, pPositionQuantum, pAngleQuantum, pVelocityQuantum);
+	}
+
 	public int getProxyCount() {
 		return this.mWorld.getProxyCount();
 	}
@@ -197,7 +512,22 @@ public class PhysicsWorld implements IUpdateHandler {
 		this.mWorld.QueryAABB(pCallback, pLowerX, pLowerY, pUpperX, pUpperY);
 	}
 
+	/**
+	 * @see World#QueryAABB(float, float, float, float, long[], long[])
+	 */
+	public int QueryAABB(final float pLowerX, final float pLowerY, final float pUpperX, final float pUpperY, final long[] pFixtureAddresses, final long[] pBodyAddresses) {
+		return this.mWorld.QueryAABB(pLowerX, pLowerY, pUpperX, pUpperY, pFixtureAddresses, pBodyAddresses);
+	}
+
+	/**
+	 * @see World#QueryAABB(FloatBuffer, int, LongBuffer, LongBuffer, IntBuffer)
+	 */
+	public int QueryAABB(final FloatBuffer pBoxes, final int pBoxCount, final LongBuffer pFixtureAddresses, final LongBuffer pBodyAddresses, final IntBuffer pResultCounts) {
+		return this.mWorld.QueryAABB(pBoxes, pBoxCount, pFixtureAddresses, pBodyAddresses, pResultCounts);
+	}
+
 	public void setAutoClearForces(final boolean pFlag) {
+		this.checkNotRecording("setAutoClearForces");
 		this.mWorld.setAutoClearForces(pFlag);
 	}
 
@@ -205,11 +535,31 @@ public class PhysicsWorld implements IUpdateHandler {
 		this.mWorld.setContactFilter(pFilter);
 	}
 
+	/**
+	 * @see World#setCollisionMatrix(short[])
+	 */
+	public void setCollisionMatrix(final short[] pCollisionMatrix) {
+		this.checkNotRecording("setCollisionMatrix");
+		this.mWorld.setCollisionMatrix(pCollisionMatrix);
+	}
+
 	public void setContactListener(final ContactListener pListener) {
 		this.mWorld.setContactListener(pListener);
 	}
 
+	/**
+	 * @see World#setContactEventBuffer(ContactEventBuffer, boolean)
+	 */
+	public void setContactEventBuffer(final ContactEventBuffer pContactEventBuffer, final boolean pPreSolveCallbacks) {
+		this.mWorld.setContactEventBuffer(pContactEventBuffer, pPreSolveCallbacks);
+	}
+
+	public ContactEventBuffer getContactEventBuffer() {
+		return this.mWorld.getContactEventBuffer();
+	}
+
 	public void setContinuousPhysics(final boolean pFlag) {
+		this.checkNotRecording("setContinuousPhysics");
 		this.mWorld.setContinuousPhysics(pFlag);
 	}
 
@@ -219,9 +569,20 @@ public class PhysicsWorld implements IUpdateHandler {
 
 	public void setGravity(final Vector2 pGravity) {
 		this.mWorld.setGravity(pGravity);
+		if(this.mJournalRecorder != null) {
+			this.mJournalRecorder.onGravityChanged(pGravity.x, pGravity.y);
+		}
+	}
+
+	/**
+	 * @see World#setIslandThreadCount(int)
+	 */
+	public void setIslandThreadCount(final int pIslandThreadCount) {
+		this.mWorld.setIslandThreadCount(pIslandThreadCount);
 	}
 
 	public void setWarmStarting(final boolean pFlag) {
+		this.checkNotRecording("setWarmStarting");
 		this.mWorld.setWarmStarting(pFlag);
 	}
 
@@ -229,6 +590,13 @@ public class PhysicsWorld implements IUpdateHandler {
 		this.mWorld.rayCast(pRayCastCallback, pPoint1, pPoint2);
 	}
 
+	/**
+	 * @see World#rayCast(FloatBuffer, int, RayCastMode, LongBuffer, FloatBuffer)
+	 */
+	public int rayCast(final FloatBuffer pRays, final int pRayCount, final RayCastMode pRayCastMode, final LongBuffer pHitFixtures, final FloatBuffer pHits) {
+		return this.mWorld.rayCast(pRays, pRayCount, pRayCastMode, pHitFixtures, pHits);
+	}
+
 	// ===========================================================
 	// Methods
 	// ===========================================================
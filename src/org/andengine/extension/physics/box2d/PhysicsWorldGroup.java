@@ -0,0 +1,203 @@
+package org.andengine.extension.physics.box2d;
+
+import java.util.ArrayList;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.andengine.engine.handler.IUpdateHandler;
+
+/**
+ * Updates several independent {@link PhysicsWorld}s, stepping them concurrently on a fixed number of worker threads.
+ * Each {@link #onUpdate(float)} runs the posted {@link Runnable}s of every world, steps all worlds in parallel and waits for all of them to finish,
+ * then places the shapes of their {@link PhysicsConnector}s on the update thread. Each world has its own native b2World, so they share no state while stepping.
+ *
+ * Register the group instead of its worlds as an {@link IUpdateHandler}. Contact listeners, filters and sleep listeners are called on the worker threads.
+ * {@link AsyncPhysicsWorld}s cannot be members, as they already step on a thread of their own.
+ */
+public class PhysicsWorldGroup implements IUpdateHandler {
+	// ===========================================================
+	// Constants
+	// ===========================================================
+
+	// ===========================================================
+	// Fields
+	// ===========================================================
+
+	private final ArrayList<PhysicsWorld> mPhysicsWorlds = new ArrayList<PhysicsWorld>();
+
+	private final int mThreadCount;
+	private final Thread[] mWorkerThreads;
+	private final CyclicBarrier mStartBarrier;
+	private final CyclicBarrier mEndBarrier;
+	private final AtomicInteger mNextPhysicsWorldIndex = new AtomicInteger();
+
+	private volatile boolean mRunning = true;
+	private float mSecondsElapsed;
+	private volatile Throwable mUpdateFailure;
+
+	// ===========================================================
+	// Constructors
+	// ===========================================================
+
+	/**
+	 * @param pThreadCount the number of worker threads, in addition to the update thread which steps worlds as well. 0 steps all worlds on the update thread.
+	 */
+	public PhysicsWorldGroup(final int pThreadCount) {
+		if(pThreadCount < 0) {
+			throw new IllegalArgumentException("pThreadCount must not be negative.");
+		}
+
+		this.mThreadCount = pThreadCount;
+		this.mWorkerThreads = new Thread[pThreadCount];
+		this.mStartBarrier = new CyclicBarrier(pThreadCount + 1);
+		this.mEndBarrier = new CyclicBarrier(pThreadCount + 1);
+	}
+
+	// ===========================================================
+	// Getter & Setter
+	// ===========================================================
+
+	public int getThreadCount() {
+		return this.mThreadCount;
+	}
+
+	public int getPhysicsWorldCount() {
+		return this.mPhysicsWorlds.size();
+	}
+
+	public PhysicsWorld getPhysicsWorld(final int pIndex) {
+		return this.mPhysicsWorlds.get(pIndex);
+	}
+
+	public void addPhysicsWorld(final PhysicsWorld pPhysicsWorld) {
+		if(pPhysicsWorld instanceof AsyncPhysicsWorld) {
+			throw new IllegalArgumentException(AsyncPhysicsWorld.class.getSimpleName() + " cannot be stepped by a " + PhysicsWorldGroup.class.getSimpleName() + ".");
+		}
+		this.mPhysicsWorlds.add(pPhysicsWorld);
+	}
+
+	public boolean removePhysicsWorld(final PhysicsWorld pPhysicsWorld) {
+		return this.mPhysicsWorlds.remove(pPhysicsWorld);
+	}
+
+	// ===========================================================
+	// Methods for/from SuperClass/Interfaces
+	// ===========================================================
+
+	@Override
+	public void onUpdate(final float pSecondsElapsed) {
+		final ArrayList<PhysicsWorld> physicsWorlds = this.mPhysicsWorlds;
+		final int physicsWorldCount = physicsWorlds.size();
+
+		for(int i = 0; i < physicsWorldCount; i++) {
+			physicsWorlds.get(i).mRunnableHandler.onUpdate(pSecondsElapsed);
+		}
+
+		this.mSecondsElapsed = pSecondsElapsed;
+		this.mNextPhysicsWorldIndex.set(0);
+		if(this.mThreadCount == 0 || physicsWorldCount <= 1) {
+			this.updatePhysicsWorlds();
+		} else {
+			this.startWorkerThreads();
+			this.await(this.mStartBarrier);
+			this.updatePhysicsWorlds();
+			this.await(this.mEndBarrier);
+		}
+
+		final Throwable updateFailure = this.mUpdateFailure;
+		if(updateFailure != null) {
+			this.mUpdateFailure = null;
+			throw new RuntimeException("Physics step failed.", updateFailure);
+		}
+
+		for(int i = 0; i < physicsWorldCount; i++) {
+			physicsWorlds.get(i).onUpdateConnectors(pSecondsElapsed);
+		}
+	}
+
+	@Override
+	public void reset() {
+		final ArrayList<PhysicsWorld> physicsWorlds = this.mPhysicsWorlds;
+		for(int i = physicsWorlds.size() - 1; i >= 0; i--) {
+			physicsWorlds.get(i).reset();
+		}
+	}
+
+	// ===========================================================
+	// Methods
+	// ===========================================================
+
+	/**
+	 * Stops the worker threads. The member worlds are not disposed.
+	 */
+	public void dispose() {
+		if(this.mRunning) {
+			this.mRunning = false;
+			if(this.mWorkerThreads.length > 0 && this.mWorkerThreads[0] != null) {
+				this.await(this.mStartBarrier);
+			}
+		}
+	}
+
+	private void updatePhysicsWorlds() {
+		final ArrayList<PhysicsWorld> physicsWorlds = this.mPhysicsWorlds;
+		final int physicsWorldCount = physicsWorlds.size();
+		final float secondsElapsed = this.mSecondsElapsed;
+
+		int index;
+		while((index = this.mNextPhysicsWorldIndex.getAndIncrement()) < physicsWorldCount) {
+			try {
+				physicsWorlds.get(index).onUpdateWorld(secondsElapsed);
+			} catch (final Throwable t) {
+				this.mUpdateFailure = t;
+			}
+		}
+	}
+
+	private void startWorkerThreads() {
+		if(!this.mRunning) {
+			throw new IllegalStateException(PhysicsWorldGroup.class.getSimpleName() + " has been disposed.");
+		}
+		if(this.mWorkerThreads[0] != null) {
+			return;
+		}
+
+		for(int i = 0; i < this.mThreadCount; i++) {
+			final Thread workerThread = new Thread(new Runnable() {
+				@Override
+				public void run() {
+					PhysicsWorldGroup.this.runWorker();
+				}
+			}, PhysicsWorldGroup.class.getSimpleName() + "-" + i);
+			workerThread.setDaemon(true);
+			workerThread.start();
+			this.mWorkerThreads[i] = workerThread;
+		}
+	}
+
+	private void runWorker() {
+		while(true) {
+			this.await(this.mStartBarrier);
+			if(!this.mRunning) {
+				return;
+			}
+			this.updatePhysicsWorlds();
+			this.await(this.mEndBarrier);
+		}
+	}
+
+	private void await(final CyclicBarrier pBarrier) {
+		try {
+			pBarrier.await();
+		} catch (final InterruptedException e) {
+			throw new IllegalStateException(e);
+		} catch (final BrokenBarrierException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	// ===========================================================
+	// Inner and Anonymous Classes
+	// ===========================================================
+}
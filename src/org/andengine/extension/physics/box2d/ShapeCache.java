@@ -0,0 +1,315 @@
+package org.andengine.extension.physics.box2d;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.andengine.extension.physics.box2d.util.Vector2Pool;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.CircleShape;
+import com.badlogic.gdx.physics.box2d.PackedBodyDefs;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.physics.box2d.Shape;
+
+/**
+ * Keeps native shapes alive, keyed by their geometry, so that fixtures of the same size share one shape instead of allocating and disposing one each,
+ * e.g. for hundreds of identical crates created with {@link PhysicsFactory}. Box2D copies the shape into each fixture, so sharing it does not link the fixtures.
+ * The least recently used shape is disposed once more than the capacity are held. Call {@link #clear()} when unloading a level.
+ *
+ * A shape returned by this cache must not be modified or disposed, and should only be used until the next call to this cache, which may evict it.
+ * Not thread safe.
+ */
+public class ShapeCache {
+	// ===========================================================
+	// Constants
+	// ===========================================================
+
+	public static final int CAPACITY_DEFAULT = 64;
+
+	private static final int TYPE_BOX = 0;
+	private static final int TYPE_CIRCLE = 1;
+	private static final int TYPE_POLYGON = 2;
+
+	// ===========================================================
+	// Fields
+	// ===========================================================
+
+	private final int mCapacity;
+	private final LinkedHashMap<ShapeKey, Shape> mShapes;
+	private final ShapeKey mLookupKey = new ShapeKey();
+
+	private int mHitCount;
+	private int mMissCount;
+	private int mAllocationCount;
+	private int mEvictionCount;
+
+	// ===========================================================
+	// Constructors
+	// ===========================================================
+
+	public ShapeCache() {
+		this(CAPACITY_DEFAULT);
+	}
+
+	/**
+	 * @param pCapacity the number of shapes held at most.
+	 */
+	public ShapeCache(final int pCapacity) {
+		if(pCapacity <= 0) {
+			throw new IllegalArgumentException("pCapacity must be positive.");
+		}
+
+		this.mCapacity = pCapacity;
+		this.mShapes = new LinkedHashMap<ShapeKey, Shape>(pCapacity * 4 / 3 + 1, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<ShapeKey, Shape> pEldest) {
+				if(this.size() > ShapeCache.this.mCapacity) {
+					pEldest.getValue().dispose();
+					ShapeCache.this.mEvictionCount++;
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	// ===========================================================
+	// Getter & Setter
+	// ===========================================================
+
+	public int getCapacity() {
+		return this.mCapacity;
+	}
+
+	/**
+	 * @return the number of shapes held.
+	 */
+	public int getSize() {
+		return this.mShapes.size();
+	}
+
+	public int getHitCount() {
+		return this.mHitCount;
+	}
+
+	public int getMissCount() {
+		return this.mMissCount;
+	}
+
+	/**
+	 * @return the number of native shapes allocated by this cache, one per miss.
+	 */
+	public int getAllocationCount() {
+		return this.mAllocationCount;
+	}
+
+	/**
+	 * @return the number of shapes disposed to stay within the capacity.
+	 */
+	public int getEvictionCount() {
+		return this.mEvictionCount;
+	}
+
+	// ===========================================================
+	// Methods for/from SuperClass/Interfaces
+	// ===========================================================
+
+	// ===========================================================
+	// Methods
+	// ===========================================================
+
+	/**
+	 * @return a box centered on the body, as set by {@link PolygonShape#setAsBox(float, float)}.
+	 */
+	public PolygonShape getBox(final float pHalfWidth, final float pHalfHeight) {
+		final ShapeKey lookupKey = this.mLookupKey.begin(TYPE_BOX).add(pHalfWidth).add(pHalfHeight).end();
+		final Shape shape = this.get(lookupKey);
+		if(shape != null) {
+			return (PolygonShape)shape;
+		}
+
+		final PolygonShape box = new PolygonShape();
+		box.setAsBox(pHalfWidth, pHalfHeight);
+		this.put(lookupKey, box);
+		return box;
+	}
+
+	/**
+	 * @return a circle centered on the body.
+	 */
+	public CircleShape getCircle(final float pRadius) {
+		return this.getCircle(pRadius, 0, 0);
+	}
+
+	public CircleShape getCircle(final float pRadius, final float pCenterX, final float pCenterY) {
+		final ShapeKey lookupKey = this.mLookupKey.begin(TYPE_CIRCLE).add(pRadius).add(pCenterX).add(pCenterY).end();
+		final Shape shape = this.get(lookupKey);
+		if(shape != null) {
+			return (CircleShape)shape;
+		}
+
+		final CircleShape circle = new CircleShape();
+		circle.setRadius(pRadius);
+		if(pCenterX != 0 || pCenterY != 0) {
+			final Vector2 center = Vector2Pool.obtain(pCenterX, pCenterY);
+			circle.setPosition(center);
+			Vector2Pool.recycle(center);
+		}
+		this.put(lookupKey, circle);
+		return circle;
+	}
+
+	/**
+	 * @param pVertices a convex polygon in counter clockwise order, as set by {@link PolygonShape#set(Vector2[])}. Polygons with the same vertices in a different order are held separately.
+	 */
+	public PolygonShape getPolygon(final Vector2[] pVertices) {
+		final ShapeKey lookupKey = this.mLookupKey.begin(TYPE_POLYGON);
+		for(int i = 0; i < pVertices.length; i++) {
+			lookupKey.add(pVertices[i].x).add(pVertices[i].y);
+		}
+		lookupKey.end();
+
+		final Shape shape = this.get(lookupKey);
+		if(shape != null) {
+			return (PolygonShape)shape;
+		}
+
+		final PolygonShape polygon = new PolygonShape();
+		polygon.set(pVertices);
+		this.put(lookupKey, polygon);
+		return polygon;
+	}
+
+	/**
+	 * Disposes all shapes, e.g. when unloading a level. The statistics are kept.
+	 */
+	public void clear() {
+		final Iterator<Shape> iterator = this.mShapes.values().iterator();
+		while(iterator.hasNext()) {
+			iterator.next().dispose();
+		}
+		this.mShapes.clear();
+	}
+
+	public void resetStatistics() {
+		this.mHitCount = 0;
+		this.mMissCount = 0;
+		this.mAllocationCount = 0;
+		this.mEvictionCount = 0;
+	}
+
+	private Shape get(final ShapeKey pLookupKey) {
+		final Shape shape = this.mShapes.get(pLookupKey);
+		if(shape != null) {
+			this.mHitCount++;
+		} else {
+			this.mMissCount++;
+		}
+		return shape;
+	}
+
+	private void put(final ShapeKey pLookupKey, final Shape pShape) {
+		this.mAllocationCount++;
+		this.mShapes.put(pLookupKey.copy(), pShape);
+	}
+
+	// ===========================================================
+	// Inner and Anonymous Classes
+	// ===========================================================
+
+	/**
+	 * The type and the exact floats of a geometry. A single instance is reused for lookups, so that hits do not allocate.
+	 */
+	private static class ShapeKey {
+		// ===========================================================
+		// Fields
+		// ===========================================================
+
+		private int mType;
+		private float[] mValues;
+		private int mValueCount;
+		private int mHashCode;
+
+		// ===========================================================
+		// Constructors
+		// ===========================================================
+
+		ShapeKey() {
+			this.mValues = new float[2 * PackedBodyDefs.MAX_POLYGON_VERTICES];
+		}
+
+		private ShapeKey(final ShapeKey pShapeKey) {
+			this.mType = pShapeKey.mType;
+			this.mValueCount = pShapeKey.mValueCount;
+			this.mValues = new float[pShapeKey.mValueCount];
+			System.arraycopy(pShapeKey.mValues, 0, this.mValues, 0, pShapeKey.mValueCount);
+			this.mHashCode = pShapeKey.mHashCode;
+		}
+
+		// ===========================================================
+		// Methods for/from SuperClass/Interfaces
+		// ===========================================================
+
+		@Override
+		public int hashCode() {
+			return this.mHashCode;
+		}
+
+		@Override
+		public boolean equals(final Object pObject) {
+			if(this == pObject) {
+				return true;
+			}
+			if(!(pObject instanceof ShapeKey)) {
+				return false;
+			}
+
+			final ShapeKey other = (ShapeKey)pObject;
+			if(this.mType != other.mType || this.mValueCount != other.mValueCount || this.mHashCode != other.mHashCode) {
+				return false;
+			}
+			for(int i = 0; i < this.mValueCount; i++) {
+				if(Float.floatToIntBits(this.mValues[i]) != Float.floatToIntBits(other.mValues[i])) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		// ===========================================================
+		// Methods
+		// ===========================================================
+
+		ShapeKey begin(final int pType) {
+			this.mType = pType;
+			this.mValueCount = 0;
+			return this;
+		}
+
+		ShapeKey add(final float pValue) {
+			if(this.mValueCount == this.mValues.length) {
+				final float[] values = new float[this.mValues.length * 2];
+				System.arraycopy(this.mValues, 0, values, 0, this.mValueCount);
+				this.mValues = values;
+			}
+			this.mValues[this.mValueCount++] = pValue;
+			return this;
+		}
+
+		ShapeKey end() {
+			int hashCode = this.mType;
+			for(int i = 0; i < this.mValueCount; i++) {
+				hashCode = 31 * hashCode + Float.floatToIntBits(this.mValues[i]);
+			}
+			this.mHashCode = hashCode;
+			return this;
+		}
+
+		ShapeKey copy() {
+			return new ShapeKey(this);
+		}
+	}
+}